@@ -9,11 +9,8 @@
 
 package com.ibm.icu.charset;
 
-import java.nio.ByteBuffer;
-import java.nio.CharBuffer;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CharsetEncoder;
-import java.nio.charset.CoderResult;
 
 import com.ibm.icu.text.UnicodeSet;
 
@@ -28,36 +25,14 @@ public CharsetDecoder88591(CharsetICU cs) {
         }
 
         @Override
-        protected CoderResult decodeLoopCoreOptimized(ByteBuffer source, CharBuffer target,
-                byte[] sourceArray, char[] targetArray, int oldSource, int offset, int limit) {
-
+        protected int decodeRun(byte[] sourceArray, int sourceIndex, char[] targetArray,
+                int targetIndex, int length) {
             /*
              * perform 88591 conversion from the source array to the target array. no range check is
              * necessary.
              */
-            for (int i = oldSource; i < limit; i++)
-                targetArray[i + offset] = (char) (sourceArray[i] & 0xff);
-
-            return null;
-        }
-
-        @Override
-        protected CoderResult decodeLoopCoreUnoptimized(ByteBuffer source, CharBuffer target) {
-            byte ch;
-            /*
-             * perform 88591 conversion from the source buffer to the target buffer. no range check
-             * is necessary.
-             */
-            while (source.hasRemaining()) {
-                ch = source.get();
-                if (target.hasRemaining()) {
-                    target.put((char) (ch & 0xff));
-                } else {
-                    return CoderResult.OVERFLOW;
-                }
-            }
-
-            return CoderResult.UNDERFLOW;
+            SingleByteRuns.decodeLatin1(sourceArray, sourceIndex, targetArray, targetIndex, length);
+            return length;
         }
     }
 
@@ -67,66 +42,10 @@ public CharsetEncoder88591(CharsetICU cs) {
         }
 
         @Override
-        protected final CoderResult encodeLoopCoreOptimized(CharBuffer source, ByteBuffer target,
-                char[] sourceArray, byte[] targetArray, int oldSource, int offset, int limit,
-                boolean flush) {
-            int i, ch = 0;
-
-            /*
-             * perform 88591 conversion from the source array to the target array, making sure each
-             * char in the source is within the correct range
-             */
-            for (i = oldSource; i < limit; i++) {
-                ch = sourceArray[i];
-                if ((ch & 0xff00) == 0) {
-                    targetArray[i + offset] = (byte) ch;
-                } else {
-                    break;
-                }
-            }
-
-            /*
-             * if some byte was not in the correct range, we need to deal with this byte by calling
-             * encodeMalformedOrUnmappable and move the source and target positions to reflect the
-             * early termination of the loop
-             */
-            if ((ch & 0xff00) != 0) {
-                source.position((i + 1) - source.arrayOffset());
-                target.position(i + offset);
-                return encodeMalformedOrUnmappable(source, ch, flush);
-            } else
-                return null;
+        protected int encodeRun(char[] sourceArray, int sourceIndex, byte[] targetArray,
+                int targetIndex, int length) {
+            return SingleByteRuns.encode(sourceArray, sourceIndex, targetArray, targetIndex, length, 0xff);
         }
-
-        @Override
-        protected final CoderResult encodeLoopCoreUnoptimized(CharBuffer source, ByteBuffer target, boolean flush) {
-            int ch;
-
-            /*
-             * perform 88591 conversion from the source buffer to the target buffer, making sure
-             * each char in the source is within the correct range
-             */
-
-            while (source.hasRemaining()) {
-                ch = source.get();
-                if ((ch & 0xff00) == 0) {
-                    if (target.hasRemaining()) {
-                        target.put((byte) ch);
-                    } else {
-                        return CoderResult.OVERFLOW;
-                    }
-                } else {
-                    /*
-                     * if we reach here, it's because a character was not in the correct range, and we need
-                     * to deal with this by calling encodeMalformedOrUnmappable.
-                     */
-                    return encodeMalformedOrUnmappable(source, ch, flush);
-                }
-            }
-
-            return CoderResult.UNDERFLOW;
-        }
-
     }
 
     @Override
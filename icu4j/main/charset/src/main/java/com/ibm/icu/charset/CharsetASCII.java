@@ -48,55 +48,45 @@ protected CoderResult decodeLoop(ByteBuffer source, CharBuffer target, IntBuffer
                 return CoderResult.OVERFLOW;
             }
 
-            CoderResult cr;
-            int oldSource = source.position();
+            CoderResult cr = null;
             int oldTarget = target.position();
 
-            if (source.hasArray() && target.hasArray()) {
-                /* optimized loop */
-
-                /*
-                 * extract arrays from the buffers and obtain various constant values that will be
-                 * necessary in the core loop
-                 */
-                byte[] sourceArray = source.array();
-                int sourceOffset = source.arrayOffset();
-                int sourceIndex = oldSource + sourceOffset;
-                int sourceLength = source.limit() - oldSource;
-
-                char[] targetArray = target.array();
-                int targetOffset = target.arrayOffset();
-                int targetIndex = oldTarget + targetOffset;
-                int targetLength = target.limit() - oldTarget;
-
-                int limit = ((sourceLength < targetLength) ? sourceLength : targetLength)
-                        + sourceIndex;
-                int offset = targetIndex - sourceIndex;
-
-                /*
-                 * perform the core loop... if it returns null, it must be due to an overflow or
-                 * underflow
-                 */
-                cr = decodeLoopCoreOptimized(source, target, sourceArray, targetArray, sourceIndex, offset, limit);
-                if (cr == null) {
-                    if (sourceLength <= targetLength) {
-                        source.position(oldSource + sourceLength);
-                        target.position(oldTarget + sourceLength);
-                        cr = CoderResult.UNDERFLOW;
-                    } else {
-                        source.position(oldSource + targetLength);
-                        target.position(oldTarget + targetLength);
-                        cr = CoderResult.OVERFLOW;
+            do {
+                int length = Math.min(source.remaining(), target.remaining());
+                if (length == 0) {
+                    cr = source.hasRemaining() ? CoderResult.OVERFLOW : CoderResult.UNDERFLOW;
+                    break;
+                }
+                int count;
+                if (source.hasArray() && target.hasArray()) {
+                    /* optimized loop directly on the arrays */
+                    count = decodeRun(source.array(), source.arrayOffset() + source.position(),
+                            target.array(), target.arrayOffset() + target.position(), length);
+                    source.position(source.position() + count);
+                    target.position(target.position() + count);
+                } else {
+                    /*
+                     * the same loop on staging arrays, which are filled and emptied with bulk
+                     * operations; these are fast for direct buffers too
+                     */
+                    if (byteStage == null) {
+                        byteStage = new byte[SingleByteRuns.STAGE_SIZE];
+                        charStage = new char[SingleByteRuns.STAGE_SIZE];
                     }
+                    length = Math.min(length, SingleByteRuns.STAGE_SIZE);
+                    source.get(byteStage, 0, length);
+                    count = decodeRun(byteStage, 0, charStage, 0, length);
+                    source.position(source.position() - (length - count));
+                    target.put(charStage, 0, count);
                 }
-            } else {
-                /* unoptimized loop */
-                cr = decodeLoopCoreUnoptimized(source, target);
-                if (cr == CoderResult.OVERFLOW) {
-                    /* the target is full */
-                    source.position(source.position() - 1); /* rewind by 1 */
+                if (count < length) {
+                    /*
+                     * some byte was not in the correct range, so we need to deal with this byte
+                     * by calling decodeMalformedOrUnmappable
+                     */
+                    cr = decodeMalformedOrUnmappable(source.get() & 0xff);
                 }
-            }
+            } while (cr == null);
 
             /* set offsets since the start */
             if (offsets != null) {
@@ -108,57 +98,19 @@ protected CoderResult decodeLoop(ByteBuffer source, CharBuffer target, IntBuffer
             return cr;
         }
 
-        protected CoderResult decodeLoopCoreOptimized(ByteBuffer source, CharBuffer target,
-                byte[] sourceArray, char[] targetArray, int oldSource, int offset, int limit) {
-            int i, ch = 0;
-
-            /*
-             * perform ascii conversion from the source array to the target array, making sure each
-             * byte in the source is within the correct range
-             */
-            for (i = oldSource; i < limit && (((ch = (sourceArray[i] & 0xff)) & 0x80) == 0); i++)
-                targetArray[i + offset] = (char) ch;
-
-            /*
-             * if some byte was not in the correct range, we need to deal with this byte by calling
-             * decodeMalformedOrUnmappable and move the source and target positions to reflect the
-             * early termination of the loop
-             */
-            if ((ch & 0x80) != 0) {
-                source.position(i + 1);
-                target.position(i + offset);
-                return decodeMalformedOrUnmappable(ch);
-            } else
-                return null;
+        /**
+         * Converts bytes from the source array to the target array
+         * until one is not in the correct range.
+         *
+         * @return the number of bytes converted
+         */
+        protected int decodeRun(byte[] sourceArray, int sourceIndex, char[] targetArray,
+                int targetIndex, int length) {
+            return SingleByteRuns.decodeASCII(sourceArray, sourceIndex, targetArray, targetIndex, length);
         }
 
-        protected CoderResult decodeLoopCoreUnoptimized(ByteBuffer source, CharBuffer target) {
-            int ch = 0;
-
-            /*
-             * perform ascii conversion from the source buffer to the target buffer, making sure
-             * each byte in the source is within the correct range
-             */
-            while (source.hasRemaining()) {
-                ch = source.get() & 0xff;
-
-                if ((ch & 0x80) == 0) {
-                    if (target.hasRemaining()) {
-                        target.put((char)ch);
-                    } else {
-                        return CoderResult.OVERFLOW;
-                    }
-                } else {
-                    /*
-                     * if we reach here, it's because a character was not in the correct range, and we need
-                     * to deak with this by calling decodeMalformedOrUnmappable
-                     */
-                    return decodeMalformedOrUnmappable(ch);
-                }
-            }
-
-            return CoderResult.UNDERFLOW;
-        }
+        private byte[] byteStage;
+        private char[] charStage;
 
         protected CoderResult decodeMalformedOrUnmappable(int ch) {
             /*
@@ -198,8 +150,7 @@ protected CoderResult encodeLoop(CharBuffer source, ByteBuffer target, IntBuffer
                 return CoderResult.OVERFLOW;
             }
 
-            CoderResult cr;
-            int oldSource = source.position();
+            CoderResult cr = null;
             int oldTarget = target.position();
 
             if (fromUChar32 != 0) {
@@ -209,52 +160,41 @@ protected CoderResult encodeLoop(CharBuffer source, ByteBuffer target, IntBuffer
                  * dictated by encodeTrail.
                  */
                 cr = encodeTrail(source, (char) fromUChar32, flush);
-            } else {
+            }
+            while (cr == null) {
+                int length = Math.min(source.remaining(), target.remaining());
+                if (length == 0) {
+                    cr = source.hasRemaining() ? CoderResult.OVERFLOW : CoderResult.UNDERFLOW;
+                    break;
+                }
+                int count;
                 if (source.hasArray() && target.hasArray()) {
-                    /* optimized loop */
-
+                    /* optimized loop directly on the arrays */
+                    count = encodeRun(source.array(), source.arrayOffset() + source.position(),
+                            target.array(), target.arrayOffset() + target.position(), length);
+                    source.position(source.position() + count);
+                    target.position(target.position() + count);
+                } else {
                     /*
-                     * extract arrays from the buffers and obtain various constant values that will
-                     * be necessary in the core loop
+                     * the same loop on staging arrays, which are filled and emptied with bulk
+                     * operations; these are fast for direct buffers and wrapped Strings too
                      */
-                    char[] sourceArray = source.array();
-                    int sourceOffset = source.arrayOffset();
-                    int sourceIndex = oldSource + sourceOffset;
-                    int sourceLength = source.limit() - oldSource;
-
-                    byte[] targetArray = target.array();
-                    int targetOffset = target.arrayOffset();
-                    int targetIndex = oldTarget + targetOffset;
-                    int targetLength = target.limit() - oldTarget;
-
-                    int limit = ((sourceLength < targetLength) ? sourceLength : targetLength)
-                            + sourceIndex;
-                    int offset = targetIndex - sourceIndex;
-
+                    if (charStage == null) {
+                        charStage = new char[SingleByteRuns.STAGE_SIZE];
+                        byteStage = new byte[SingleByteRuns.STAGE_SIZE];
+                    }
+                    length = Math.min(length, SingleByteRuns.STAGE_SIZE);
+                    source.get(charStage, 0, length);
+                    count = encodeRun(charStage, 0, byteStage, 0, length);
+                    source.position(source.position() - (length - count));
+                    target.put(byteStage, 0, count);
+                }
+                if (count < length) {
                     /*
-                     * perform the core loop... if it returns null, it must be due to an overflow or
-                     * underflow
+                     * some char was not in the correct range, so we need to deal with this char
+                     * by calling encodeMalformedOrUnmappable
                      */
-                    cr = encodeLoopCoreOptimized(source, target, sourceArray, targetArray, sourceIndex, offset, limit, flush);
-                    if (cr == null) {
-                        if (sourceLength <= targetLength) {
-                            source.position(oldSource + sourceLength);
-                            target.position(oldTarget + sourceLength);
-                            cr = CoderResult.UNDERFLOW;
-                        } else {
-                            source.position(oldSource + targetLength);
-                            target.position(oldTarget + targetLength);
-                            cr = CoderResult.OVERFLOW;
-                        }
-                    }
-                } else {
-                    /* unoptimized loop */
-
-                    cr = encodeLoopCoreUnoptimized(source, target, flush);
-
-                    if (cr == CoderResult.OVERFLOW) {
-                        source.position(source.position() - 1); /* rewind by 1 */
-                    }
+                    cr = encodeMalformedOrUnmappable(source, source.get(), flush);
                 }
             }
 
@@ -268,58 +208,19 @@ protected CoderResult encodeLoop(CharBuffer source, ByteBuffer target, IntBuffer
             return cr;
         }
 
-        protected CoderResult encodeLoopCoreOptimized(CharBuffer source, ByteBuffer target,
-                char[] sourceArray, byte[] targetArray, int oldSource, int offset, int limit,
-                boolean flush) {
-            int i, ch = 0;
-
-            /*
-             * perform ascii conversion from the source array to the target array, making sure each
-             * char in the source is within the correct range
-             */
-            for (i = oldSource; i < limit && (((ch = sourceArray[i]) & 0xff80) == 0); i++)
-                targetArray[i + offset] = (byte) ch;
-
-            /*
-             * if some byte was not in the correct range, we need to deal with this byte by calling
-             * encodeMalformedOrUnmappable and move the source and target positions to reflect the
-             * early termination of the loop
-             */
-            if ((ch & 0xff80) != 0) {
-                source.position((i + 1) - source.arrayOffset());
-                target.position(i + offset);
-                return encodeMalformedOrUnmappable(source, ch, flush);
-            } else
-                return null;
+        /**
+         * Converts chars from the source array to the target array
+         * until one is not in the correct range.
+         *
+         * @return the number of chars converted
+         */
+        protected int encodeRun(char[] sourceArray, int sourceIndex, byte[] targetArray,
+                int targetIndex, int length) {
+            return SingleByteRuns.encode(sourceArray, sourceIndex, targetArray, targetIndex, length, 0x7f);
         }
 
-        protected CoderResult encodeLoopCoreUnoptimized(CharBuffer source, ByteBuffer target, boolean flush) {
-            int ch;
-
-            /*
-             * perform ascii conversion from the source buffer to the target buffer, making sure
-             * each char in the source is within the correct range
-             */
-            while (source.hasRemaining()) {
-                ch = source.get();
-
-                if ((ch & 0xff80) == 0) {
-                    if (target.hasRemaining()) {
-                        target.put((byte) ch);
-                    } else {
-                        return CoderResult.OVERFLOW;
-                    }
-                } else {
-                    /*
-                     * if we reach here, it's because a character was not in the correct range, and we need
-                     * to deak with this by calling encodeMalformedOrUnmappable.
-                     */
-                    return encodeMalformedOrUnmappable(source, ch, flush);
-                }
-            }
-
-            return CoderResult.UNDERFLOW;
-        }
+        private char[] charStage;
+        private byte[] byteStage;
 
         protected final CoderResult encodeMalformedOrUnmappable(CharBuffer source, int ch, boolean flush) {
             /*
@@ -60,85 +60,107 @@ protected CoderResult decodeLoop(ByteBuffer source, CharBuffer target, IntBuffer
 
             if (source.hasArray() && target.hasArray()) {
                 /* source and target are backed by arrays, so use the arrays for optimal performance */
-                byte[] sourceArray = source.array();
-                int sourceIndex = source.arrayOffset() + source.position();
-                int sourceLimit = source.arrayOffset() + source.limit();
-                char[] targetArray = target.array();
-                int targetIndex = target.arrayOffset() + target.position();
-                int targetLimit = target.arrayOffset() + target.limit();
-
-                byte ch;
-                int char32, bytesExpected, bytesSoFar;
-                CoderResult cr;
-
-                if (mode == 0) {
-                    /* nothing is stored in toUnicodeStatus, read a byte as input */
-                    toUBytesArray[0] = ch = sourceArray[sourceIndex++];
-                    bytesExpected = UTF8.countBytes(ch);
-                    char32 = ch & BITMASK_FROM_UTF8[bytesExpected];
-                    bytesSoFar = 1;
-                } else {
-                    /* a partially or fully built code point is stored in toUnicodeStatus */
-                    char32 = toUnicodeStatus;
-                    bytesExpected = mode;
-                    bytesSoFar = toULength;
-
-                    toUnicodeStatus = 0;
-                    mode = 0;
-                    toULength = 0;
-                }
+                return decodeArrays(source, target);
+            } else {
+                return decodeStaged(source, target);
+            }
+        }
 
-                outer: while (true) {
-                    if (bytesSoFar < bytesExpected) {
-                        /* read a trail byte and insert its relevant bits into char32 */
-                        if (sourceIndex >= sourceLimit) {
-                            /* no source left, save the state for later and break out of the loop */
-                            toUnicodeStatus = char32;
-                            mode = bytesExpected;
-                            toULength = bytesSoFar;
-                            cr = CoderResult.UNDERFLOW;
-                            break;
-                        }
-                        toUBytesArray[bytesSoFar] = ch = sourceArray[sourceIndex++];
-                        if (!UTF8.isValidTrail(char32, ch, bytesSoFar, bytesExpected)
-                                && !(isCESU8 && bytesSoFar == 1 && char32 == 0xd && UTF8.isTrail(ch))) {
-                            sourceIndex--;
-                            toULength = bytesSoFar;
-                            cr = CoderResult.malformedForLength(bytesSoFar);
+        private CoderResult decodeArrays(ByteBuffer source, CharBuffer target) {
+            byte[] sourceArray = source.array();
+            int sourceIndex = source.arrayOffset() + source.position();
+            int sourceLimit = source.arrayOffset() + source.limit();
+            char[] targetArray = target.array();
+            int targetIndex = target.arrayOffset() + target.position();
+            int targetLimit = target.arrayOffset() + target.limit();
+
+            byte ch;
+            int char32, bytesExpected, bytesSoFar;
+            CoderResult cr;
+
+            if (mode == 0) {
+                /* nothing is stored in toUnicodeStatus, read a byte as input */
+                toUBytesArray[0] = ch = sourceArray[sourceIndex++];
+                bytesExpected = UTF8.countBytes(ch);
+                char32 = ch & BITMASK_FROM_UTF8[bytesExpected];
+                bytesSoFar = 1;
+            } else {
+                /* a partially or fully built code point is stored in toUnicodeStatus */
+                char32 = toUnicodeStatus;
+                bytesExpected = mode;
+                bytesSoFar = toULength;
+
+                toUnicodeStatus = 0;
+                mode = 0;
+                toULength = 0;
+            }
+
+            while (true) {
+                if (bytesSoFar < bytesExpected) {
+                    /* read a trail byte and insert its relevant bits into char32 */
+                    if (sourceIndex >= sourceLimit) {
+                        /* no source left, save the state for later and break out of the loop */
+                        toUnicodeStatus = char32;
+                        mode = bytesExpected;
+                        toULength = bytesSoFar;
+                        cr = CoderResult.UNDERFLOW;
+                        break;
+                    }
+                    toUBytesArray[bytesSoFar] = ch = sourceArray[sourceIndex++];
+                    if (!UTF8.isValidTrail(char32, ch, bytesSoFar, bytesExpected)
+                            && !(isCESU8 && bytesSoFar == 1 && char32 == 0xd && UTF8.isTrail(ch))) {
+                        sourceIndex--;
+                        toULength = bytesSoFar;
+                        cr = CoderResult.malformedForLength(bytesSoFar);
+                        break;
+                    }
+                    char32 = (char32 << 6) | (ch & 0x3f);
+                    bytesSoFar++;
+                } else if (bytesSoFar == bytesExpected && (!isCESU8 || bytesSoFar <= 3)) {
+                    /*
+                     * char32 is a valid code point and is composed of the correct number of
+                     * bytes ... we now need to output it in UTF-16
+                     */
+
+                    if (char32 <= UConverterConstants.MAXIMUM_UCS2) {
+                        /* fits in 16 bits */
+                        targetArray[targetIndex++] = (char) char32;
+                    } else {
+                        /* fit char32 into 20 bits */
+                        char32 -= UConverterConstants.HALF_BASE;
+
+                        /* write out the surrogates */
+                        targetArray[targetIndex++] = (char) ((char32 >>> UConverterConstants.HALF_SHIFT) + UConverterConstants.SURROGATE_HIGH_START);
+
+                        if (targetIndex >= targetLimit) {
+                            /* put in overflow buffer (not handled here) */
+                            charErrorBufferArray[charErrorBufferLength++] = (char) ((char32 & UConverterConstants.HALF_MASK) + UConverterConstants.SURROGATE_LOW_START);
+                            cr = CoderResult.OVERFLOW;
                             break;
                         }
-                        char32 = (char32 << 6) | (ch & 0x3f);
-                        bytesSoFar++;
-                    } else if (bytesSoFar == bytesExpected && (!isCESU8 || bytesSoFar <= 3)) {
-                        /*
-                         * char32 is a valid code point and is composed of the correct number of
-                         * bytes ... we now need to output it in UTF-16
-                         */
-
-                        if (char32 <= UConverterConstants.MAXIMUM_UCS2) {
-                            /* fits in 16 bits */
-                            targetArray[targetIndex++] = (char) char32;
-                        } else {
-                            /* fit char32 into 20 bits */
-                            char32 -= UConverterConstants.HALF_BASE;
-
-                            /* write out the surrogates */
-                            targetArray[targetIndex++] = (char) ((char32 >>> UConverterConstants.HALF_SHIFT) + UConverterConstants.SURROGATE_HIGH_START);
-
-                            if (targetIndex >= targetLimit) {
-                                /* put in overflow buffer (not handled here) */
-                                charErrorBufferArray[charErrorBufferLength++] = (char) ((char32 & UConverterConstants.HALF_MASK) + UConverterConstants.SURROGATE_LOW_START);
-                                cr = CoderResult.OVERFLOW;
-                                break;
-                            }
-                            targetArray[targetIndex++] = (char) ((char32 & UConverterConstants.HALF_MASK) + UConverterConstants.SURROGATE_LOW_START);
-                        }
+                        targetArray[targetIndex++] = (char) ((char32 & UConverterConstants.HALF_MASK) + UConverterConstants.SURROGATE_LOW_START);
+                    }
 
-                        /*
-                         * we're finished outputting, so now we need to read in the first byte of the
-                         * next byte sequence that could form a code point
-                         */
+                    /*
+                     * we're finished outputting, so now we need to read in the first byte of the
+                     * next byte sequence that could form a code point
+                     */
 
+                    if (sourceIndex >= sourceLimit) {
+                        cr = CoderResult.UNDERFLOW;
+                        break;
+                    }
+                    if (targetIndex >= targetLimit) {
+                        cr = CoderResult.OVERFLOW;
+                        break;
+                    }
+
+                    /* copy the next run of input bytes with bytes == 1 at once */
+                    if (UTF8.isSingle(sourceArray[sourceIndex])) {
+                        int run = SingleByteRuns.decodeASCII(sourceArray, sourceIndex, targetArray, targetIndex,
+                                Math.min(sourceLimit - sourceIndex, targetLimit - targetIndex));
+                        sourceIndex += run;
+                        targetIndex += run;
                         if (sourceIndex >= sourceLimit) {
                             cr = CoderResult.UNDERFLOW;
                             break;
@@ -147,169 +169,193 @@ protected CoderResult decodeLoop(ByteBuffer source, CharBuffer target, IntBuffer
                             cr = CoderResult.OVERFLOW;
                             break;
                         }
-
-                        /* keep reading the next input (and writing it) while bytes == 1 */
-                        while (UTF8.isSingle(ch = sourceArray[sourceIndex++])) {
-                            targetArray[targetIndex++] = (char) ch;
-                            if (sourceIndex >= sourceLimit) {
-                                cr = CoderResult.UNDERFLOW;
-                                break outer;
-                            }
-                            if (targetIndex >= targetLimit) {
-                                cr = CoderResult.OVERFLOW;
-                                break outer;
-                            }
-                        }
-                        toUBytesArray[0] = ch;
-
-                        /* remove the bits that indicate the number of bytes */
-                        bytesExpected = UTF8.countBytes(ch);
-                        char32 = ch & BITMASK_FROM_UTF8[bytesExpected];
-                        bytesSoFar = 1;
-                    } else {
-                        /*
-                         * either the lead byte in the code sequence is invalid (bytes == 0) or the
-                         * lead byte combined with all the trail chars does not form a valid code
-                         * point
-                         */
-                        toULength = bytesSoFar;
-                        cr = CoderResult.malformedForLength(bytesSoFar);
-                        break;
                     }
-                }
-
-                source.position(sourceIndex - source.arrayOffset());
-                target.position(targetIndex - target.arrayOffset());
-                return cr;
-
-            } else {
-
-                int sourceIndex = source.position();
-                int sourceLimit = source.limit();
-                int targetIndex = target.position();
-                int targetLimit = target.limit();
-
-                byte ch;
-                int char32, bytesExpected, bytesSoFar;
-                CoderResult cr;
+                    toUBytesArray[0] = ch = sourceArray[sourceIndex++];
 
-                if (mode == 0) {
-                    /* nothing is stored in toUnicodeStatus, read a byte as input */
-                    toUBytesArray[0] = ch = source.get(sourceIndex++);
+                    /* remove the bits that indicate the number of bytes */
                     bytesExpected = UTF8.countBytes(ch);
                     char32 = ch & BITMASK_FROM_UTF8[bytesExpected];
                     bytesSoFar = 1;
                 } else {
-                    /* a partially or fully built code point is stored in toUnicodeStatus */
-                    char32 = toUnicodeStatus;
-                    bytesExpected = mode;
-                    bytesSoFar = toULength;
-
-                    toUnicodeStatus = 0;
-                    mode = 0;
-                    toULength = 0;
+                    /*
+                     * either the lead byte in the code sequence is invalid (bytes == 0) or the
+                     * lead byte combined with all the trail chars does not form a valid code
+                     * point
+                     */
+                    toULength = bytesSoFar;
+                    cr = CoderResult.malformedForLength(bytesSoFar);
+                    break;
                 }
+            }
 
-                outer: while (true) {
-                    if (bytesSoFar < bytesExpected) {
-                        /* read a trail byte and insert its relevant bits into char32 */
-                        if (sourceIndex >= sourceLimit) {
-                            /* no source left, save the state for later and break out of the loop */
-                            toUnicodeStatus = char32;
-                            mode = bytesExpected;
-                            toULength = bytesSoFar;
-                            cr = CoderResult.UNDERFLOW;
-                            break;
-                        }
-                        toUBytesArray[bytesSoFar] = ch = source.get(sourceIndex++);
-                        if (!UTF8.isValidTrail(char32, ch, bytesSoFar, bytesExpected)
-                                && !(isCESU8 && bytesSoFar == 1 && char32 == 0xd && UTF8.isTrail(ch))) {
-                            sourceIndex--;
-                            toULength = bytesSoFar;
-                            cr = CoderResult.malformedForLength(bytesSoFar);
+            source.position(sourceIndex - source.arrayOffset());
+            target.position(targetIndex - target.arrayOffset());
+            return cr;
+        }
+
+        /*
+         * Decodes with the array loop through staging arrays, which are filled and emptied with
+         * bulk operations; these are fast for direct buffers too.
+         */
+        private CoderResult decodeStaged(ByteBuffer source, CharBuffer target) {
+            if (stageSource == null) {
+                stageSource = ByteBuffer.allocate(SingleByteRuns.STAGE_SIZE);
+                stageTarget = CharBuffer.allocate(SingleByteRuns.STAGE_SIZE);
+            }
+            CoderResult cr;
+            do {
+                /*
+                 * stage at most one byte less than the chars that fit: one byte can complete
+                 * a supplementary code point whose lead bytes came earlier, yielding two chars,
+                 * so the stage never overflows
+                 */
+                int length = Math.min(source.remaining(), Math.min(target.remaining(), SingleByteRuns.STAGE_SIZE) - 1);
+                if (!target.hasRemaining()) {
+                    return CoderResult.OVERFLOW;
+                } else if (length <= 0) {
+                    /* too little room for the stage, finish with the buffer loop */
+                    return decodeBuffers(source, target);
+                }
+                stageSource.clear();
+                source.get(stageSource.array(), 0, length);
+                stageSource.limit(length);
+                stageTarget.clear();
+                stageTarget.limit(length + 1);
+                cr = decodeArrays(stageSource, stageTarget);
+                source.position(source.position() - stageSource.remaining());
+                target.put(stageTarget.array(), 0, stageTarget.position());
+            } while (cr.isUnderflow() && source.hasRemaining());
+            return cr;
+        }
+
+        private CoderResult decodeBuffers(ByteBuffer source, CharBuffer target) {
+            int sourceIndex = source.position();
+            int sourceLimit = source.limit();
+            int targetIndex = target.position();
+            int targetLimit = target.limit();
+
+            byte ch;
+            int char32, bytesExpected, bytesSoFar;
+            CoderResult cr;
+
+            if (mode == 0) {
+                /* nothing is stored in toUnicodeStatus, read a byte as input */
+                toUBytesArray[0] = ch = source.get(sourceIndex++);
+                bytesExpected = UTF8.countBytes(ch);
+                char32 = ch & BITMASK_FROM_UTF8[bytesExpected];
+                bytesSoFar = 1;
+            } else {
+                /* a partially or fully built code point is stored in toUnicodeStatus */
+                char32 = toUnicodeStatus;
+                bytesExpected = mode;
+                bytesSoFar = toULength;
+
+                toUnicodeStatus = 0;
+                mode = 0;
+                toULength = 0;
+            }
+
+            outer: while (true) {
+                if (bytesSoFar < bytesExpected) {
+                    /* read a trail byte and insert its relevant bits into char32 */
+                    if (sourceIndex >= sourceLimit) {
+                        /* no source left, save the state for later and break out of the loop */
+                        toUnicodeStatus = char32;
+                        mode = bytesExpected;
+                        toULength = bytesSoFar;
+                        cr = CoderResult.UNDERFLOW;
+                        break;
+                    }
+                    toUBytesArray[bytesSoFar] = ch = source.get(sourceIndex++);
+                    if (!UTF8.isValidTrail(char32, ch, bytesSoFar, bytesExpected)
+                            && !(isCESU8 && bytesSoFar == 1 && char32 == 0xd && UTF8.isTrail(ch))) {
+                        sourceIndex--;
+                        toULength = bytesSoFar;
+                        cr = CoderResult.malformedForLength(bytesSoFar);
+                        break;
+                    }
+                    char32 = (char32 << 6) | (ch & 0x3f);
+                    bytesSoFar++;
+                } else if (bytesSoFar == bytesExpected && (!isCESU8 || bytesSoFar <= 3)) {
+                    /*
+                     * char32 is a valid code point and is composed of the correct number of
+                     * bytes ... we now need to output it in UTF-16
+                     */
+
+                    if (char32 <= UConverterConstants.MAXIMUM_UCS2) {
+                        /* fits in 16 bits */
+                        target.put(targetIndex++, (char) char32);
+                    } else {
+                        /* fit char32 into 20 bits */
+                        char32 -= UConverterConstants.HALF_BASE;
+
+                        /* write out the surrogates */
+                        target.put(
+                                targetIndex++,
+                                (char) ((char32 >>> UConverterConstants.HALF_SHIFT) + UConverterConstants.SURROGATE_HIGH_START));
+
+                        if (targetIndex >= targetLimit) {
+                            /* put in overflow buffer (not handled here) */
+                            charErrorBufferArray[charErrorBufferLength++] = (char) ((char32 & UConverterConstants.HALF_MASK) + UConverterConstants.SURROGATE_LOW_START);
+                            cr = CoderResult.OVERFLOW;
                             break;
                         }
-                        char32 = (char32 << 6) | (ch & 0x3f);
-                        bytesSoFar++;
-                    } else if (bytesSoFar == bytesExpected && (!isCESU8 || bytesSoFar <= 3)) {
-                        /*
-                         * char32 is a valid code point and is composed of the correct number of
-                         * bytes ... we now need to output it in UTF-16
-                         */
-
-                        if (char32 <= UConverterConstants.MAXIMUM_UCS2) {
-                            /* fits in 16 bits */
-                            target.put(targetIndex++, (char) char32);
-                        } else {
-                            /* fit char32 into 20 bits */
-                            char32 -= UConverterConstants.HALF_BASE;
-
-                            /* write out the surrogates */
-                            target.put(
-                                    targetIndex++,
-                                    (char) ((char32 >>> UConverterConstants.HALF_SHIFT) + UConverterConstants.SURROGATE_HIGH_START));
-
-                            if (targetIndex >= targetLimit) {
-                                /* put in overflow buffer (not handled here) */
-                                charErrorBufferArray[charErrorBufferLength++] = (char) ((char32 & UConverterConstants.HALF_MASK) + UConverterConstants.SURROGATE_LOW_START);
-                                cr = CoderResult.OVERFLOW;
-                                break;
-                            }
-                            target.put(
-                                    targetIndex++,
-                                    (char) ((char32 & UConverterConstants.HALF_MASK) + UConverterConstants.SURROGATE_LOW_START));
-                        }
+                        target.put(
+                                targetIndex++,
+                                (char) ((char32 & UConverterConstants.HALF_MASK) + UConverterConstants.SURROGATE_LOW_START));
+                    }
 
-                        /*
-                         * we're finished outputting, so now we need to read in the first byte of the
-                         * next byte sequence that could form a code point
-                         */
+                    /*
+                     * we're finished outputting, so now we need to read in the first byte of the
+                     * next byte sequence that could form a code point
+                     */
 
+                    if (sourceIndex >= sourceLimit) {
+                        cr = CoderResult.UNDERFLOW;
+                        break;
+                    }
+                    if (targetIndex >= targetLimit) {
+                        cr = CoderResult.OVERFLOW;
+                        break;
+                    }
+
+                    /* keep reading the next input (and writing it) while bytes == 1 */
+                    while (UTF8.isSingle(ch = source.get(sourceIndex++))) {
+                        target.put(targetIndex++, (char) ch);
                         if (sourceIndex >= sourceLimit) {
                             cr = CoderResult.UNDERFLOW;
-                            break;
+                            break outer;
                         }
                         if (targetIndex >= targetLimit) {
                             cr = CoderResult.OVERFLOW;
-                            break;
-                        }
-
-                        /* keep reading the next input (and writing it) while bytes == 1 */
-                        while (UTF8.isSingle(ch = source.get(sourceIndex++))) {
-                            target.put(targetIndex++, (char) ch);
-                            if (sourceIndex >= sourceLimit) {
-                                cr = CoderResult.UNDERFLOW;
-                                break outer;
-                            }
-                            if (targetIndex >= targetLimit) {
-                                cr = CoderResult.OVERFLOW;
-                                break outer;
-                            }
+                            break outer;
                         }
-                        toUBytesArray[0] = ch;
-
-                        /* remove the bits that indicate the number of bytes */
-                        bytesExpected = UTF8.countBytes(ch);
-                        char32 = ch & BITMASK_FROM_UTF8[bytesExpected];
-                        bytesSoFar = 1;
-                    } else {
-                        /*
-                         * either the lead byte in the code sequence is invalid (bytes == 0) or the
-                         * lead byte combined with all the trail chars does not form a valid code
-                         * point
-                         */
-                        toULength = bytesSoFar;
-                        cr = CoderResult.malformedForLength(bytesSoFar);
-                        break;
                     }
-                }
+                    toUBytesArray[0] = ch;
 
-                source.position(sourceIndex);
-                target.position(targetIndex);
-                return cr;
+                    /* remove the bits that indicate the number of bytes */
+                    bytesExpected = UTF8.countBytes(ch);
+                    char32 = ch & BITMASK_FROM_UTF8[bytesExpected];
+                    bytesSoFar = 1;
+                } else {
+                    /*
+                     * either the lead byte in the code sequence is invalid (bytes == 0) or the
+                     * lead byte combined with all the trail chars does not form a valid code
+                     * point
+                     */
+                    toULength = bytesSoFar;
+                    cr = CoderResult.malformedForLength(bytesSoFar);
+                    break;
+                }
             }
+
+            source.position(sourceIndex);
+            target.position(targetIndex);
+            return cr;
         }
 
+        private ByteBuffer stageSource;
+        private CharBuffer stageTarget;
     }
 
     class CharsetEncoderUTF8 extends CharsetEncoderICU {
@@ -338,181 +384,227 @@ protected CoderResult encodeLoop(CharBuffer source, ByteBuffer target, IntBuffer
 
             if (source.hasArray() && target.hasArray()) {
                 /* source and target are backed by arrays, so use the arrays for optimal performance */
-                char[] sourceArray = source.array();
-                int srcIdx = source.arrayOffset() + source.position();
-                int sourceLimit = source.arrayOffset() + source.limit();
-                byte[] targetArray = target.array();
-                int tgtIdx = target.arrayOffset() + target.position();
-                int targetLimit = target.arrayOffset() + target.limit();
-
-                int char32;
-                CoderResult cr;
-
-                /* take care of the special condition of fromUChar32 not being 0 (it is a surrogate) */
-                if (fromUChar32 != 0) {
-                    /* 4 bytes to encode from char32 and a following char in source */
+                return encodeArrays(source, target);
+            } else {
+                return encodeStaged(source, target);
+            }
+        }
 
-                    sourceIndex = srcIdx;
-                    targetIndex = tgtIdx;
-                    cr = encodeFourBytes(sourceArray, targetArray, sourceLimit, targetLimit,
-                            fromUChar32);
-                    srcIdx = sourceIndex;
-                    tgtIdx = targetIndex;
-                    if (cr != null) {
-                        source.position(srcIdx - source.arrayOffset());
-                        target.position(tgtIdx - target.arrayOffset());
-                        return cr;
-                    }
+        private CoderResult encodeArrays(CharBuffer source, ByteBuffer target) {
+            char[] sourceArray = source.array();
+            int srcIdx = source.arrayOffset() + source.position();
+            int sourceLimit = source.arrayOffset() + source.limit();
+            byte[] targetArray = target.array();
+            int tgtIdx = target.arrayOffset() + target.position();
+            int targetLimit = target.arrayOffset() + target.limit();
+
+            int char32;
+            CoderResult cr;
+
+            /* take care of the special condition of fromUChar32 not being 0 (it is a surrogate) */
+            if (fromUChar32 != 0) {
+                /* 4 bytes to encode from char32 and a following char in source */
+
+                sourceIndex = srcIdx;
+                targetIndex = tgtIdx;
+                cr = encodeFourBytes(sourceArray, targetArray, sourceLimit, targetLimit,
+                        fromUChar32);
+                srcIdx = sourceIndex;
+                tgtIdx = targetIndex;
+                if (cr != null) {
+                    source.position(srcIdx - source.arrayOffset());
+                    target.position(tgtIdx - target.arrayOffset());
+                    return cr;
                 }
+            }
 
-                while (true) {
-                    if (srcIdx >= sourceLimit) {
-                        /* nothing left to read */
-                        cr = CoderResult.UNDERFLOW;
+            while (true) {
+                if (srcIdx >= sourceLimit) {
+                    /* nothing left to read */
+                    cr = CoderResult.UNDERFLOW;
+                    break;
+                }
+                if (tgtIdx >= targetLimit) {
+                    /* no space left to write */
+                    cr = CoderResult.OVERFLOW;
+                    break;
+                }
+
+                /* reach the next char into char32 */
+                char32 = sourceArray[srcIdx++];
+
+                if (char32 <= 0x7f) {
+                    /* 1 byte to encode from char32, and the same for the rest of the run */
+
+                    targetArray[tgtIdx++] = encodeHeadOf1(char32);
+                    int run = SingleByteRuns.encode(sourceArray, srcIdx, targetArray, tgtIdx,
+                            Math.min(sourceLimit - srcIdx, targetLimit - tgtIdx), 0x7f);
+                    srcIdx += run;
+                    tgtIdx += run;
+
+                } else if (char32 <= 0x7ff) {
+                    /* 2 bytes to encode from char32 */
+
+                    targetArray[tgtIdx++] = encodeHeadOf2(char32);
+
+                    if (tgtIdx >= targetLimit) {
+                        errorBuffer[errorBufferLength++] = encodeLastTail(char32);
+                        cr = CoderResult.OVERFLOW;
                         break;
                     }
+                    targetArray[tgtIdx++] = encodeLastTail(char32);
+
+                } else if (!UTF16.isSurrogate(char32) || isCESU8) {
+                    /* 3 bytes to encode from char32 */
+
+                    targetArray[tgtIdx++] = encodeHeadOf3(char32);
+
                     if (tgtIdx >= targetLimit) {
-                        /* no space left to write */
+                        errorBuffer[errorBufferLength++] = encodeSecondToLastTail(char32);
+                        errorBuffer[errorBufferLength++] = encodeLastTail(char32);
                         cr = CoderResult.OVERFLOW;
                         break;
                     }
+                    targetArray[tgtIdx++] = encodeSecondToLastTail(char32);
 
-                    /* reach the next char into char32 */
-                    char32 = sourceArray[srcIdx++];
-
-                    if (char32 <= 0x7f) {
-                        /* 1 byte to encode from char32 */
+                    if (tgtIdx >= targetLimit) {
+                        errorBuffer[errorBufferLength++] = encodeLastTail(char32);
+                        cr = CoderResult.OVERFLOW;
+                        break;
+                    }
+                    targetArray[tgtIdx++] = encodeLastTail(char32);
 
-                        targetArray[tgtIdx++] = encodeHeadOf1(char32);
+                } else {
+                    /* 4 bytes to encode from char32 and a following char in source */
 
-                    } else if (char32 <= 0x7ff) {
-                        /* 2 bytes to encode from char32 */
+                    sourceIndex = srcIdx;
+                    targetIndex = tgtIdx;
+                    cr = encodeFourBytes(sourceArray, targetArray, sourceLimit, targetLimit,
+                            char32);
+                    srcIdx = sourceIndex;
+                    tgtIdx = targetIndex;
+                    if (cr != null)
+                        break;
+                }
+            }
 
-                        targetArray[tgtIdx++] = encodeHeadOf2(char32);
+            /* set the new source and target positions and return the CoderResult stored in cr */
+            source.position(srcIdx - source.arrayOffset());
+            target.position(tgtIdx - target.arrayOffset());
+            return cr;
 
-                        if (tgtIdx >= targetLimit) {
-                            errorBuffer[errorBufferLength++] = encodeLastTail(char32);
-                            cr = CoderResult.OVERFLOW;
-                            break;
-                        }
-                        targetArray[tgtIdx++] = encodeLastTail(char32);
+        }
 
-                    } else if (!UTF16.isSurrogate(char32) || isCESU8) {
-                        /* 3 bytes to encode from char32 */
+        /*
+         * Encodes with the array loop through staging arrays, which are filled and emptied with
+         * bulk operations; these are fast for direct buffers and wrapped Strings too.
+         */
+        private CoderResult encodeStaged(CharBuffer source, ByteBuffer target) {
+            if (stageSource == null) {
+                stageSource = CharBuffer.allocate(SingleByteRuns.STAGE_SIZE);
+                stageTarget = ByteBuffer.allocate(SingleByteRuns.STAGE_SIZE);
+            }
+            CoderResult cr;
+            do {
+                /*
+                 * stage only as many chars as are sure to fit: up to 3 bytes each, plus one byte
+                 * for a supplementary code point whose lead surrogate came earlier,
+                 * so the stage never overflows
+                 */
+                int length = Math.min(source.remaining(), (Math.min(target.remaining(), SingleByteRuns.STAGE_SIZE) - 1) / 3);
+                if (!target.hasRemaining()) {
+                    return CoderResult.OVERFLOW;
+                } else if (length <= 0) {
+                    /* too little room for the stage, finish with the buffer loop */
+                    return encodeBuffers(source, target);
+                }
+                stageSource.clear();
+                source.get(stageSource.array(), 0, length);
+                stageSource.limit(length);
+                stageTarget.clear();
+                cr = encodeArrays(stageSource, stageTarget);
+                source.position(source.position() - stageSource.remaining());
+                target.put(stageTarget.array(), 0, stageTarget.position());
+            } while (cr.isUnderflow() && source.hasRemaining());
+            return cr;
+        }
 
-                        targetArray[tgtIdx++] = encodeHeadOf3(char32);
+        private CoderResult encodeBuffers(CharBuffer source, ByteBuffer target) {
+            int char32;
+            CoderResult cr;
 
-                        if (tgtIdx >= targetLimit) {
-                            errorBuffer[errorBufferLength++] = encodeSecondToLastTail(char32);
-                            errorBuffer[errorBufferLength++] = encodeLastTail(char32);
-                            cr = CoderResult.OVERFLOW;
-                            break;
-                        }
-                        targetArray[tgtIdx++] = encodeSecondToLastTail(char32);
+            /* take care of the special condition of fromUChar32 not being 0 (it is a surrogate) */
+            if (fromUChar32 != 0) {
+                /* 4 bytes to encode from char32 and a following char in source */
 
-                        if (tgtIdx >= targetLimit) {
-                            errorBuffer[errorBufferLength++] = encodeLastTail(char32);
-                            cr = CoderResult.OVERFLOW;
-                            break;
-                        }
-                        targetArray[tgtIdx++] = encodeLastTail(char32);
+                cr = encodeFourBytes(source, target, fromUChar32);
+                if (cr != null)
+                    return cr;
+            }
 
-                    } else {
-                        /* 4 bytes to encode from char32 and a following char in source */
-
-                        sourceIndex = srcIdx;
-                        targetIndex = tgtIdx;
-                        cr = encodeFourBytes(sourceArray, targetArray, sourceLimit, targetLimit,
-                                char32);
-                        srcIdx = sourceIndex;
-                        tgtIdx = targetIndex;
-                        if (cr != null)
-                            break;
-                    }
+            while (true) {
+                if (!source.hasRemaining()) {
+                    /* nothing left to read */
+                    cr = CoderResult.UNDERFLOW;
+                    break;
+                }
+                if (!target.hasRemaining()) {
+                    /* no space left to write */
+                    cr = CoderResult.OVERFLOW;
+                    break;
                 }
 
-                /* set the new source and target positions and return the CoderResult stored in cr */
-                source.position(srcIdx - source.arrayOffset());
-                target.position(tgtIdx - target.arrayOffset());
-                return cr;
+                /* reach the next char into char32 */
+                char32 = source.get();
 
-            } else {
-                int char32;
-                CoderResult cr;
+                if (char32 <= 0x7f) {
+                    /* 1 byte to encode from char32 */
 
-                /* take care of the special condition of fromUChar32 not being 0 (it is a surrogate) */
-                if (fromUChar32 != 0) {
-                    /* 4 bytes to encode from char32 and a following char in source */
+                    target.put(encodeHeadOf1(char32));
 
-                    cr = encodeFourBytes(source, target, fromUChar32);
-                    if (cr != null)
-                        return cr;
-                }
+                } else if (char32 <= 0x7ff) {
+                    /* 2 bytes to encode from char32 */
+
+                    target.put(encodeHeadOf2(char32));
 
-                while (true) {
-                    if (!source.hasRemaining()) {
-                        /* nothing left to read */
-                        cr = CoderResult.UNDERFLOW;
-                        break;
-                    }
                     if (!target.hasRemaining()) {
-                        /* no space left to write */
+                        errorBuffer[errorBufferLength++] = encodeLastTail(char32);
                         cr = CoderResult.OVERFLOW;
                         break;
                     }
+                    target.put(encodeLastTail(char32));
 
-                    /* reach the next char into char32 */
-                    char32 = source.get();
-
-                    if (char32 <= 0x7f) {
-                        /* 1 byte to encode from char32 */
-
-                        target.put(encodeHeadOf1(char32));
-
-                    } else if (char32 <= 0x7ff) {
-                        /* 2 bytes to encode from char32 */
-
-                        target.put(encodeHeadOf2(char32));
-
-                        if (!target.hasRemaining()) {
-                            errorBuffer[errorBufferLength++] = encodeLastTail(char32);
-                            cr = CoderResult.OVERFLOW;
-                            break;
-                        }
-                        target.put(encodeLastTail(char32));
-
-                    } else if (!UTF16.isSurrogate(char32) || isCESU8) {
-                        /* 3 bytes to encode from char32 */
+                } else if (!UTF16.isSurrogate(char32) || isCESU8) {
+                    /* 3 bytes to encode from char32 */
 
-                        target.put(encodeHeadOf3(char32));
+                    target.put(encodeHeadOf3(char32));
 
-                        if (!target.hasRemaining()) {
-                            errorBuffer[errorBufferLength++] = encodeSecondToLastTail(char32);
-                            errorBuffer[errorBufferLength++] = encodeLastTail(char32);
-                            cr = CoderResult.OVERFLOW;
-                            break;
-                        }
-                        target.put(encodeSecondToLastTail(char32));
+                    if (!target.hasRemaining()) {
+                        errorBuffer[errorBufferLength++] = encodeSecondToLastTail(char32);
+                        errorBuffer[errorBufferLength++] = encodeLastTail(char32);
+                        cr = CoderResult.OVERFLOW;
+                        break;
+                    }
+                    target.put(encodeSecondToLastTail(char32));
 
-                        if (!target.hasRemaining()) {
-                            errorBuffer[errorBufferLength++] = encodeLastTail(char32);
-                            cr = CoderResult.OVERFLOW;
-                            break;
-                        }
-                        target.put(encodeLastTail(char32));
+                    if (!target.hasRemaining()) {
+                        errorBuffer[errorBufferLength++] = encodeLastTail(char32);
+                        cr = CoderResult.OVERFLOW;
+                        break;
+                    }
+                    target.put(encodeLastTail(char32));
 
-                    } else {
-                        /* 4 bytes to encode from char32 and a following char in source */
+                } else {
+                    /* 4 bytes to encode from char32 and a following char in source */
 
-                        cr = encodeFourBytes(source, target, char32);
-                        if (cr != null)
-                            break;
-                    }
+                    cr = encodeFourBytes(source, target, char32);
+                    if (cr != null)
+                        break;
                 }
-
-                /* set the new source and target positions and return the CoderResult stored in cr */
-                return cr;
             }
+
+            /* set the new source and target positions and return the CoderResult stored in cr */
+            return cr;
         }
 
         private final CoderResult encodeFourBytes(char[] sourceArray, byte[] targetArray,
@@ -600,6 +692,10 @@ private final CoderResult encodeFourBytes(CharBuffer source, ByteBuffer target,
 
         private int targetIndex;
 
+        private CharBuffer stageSource;
+
+        private ByteBuffer stageTarget;
+
     }
 
     private static final byte encodeHeadOf1(int char32) {
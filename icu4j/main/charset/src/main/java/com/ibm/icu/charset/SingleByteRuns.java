@@ -0,0 +1,74 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: https://www.unicode.org/copyright.html
+
+package com.ibm.icu.charset;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Bulk loops for runs of characters that map one-to-one to single bytes:
+ * ASCII in US-ASCII and UTF-8, and all of ISO-8859-1.
+ * <p>
+ * Each loop first finds the length of the run and then copies it in a separate loop
+ * without early exits, which the JIT compiles into wide loads and stores.
+ * ASCII bytes are found eight at a time through a long view of the byte array.
+ */
+final class SingleByteRuns {
+    /**
+     * The size of the staging arrays that converters use for buffers
+     * without accessible arrays, such as direct ByteBuffers.
+     */
+    static final int STAGE_SIZE = 1024;
+
+    private static final VarHandle LONGS =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final long NON_ASCII_BITS = 0x8080808080808080L;
+
+    private SingleByteRuns() {}
+
+    /**
+     * Converts the run of ASCII bytes at the start of the source range to chars.
+     *
+     * @return the number of bytes converted, less than length if a non-ASCII byte stopped the run
+     */
+    static int decodeASCII(byte[] src, int srcIndex, char[] dest, int destIndex, int length) {
+        int count = 0;
+        while (count <= length - 8 && (((long) LONGS.get(src, srcIndex + count)) & NON_ASCII_BITS) == 0) {
+            count += 8;
+        }
+        while (count < length && src[srcIndex + count] >= 0) {
+            ++count;
+        }
+        decodeLatin1(src, srcIndex, dest, destIndex, count);
+        return count;
+    }
+
+    /**
+     * Converts bytes to the chars with the same values, as in ISO-8859-1.
+     */
+    static void decodeLatin1(byte[] src, int srcIndex, char[] dest, int destIndex, int length) {
+        for (int i = 0; i < length; ++i) {
+            dest[destIndex + i] = (char) (src[srcIndex + i] & 0xff);
+        }
+    }
+
+    /**
+     * Converts the run of chars up to max at the start of the source range to bytes.
+     *
+     * @param max 0x7f for ASCII, or 0xff for ISO-8859-1
+     * @return the number of chars converted, less than length if a larger char stopped the run
+     */
+    static int encode(char[] src, int srcIndex, byte[] dest, int destIndex, int length, int max) {
+        int count = 0;
+        while (count < length && src[srcIndex + count] <= max) {
+            ++count;
+        }
+        for (int i = 0; i < count; ++i) {
+            dest[destIndex + i] = (byte) src[srcIndex + i];
+        }
+        return count;
+    }
+}
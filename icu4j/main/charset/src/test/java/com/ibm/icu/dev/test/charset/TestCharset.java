@@ -9,6 +9,7 @@
 
 package com.ibm.icu.dev.test.charset;
 
+import java.io.ByteArrayOutputStream;
 import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
@@ -5877,4 +5878,107 @@ public void TestDefaultIgnorableCallback() {
             }
         }
     }
+
+    private static String decodeInChunks(CharsetDecoder decoder, ByteBuffer in, CharBuffer out) {
+        StringBuilder sb = new StringBuilder();
+        decoder.reset();
+        CoderResult cr;
+        do {
+            cr = decoder.decode(in, out, true);
+            out.flip();
+            sb.append(out);
+            out.clear();
+        } while (cr.isOverflow());
+        do {
+            cr = decoder.flush(out);
+            out.flip();
+            sb.append(out);
+            out.clear();
+        } while (cr.isOverflow());
+        return sb.toString();
+    }
+
+    private static byte[] encodeInChunks(CharsetEncoder encoder, CharBuffer in, ByteBuffer out) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        encoder.reset();
+        CoderResult cr;
+        do {
+            cr = encoder.encode(in, out, true);
+            out.flip();
+            while (out.hasRemaining()) {
+                bytes.write(out.get());
+            }
+            out.clear();
+        } while (cr.isOverflow());
+        do {
+            cr = encoder.flush(out);
+            out.flip();
+            while (out.hasRemaining()) {
+                bytes.write(out.get());
+            }
+            out.clear();
+        } while (cr.isOverflow());
+        return bytes.toByteArray();
+    }
+
+    // The single-byte runs and the staging of direct and other buffers without arrays
+    // must give the same results as the plain array loops, for any buffer boundaries.
+    @Test
+    public void TestBufferKinds() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 300; i++) {
+            sb.append("Run ").append(i).append(" of ASCII text. ");
+        }
+        sb.append("caf\u00e9 \u00fcber \u0416\u0443\u043a \u4e2d\u6587 \ud83d\ude00 x\ud800y \udc00 end");
+        String text = sb.toString();
+        byte[] utf8 = text.replace("x\ud800y \udc00", "").getBytes(java.nio.charset.StandardCharsets.UTF_8);
+        byte[] malformed = { 'a', (byte)0xff, 'b', (byte)0xc0, (byte)0x80, 'c', (byte)0xe4, (byte)0xb8, 'd',
+                (byte)0xf0, (byte)0x9f, (byte)0x98, (byte)0x80, (byte)0xe9, (byte)0xf0 };
+        byte[] bytes = new byte[utf8.length + malformed.length];
+        System.arraycopy(utf8, 0, bytes, 0, utf8.length);
+        System.arraycopy(malformed, 0, bytes, utf8.length, malformed.length);
+
+        CharsetProvider provider = new CharsetProviderICU();
+        for (String name : new String[] { "UTF-8", "CESU-8", "US-ASCII", "ISO-8859-1" }) {
+            Charset cs = provider.charsetForName(name);
+            CharsetDecoder decoder = cs.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            CharsetEncoder encoder = cs.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+            String expectedChars = decodeInChunks(decoder, ByteBuffer.wrap(bytes), CharBuffer.allocate(bytes.length + 10));
+            byte[] expectedBytes = encodeInChunks(encoder, CharBuffer.wrap(text.toCharArray()),
+                    ByteBuffer.allocate(text.length() * 3 + 10));
+
+            ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+            direct.put(bytes).flip();
+            ByteBuffer[] sources = { direct, ByteBuffer.wrap(bytes).asReadOnlyBuffer(),
+                    ByteBuffer.wrap(bytes) };
+            CharBuffer directChars = ByteBuffer.allocateDirect(text.length() * 2).asCharBuffer();
+            directChars.put(text).flip();
+            CharBuffer[] charSources = { CharBuffer.wrap(text), directChars,
+                    CharBuffer.wrap(text.toCharArray()) };
+            for (int size : new int[] { 1, 2, 3, 4, 5, 17, 1000, 5000 }) {
+                for (ByteBuffer source : sources) {
+                    source.rewind();
+                    assertEquals(name + " decode " + source + " into " + size,
+                            expectedChars, decodeInChunks(decoder, source, CharBuffer.allocate(size)));
+                    source.rewind();
+                    assertEquals(name + " decode " + source + " into direct " + size,
+                            expectedChars, decodeInChunks(decoder, source,
+                                    ByteBuffer.allocateDirect(size * 2).asCharBuffer()));
+                }
+                for (CharBuffer source : charSources) {
+                    source.rewind();
+                    assertTrue(name + " encode " + source.getClass().getSimpleName() + " into " + size,
+                            Arrays.equals(expectedBytes, encodeInChunks(encoder, source, ByteBuffer.allocate(size))));
+                    source.rewind();
+                    assertTrue(name + " encode " + source.getClass().getSimpleName() + " into direct " + size,
+                            Arrays.equals(expectedBytes, encodeInChunks(encoder, source, ByteBuffer.allocateDirect(size))));
+                }
+            }
+        }
+    }
 }
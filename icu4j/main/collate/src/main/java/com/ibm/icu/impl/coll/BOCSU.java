@@ -133,6 +133,37 @@ public static int writeIdenticalLevelRun(int prev, CharSequence s, int i, int le
         return prev;
     }
 
+    /**
+     * Same as {@link #writeIdenticalLevelRun(int, CharSequence, int, int, ByteArrayWrapper)}
+     * but appends to a SortKeyByteSink, which need not grow.
+     * With preflight=false, stops as soon as the sink overflows.
+     *
+     * @param scratch at least 4 bytes, for the difference of each code point
+     */
+    public static int writeIdenticalLevelRun(int prev, CharSequence s, int i, int length,
+            CollationKeys.SortKeyByteSink sink, byte[] scratch, boolean preflight) {
+        while (i < length && (preflight || !sink.Overflowed())) {
+            if (prev < 0x4e00 || prev >= 0xa000) {
+                prev = (prev & ~0x7f) - SLOPE_REACH_NEG_1_;
+            } else {
+                // Unihan U+4e00..U+9fa5:
+                // double-bytes down from the upper end
+                prev = 0x9fff - SLOPE_REACH_POS_2_;
+            }
+
+            int c = Character.codePointAt(s, i);
+            i += Character.charCount(c);
+            if (c == 0xfffe) {
+                sink.Append(2);  // merge separator
+                prev = 0;
+            } else {
+                sink.Append(scratch, writeDiff(c - prev, scratch, 0));
+                prev = c;
+            }
+        }
+        return prev;
+    }
+
     private static void ensureAppendCapacity(ByteArrayWrapper sink, int minCapacity, int desiredCapacity) {
         int remainingCapacity = sink.bytes.length - sink.size;
         if (remainingCapacity >= minCapacity) { return; }
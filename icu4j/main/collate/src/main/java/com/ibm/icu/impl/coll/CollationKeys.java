@@ -22,12 +22,15 @@ public final class CollationKeys /* all methods are static */ {
     // collation features.
     public static abstract class SortKeyByteSink {
         protected byte[] buffer_;
-        // protected int capacity_; == buffer_.length
-        private int appended_ = 0;
+        /** Index in buffer_ of the first sort key byte. */
+        protected int start_;
+        protected int capacity_;
+        protected int appended_ = 0;
         // not used in Java -- private int ignore_ = 0;
 
         public SortKeyByteSink(byte[] dest) {
             buffer_ = dest;
+            capacity_ = dest.length;
         }
 
         /**
@@ -38,9 +41,21 @@ public SortKeyByteSink(byte[] dest) {
          */
         public void setBufferAndAppended(byte[] dest, int app) {
             buffer_ = dest;
+            start_ = 0;
+            capacity_ = dest.length;
             appended_ = app;
         }
 
+        /**
+         * Resets this sink to write up to capacity bytes into dest starting at index start.
+         */
+        public void setBuffer(byte[] dest, int start, int capacity) {
+            buffer_ = dest;
+            start_ = start;
+            capacity_ = capacity;
+            appended_ = 0;
+        }
+
         /* not used in Java -- public void IgnoreBytes(int numIgnore) {
             ignore_ = numIgnore;
         } */
@@ -71,9 +86,9 @@ public void Append(byte[] bytes, int n) {
             int length = appended_;
             appended_ += n;
 
-            int available = buffer_.length - length;
+            int available = capacity_ - length;
             if (n <= available) {
-                System.arraycopy(bytes, 0, buffer_, length, n);
+                System.arraycopy(bytes, 0, buffer_, start_ + length, n);
             } else {
                 AppendBeyondCapacity(bytes, 0, n, length);
             }
@@ -83,8 +98,8 @@ public void Append(int b) {
             /* not used in Java -- if (ignore_ > 0) {
                 --ignore_;
             } else */ {
-                if (appended_ < buffer_.length || Resize(1, appended_)) {
-                    buffer_[appended_] = (byte) b;
+                if (appended_ < capacity_ || Resize(1, appended_)) {
+                    buffer_[start_ + appended_] = (byte) b;
                 }
                 ++appended_;
             }
@@ -102,11 +117,11 @@ public int NumberOfBytesAppended() {
         }
 
         public int GetRemainingCapacity() {
-            return /* not used in Java -- ignore_ + */ buffer_.length - appended_;
+            return /* not used in Java -- ignore_ + */ capacity_ - appended_;
         }
 
         public boolean Overflowed() {
-            return appended_ > buffer_.length;
+            return appended_ > capacity_;
         }
 
         /* not used in Java -- public boolean IsOk() {
@@ -195,17 +210,19 @@ void appendWeight16(int w) {
 
         void appendWeight32(long w) {
             assert (w != 0);
-            byte[] bytes = new byte[] { (byte) (w >>> 24), (byte) (w >>> 16), (byte) (w >>> 8),
-                    (byte) w };
-            int appendLength = (bytes[1] == 0) ? 1 : (bytes[2] == 0) ? 2 : (bytes[3] == 0) ? 3 : 4;
+            byte b0 = (byte) (w >>> 24);
+            byte b1 = (byte) (w >>> 16);
+            byte b2 = (byte) (w >>> 8);
+            byte b3 = (byte) w;
+            int appendLength = (b1 == 0) ? 1 : (b2 == 0) ? 2 : (b3 == 0) ? 3 : 4;
             if ((len + appendLength) <= buffer.length || ensureCapacity(appendLength)) {
-                buffer[len++] = bytes[0];
-                if (bytes[1] != 0) {
-                    buffer[len++] = bytes[1];
-                    if (bytes[2] != 0) {
-                        buffer[len++] = bytes[2];
-                        if (bytes[3] != 0) {
-                            buffer[len++] = bytes[3];
+                buffer[len++] = b0;
+                if (b1 != 0) {
+                    buffer[len++] = b1;
+                    if (b2 != 0) {
+                        buffer[len++] = b2;
+                        if (b3 != 0) {
+                            buffer[len++] = b3;
                         }
                     }
                 }
@@ -254,8 +271,27 @@ private boolean ensureCapacity(int appendCapacity) {
         }
     }
 
-    private static SortKeyLevel getSortKeyLevel(int levels, int level) {
-        return (levels & level) != 0 ? new SortKeyLevel() : null;
+    /**
+     * Reusable buffers for the levels that writeSortKeyUpToQuaternary() collects
+     * while it writes the primary level, so that repeated sort key generation does not
+     * allocate. Not thread-safe: Use one instance per thread or per CollationBuffer.
+     */
+    public static final class LevelBuffers {
+        private final SortKeyLevel cases = new SortKeyLevel();
+        private final SortKeyLevel secondaries = new SortKeyLevel();
+        private final SortKeyLevel tertiaries = new SortKeyLevel();
+        private final SortKeyLevel quaternaries = new SortKeyLevel();
+    }
+
+    private static SortKeyLevel getSortKeyLevel(int levels, int level, SortKeyLevel reusable) {
+        if ((levels & level) == 0) {
+            return null;
+        }
+        if (reusable == null) {
+            return new SortKeyLevel();
+        }
+        reusable.len = 0;
+        return reusable;
     }
 
     private CollationKeys() {
@@ -330,6 +366,18 @@ private CollationKeys() {
     public static void writeSortKeyUpToQuaternary(CollationIterator iter, boolean[] compressibleBytes,
             CollationSettings settings, SortKeyByteSink sink, int minLevel, LevelCallback callback,
             boolean preflight) {
+        writeSortKeyUpToQuaternary(iter, compressibleBytes, settings, sink, minLevel, callback,
+                preflight, null);
+    }
+
+    /**
+     * Same as the other writeSortKeyUpToQuaternary() but collects the non-primary levels
+     * in the given reusable buffers, if not null.
+     * With preflight=false, stops as soon as the primary level overflows the sink.
+     */
+    public static void writeSortKeyUpToQuaternary(CollationIterator iter, boolean[] compressibleBytes,
+            CollationSettings settings, SortKeyByteSink sink, int minLevel, LevelCallback callback,
+            boolean preflight, LevelBuffers levelBuffers) {
 
         int options = settings.options;
         // Set of levels to process and write.
@@ -353,11 +401,15 @@ public static void writeSortKeyUpToQuaternary(CollationIterator iter, boolean[]
 
         int tertiaryMask = CollationSettings.getTertiaryMask(options);
 
-        byte[] p234 = new byte[3];
-        SortKeyLevel cases = getSortKeyLevel(levels, Collation.CASE_LEVEL_FLAG);
-        SortKeyLevel secondaries = getSortKeyLevel(levels, Collation.SECONDARY_LEVEL_FLAG);
-        SortKeyLevel tertiaries = getSortKeyLevel(levels, Collation.TERTIARY_LEVEL_FLAG);
-        SortKeyLevel quaternaries = getSortKeyLevel(levels, Collation.QUATERNARY_LEVEL_FLAG);
+        boolean reuse = levelBuffers != null;
+        SortKeyLevel cases = getSortKeyLevel(levels, Collation.CASE_LEVEL_FLAG,
+                reuse ? levelBuffers.cases : null);
+        SortKeyLevel secondaries = getSortKeyLevel(levels, Collation.SECONDARY_LEVEL_FLAG,
+                reuse ? levelBuffers.secondaries : null);
+        SortKeyLevel tertiaries = getSortKeyLevel(levels, Collation.TERTIARY_LEVEL_FLAG,
+                reuse ? levelBuffers.tertiaries : null);
+        SortKeyLevel quaternaries = getSortKeyLevel(levels, Collation.QUATERNARY_LEVEL_FLAG,
+                reuse ? levelBuffers.quaternaries : null);
 
         long prevReorderedPrimary = 0;  // 0==no compression
         int commonCases = 0;
@@ -436,10 +488,15 @@ public static void writeSortKeyUpToQuaternary(CollationIterator iter, boolean[]
                 }
                 byte p2 = (byte) (p >>> 16);
                 if (p2 != 0) {
-                    p234[0] = p2;
-                    p234[1] = (byte) (p >>> 8);
-                    p234[2] = (byte) p;
-                    sink.Append(p234, (p234[1] == 0) ? 1 : (p234[2] == 0) ? 2 : 3);
+                    sink.Append(p2);
+                    byte p3 = (byte) (p >>> 8);
+                    if (p3 != 0) {
+                        sink.Append(p3);
+                        byte p4 = (byte) p;
+                        if (p4 != 0) {
+                            sink.Append(p4);
+                        }
+                    }
                 }
                 // Optimization for internalNextSortKeyPart():
                 // When the primary level overflows we can stop because we need not
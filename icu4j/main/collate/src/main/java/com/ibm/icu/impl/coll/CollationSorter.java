@@ -0,0 +1,161 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: https://www.unicode.org/copyright.html
+
+package com.ibm.icu.impl.coll;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import com.ibm.icu.text.RuleBasedCollator;
+
+/**
+ * Bulk sorting of items by their texts in collation order.
+ *
+ * <p>Chooses one of two strategies:
+ * <ul>
+ * <li>Few items, nearly sorted items, texts that are all handled by the FastLatin table,
+ *     or long texts relative to the number of items:
+ *     stable sort with string comparisons.
+ *     A string comparison usually stops early, at the first primary difference.
+ * <li>Otherwise: one sort key per text, all packed into a single byte arena,
+ *     and a stable sort that compares the sort key bytes.
+ *     Sort key generation processes the whole text but only once.
+ * </ul>
+ * With many items, the sort is a parallel fork-join merge sort
+ * ({@link Arrays#parallelSort(Object[], Comparator)}) if the comparisons are thread-safe:
+ * Comparing sort keys does not use the collator, and a frozen collator is thread-safe.
+ * The sorts are adaptive: Runs of already-sorted items are merged cheaply.
+ */
+public final class CollationSorter {
+    /** Below this many items, sort keys do not pay off. */
+    static final int MIN_SORT_KEY_COUNT = 64;
+    /**
+     * Sort keys pay off when each text is compared more often, about log2(count) times,
+     * than its average length divided by this factor.
+     * Measured with the name lists in the performance test data.
+     */
+    static final int CHARS_PER_COMPARISON = 2;
+    /**
+     * Items are considered nearly sorted, and not worth sort keys,
+     * if at most one in this many is out of order relative to its predecessor.
+     */
+    static final int NEARLY_SORTED_RATIO = 32;
+    /** Use a parallel sort starting with this many items. */
+    static final int MIN_PARALLEL_COUNT = 1 << 13;
+
+    private CollationSorter() {}
+
+    /**
+     * One item with its text and, if used, the bounds of its sort key in the arena.
+     */
+    private static final class Entry {
+        Entry(Object item, CharSequence text) {
+            this.item = item;
+            this.text = text;
+        }
+
+        final Object item;
+        final CharSequence text;
+        int keyStart;
+        int keyLimit;
+    }
+
+    /**
+     * Sorts the items in place, by their texts in collation order.
+     * Items with equal texts remain in their input order.
+     *
+     * @param coll the collator; if it is not frozen, then it is used only on the calling thread
+     * @param items the items to be sorted
+     * @param texts the text for each item; not modified
+     * @param fastLatin true if the collator's settings support FastLatin comparisons
+     */
+    public static void sort(RuleBasedCollator coll, Object[] items, CharSequence[] texts,
+            boolean fastLatin) {
+        int length = items.length;
+        assert texts.length == length;
+        if (length < 2) {
+            return;
+        }
+        Entry[] entries = new Entry[length];
+        for (int i = 0; i < length; ++i) {
+            entries[i] = new Entry(items[i], texts[i]);
+        }
+        Comparator<Entry> textComparator = (a, b) -> coll.compare(a.text, b.text);
+        if (length < MIN_SORT_KEY_COUNT || isNearlySorted(entries, textComparator) ||
+                (fastLatin && areAllLatin(texts)) || !sortKeysPayOff(texts)) {
+            sort(entries, textComparator, coll.isFrozen());
+        } else {
+            byte[] keys = writeSortKeys(coll, entries);
+            sort(entries, (a, b) -> Arrays.compareUnsigned(
+                    keys, a.keyStart, a.keyLimit, keys, b.keyStart, b.keyLimit), true);
+        }
+        for (int i = 0; i < length; ++i) {
+            items[i] = entries[i].item;
+        }
+    }
+
+    private static void sort(Entry[] entries, Comparator<Entry> cmp, boolean threadSafe) {
+        if (threadSafe && entries.length >= MIN_PARALLEL_COUNT) {
+            Arrays.parallelSort(entries, cmp);
+        } else {
+            Arrays.sort(entries, cmp);
+        }
+    }
+
+    /**
+     * Returns true if few entries are out of order relative to their predecessors.
+     * Stops early for unsorted input.
+     */
+    private static boolean isNearlySorted(Entry[] entries, Comparator<Entry> cmp) {
+        int maxDescents = entries.length / NEARLY_SORTED_RATIO;
+        int descents = 0;
+        for (int i = 1; i < entries.length; ++i) {
+            if (cmp.compare(entries[i - 1], entries[i]) > 0 && ++descents > maxDescents) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean areAllLatin(CharSequence[] texts) {
+        for (CharSequence s : texts) {
+            int length = s.length();
+            for (int i = 0; i < length; ++i) {
+                if (s.charAt(i) > CollationFastLatin.LATIN_MAX) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean sortKeysPayOff(CharSequence[] texts) {
+        long totalLength = 0;
+        for (CharSequence s : texts) {
+            totalLength += s.length();
+        }
+        int log2Count = 31 - Integer.numberOfLeadingZeros(texts.length);
+        return totalLength / texts.length < (long) log2Count * CHARS_PER_COMPARISON;
+    }
+
+    /**
+     * Writes the sort keys of all entries into one byte array
+     * and sets the entries' key bounds.
+     */
+    private static byte[] writeSortKeys(RuleBasedCollator coll, Entry[] entries) {
+        byte[] bytes = new byte[Math.max(entries.length * 16, 256)];
+        int length = 0;
+        for (Entry entry : entries) {
+            int keyLength = coll.getSortKey(entry.text, bytes, length, bytes.length - length);
+            if (keyLength > bytes.length - length) {
+                int newCapacity = Math.max(2 * bytes.length, length + 2 * keyLength);
+                bytes = Arrays.copyOf(bytes, newCapacity);
+                coll.getSortKey(entry.text, bytes, length, keyLength);
+            }
+            entry.keyStart = length;
+            length += keyLength;
+            entry.keyLimit = length;
+        }
+        return bytes;
+    }
+}
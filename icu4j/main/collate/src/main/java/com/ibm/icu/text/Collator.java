@@ -8,11 +8,14 @@
 */
 package com.ibm.icu.text;
 
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Locale;
 import java.util.MissingResourceException;
 import java.util.Set;
+import java.util.function.Function;
 
 import com.ibm.icu.impl.ICUData;
 import com.ibm.icu.impl.ICUDebug;
@@ -1262,6 +1265,39 @@ protected int doCompare(CharSequence left, CharSequence right) {
         return compare(left.toString(), right.toString());
     }
 
+    /**
+     * {@icu} Sorts the strings into collation order, in place.
+     * Equal strings remain in their input order.
+     *
+     * <p>The base class implementation just calls {@code Arrays.sort(strings, this)}.
+     * {@link RuleBasedCollator} chooses between string comparisons and sort keys
+     * depending on the input, which is much faster for large arrays.
+     *
+     * @param strings the strings to be sorted
+     * @throws NullPointerException if strings or any of its elements is null
+     * @draft ICU 78
+     */
+    public void sort(String[] strings) {
+        Arrays.sort(strings, this);
+    }
+
+    /**
+     * {@icu} Sorts the list into the collation order of the texts of its elements, in place.
+     * Elements with equal texts remain in their input order.
+     *
+     * <p>The base class implementation sorts with comparisons of the element texts.
+     * {@link RuleBasedCollator} chooses between comparisons and sort keys
+     * depending on the input, and calls the text function only once per element.
+     *
+     * @param list the list to be sorted
+     * @param toText returns the text by which an element is to be sorted; must not return null
+     * @throws UnsupportedOperationException if the list does not support the set operation
+     * @draft ICU 78
+     */
+    public <T> void sort(List<T> list, Function<? super T, ? extends CharSequence> toText) {
+        list.sort((a, b) -> doCompare(toText.apply(a), toText.apply(b)));
+    }
+
     /**
      * <p>
      * Transforms the String into a CollationKey suitable for efficient
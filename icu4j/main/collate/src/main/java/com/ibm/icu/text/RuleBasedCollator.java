@@ -10,12 +10,16 @@
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.text.CharacterIterator;
 import java.text.ParseException;
 import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
 import java.util.Objects;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
 
 import com.ibm.icu.impl.ClassLoaderUtil;
 import com.ibm.icu.impl.Normalizer2Impl;
@@ -31,6 +35,7 @@
 import com.ibm.icu.impl.coll.CollationLoader;
 import com.ibm.icu.impl.coll.CollationRoot;
 import com.ibm.icu.impl.coll.CollationSettings;
+import com.ibm.icu.impl.coll.CollationSorter;
 import com.ibm.icu.impl.coll.CollationTailoring;
 import com.ibm.icu.impl.coll.ContractionsAndExpansions;
 import com.ibm.icu.impl.coll.FCDUTF16CollationIterator;
@@ -308,21 +313,25 @@ public CollationElementIterator getCollationElementIterator(UCharacterIterator s
      */
     @Override
     public boolean isFrozen() {
-        return frozenLock != null;
+        return frozenBuffers != null;
     }
 
     /**
      * Freezes the collator.
+     *
+     * <p>A frozen collator can be shared by any number of threads.
+     * Comparison and sort key generation do not lock:
+     * Each call borrows its working buffers from a small pool owned by the collator,
+     * so that concurrent threads do not contend with each other.
+     *
      * @return the collator itself.
      * @stable ICU 4.8
      */
     @Override
     public Collator freeze() {
         if (!isFrozen()) {
-            frozenLock = new ReentrantLock();
-            if (collationBuffer == null) {
-                collationBuffer = new CollationBuffer(data);
-            }
+            frozenBuffers = new CollationBufferPool(data, collationBuffer);
+            collationBuffer = null;
         }
         return this;
     }
@@ -340,7 +349,7 @@ public RuleBasedCollator cloneAsThawed() {
             // except in cases where we can't
             result.settings = settings.clone();
             result.collationBuffer = null;
-            result.frozenLock = null;
+            result.frozenBuffers = null;
             return result;
         } catch (CloneNotSupportedException e) {
             // Clone is implemented
@@ -1109,10 +1118,17 @@ public RawCollationKey getRawCollationKey(String source, RawCollationKey key) {
         }
     }
 
+    private static final byte[] NO_BYTES = new byte[0];
+
     private static final class CollationKeyByteSink extends SortKeyByteSink {
-        CollationKeyByteSink(RawCollationKey key) {
-            super(key.bytes);
+        CollationKeyByteSink() {
+            super(NO_BYTES);
+        }
+
+        /** Resets this sink to write into the key, or to nothing if key is null. */
+        void setKey(RawCollationKey key) {
             key_ = key;
+            setBufferAndAppended(key != null ? key.bytes : NO_BYTES, 0);
         }
 
         @Override
@@ -1139,21 +1155,234 @@ protected boolean Resize(int appendCapacity, int length) {
             byte[] newBytes = new byte[newCapacity];
             System.arraycopy(buffer_, 0, newBytes, 0, length);
             buffer_ = key_.bytes = newBytes;
+            capacity_ = newCapacity;
             return true;
         }
 
         private RawCollationKey key_;
     }
 
+    /**
+     * Writes sort key bytes into a caller-supplied array slice.
+     * Counts the bytes that do not fit, without writing them.
+     */
+    private static final class ArrayByteSink extends SortKeyByteSink {
+        ArrayByteSink() {
+            super(NO_BYTES);
+        }
+
+        @Override
+        protected void AppendBeyondCapacity(byte[] bytes, int start, int n, int length) {
+            // n > 0 && appended_ > capacity_
+            int available = capacity_ - length;
+            if (available > 0) {
+                System.arraycopy(bytes, start, buffer_, start_ + length, available);
+            }
+        }
+
+        @Override
+        protected boolean Resize(int appendCapacity, int length) {
+            return false;
+        }
+    }
+
+    /**
+     * Writes sort key bytes into a ByteBuffer without a backing array, such as a direct buffer.
+     * Counts the bytes beyond its remaining capacity, without writing them.
+     */
+    private static final class ByteBufferByteSink extends SortKeyByteSink {
+        ByteBufferByteSink() {
+            super(NO_BYTES);
+        }
+
+        /** Resets this sink to write into dest, or to nothing if dest is null. */
+        void setDest(ByteBuffer dest) {
+            dest_ = dest;
+            setBuffer(NO_BYTES, 0, dest != null ? dest.remaining() : 0);
+        }
+
+        @Override
+        public void Append(byte[] bytes, int n) {
+            if (n <= 0 || bytes == null) {
+                return;
+            }
+            int available = capacity_ - appended_;
+            if (available > 0) {
+                dest_.put(bytes, 0, Math.min(n, available));
+            }
+            appended_ += n;
+        }
+
+        @Override
+        public void Append(int b) {
+            if (appended_ < capacity_) {
+                dest_.put((byte) b);
+            }
+            ++appended_;
+        }
+
+        @Override
+        protected void AppendBeyondCapacity(byte[] bytes, int start, int n, int length) {
+            // Not called: Append() writes to dest_ directly.
+        }
+
+        @Override
+        protected boolean Resize(int appendCapacity, int length) {
+            return false;
+        }
+
+        private ByteBuffer dest_;
+    }
+
+    /**
+     * Writes the sort key for the source text into a caller-supplied array,
+     * without allocating a key object per string.
+     * At most destCapacity bytes are written.
+     * If the sort key is longer, then only its first destCapacity bytes are written,
+     * which is the same as a prefix of the full sort key.
+     *
+     * <p>The sort key bytes are the same as those of {@link #getRawCollationKey(String, RawCollationKey)}
+     * and end with a zero byte. Sort keys are compared as unsigned bytes.
+     *
+     * @param source the text to be transformed into a sort key
+     * @param dest the destination array
+     * @param destStart the index in dest where the sort key is to be written
+     * @param destCapacity the maximum number of bytes to write
+     * @return the length of the full sort key including the terminating zero byte;
+     *         if this is greater than destCapacity, then the sort key was truncated
+     * @throws IndexOutOfBoundsException if destStart or destCapacity are out of bounds for dest
+     * @see #getSortKeyPrefix(CharSequence, byte[], int, int)
+     * @draft ICU 78
+     */
+    public int getSortKey(CharSequence source, byte[] dest, int destStart, int destCapacity) {
+        checkBounds(dest.length, destStart, destCapacity);
+        CollationBuffer buffer = null;
+        try {
+            buffer = getCollationBuffer();
+            return writeSortKey(source, dest, destStart, destCapacity, buffer, true);
+        } finally {
+            releaseCollationBuffer(buffer);
+        }
+    }
+
+    /**
+     * Writes the sort key for the source text into a ByteBuffer, which may be a direct buffer,
+     * starting at its position.
+     * At most dest.remaining() bytes are written, and the position is advanced by the number of
+     * bytes written. If the sort key is longer, then only a prefix of the sort key is written.
+     *
+     * @param source the text to be transformed into a sort key
+     * @param dest the destination buffer
+     * @return the length of the full sort key including the terminating zero byte;
+     *         if this is greater than the number of bytes that were remaining in dest,
+     *         then the sort key was truncated
+     * @see #getSortKey(CharSequence, byte[], int, int)
+     * @draft ICU 78
+     */
+    public int getSortKey(CharSequence source, ByteBuffer dest) {
+        if (dest.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        CollationBuffer buffer = null;
+        try {
+            buffer = getCollationBuffer();
+            int position = dest.position();
+            int remaining = dest.remaining();
+            int length;
+            if (dest.hasArray()) {
+                length = writeSortKey(source, dest.array(), dest.arrayOffset() + position, remaining,
+                        buffer, true);
+                dest.position(position + Math.min(length, remaining));
+            } else {
+                ByteBufferByteSink sink = buffer.byteBufferSink;
+                sink.setDest(dest);
+                try {
+                    writeSortKey(source, sink, buffer, true);
+                    length = sink.NumberOfBytesAppended();
+                } finally {
+                    sink.setDest(null);
+                }
+            }
+            return length;
+        } finally {
+            releaseCollationBuffer(buffer);
+        }
+    }
+
+    /**
+     * Writes a fixed-length prefix of the sort key for the source text.
+     * Unlike {@link #getSortKey(CharSequence, byte[], int, int)}, this stops processing the text
+     * as soon as the prefix is full, which is much faster for long strings.
+     * This is also true for the identical level.
+     * If the sort key is shorter than prefixLength, then the rest of the prefix is filled with zero bytes.
+     *
+     * <p>Fixed-length prefixes compare (as unsigned bytes) in the same order as the full sort keys
+     * except that different strings can yield equal prefixes.
+     * They are suitable for a first radix or bucket pass, followed by a full comparison
+     * of the strings with equal prefixes.
+     *
+     * @param source the text to be transformed into a sort key prefix
+     * @param dest the destination array
+     * @param destStart the index in dest where the prefix is to be written
+     * @param prefixLength the number of bytes to write
+     * @return the number of sort key bytes in the prefix; if this is less than prefixLength,
+     *         then the prefix contains the full sort key including its terminating zero byte
+     * @throws IndexOutOfBoundsException if destStart or prefixLength are out of bounds for dest
+     * @draft ICU 78
+     */
+    public int getSortKeyPrefix(CharSequence source, byte[] dest, int destStart, int prefixLength) {
+        checkBounds(dest.length, destStart, prefixLength);
+        CollationBuffer buffer = null;
+        try {
+            buffer = getCollationBuffer();
+            // With preflight=false, sort key generation stops once the prefix is full.
+            int length = Math.min(writeSortKey(source, dest, destStart, prefixLength, buffer, false),
+                    prefixLength);
+            Arrays.fill(dest, destStart + length, destStart + prefixLength, (byte) 0);
+            return length;
+        } finally {
+            releaseCollationBuffer(buffer);
+        }
+    }
+
+    private static void checkBounds(int arrayLength, int start, int length) {
+        if (start < 0 || length < 0 || start > arrayLength - length) {
+            throw new IndexOutOfBoundsException(
+                    "start=" + start + ", length=" + length + ", array length=" + arrayLength);
+        }
+    }
+
+    /**
+     * Writes the sort key into dest[destStart..destStart+destCapacity[
+     * and returns the number of bytes appended.
+     * With preflight=true, that is the full sort key length.
+     */
+    private int writeSortKey(CharSequence source, byte[] dest, int destStart, int destCapacity,
+            CollationBuffer buffer, boolean preflight) {
+        ArrayByteSink sink = buffer.arraySink;
+        sink.setBuffer(dest, destStart, destCapacity);
+        try {
+            writeSortKey(source, sink, buffer, preflight);
+            return sink.NumberOfBytesAppended();
+        } finally {
+            sink.setBuffer(NO_BYTES, 0, 0);
+        }
+    }
+
     private RawCollationKey getRawCollationKey(CharSequence source, RawCollationKey key, CollationBuffer buffer) {
         if (key == null) {
             key = new RawCollationKey(simpleKeyLengthEstimate(source));
         } else if (key.bytes == null) {
             key.bytes = new byte[simpleKeyLengthEstimate(source)];
         }
-        CollationKeyByteSink sink = new CollationKeyByteSink(key);
-        writeSortKey(source, sink, buffer);
-        key.size = sink.NumberOfBytesAppended();
+        CollationKeyByteSink sink = buffer.keySink;
+        sink.setKey(key);
+        try {
+            writeSortKey(source, sink, buffer);
+            key.size = sink.NumberOfBytesAppended();
+        } finally {
+            sink.setKey(null);
+        }
         return key;
     }
 
@@ -1162,24 +1391,42 @@ private int simpleKeyLengthEstimate(CharSequence source) {
     }
 
     private void writeSortKey(CharSequence s, CollationKeyByteSink sink, CollationBuffer buffer) {
+        writeSortKeyUpToQuaternary(s, sink, buffer, true);
+        if(settings.readOnly().getStrength() == IDENTICAL) {
+            writeIdenticalLevel(s, sink);
+        }
+        sink.Append(Collation.TERMINATOR_BYTE);
+    }
+
+    /**
+     * Writes the sort key into a sink that does not grow.
+     * With preflight=false, stops once the sink overflows.
+     */
+    private void writeSortKey(CharSequence s, SortKeyByteSink sink, CollationBuffer buffer,
+            boolean preflight) {
+        writeSortKeyUpToQuaternary(s, sink, buffer, preflight);
+        if(settings.readOnly().getStrength() == IDENTICAL && (preflight || !sink.Overflowed())) {
+            writeIdenticalLevel(s, sink, buffer.identicalLevelBytes, preflight);
+        }
+        sink.Append(Collation.TERMINATOR_BYTE);
+    }
+
+    private void writeSortKeyUpToQuaternary(CharSequence s, SortKeyByteSink sink,
+            CollationBuffer buffer, boolean preflight) {
         boolean numeric = settings.readOnly().isNumeric();
         if(settings.readOnly().dontCheckFCD()) {
             buffer.leftUTF16CollIter.setText(numeric, s, 0);
             CollationKeys.writeSortKeyUpToQuaternary(
                     buffer.leftUTF16CollIter, data.compressibleBytes, settings.readOnly(),
                     sink, Collation.PRIMARY_LEVEL,
-                    CollationKeys.SIMPLE_LEVEL_FALLBACK, true);
+                    CollationKeys.SIMPLE_LEVEL_FALLBACK, preflight, buffer.levelBuffers);
         } else {
             buffer.leftFCDUTF16Iter.setText(numeric, s, 0);
             CollationKeys.writeSortKeyUpToQuaternary(
                     buffer.leftFCDUTF16Iter, data.compressibleBytes, settings.readOnly(),
                     sink, Collation.PRIMARY_LEVEL,
-                    CollationKeys.SIMPLE_LEVEL_FALLBACK, true);
+                    CollationKeys.SIMPLE_LEVEL_FALLBACK, preflight, buffer.levelBuffers);
         }
-        if(settings.readOnly().getStrength() == IDENTICAL) {
-            writeIdenticalLevel(s, sink);
-        }
-        sink.Append(Collation.TERMINATOR_BYTE);
     }
 
     private void writeIdenticalLevel(CharSequence s, CollationKeyByteSink sink) {
@@ -1203,6 +1450,63 @@ private void writeIdenticalLevel(CharSequence s, CollationKeyByteSink sink) {
         sink.setBufferAndAppended(sink.key_.bytes, sink.key_.size);
     }
 
+    private void writeIdenticalLevel(CharSequence s, SortKeyByteSink sink, byte[] scratch,
+            boolean preflight) {
+        // NFD quick check
+        int nfdQCYesLimit = data.nfcImpl.decompose(s, 0, s.length(), null);
+        sink.Append(Collation.LEVEL_SEPARATOR_BYTE);
+        int prev = 0;
+        if(nfdQCYesLimit != 0) {
+            prev = BOCSU.writeIdenticalLevelRun(prev, s, 0, nfdQCYesLimit, sink, scratch, preflight);
+        }
+        // Is there non-NFD text?
+        if(nfdQCYesLimit < s.length() && (preflight || !sink.Overflowed())) {
+            int destLengthEstimate = s.length() - nfdQCYesLimit;
+            StringBuilder nfd = new StringBuilder();
+            data.nfcImpl.decompose(s, nfdQCYesLimit, s.length(), nfd, destLengthEstimate);
+            BOCSU.writeIdenticalLevelRun(prev, nfd, 0, nfd.length(), sink, scratch, preflight);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Sorts small, nearly sorted, and FastLatin-only inputs with string comparisons.
+     * Otherwise computes each sort key once, into one shared byte array,
+     * and sorts by comparing the sort key bytes; with many strings, in parallel.
+     *
+     * @draft ICU 78
+     */
+    @Override
+    public void sort(String[] strings) {
+        CollationSorter.sort(this, strings, strings, settings.readOnly().fastLatinOptions >= 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Sorts small, nearly sorted, and FastLatin-only inputs with text comparisons.
+     * Otherwise computes each sort key once, into one shared byte array,
+     * and sorts by comparing the sort key bytes; with many elements, in parallel.
+     *
+     * @draft ICU 78
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> void sort(List<T> list, Function<? super T, ? extends CharSequence> toText) {
+        Object[] items = list.toArray();
+        CharSequence[] texts = new CharSequence[items.length];
+        for (int i = 0; i < items.length; ++i) {
+            texts[i] = Objects.requireNonNull(toText.apply((T) items[i]));
+        }
+        CollationSorter.sort(this, items, texts, settings.readOnly().fastLatinOptions >= 0);
+        ListIterator<T> iter = list.listIterator();
+        for (Object item : items) {
+            iter.next();
+            iter.set((T) item);
+        }
+    }
+
     /**
      * Returns the CEs for the string.
      * @param str the string
@@ -1763,9 +2067,9 @@ final boolean isUnsafe(int c) {
     }
 
     /**
-     * Frozen state of the collator.
+     * Frozen state of the collator: The buffers shared by the threads using it.
      */
-    private Lock frozenLock;
+    private CollationBufferPool frozenBuffers;
 
     private static final class CollationBuffer {
         private CollationBuffer(CollationData data) {
@@ -1790,6 +2094,73 @@ private CollationBuffer(CollationData data) {
         FCDUTF16NFDIterator rightFCDUTF16NFDIter;
 
         RawCollationKey rawCollationKey;
+
+        CollationKeys.LevelBuffers levelBuffers = new CollationKeys.LevelBuffers();
+        CollationKeyByteSink keySink = new CollationKeyByteSink();
+        ArrayByteSink arraySink = new ArrayByteSink();
+        ByteBufferByteSink byteBufferSink = new ByteBufferByteSink();
+        // The BOCSU bytes for one code point of the identical level.
+        byte[] identicalLevelBytes = new byte[4];
+    }
+
+    /**
+     * Lock-free, bounded pool of CollationBuffers for a frozen collator.
+     *
+     * <p>The pool has a fixed number of slots, proportional to the number of processors.
+     * Each thread starts probing at a slot derived from its ID, so that under contention
+     * the threads mostly use different slots and cache lines.
+     * When no pooled buffer is available, a new one is created for the call,
+     * and it is dropped on release if there is no free slot for it.
+     */
+    private static final class CollationBufferPool {
+        private static final int MAX_SLOTS = 64;
+        private static final int PROBES = 4;
+
+        private CollationBufferPool(CollationData data, CollationBuffer initial) {
+            this.data = data;
+            int n = Math.min(MAX_SLOTS, 2 * Runtime.getRuntime().availableProcessors());
+            // Round up to a power of 2 for masking.
+            n = Integer.highestOneBit(Math.max(n - 1, 1)) << 1;
+            slots = new AtomicReferenceArray<>(n);
+            if (initial != null) {
+                slots.set(0, initial);
+            }
+        }
+
+        private CollationBuffer acquire() {
+            int mask = slots.length() - 1;
+            int start = homeSlot();
+            for (int i = 0; i < PROBES; ++i) {
+                int index = (start + i) & mask;
+                CollationBuffer buffer = slots.get(index);
+                if (buffer != null && slots.compareAndSet(index, buffer, null)) {
+                    return buffer;
+                }
+            }
+            return new CollationBuffer(data);
+        }
+
+        private void release(CollationBuffer buffer) {
+            int mask = slots.length() - 1;
+            int start = homeSlot();
+            for (int i = 0; i < PROBES; ++i) {
+                int index = (start + i) & mask;
+                if (slots.get(index) == null && slots.compareAndSet(index, null, buffer)) {
+                    return;
+                }
+            }
+            // All probed slots are occupied: Let the garbage collector take this buffer.
+        }
+
+        @SuppressWarnings("deprecation")  // Thread.getId() is deprecated in newer JDKs.
+        private static int homeSlot() {
+            long id = Thread.currentThread().getId();
+            // Fibonacci hashing spreads consecutive thread IDs across the slots.
+            return (int)((id * 0x9E3779B97F4A7C15L) >>> 40);
+        }
+
+        private final CollationData data;
+        private final AtomicReferenceArray<CollationBuffer> slots;
     }
 
     /**
@@ -1830,7 +2201,7 @@ public VersionInfo getUCAVersion() {
 
     private final CollationBuffer getCollationBuffer() {
         if (isFrozen()) {
-            frozenLock.lock();
+            return frozenBuffers.acquire();
         } else if (collationBuffer == null) {
             collationBuffer = new CollationBuffer(data);
         }
@@ -1838,8 +2209,8 @@ private final CollationBuffer getCollationBuffer() {
     }
 
     private final void releaseCollationBuffer(CollationBuffer buffer) {
-        if (isFrozen()) {
-            frozenLock.unlock();
+        if (isFrozen() && buffer != null) {
+            frozenBuffers.release(buffer);
         }
     }
 
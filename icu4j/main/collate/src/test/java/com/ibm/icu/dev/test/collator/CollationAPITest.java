@@ -14,12 +14,16 @@
 
 package com.ibm.icu.dev.test.collator;
 
+import java.nio.ByteBuffer;
 import java.text.CharacterIterator;
 import java.text.StringCharacterIterator;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.MissingResourceException;
+import java.util.Random;
 import java.util.Set;
 
 import org.junit.Test;
@@ -181,6 +185,195 @@ public void TestRawCollationKey()
         }
     }
 
+    @Test
+    public void TestSortKeyIntoArray() {
+        String[] strings = {
+            "", "a", "A", "ab", "abc", "\u00E4b", "Abc", "ABC", "b", "co-op", "coop",
+            "\u00C5ngstr\u00F6m", "\u0915\u094D\u0937", "\uD801\uDC00", "abcdefghijklmnopqrstuvwxyz0123456789"
+        };
+        int[] strengths = { Collator.PRIMARY, Collator.TERTIARY, Collator.QUATERNARY, Collator.IDENTICAL };
+        for (int strength : strengths) {
+            RuleBasedCollator coll = (RuleBasedCollator) Collator.getInstance(ULocale.GERMAN);
+            coll.setStrength(strength);
+            coll.setAlternateHandlingShifted(strength == Collator.QUATERNARY);
+            for (int f = 0; f < 2; ++f) {
+                if (f == 1) {
+                    coll.freeze();
+                }
+                for (String s : strings) {
+                    RawCollationKey expected = coll.getRawCollationKey(s, null);
+                    byte[] exp = Arrays.copyOf(expected.bytes, expected.size);
+                    String msg = "strength " + strength + " frozen=" + coll.isFrozen() + " \"" + s + "\"";
+
+                    byte[] dest = new byte[expected.size + 8];
+                    Arrays.fill(dest, (byte) 0x55);
+                    assertEquals(msg + " getSortKey() length",
+                            expected.size, coll.getSortKey(s, dest, 3, expected.size));
+                    assertTrue(msg + " getSortKey() bytes",
+                            Arrays.equals(exp, Arrays.copyOfRange(dest, 3, 3 + expected.size)));
+                    assertEquals(msg + " getSortKey() must not write beyond capacity",
+                            0x55, dest[3 + expected.size]);
+
+                    for (int capacity = 0; capacity <= expected.size + 1; ++capacity) {
+                        Arrays.fill(dest, (byte) 0x55);
+                        assertEquals(msg + " truncated length",
+                                expected.size, coll.getSortKey(s, dest, 1, capacity));
+                        int written = Math.min(capacity, expected.size);
+                        assertTrue(msg + " truncated bytes",
+                                Arrays.equals(Arrays.copyOf(exp, written), Arrays.copyOfRange(dest, 1, 1 + written)));
+                        assertEquals(msg + " truncated overwrite", 0x55, dest[1 + written]);
+
+                        Arrays.fill(dest, (byte) 0x55);
+                        int prefixLength = coll.getSortKeyPrefix(s, dest, 2, capacity);
+                        assertEquals(msg + " prefix length", written, prefixLength);
+                        byte[] expPrefix = Arrays.copyOf(exp, capacity);  // zero-padded
+                        assertTrue(msg + " prefix bytes",
+                                Arrays.equals(expPrefix, Arrays.copyOfRange(dest, 2, 2 + capacity)));
+                        assertEquals(msg + " prefix overwrite", 0x55, dest[2 + capacity]);
+                    }
+
+                    for (int kind = 0; kind < 3; ++kind) {
+                        ByteBuffer buffer;
+                        if (kind == 0) {
+                            buffer = ByteBuffer.allocate(expected.size + 4);
+                        } else if (kind == 1) {
+                            buffer = ByteBuffer.allocateDirect(expected.size + 4);
+                        } else {
+                            // Heap buffer with a nonzero array offset.
+                            ByteBuffer whole = ByteBuffer.allocate(expected.size + 9);
+                            whole.position(5);
+                            buffer = whole.slice();
+                        }
+                        buffer.position(2);
+                        buffer.limit(2 + expected.size - 1);
+                        assertEquals(msg + " ByteBuffer length", expected.size, coll.getSortKey(s, buffer));
+                        assertEquals(msg + " ByteBuffer position", 2 + expected.size - 1, buffer.position());
+                        byte[] actual = new byte[expected.size - 1];
+                        buffer.position(2);
+                        buffer.get(actual);
+                        assertTrue(msg + " ByteBuffer bytes", Arrays.equals(Arrays.copyOf(exp, expected.size - 1), actual));
+                    }
+                }
+            }
+        }
+        RuleBasedCollator coll = (RuleBasedCollator) Collator.getInstance(ULocale.ROOT);
+        try {
+            coll.getSortKey("abc", new byte[4], 2, 3);
+            errln("getSortKey() out of bounds expected to throw an exception");
+        } catch (IndexOutOfBoundsException e) {
+            logln("PASS: getSortKey() failed as expected");
+        }
+        try {
+            coll.getSortKeyPrefix("abc", new byte[4], -1, 2);
+            errln("getSortKeyPrefix() out of bounds expected to throw an exception");
+        } catch (IndexOutOfBoundsException e) {
+            logln("PASS: getSortKeyPrefix() failed as expected");
+        }
+    }
+
+    @Test
+    public void TestSortKeyPrefixOrder() {
+        RuleBasedCollator coll = (RuleBasedCollator) Collator.getInstance(ULocale.ENGLISH);
+        String[] strings = {
+            "a", "b", "ab", "aB", "Ab", "\u00E1b", "abc", "abcdefghijklmn", "abcdefghijklmo", "x", "",
+            "\u4E00", "\u0430", "1", "10", "9", "a b"
+        };
+        final int prefixLength = 6;
+        for (String s : strings) {
+            byte[] p = new byte[prefixLength];
+            coll.getSortKeyPrefix(s, p, 0, prefixLength);
+            for (String t : strings) {
+                byte[] q = new byte[prefixLength];
+                coll.getSortKeyPrefix(t, q, 0, prefixLength);
+                int prefixOrder = Integer.signum(compareUnsigned(p, q));
+                int order = coll.compare(s, t);
+                // Prefix order must not contradict the full order.
+                if (prefixOrder != 0 && prefixOrder != order) {
+                    errln("prefix order of \"" + s + "\" vs. \"" + t + "\" is " + prefixOrder
+                            + " but the strings compare " + order);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void TestSort() {
+        Random random = new Random(20251018);
+        String[] alphabets = {
+            "aAbBcC\u00E4\u00E9- ",  // FastLatin
+            "aAbB\u00E4\u0430\u0431\u4E00\u4E8C\u0915\u094D\uD801\uDC00 ",
+        };
+        int[] counts = { 0, 1, 2, 10, 63, 64, 300, 2000, 20000 };
+        int[] strengths = { Collator.PRIMARY, Collator.TERTIARY, Collator.IDENTICAL };
+        for (int strength : strengths) {
+            RuleBasedCollator coll = (RuleBasedCollator) Collator.getInstance(ULocale.GERMAN);
+            coll.setStrength(strength);
+            for (String alphabet : alphabets) {
+                for (int count : counts) {
+                    if (count > 2000 && strength != Collator.TERTIARY) {
+                        continue;  // keep the test fast
+                    }
+                    String[] strings = new String[count];
+                    for (int i = 0; i < count; ++i) {
+                        StringBuilder sb = new StringBuilder();
+                        int length = random.nextInt(i % 7 == 0 ? 50 : 6);
+                        for (int j = 0; j < length; ++j) {
+                            sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                        }
+                        strings[i] = sb.toString();
+                    }
+                    String msg = "strength " + strength + " count " + count + ": ";
+                    String[] expected = strings.clone();
+                    Arrays.sort(expected, coll);  // stable
+
+                    String[] actual = strings.clone();
+                    coll.sort(actual);
+                    assertSameOrder(msg + "sort(String[])", expected, actual);
+
+                    // A frozen collator may sort in parallel.
+                    actual = strings.clone();
+                    coll.cloneAsThawed().freeze().sort(actual);
+                    assertSameOrder(msg + "frozen sort(String[])", expected, actual);
+
+                    // Distinct objects per element to check stability via identity.
+                    List<StringBuilder> list = new ArrayList<>();
+                    for (String s : strings) {
+                        list.add(new StringBuilder(s));
+                    }
+                    List<StringBuilder> expectedList = new ArrayList<>(list);
+                    expectedList.sort((a, b) -> coll.compare(a, b));
+                    coll.sort(list, sb -> sb);
+                    for (int i = 0; i < count; ++i) {
+                        if (list.get(i) != expectedList.get(i)) {
+                            errln(msg + "sort(List) differs at index " + i);
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void assertSameOrder(String msg, String[] expected, String[] actual) {
+        for (int i = 0; i < expected.length; ++i) {
+            if (expected[i] != actual[i]) {
+                errln(msg + " differs at index " + i + ": expected \"" + expected[i] +
+                        "\" but got \"" + actual[i] + "\"");
+                return;
+            }
+        }
+    }
+
+    private static int compareUnsigned(byte[] a, byte[] b) {
+        for (int i = 0; i < a.length && i < b.length; ++i) {
+            int d = (a[i] & 0xff) - (b[i] & 0xff);
+            if (d != 0) {
+                return d;
+            }
+        }
+        return a.length - b.length;
+    }
+
     void doAssert(boolean conditions, String message) {
         if (!conditions) {
             errln(message);
@@ -18,6 +18,7 @@
 
 import com.ibm.icu.dev.test.TestFmwk;
 import com.ibm.icu.text.Collator;
+import com.ibm.icu.text.RawCollationKey;
 
 @RunWith(JUnit4.class)
 public class CollationThreadTest extends TestFmwk {
@@ -223,6 +224,46 @@ public void run() {
         }
     }
 
+    private static class KeyTest implements Runnable {
+        private String name;
+        private Collator collator;
+        private byte[][] expectedKeys;
+        private Control control;
+
+        KeyTest(String name, Collator collator, byte[][] expectedKeys, Control control) {
+            this.name = name;
+            this.collator = collator;
+            this.expectedKeys = expectedKeys;
+            this.control = control;
+        }
+
+        @Override
+        public void run() {
+            try {
+                synchronized (control) {
+                    while (!control.go()) {
+                        control.wait();
+                    }
+                }
+
+                RawCollationKey rawKey = new RawCollationKey();
+                while (control.go()) {
+                    for (int i = 0; i < threadTestData.length; ++i) {
+                        byte[] key = collator.getCollationKey(threadTestData[i]).toByteArray();
+                        collator.getRawCollationKey(threadTestData[i], rawKey);
+                        if (!Arrays.equals(key, expectedKeys[i]) ||
+                                !Arrays.equals(Arrays.copyOf(rawKey.bytes, rawKey.size), expectedKeys[i])) {
+                            control.fail(name + ": incorrect sort key for " + threadTestData[i]);
+                            return;
+                        }
+                    }
+                }
+            } catch (InterruptedException e) {
+                // die
+            }
+        }
+    }
+
     private void runThreads(Thread[] threads, Control control) {
         for (int i = 0; i < threads.length; ++i) {
             threads[i].start();
@@ -290,4 +331,27 @@ public void testFrozen() {
 
         runThreads(threads, control);
     }
+
+    @org.junit.Test
+    public void testFrozenSortKeys() {
+        final Collator theCollator = Collator.getInstance(new Locale("pl", "", ""));
+        // Sort key generation always uses the collator's working buffers,
+        // unlike comparisons which often take the Latin fast path.
+        theCollator.setStrength(Collator.IDENTICAL);
+        byte[][] expectedKeys = new byte[threadTestData.length][];
+        for (int i = 0; i < threadTestData.length; ++i) {
+            expectedKeys[i] = theCollator.getCollationKey(threadTestData[i]).toByteArray();
+        }
+        theCollator.freeze();
+        Control control = new Control();
+
+        Thread[] threads = new Thread[Math.max(10, 2 * Runtime.getRuntime().availableProcessors() + 1)];
+        for (int i = 0; i < threads.length; ++i) {
+            KeyTest test = new KeyTest("Frozen sort key test thread " + i, theCollator,
+                    expectedKeys, control);
+            threads[i] = new Thread(test);
+        }
+
+        runThreads(threads, control);
+    }
 }
@@ -9,7 +9,10 @@
 
 package com.ibm.icu.dev.test.normalizer;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.text.StringCharacterIterator;
+import java.util.Arrays;
 import java.util.Random;
 
 import org.junit.Test;
@@ -24,6 +27,7 @@
 import com.ibm.icu.lang.UCharacter;
 import com.ibm.icu.lang.UCharacterCategory;
 import com.ibm.icu.lang.UProperty;
+import com.ibm.icu.text.Edits;
 import com.ibm.icu.text.FilteredNormalizer2;
 import com.ibm.icu.text.Normalizer;
 import com.ibm.icu.text.Normalizer2;
@@ -2960,6 +2964,113 @@ public void TestNoopNormalizer2() {
         assertTrue("noop.isInert()", noop.isInert(0x0308));
     }
 
+    @Test
+    public void TestNormalizeUTF8() {
+        String[] strings = {
+            "",
+            "plain ASCII text",
+            "Äpfel und Birnen",
+            "A\u0308pfel und Birnen",
+            "\u1E0A\u0323\u0307 \u1E0C\u0307",
+            "\u02DA\u0339 \uFB2C\u05B6",
+            "\u1100\u1161\u11A7\u1100\u314F\u11A7가\u11A7",
+            "aA\u0308 ßẞ \u1F80\u1F88 \uFB01",
+            "\uD834\uDD5E\uD834\uDD65 \uD834\uDD5F x\u0301\u0316\u0300",
+            "Gru\u0308\u00DFe, J\u00FCrgen \u2126 \u212B \u0958"
+        };
+        Normalizer2[] norms = {
+            Normalizer2.getNFCInstance(),
+            Normalizer2.getNFDInstance(),
+            Normalizer2.getNFKCInstance(),
+            Normalizer2.getNFKDInstance(),
+            Normalizer2.getNFKCCasefoldInstance(),
+            Normalizer2.getNFKCSimpleCasefoldInstance(),
+            Normalizer2.getInstance(null, "nfc", Normalizer2.Mode.FCD),
+            Normalizer2.getInstance(null, "nfc", Normalizer2.Mode.COMPOSE_CONTIGUOUS),
+            new FilteredNormalizer2(Normalizer2.getNFCInstance(), new UnicodeSet("[^\\u0300]")),
+            Norm2AllModes.NOOP_NORMALIZER2
+        };
+        for (String s : strings) {
+            byte[] src = s.getBytes(StandardCharsets.UTF_8);
+            for (int i = 0; i < norms.length; ++i) {
+                Normalizer2 norm2 = norms[i];
+                String expected = norm2.normalize(s);
+                String name = "norms[" + i + "] on " + Utility.hex(s);
+                byte[] result = norm2.normalizeUTF8(src);
+                assertEquals("normalizeUTF8() " + name,
+                        expected, new String(result, StandardCharsets.UTF_8));
+                if (expected.equals(s)) {
+                    assertTrue("normalizeUTF8() returns src " + name, result == src);
+                }
+                assertEquals("isNormalizedUTF8() " + name,
+                        norm2.isNormalized(s), norm2.isNormalizedUTF8(src, 0, src.length));
+                int spanLimit = norm2.spanQuickCheckYesUTF8(src, 0, src.length);
+                String span = new String(src, 0, spanLimit, StandardCharsets.UTF_8);
+                assertEquals("UTF-8 span is normalized " + name, span, norm2.normalize(span));
+
+                // With a substring and Edits.
+                ByteArrayOutputStream sink = new ByteArrayOutputStream();
+                sink.write('<');
+                byte[] padded = ("<" + s + ">").getBytes(StandardCharsets.UTF_8);
+                Edits edits = new Edits();
+                norm2.normalizeUTF8(padded, 1, padded.length - 1, sink, edits);
+                byte[] dest = sink.toByteArray();
+                assertEquals("normalizeUTF8(sink) " + name,
+                        "<" + expected, new String(dest, StandardCharsets.UTF_8));
+                assertEquals("edits.lengthDelta() " + name,
+                        dest.length - padded.length + 1, edits.lengthDelta());
+                assertEquals("edits.hasChanges() " + name,
+                        !expected.equals(s), edits.hasChanges());
+                // Applying the changes to the source must yield the result.
+                ByteArrayOutputStream applied = new ByteArrayOutputStream();
+                Edits.Iterator ei = edits.getFineIterator();
+                while (ei.next()) {
+                    if (ei.hasChange()) {
+                        applied.write(dest, 1 + ei.destinationIndex(), ei.newLength());
+                    } else {
+                        applied.write(padded, 1 + ei.sourceIndex(), ei.oldLength());
+                    }
+                }
+                assertEquals("edits applied " + name,
+                        expected, new String(applied.toByteArray(), StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    @Test
+    public void TestNormalizeUTF8IllFormed() {
+        Normalizer2 nfc = Normalizer2.getNFCInstance();
+        // Ill-formed sequences are copied unchanged and do not interact with neighbors.
+        byte[] src = {
+            'A', (byte)0xcc, (byte)0x88,  // A + U+0308
+            (byte)0xe0, (byte)0x80,  // ill-formed
+            'e', (byte)0xcc, (byte)0x81,  // e + U+0301
+            (byte)0xcc,  // truncated U+0301
+            (byte)0xed, (byte)0xa0, (byte)0x80,  // surrogate
+            (byte)0xff
+        };
+        byte[] expected = {
+            (byte)0xc3, (byte)0x84,
+            (byte)0xe0, (byte)0x80,
+            (byte)0xc3, (byte)0xa9,
+            (byte)0xcc,
+            (byte)0xed, (byte)0xa0, (byte)0x80,
+            (byte)0xff
+        };
+        assertTrue("normalizeUTF8(ill-formed)",
+                Arrays.equals(expected, nfc.normalizeUTF8(src)));
+        assertFalse("isNormalizedUTF8(ill-formed)", nfc.isNormalizedUTF8(src, 0, src.length));
+        assertTrue("isNormalizedUTF8(ill-formed result)",
+                nfc.isNormalizedUTF8(expected, 0, expected.length));
+        assertEquals("spanQuickCheckYesUTF8(ill-formed from 3)",
+                5, nfc.spanQuickCheckYesUTF8(src, 3, src.length));
+        try {
+            nfc.spanQuickCheckYesUTF8(src, 2, src.length + 1);
+            errln("spanQuickCheckYesUTF8(limit out of bounds) did not throw");
+        } catch (IndexOutOfBoundsException expectedException) {
+        }
+    }
+
     /*
      * Abstract class Normalizer2 has non-abstract methods which are overwritten by
      * its derived classes. To test these methods a derived class is defined here.
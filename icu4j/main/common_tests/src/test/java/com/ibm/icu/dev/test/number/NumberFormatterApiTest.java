@@ -41,6 +41,7 @@
 import com.ibm.icu.number.NumberFormatter.RoundingPriority;
 import com.ibm.icu.number.NumberFormatter.SignDisplay;
 import com.ibm.icu.number.NumberFormatter.TrailingZeroDisplay;
+import com.ibm.icu.number.NumberFormatter.UnitConversionArithmetic;
 import com.ibm.icu.number.NumberFormatter.UnitWidth;
 import com.ibm.icu.number.Precision;
 import com.ibm.icu.number.Scale;
@@ -1917,6 +1918,102 @@ public void unitUsage() {
                 "30°F");
     }
 
+    @Test
+    public void unitUsageDoubleArithmetic() {
+        UnlocalizedNumberFormatter unloc_formatter = NumberFormatter.with()
+                .usage("road")
+                .unit(MeasureUnit.METER)
+                .unitConversion(UnitConversionArithmetic.DOUBLE);
+
+        assertFormatDescendingBig(
+                "unitUsageDoubleArithmetic() en-ZA road",
+                null,
+                null,
+                unloc_formatter,
+                new ULocale("en-ZA"),
+                "87\u00A0650 km",
+                "8\u00A0765 km",
+                "876 km",
+                "88 km",
+                "8,8 km",
+                "900 m",
+                "90 m",
+                "9 m",
+                "0 m");
+
+        assertFormatDescendingBig(
+                "unitUsageDoubleArithmetic() en-GB road",
+                null,
+                null,
+                unloc_formatter,
+                new ULocale("en-GB"),
+                "54,463 mi",
+                "5,446 mi",
+                "545 mi",
+                "54 mi",
+                "5.4 mi",
+                "0.54 mi",
+                "100 yd",
+                "10 yd",
+                "0 yd");
+
+        assertFormatSingle(
+                "unitUsageDoubleArithmetic() person-height",
+                null,
+                null,
+                NumberFormatter.with()
+                        .usage("person-height")
+                        .unit(MeasureUnit.METER)
+                        .unitConversion(UnitConversionArithmetic.DOUBLE),
+                new ULocale("en-US"),
+                1.8,
+                "5 ft, 11 in");
+
+        // The smallest unit rounds up to 12 inches, which is carried over into the feet.
+        assertFormatSingle(
+                "unitUsageDoubleArithmetic() person-height carry",
+                null,
+                null,
+                NumberFormatter.with()
+                        .usage("person-height")
+                        .unit(MeasureUnit.METER)
+                        .unitConversion(UnitConversionArithmetic.DOUBLE),
+                new ULocale("en-US"),
+                1.828,
+                "6 ft, 0 in");
+
+        assertFormatSingle(
+                "unitUsageDoubleArithmetic() negative temperature conversion",
+                null,
+                null,
+                NumberFormatter.with()
+                        .unit(MeasureUnit.forIdentifier("celsius"))
+                        .usage("default")
+                        .unitWidth(UnitWidth.SHORT)
+                        .unitConversion(UnitConversionArithmetic.DOUBLE),
+                new ULocale("en-US"),
+                -1,
+                "30°F");
+
+        assertFormatSingle(
+                "unitUsageDoubleArithmetic() mixed unit",
+                null,
+                null,
+                NumberFormatter.with()
+                        .unit(MeasureUnit.forIdentifier("yard-and-foot-and-inch"))
+                        .unitConversion(UnitConversionArithmetic.DOUBLE),
+                new ULocale("en-US"),
+                3.65,
+                "3 yd, 1 ft, 11.4 in");
+
+        try {
+            unloc_formatter.toSkeleton();
+            fail("Expected failure for a skeleton with double unit conversion");
+        } catch (UnsupportedOperationException e) {
+            // Pass
+        }
+    }
+
     @Test
     public void unitUsageErrorCodes() {
         UnlocalizedNumberFormatter unloc_formatter;
@@ -5853,6 +5950,82 @@ public void toFormat() {
                 format.formatToCharacterIterator(514.23).getAttributes());
     }
 
+    @Test
+    public void formatTo() {
+        LocalizedNumberFormatter[] formatters = {
+            NumberFormatter.withLocale(ULocale.ENGLISH),
+            NumberFormatter.withLocale(ULocale.GERMANY).precision(Precision.fixedFraction(2)),
+            NumberFormatter.withLocale(ULocale.FRANCE).unit(NoUnit.PERCENT),
+            NumberFormatter.withLocale(new ULocale("ar-EG")).grouping(GroupingStrategy.ON_ALIGNED),
+            NumberFormatter.withLocale(ULocale.JAPAN).unit(USD),
+            NumberFormatter.withLocale(ULocale.ENGLISH).notation(Notation.compactShort()),
+            NumberFormatter.withLocale(ULocale.ENGLISH).unit(MeasureUnit.METER)
+                    .unitWidth(UnitWidth.FULL_NAME),
+            NumberFormatter.withLocale(new ULocale("hi-IN")).integerWidth(IntegerWidth.zeroFillTo(3)),
+            NumberFormatter.withLocale(ULocale.ENGLISH).sign(SignDisplay.ACCOUNTING_ALWAYS).unit(USD),
+        };
+        double[] doubles = { 0, -0.0, 1, -1, 0.5, 1234.5678, -98765432.1, 1e-9, 3e15,
+                Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY };
+        long[] longs = { 0, 1, -1, 42, 1234567, Long.MAX_VALUE, Long.MIN_VALUE };
+        for (LocalizedNumberFormatter lnf : formatters) {
+            // Once unsafe, then safe after the threshold is reached.
+            for (int rep = 0; rep < 5; rep++) {
+                for (double d : doubles) {
+                    String expected = lnf.format(d).toString();
+                    assertEquals(lnf + " " + d, expected, lnf.formatTo(d, new StringBuilder()).toString());
+                    char[] dest = new char[expected.length() + 2];
+                    assertEquals(lnf + " " + d + " length",
+                            expected.length(), lnf.formatTo(d, dest, 1, expected.length()));
+                    assertEquals(lnf + " " + d + " chars",
+                            expected, new String(dest, 1, expected.length()));
+                }
+                for (long l : longs) {
+                    String expected = lnf.format(l).toString();
+                    assertEquals(lnf + " " + l, expected, lnf.formatTo(l, new StringBuilder()).toString());
+                    char[] dest = new char[expected.length()];
+                    assertEquals(lnf + " " + l + " length",
+                            expected.length(), lnf.formatTo(l, dest, 0, dest.length));
+                    assertEquals(lnf + " " + l + " chars", expected, new String(dest));
+                }
+            }
+        }
+
+        // Truncation: the full length is returned, and only destCapacity chars are written.
+        LocalizedNumberFormatter lnf = NumberFormatter.withLocale(ULocale.ENGLISH);
+        char[] dest = new char[] { 'x', 'x', 'x', 'x', 'x' };
+        assertEquals("truncated length", 9, lnf.formatTo(1234567, dest, 1, 3));
+        assertEquals("truncated chars", "x1,2xx", "x" + new String(dest, 1, 4) + "x");
+        assertEquals("zero capacity", 9, lnf.formatTo(1234567, dest, 5, 0));
+        try {
+            lnf.formatTo(1, dest, 3, 3);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException expected) {
+        }
+
+        // Appends to existing text, and is reentrant when the Appendable formats.
+        StringBuilder sb = new StringBuilder("n=");
+        assertEquals("appends", "n=1,234.5", lnf.formatTo(1234.5, sb).toString());
+        Appendable reentrant = new Appendable() {
+            @Override
+            public Appendable append(CharSequence csq) {
+                lnf.formatTo(7, sb.append('['));
+                sb.append(csq).append(']');
+                return this;
+            }
+            @Override
+            public Appendable append(CharSequence csq, int start, int end) {
+                return append(csq.subSequence(start, end));
+            }
+            @Override
+            public Appendable append(char c) {
+                return append(String.valueOf(c));
+            }
+        };
+        sb.setLength(0);
+        lnf.formatTo(-12345, reentrant);
+        assertEquals("reentrant", "[7-12,345]", sb.toString());
+    }
+
     @Test
     public void plurals() {
         // TODO: Expand this test.
@@ -6126,6 +6299,8 @@ static void assertFormatDescending(
             assertEquals(message + ": Unsafe Path: " + d, expected[i], actual1);
             String actual2 = l2.format(d).toString();
             assertEquals(message + ": Safe Path: " + d, expected[i], actual2);
+            String actual5 = l2.formatTo(d, new StringBuilder()).toString();
+            assertEquals(message + ": formatTo Path: " + d, expected[i], actual5);
         }
         if (skeleton != null) { // if null, skeleton is declared as undefined.
             // Only compare normalized skeletons: the tests need not provide the normalized forms.
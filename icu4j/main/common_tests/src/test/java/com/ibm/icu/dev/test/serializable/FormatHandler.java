@@ -19,6 +19,7 @@
 import com.ibm.icu.impl.TZDBTimeZoneNames;
 import com.ibm.icu.impl.TimeZoneGenericNames;
 import com.ibm.icu.impl.TimeZoneGenericNames.GenericNameType;
+import com.ibm.icu.message2.MessageFormatter;
 import com.ibm.icu.number.NumberRangeFormatter;
 import com.ibm.icu.text.ChineseDateFormat;
 import com.ibm.icu.text.ChineseDateFormatSymbols;
@@ -1863,6 +1864,22 @@ public boolean hasSameBehavior(Object a, Object b)
         }
     }
 
+    @SuppressWarnings("deprecation")
+    public static class MessageFormatterSpanFieldHandler implements SerializableTestUtility.Handler
+    {
+        @Override
+        public Object[] getTestObjects()
+        {
+            return new Object[] {MessageFormatter.SpanField.PLACEHOLDER_SPAN};
+        }
+
+        @Override
+        public boolean hasSameBehavior(Object a, Object b)
+        {
+            return (a == b);
+        }
+    }
+
     public static class NumberRangeFormatterSpanFieldHandler implements SerializableTestUtility.Handler
     {
         @Override
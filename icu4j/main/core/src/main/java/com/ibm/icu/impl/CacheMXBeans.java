@@ -0,0 +1,138 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: https://www.unicode.org/copyright.html
+
+package com.ibm.icu.impl;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.ibm.icu.impl.CacheRegistry.ManagedCache;
+import com.ibm.icu.util.ICUException;
+
+/**
+ * JMX view of the {@link CacheRegistry}.
+ * Kept separate so that ICU does not load the JMX classes unless asked to.
+ */
+public final class CacheMXBeans {
+    private static final String DOMAIN = "com.ibm.icu";
+
+    /** Caches with registered MXBeans. Guarded by the class lock. */
+    private static final Set<ManagedCache> registered =
+            Collections.newSetFromMap(new WeakHashMap<ManagedCache, Boolean>());
+
+    private CacheMXBeans() {}
+
+    /**
+     * JMX attributes and operations of one cache.
+     */
+    public interface CacheMXBean {
+        String getName();
+        int getSize();
+        int getMaxEntries();
+        long getHitCount();
+        long getMissCount();
+        long getTotalLoadNanos();
+        long getEvictionCount();
+        void clear();
+    }
+
+    /**
+     * Holds the cache weakly, like the registry does.
+     */
+    private static final class CacheView implements CacheMXBean {
+        private final WeakReference<ManagedCache> ref;
+        private final String name;
+
+        CacheView(ManagedCache cache) {
+            ref = new WeakReference<>(cache);
+            name = cache.getCacheName();
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public int getSize() {
+            ManagedCache cache = ref.get();
+            return cache != null ? cache.getCacheSize() : 0;
+        }
+
+        @Override
+        public int getMaxEntries() {
+            ManagedCache cache = ref.get();
+            return cache != null ? cache.getMaxEntries() : 0;
+        }
+
+        @Override
+        public long getHitCount() {
+            ManagedCache cache = ref.get();
+            return cache != null ? cache.getCounters().getHitCount() : 0;
+        }
+
+        @Override
+        public long getMissCount() {
+            ManagedCache cache = ref.get();
+            return cache != null ? cache.getCounters().getMissCount() : 0;
+        }
+
+        @Override
+        public long getTotalLoadNanos() {
+            ManagedCache cache = ref.get();
+            return cache != null ? cache.getCounters().getTotalLoadNanos() : 0;
+        }
+
+        @Override
+        public long getEvictionCount() {
+            ManagedCache cache = ref.get();
+            return cache != null ? cache.getCounters().getEvictionCount() : 0;
+        }
+
+        @Override
+        public void clear() {
+            ManagedCache cache = ref.get();
+            if (cache != null) {
+                cache.clearCache();
+            }
+        }
+    }
+
+    /**
+     * Registers an MXBean for each registered cache that does not have one yet.
+     * The names of live caches are unique, so each becomes one object name.
+     * An MXBean with the same name belongs to a cache that has been garbage-collected,
+     * and is replaced.
+     *
+     * @return the number of newly registered MXBeans
+     */
+    public static synchronized int registerAll() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        int count = 0;
+        for (ManagedCache cache : CacheRegistry.getCaches()) {
+            if (registered.contains(cache)) {
+                continue;
+            }
+            try {
+                ObjectName objectName = new ObjectName(
+                        DOMAIN + ":type=Cache,name=" + ObjectName.quote(cache.getCacheName()));
+                if (server.isRegistered(objectName)) {
+                    server.unregisterMBean(objectName);
+                }
+                server.registerMBean(new CacheView(cache), objectName);
+            } catch (JMException e) {
+                throw new ICUException(e);
+            }
+            registered.add(cache);
+            ++count;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,253 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: https://www.unicode.org/copyright.html
+
+package com.ibm.icu.impl;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import com.ibm.icu.util.ULocale;
+
+/**
+ * Central registry of ICU's internal caches ({@link SoftCache}, {@link SimpleCache}),
+ * for configuration, statistics, and clearing.
+ *
+ * <p>Each cache has a unique name, like "Calendar.weekData" for the week data cache of Calendar.
+ * A cache that is created with the name of another live cache gets a suffix like "#2",
+ * so that application caches cannot break ICU's own.
+ * The maximum number of entries of a cache is configured via {@link ICUConfig}
+ * with {@code com.ibm.icu.impl.CacheRegistry.maxEntries.<name>},
+ * using the name without such a suffix.
+ * Caches that are not configured by name remain unbounded: Values are held via soft references
+ * (depending on {@link CacheValue#futureInstancesWillBeStrong()}) and released under memory pressure.
+ * A bounded cache holds its values strongly and evicts the least recently used ones,
+ * which avoids repeatedly reloading data that the garbage collector released.
+ *
+ * <p>The registry holds its caches weakly.
+ * The public API is {@link com.ibm.icu.util.ICUCaches}.
+ */
+public final class CacheRegistry {
+    private static final String MAX_ENTRIES_PROPERTY = CacheRegistry.class.getName() + ".maxEntries";
+
+    private static final List<WeakReference<ManagedCache>> caches = new CopyOnWriteArrayList<>();
+    /** Names returned by uniqueName() whose caches are not registered yet. Guarded by the class lock. */
+    private static final Set<String> reservedNames = new HashSet<>();
+
+    private CacheRegistry() {}
+
+    /**
+     * Implemented by registered caches.
+     */
+    public interface ManagedCache {
+        /** Returns the name used for configuration and statistics. */
+        String getCacheName();
+        /** Returns the maximum number of entries, or 0 if unbounded. */
+        int getMaxEntries();
+        /** Returns the current number of entries. */
+        int getCacheSize();
+        /** Returns the statistics counters. */
+        Counters getCounters();
+        /** Removes all entries. */
+        void clearCache();
+        /**
+         * Removes the entries whose keys match the filter.
+         * @return the number of removed entries
+         */
+        int clearCache(Predicate<Object> keyFilter);
+    }
+
+    /**
+     * Thread-safe statistics counters for one cache.
+     */
+    public static final class Counters {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder loadNanos = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+
+        /** Records a lookup that found a cached value. */
+        public void recordHit() {
+            hits.increment();
+        }
+
+        /** Records a lookup that had to create the value, and how long that took. */
+        public void recordMiss(long loadNanos) {
+            misses.increment();
+            this.loadNanos.add(loadNanos);
+        }
+
+        /** Records a lookup that did not find a value, when the load time is not known. */
+        public void recordMiss() {
+            misses.increment();
+        }
+
+        public void recordEvictions(int count) {
+            evictions.add(count);
+        }
+
+        public long getHitCount() {
+            return hits.sum();
+        }
+
+        public long getMissCount() {
+            return misses.sum();
+        }
+
+        public long getTotalLoadNanos() {
+            return loadNanos.sum();
+        }
+
+        public long getEvictionCount() {
+            return evictions.sum();
+        }
+
+        void reset() {
+            hits.reset();
+            misses.reset();
+            loadNanos.reset();
+            evictions.reset();
+        }
+    }
+
+    /**
+     * Returns a name for a new cache that no live cache has: the requested name itself,
+     * or if that is taken, the requested name with a suffix like "#2".
+     * Called by the cache constructors, before {@link #register(ManagedCache)}.
+     * The name is reserved until the cache with that name is registered.
+     */
+    public static synchronized String uniqueName(String name) {
+        Objects.requireNonNull(name, "cache name");
+        String unique = name;
+        for (int i = 2; isNameTaken(unique); ++i) {
+            unique = name + '#' + i;
+        }
+        reservedNames.add(unique);
+        return unique;
+    }
+
+    private static boolean isNameTaken(String name) {
+        if (reservedNames.contains(name)) {
+            return true;
+        }
+        for (ManagedCache cache : getCaches()) {
+            if (name.equals(cache.getCacheName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Registers a cache. Called by the cache constructors,
+     * with a name from {@link #uniqueName(String)}.
+     */
+    public static synchronized void register(ManagedCache cache) {
+        reservedNames.remove(cache.getCacheName());
+        caches.add(new WeakReference<>(cache));
+    }
+
+    /**
+     * Returns the live registered caches, in registration order.
+     */
+    public static List<ManagedCache> getCaches() {
+        List<ManagedCache> result = new ArrayList<>(caches.size());
+        List<WeakReference<ManagedCache>> cleared = null;
+        for (WeakReference<ManagedCache> ref : caches) {
+            ManagedCache cache = ref.get();
+            if (cache != null) {
+                result.add(cache);
+            } else {
+                if (cleared == null) {
+                    cleared = new ArrayList<>();
+                }
+                cleared.add(ref);
+            }
+        }
+        if (cleared != null) {
+            caches.removeAll(cleared);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the configured maximum number of entries for the named cache, or 0 if unbounded.
+     */
+    public static int getConfiguredMaxEntries(String cacheName) {
+        String value = ICUConfig.get(MAX_ENTRIES_PROPERTY + '.' + cacheName);
+        if (value == null || value.isEmpty()) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Clears all registered caches and resets their statistics.
+     */
+    public static void clearAll() {
+        for (ManagedCache cache : getCaches()) {
+            cache.clearCache();
+            cache.getCounters().reset();
+        }
+    }
+
+    /**
+     * Removes the cache entries for the locale from all registered caches.
+     * Matches keys that are the locale itself (as a ULocale or Locale),
+     * and string keys that are its ID or language tag, or that start with its ID
+     * followed by a separator like '+' or '@'. Entries for other locales are not removed,
+     * not even for more specific ones like de_CH for de.
+     *
+     * @return the number of removed entries
+     */
+    public static int clear(ULocale locale) {
+        Predicate<Object> filter = localeKeyFilter(locale);
+        int count = 0;
+        for (ManagedCache cache : getCaches()) {
+            count += cache.clearCache(filter);
+        }
+        return count;
+    }
+
+    static Predicate<Object> localeKeyFilter(ULocale locale) {
+        String name = locale.getName();
+        String baseName = locale.getBaseName();
+        String languageTag = locale.toLanguageTag();
+        Locale javaLocale = locale.toLocale();
+        return key -> {
+            if (key instanceof ULocale) {
+                return key.equals(locale);
+            } else if (key instanceof Locale) {
+                return key.equals(javaLocale);
+            } else if (key instanceof CharSequence) {
+                String s = key.toString();
+                return s.equals(languageTag) ||
+                        startsWithLocaleID(s, name) || startsWithLocaleID(s, baseName);
+            }
+            return false;
+        };
+    }
+
+    private static boolean startsWithLocaleID(String s, String id) {
+        if (!s.startsWith(id)) {
+            return false;
+        }
+        if (s.length() == id.length()) {
+            return true;
+        }
+        // The ID must not continue with more subtags or letters.
+        char c = s.charAt(id.length());
+        return c != '_' && c != '-' && !Character.isLetterOrDigit(c);
+    }
+}
@@ -39,7 +39,7 @@ public final class DateNumberFormat extends NumberFormat {
     private static final int DECIMAL_BUF_SIZE = 20; // 20 digits is good enough to store Long.MAX_VALUE
     private transient char[] decimalBuf = new char[DECIMAL_BUF_SIZE];
 
-    private static SimpleCache<ULocale, char[]> CACHE = new SimpleCache<ULocale, char[]>();
+    private static SimpleCache<ULocale, char[]> CACHE = new SimpleCache<ULocale, char[]>("DateNumberFormat");
 
     private int maxIntDigits;
     private int minIntDigits;
@@ -222,6 +222,11 @@ public String toString() {
 
     private static final class SingleDataFile extends DataFile {
         private final File path;
+        /**
+         * The file contents, mapped on first use and then shared by all callers.
+         * Do not modify the position or other state, for thread safety.
+         */
+        private volatile ByteBuffer mappedBytes;
 
         SingleDataFile(String item, File path) {
             super(item);
@@ -235,7 +240,16 @@ public String toString() {
         @Override
         ByteBuffer getData(String requestedPath) {
             if (requestedPath.equals(itemPath)) {
-                return mapFile(path);
+                ByteBuffer bytes = mappedBytes;
+                if (bytes == null) {
+                    bytes = mapFile(path);
+                    if (bytes == null) {
+                        return null;
+                    }
+                    mappedBytes = bytes;
+                }
+                // Each caller gets its own position etc. on the shared mapping.
+                return bytes.duplicate();
             } else {
                 return null;
             }
@@ -278,14 +292,50 @@ void addBaseNamesInFolder(String folder, String suffix, Set<String> names) {
         }
     }
 
-    private static final List<DataFile> icuDataFiles = new ArrayList<>();
+    /**
+     * The data files and .dat packages found on the data path, in search order.
+     * Replaced as a whole (never modified) when a path is added,
+     * so that readers need not synchronize.
+     */
+    private static volatile List<DataFile> icuDataFiles;
 
     static {
+        List<DataFile> files = new ArrayList<>();
         // Normally com.ibm.icu.impl.ICUBinary.dataPath.
         String dataPath = ICUConfig.get(ICUBinary.class.getName() + ".dataPath");
         if (dataPath != null) {
-            addDataFilesFromPath(dataPath, icuDataFiles);
+            addDataFilesFromPath(dataPath, files);
         }
+        icuDataFiles = files;
+    }
+
+    /**
+     * Adds file system paths where ICU looks for binary data files before looking for data
+     * on the classpath, after the ones from the com.ibm.icu.impl.ICUBinary.dataPath configuration.
+     * The syntax is the same as for that property:
+     * Each path is a folder or an individual data file, for example an ICU4C icudt78l.dat
+     * package file, which is memory-mapped once and shared by all data items from it.
+     *
+     * <p>Data that has already been loaded and cached is not reloaded.
+     * Call this at startup, before using ICU services.
+     *
+     * @param dataPath one or more paths separated by File.pathSeparatorChar
+     */
+    public static synchronized void addDataPath(String dataPath) {
+        List<DataFile> files = new ArrayList<>(icuDataFiles);
+        addDataFilesFromPath(dataPath, files);
+        icuDataFiles = files;
+    }
+
+    /**
+     * Returns true if the ICU data item is read from a memory-mapped data file
+     * or .dat package on the data path, rather than from the classpath.
+     *
+     * @param itemPath Relative ICU data item path, for example "root.res" or "coll/ucadata.icu".
+     */
+    public static boolean isMappedData(String itemPath) {
+        ByteBuffer bytes = getDataFromFile(itemPath);
+        return bytes != null && bytes.isDirect();
     }
 
     private static void addDataFilesFromPath(String dataPath, List<DataFile> files) {
@@ -308,7 +358,13 @@ private static void addDataFilesFromPath(String dataPath, List<DataFile> files)
                 path = path.substring(0, path.length() - 1);
             }
             if (path.length() != 0) {
-                addDataFilesFromFolder(new File(path), new StringBuilder(), icuDataFiles);
+                File file = new File(path);
+                if (file.isFile()) {
+                    // A single data file or .dat package, as an item in the root folder.
+                    addDataFile(file, file.getName(), files);
+                } else {
+                    addDataFilesFromFolder(file, new StringBuilder(), files);
+                }
             }
             if (sepIndex < 0) {
                 break;
@@ -340,18 +396,25 @@ private static void addDataFilesFromFolder(File folder, StringBuilder itemPath,
             if (file.isDirectory()) {
                 // TODO: Within a folder, put all single files before all .dat packages?
                 addDataFilesFromFolder(file, itemPath, dataFiles);
-            } else if (fileName.endsWith(".dat")) {
-                ByteBuffer pkgBytes = mapFile(file);
-                if (pkgBytes != null && DatPackageReader.validate(pkgBytes)) {
-                    dataFiles.add(new PackageDataFile(itemPath.toString(), pkgBytes));
-                }
             } else {
-                dataFiles.add(new SingleDataFile(itemPath.toString(), file));
+                addDataFile(file, itemPath.toString(), dataFiles);
             }
             itemPath.setLength(folderPathLength);
         }
     }
 
+    private static void addDataFile(File file, String itemPath, List<DataFile> dataFiles) {
+        if (itemPath.endsWith(".dat")) {
+            // The whole package is mapped once; its items are slices of the mapping.
+            ByteBuffer pkgBytes = mapFile(file);
+            if (pkgBytes != null && DatPackageReader.validate(pkgBytes)) {
+                dataFiles.add(new PackageDataFile(itemPath, pkgBytes));
+            }
+        } else {
+            dataFiles.add(new SingleDataFile(itemPath, file));
+        }
+    }
+
     /**
      * Compares the length-specified input key with the
      * NUL-terminated table key. (ASCII)
@@ -88,7 +88,7 @@ private static abstract class Loader {
     }
 
     private static CacheBase<String, ICUResourceBundle, Loader> BUNDLE_CACHE =
-            new SoftCache<String, ICUResourceBundle, Loader>() {
+            new SoftCache<String, ICUResourceBundle, Loader>("ICUResourceBundle") {
         @Override
         protected ICUResourceBundle createInstance(String unusedKey, Loader loader) {
             return loader.load();
@@ -950,7 +950,7 @@ Set<String> getFullLocaleNameSet() {
      * Cache used for AvailableEntry
      */
     private static CacheBase<String, AvailEntry, ClassLoader> GET_AVAILABLE_CACHE =
-        new SoftCache<String, AvailEntry, ClassLoader>()  {
+        new SoftCache<String, AvailEntry, ClassLoader>("ICUResourceBundle.availableLocales")  {
             @Override
             protected AvailEntry createInstance(String key, ClassLoader loader) {
                 return new AvailEntry(key, loader);
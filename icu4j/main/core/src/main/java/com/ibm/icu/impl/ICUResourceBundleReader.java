@@ -177,6 +177,10 @@ public int hashCode() {
     }
 
     private static class ReaderCache extends SoftCache<ReaderCacheKey, ICUResourceBundleReader, ClassLoader> {
+        ReaderCache() {
+            super("ICUResourceBundleReader");
+        }
+
         /* (non-Javadoc)
          * @see com.ibm.icu.impl.CacheBase#createInstance(java.lang.Object, java.lang.Object)
          */
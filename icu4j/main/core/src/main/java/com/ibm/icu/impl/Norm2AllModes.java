@@ -70,6 +70,13 @@ public String getDecomposition(int c) {
         @Override
         public int spanQuickCheckYes(CharSequence s) { return s.length(); }
         @Override
+        public int spanQuickCheckYesUTF8(byte[] src, int start, int limit) {
+            if (start < 0 || limit > src.length || start > limit) {
+                throw new IndexOutOfBoundsException();
+            }
+            return limit;
+        }
+        @Override
         public boolean hasBoundaryBefore(int c) { return true; }
         @Override
         public boolean hasBoundaryAfter(int c) { return true; }
@@ -181,6 +188,18 @@ public int spanQuickCheckYes(CharSequence s) {
             return impl.decompose(s, 0, s.length(), null);
         }
         @Override
+        public int spanQuickCheckYesUTF8(byte[] src, int start, int limit) {
+            if (start < 0 || limit > src.length || start > limit) {
+                throw new IndexOutOfBoundsException();
+            }
+            return impl.decomposeQuickCheckUTF8(src, start, limit);
+        }
+        @Override
+        public boolean isNormalizedUTF8(byte[] src, int start, int limit) {
+            // The decomposition quick check has no "maybe" results.
+            return spanQuickCheckYesUTF8(src, start, limit) == limit;
+        }
+        @Override
         public int getQuickCheck(int c) {
             return impl.isDecompYes(impl.getNorm16(c)) ? 1 : 0;
         }
@@ -231,6 +250,13 @@ public int spanQuickCheckYes(CharSequence s) {
             return impl.composeQuickCheck(s, 0, s.length(), onlyContiguous, true)>>>1;
         }
         @Override
+        public int spanQuickCheckYesUTF8(byte[] src, int start, int limit) {
+            if (start < 0 || limit > src.length || start > limit) {
+                throw new IndexOutOfBoundsException();
+            }
+            return impl.composeQuickCheckUTF8(src, start, limit, onlyContiguous);
+        }
+        @Override
         public int getQuickCheck(int c) {
             return impl.getCompQuickCheck(impl.getNorm16(c));
         }
@@ -344,7 +370,7 @@ public static Norm2AllModes getInstance(ByteBuffer bytes, String name) {
         return cache.getInstance(name, bytes);
     }
     private static CacheBase<String, Norm2AllModes, ByteBuffer> cache =
-        new SoftCache<String, Norm2AllModes, ByteBuffer>() {
+        new SoftCache<String, Norm2AllModes, ByteBuffer>("Norm2AllModes") {
             @Override
             protected Norm2AllModes createInstance(String key, ByteBuffer bytes) {
                 Normalizer2Impl impl;
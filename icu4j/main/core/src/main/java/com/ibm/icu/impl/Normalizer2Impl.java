@@ -1462,6 +1462,147 @@ public int composeQuickCheck(CharSequence s, int src, int limit,
             return prevBoundary<<1;  // "no"
         }
     }
+    /**
+     * UTF-8 version of decompose(s, src, limit, null):
+     * Returns the end of the "yes" span of s[src..limit[, as a byte index.
+     * Ill-formed sequences are treated like inert characters.
+     */
+    public int decomposeQuickCheckUTF8(byte[] s, int src, int limit) {
+        int minNoCP=minDecompNoCP;
+        int prevBoundary=src;
+        int prevCC=0;
+        while(src<limit) {
+            int c=s[src];
+            int length=1;
+            if(c<0) {
+                int packed=UTF8.next(s, src, limit);
+                c=UTF8.codePoint(packed);
+                length=UTF8.length(packed);
+            }
+            int norm16;
+            if( c<minNoCP || c==UTF8.ILL_FORMED ||
+                isMostDecompYesAndZeroCC(norm16=normTrie.get(c))
+            ) {
+                src+=length;
+                prevCC=0;
+                prevBoundary=src;
+                continue;
+            }
+            src+=length;
+            if(isDecompYes(norm16)) {
+                int cc=getCCFromYesOrMaybeYes(norm16);
+                if(prevCC<=cc || cc==0) {
+                    prevCC=cc;
+                    if(cc<=1) {
+                        prevBoundary=src;
+                    }
+                    continue;
+                }
+            }
+            return prevBoundary;  // "no" or cc out of order
+        }
+        return src;
+    }
+
+    /**
+     * UTF-8 version of composeQuickCheck(s, src, limit, onlyContiguous, doSpan=true):
+     * Returns the end of the "yes" span of s[src..limit[, as a byte index.
+     * Ill-formed sequences are treated like inert characters.
+     * Make the same changes here as in composeQuickCheck() if relevant.
+     */
+    public int composeQuickCheckUTF8(byte[] s, int src, int limit, boolean onlyContiguous) {
+        int prevBoundary=src;
+        int minNoMaybeCP=minCompNoMaybeCP;
+        // The code point before src, and its start index.
+        int lastC=-1;
+        int lastStart=src;
+
+        for(;;) {
+            int prevSrc;
+            int c, length;
+            int norm16=INERT;
+            for(;;) {
+                if(src==limit) {
+                    return src;
+                }
+                c=s[src];
+                length=1;
+                if(c<0) {
+                    int packed=UTF8.next(s, src, limit);
+                    c=UTF8.codePoint(packed);
+                    length=UTF8.length(packed);
+                }
+                if( c<minNoMaybeCP || c==UTF8.ILL_FORMED ||
+                    isCompYesAndZeroCC(norm16=normTrie.get(c))
+                ) {
+                    lastC=c;
+                    lastStart=src;
+                    src+=length;
+                } else {
+                    prevSrc=src;
+                    src+=length;
+                    break;
+                }
+            }
+            // See composeQuickCheck() for comments.
+            int prevNorm16=INERT;
+            if(prevBoundary!=prevSrc) {
+                prevBoundary=prevSrc;
+                if(!norm16HasCompBoundaryBefore(norm16)) {
+                    int n16= lastC==UTF8.ILL_FORMED ? INERT : normTrie.get(lastC);
+                    if(!norm16HasCompBoundaryAfter(n16, onlyContiguous)) {
+                        prevBoundary=lastStart;
+                        prevNorm16=n16;
+                    }
+                }
+            }
+
+            if(norm16>=minMaybeNo) {
+                int fcd16=getFCD16FromMaybeOrNonZeroCC(norm16);
+                int cc=(fcd16>>8)&0xff;
+                if(!(onlyContiguous && cc!=0 &&
+                        getTrailCCFromCompYesAndZeroCC(prevNorm16)>cc)) {
+                    for(;;) {
+                        if(norm16<MIN_YES_YES_WITH_CC) {
+                            return prevBoundary;  // "maybe"
+                        }
+                        if(src==limit) {
+                            return src;
+                        }
+                        int prevCC=fcd16&0xff;
+                        int packed=UTF8.next(s, src, limit);
+                        c=UTF8.codePoint(packed);
+                        length=UTF8.length(packed);
+                        if(c==UTF8.ILL_FORMED) {
+                            norm16=INERT;
+                            break;
+                        }
+                        norm16=normTrie.get(c);
+                        if(norm16>=minMaybeNo) {
+                            fcd16=getFCD16FromMaybeOrNonZeroCC(norm16);
+                            cc=(fcd16>>8)&0xff;
+                            if(!(prevCC<=cc || cc==0)) {
+                                break;
+                            }
+                        } else {
+                            break;
+                        }
+                        src+=length;
+                    }
+                    // src is after the last in-order combining mark.
+                    if(isCompYesAndZeroCC(norm16)) {
+                        prevBoundary=src;
+                        lastC=c;
+                        lastStart=src;
+                        src+=length;
+                        continue;
+                    }
+                }
+            }
+            return prevBoundary;  // "no"
+        }
+    }
+
     public void composeAndAppend(CharSequence s,
                                  boolean doCompose,
                                  boolean onlyContiguous,
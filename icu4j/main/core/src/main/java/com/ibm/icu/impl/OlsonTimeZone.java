@@ -265,6 +265,10 @@ public Object clone() {
      */
     @Override
     public void getOffset(long date, boolean local, int[] offsets)  {
+        OffsetTable table = offsetTable;
+        if (!local && table != null && table.getOffset(date, offsets)) {
+            return;
+        }
         if (finalZone != null && date >= finalStartMillis) {
             finalZone.getOffset(date, local, offsets);
         } else {
@@ -870,6 +874,12 @@ public String toString() {
      */
     private SimpleTimeZone finalZone = null; // owned, may be NULL
 
+    /**
+     * Precomputed offsets for a range of years, set by {@link #freezeWithOffsetTable(int, int)}.
+     * Only a frozen zone has one.
+     */
+    private transient volatile OffsetTable offsetTable = null;
+
     /**
      * The canonical ID of this zone. Initialized when {@link #getCanonicalID()}
      * is invoked first time, or {@link #setID(String)} is called.
@@ -1291,7 +1301,136 @@ public TimeZone cloneAsThawed() {
         // typeMapData
         // typeOffsets
 
+        tz.offsetTable = null;
         tz.isFrozen = false;
         return tz;
     }
+
+    /**
+     * Precomputes the UTC offsets of the years from startYear to limitYear (exclusive)
+     * into a table, and freezes the zone. For dates in those years,
+     * {@link #getOffset(long, boolean, int[])} with local == false then looks up
+     * the offsets in the table, instead of searching the transitions or evaluating
+     * the rules of the final zone. Other dates and local times are not affected.
+     * If this zone is already frozen, a frozen copy with the table is returned.
+     *
+     * @param startYear the first year in the table, for example 1970
+     * @param limitYear the year after the last year in the table, for example 2100
+     * @return this zone or a copy of it, frozen, with the offset table
+     * @throws IllegalArgumentException if limitYear &lt;= startYear
+     */
+    public OlsonTimeZone freezeWithOffsetTable(int startYear, int limitYear) {
+        if (limitYear <= startYear) {
+            throw new IllegalArgumentException("limitYear " + limitYear + " <= startYear " + startYear);
+        }
+        OlsonTimeZone tz = isFrozen() ? (OlsonTimeZone)cloneAsThawed() : this;
+        tz.offsetTable = new OffsetTable(tz,
+                Grego.fieldsToDay(startYear, 0, 1) * Grego.MILLIS_PER_DAY,
+                Grego.fieldsToDay(limitYear, 0, 1) * Grego.MILLIS_PER_DAY);
+        tz.freeze();
+        return tz;
+    }
+
+    /**
+     * The UTC offsets of a range of times, as a sorted array of the times
+     * when the offsets change, and the start of each bucket of 2^35 ms,
+     * about 400 days, as an index into that array. A lookup goes to the bucket
+     * of a time and then scans the few changes in it.
+     */
+    private static final class OffsetTable {
+        private static final int BUCKET_SHIFT = 35;
+
+        private final long startTime;
+        private final long limitTime;
+        /* times[i] is the time of the i-th change of the offsets */
+        private final long[] times;
+        /* offsets from times[i-1] (or startTime for i == 0) until times[i] */
+        private final int[] rawOffsets;
+        private final int[] dstOffsets;
+        /* number of changes at or before the start of each bucket */
+        private final int[] bucketStarts;
+
+        OffsetTable(OlsonTimeZone tz, long startTime, long limitTime) {
+            this.startTime = startTime;
+            this.limitTime = limitTime;
+
+            // Collect the times when the offsets may change: the historical transitions,
+            // the start of the final zone, and the transitions of the final zone.
+            long[] candidates = new long[16];
+            int candidateCount = 0;
+            for (int i = 0; i < tz.transitionCount; i++) {
+                long t = tz.transitionTimes64[i] * Grego.MILLIS_PER_SECOND;
+                if (t > startTime && t < limitTime) {
+                    if (candidateCount == candidates.length) {
+                        candidates = Arrays.copyOf(candidates, candidateCount * 2);
+                    }
+                    candidates[candidateCount++] = t;
+                }
+            }
+            if (tz.finalZone != null && tz.finalStartMillis < limitTime) {
+                long t = Math.max((long)tz.finalStartMillis, startTime);
+                do {
+                    if (t > startTime) {
+                        if (candidateCount == candidates.length) {
+                            candidates = Arrays.copyOf(candidates, candidateCount * 2);
+                        }
+                        candidates[candidateCount++] = t;
+                    }
+                    TimeZoneTransition tzt = tz.finalZone.getNextTransition(t, false);
+                    t = tzt != null ? tzt.getTime() : limitTime;
+                } while (t < limitTime);
+            }
+            Arrays.sort(candidates, 0, candidateCount);
+
+            // Keep the times when the offsets actually change.
+            long[] times = new long[candidateCount];
+            int[] rawOffsets = new int[candidateCount + 1];
+            int[] dstOffsets = new int[candidateCount + 1];
+            int[] offsets = new int[2];
+            tz.getOffset(startTime, false, offsets);
+            rawOffsets[0] = offsets[0];
+            dstOffsets[0] = offsets[1];
+            int count = 0;
+            for (int i = 0; i < candidateCount; i++) {
+                long t = candidates[i];
+                tz.getOffset(t, false, offsets);
+                if (offsets[0] != rawOffsets[count] || offsets[1] != dstOffsets[count]) {
+                    times[count++] = t;
+                    rawOffsets[count] = offsets[0];
+                    dstOffsets[count] = offsets[1];
+                }
+            }
+            this.times = Arrays.copyOf(times, count);
+            this.rawOffsets = Arrays.copyOf(rawOffsets, count + 1);
+            this.dstOffsets = Arrays.copyOf(dstOffsets, count + 1);
+
+            int bucketCount = (int)((limitTime - startTime - 1) >>> BUCKET_SHIFT) + 1;
+            bucketStarts = new int[bucketCount];
+            int index = 0;
+            for (int b = 0; b < bucketCount; b++) {
+                long bucketStart = startTime + ((long)b << BUCKET_SHIFT);
+                while (index < count && this.times[index] <= bucketStart) {
+                    index++;
+                }
+                bucketStarts[b] = index;
+            }
+        }
+
+        /**
+         * Sets the raw and DST offsets of the date and returns true,
+         * or returns false if the date is not in the table.
+         */
+        boolean getOffset(long date, int[] offsets) {
+            if (date < startTime || date >= limitTime) {
+                return false;
+            }
+            int index = bucketStarts[(int)((date - startTime) >>> BUCKET_SHIFT)];
+            while (index < times.length && times[index] <= date) {
+                index++;
+            }
+            offsets[0] = rawOffsets[index];
+            offsets[1] = dstOffsets[index];
+            return true;
+        }
+    }
 }
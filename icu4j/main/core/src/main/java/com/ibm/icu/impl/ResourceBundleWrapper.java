@@ -38,7 +38,7 @@ private static abstract class Loader {
     }
 
     private static CacheBase<String, ResourceBundleWrapper, Loader> BUNDLE_CACHE =
-            new SoftCache<String, ResourceBundleWrapper, Loader>() {
+            new SoftCache<String, ResourceBundleWrapper, Loader>("ResourceBundleWrapper") {
         @Override
         protected ResourceBundleWrapper createInstance(String unusedKey, Loader loader) {
             return loader.load();
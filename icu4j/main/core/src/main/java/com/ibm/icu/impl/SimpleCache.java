@@ -14,45 +14,73 @@
 import java.lang.ref.WeakReference;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.Predicate;
 
-public class SimpleCache<K, V> implements ICUCache<K, V> {
+/**
+ * Simple thread-safe cache whose map is held via a soft or weak reference,
+ * so that the whole map may be released under memory pressure.
+ *
+ * <p>A SimpleCache registers itself with the {@link CacheRegistry}, which provides
+ * statistics and clearing. If the registry configures a maximum number of entries for the cache,
+ * then the map is held strongly and evicts the least recently used entries.
+ */
+public class SimpleCache<K, V> implements ICUCache<K, V>, CacheRegistry.ManagedCache {
     private static final int DEFAULT_CAPACITY = 16;
 
     private volatile Reference<Map<K, V>> cacheRef = null;
+    /** Strongly held map when the cache is bounded, otherwise null. */
+    private final Map<K, V> boundedMap;
     private int type = ICUCache.SOFT;
     private int capacity = DEFAULT_CAPACITY;
+    private final String name;
+    private final int maxEntries;
+    private final CacheRegistry.Counters counters = new CacheRegistry.Counters();
 
-    public SimpleCache() {
-    }
-
-    public SimpleCache(int cacheType) {
-        this(cacheType, DEFAULT_CAPACITY);
+    /**
+     * Creates a soft cache with the given name for configuration and statistics.
+     *
+     * @param name should be unique among all caches
+     * @see CacheRegistry#uniqueName(String)
+     */
+    public SimpleCache(String name) {
+        this(name, ICUCache.SOFT, DEFAULT_CAPACITY);
     }
 
-    public SimpleCache(int cacheType, int initialCapacity) {
+    public SimpleCache(String name, int cacheType, int initialCapacity) {
         if (cacheType == ICUCache.WEAK) {
             type = cacheType;
         }
         if (initialCapacity > 0) {
             capacity = initialCapacity;
         }
+        this.name = CacheRegistry.uniqueName(name);
+        maxEntries = CacheRegistry.getConfiguredMaxEntries(name);
+        boundedMap = maxEntries > 0 ?
+                Collections.synchronizedMap(new LruMap<K, V>(capacity, maxEntries, counters)) : null;
+        CacheRegistry.register(this);
     }
 
     @Override
     public V get(Object key) {
-        Reference<Map<K, V>> ref = cacheRef;
-        if (ref != null) {
-            Map<K, V> map = ref.get();
-            if (map != null) {
-                return map.get(key);
-            }
+        Map<K, V> map = getMap();
+        V value = map != null ? map.get(key) : null;
+        if (value != null) {
+            counters.recordHit();
+        } else {
+            counters.recordMiss();
         }
-        return null;
+        return value;
     }
 
     @Override
     public void put(K key, V value) {
+        if (boundedMap != null) {
+            boundedMap.put(key, value);
+            return;
+        }
         Reference<Map<K, V>> ref = cacheRef;
         Map<K, V> map = null;
         if (ref != null) {
@@ -73,6 +101,84 @@ public void put(K key, V value) {
     @Override
     public void clear() {
         cacheRef = null;
+        if (boundedMap != null) {
+            boundedMap.clear();
+        }
+    }
+
+    private Map<K, V> getMap() {
+        if (boundedMap != null) {
+            return boundedMap;
+        }
+        Reference<Map<K, V>> ref = cacheRef;
+        return ref != null ? ref.get() : null;
+    }
+
+    @Override
+    public String getCacheName() {
+        return name;
+    }
+
+    @Override
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    @Override
+    public int getCacheSize() {
+        Map<K, V> map = getMap();
+        return map != null ? map.size() : 0;
+    }
+
+    @Override
+    public CacheRegistry.Counters getCounters() {
+        return counters;
+    }
+
+    @Override
+    public void clearCache() {
+        clear();
+    }
+
+    @Override
+    public int clearCache(Predicate<Object> keyFilter) {
+        Map<K, V> map = getMap();
+        if (map == null) {
+            return 0;
+        }
+        int count = 0;
+        synchronized (map) {
+            for (Iterator<K> iter = map.keySet().iterator(); iter.hasNext();) {
+                if (keyFilter.test(iter.next())) {
+                    iter.remove();
+                    ++count;
+                }
+            }
+        }
+        return count;
     }
 
+    /**
+     * Access-ordered map that removes its least recently used entry beyond the maximum size.
+     */
+    private static final class LruMap<K, V> extends LinkedHashMap<K, V> {
+        private static final long serialVersionUID = 1L;
+        private final int maxEntries;
+        private final transient CacheRegistry.Counters counters;
+
+        LruMap(int initialCapacity, int maxEntries, CacheRegistry.Counters counters) {
+            super(initialCapacity, 0.75f, true);
+            this.maxEntries = maxEntries;
+            this.counters = counters;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            if (size() > maxEntries) {
+                counters.recordEvictions(1);
+                return true;
+            }
+            return false;
+        }
+    }
 }
@@ -8,7 +8,14 @@
 */
 package com.ibm.icu.impl;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 
 /**
  * Generic, thread-safe cache implementation, usually storing cached instances
@@ -26,18 +33,58 @@
  * <p>A value can be null if createInstance() returns null.
  * In this case, it must do so consistently for the same key and data.
  *
+ * <p>A SoftCache registers itself with the {@link CacheRegistry}, which provides
+ * statistics and clearing. If the registry configures a maximum number of entries for the cache,
+ * then the cache holds its values strongly and evicts the least recently used entries
+ * when it grows beyond that size.
+ *
  * @param <K> Cache lookup key type
  * @param <V> Cache instance value type (must not be a CacheValue)
  * @param <D> Data type for creating a new instance value
  *
  * @author Markus Scherer, Mark Davis
  */
-public abstract class SoftCache<K, V, D> extends CacheBase<K, V, D> {
+public abstract class SoftCache<K, V, D> extends CacheBase<K, V, D>
+        implements CacheRegistry.ManagedCache {
     private ConcurrentHashMap<K, Object> map = new ConcurrentHashMap<K, Object>();
+    private final String name;
+    private final int maxEntries;
+    private final CacheRegistry.Counters counters = new CacheRegistry.Counters();
+    private final Object evictionLock = new Object();
+    /** Access clock for LRU eviction. */
+    private final AtomicLong accessClock = new AtomicLong();
+
+    /**
+     * Creates a cache with the given name for configuration and statistics.
+     *
+     * @param name should be unique among all caches
+     * @see CacheRegistry#uniqueName(String)
+     */
+    protected SoftCache(String name) {
+        this.name = CacheRegistry.uniqueName(name);
+        maxEntries = CacheRegistry.getConfiguredMaxEntries(name);
+        CacheRegistry.register(this);
+    }
+
+    /**
+     * A strongly held value with its last access time, for a bounded cache.
+     */
+    private static final class BoundedEntry<V> {
+        BoundedEntry(V value, long lastAccess) {
+            this.value = value;
+            this.lastAccess = lastAccess;
+        }
+
+        final V value;
+        volatile long lastAccess;
+    }
 
     @SuppressWarnings("unchecked")
     @Override
     public final V getInstance(K key, D data) {
+        if (maxEntries > 0) {
+            return getBoundedInstance(key, data);
+        }
         // We synchronize twice, once in the ConcurrentHashMap and
         // once in valueRef.resetIfCleared(value),
         // because we prefer the fine-granularity locking of the ConcurrentHashMap
@@ -50,23 +97,26 @@ public final V getInstance(K key, D data) {
         if(mapValue != null) {
             if(!(mapValue instanceof CacheValue)) {
                 // The value was stored directly.
+                counters.recordHit();
                 return (V)mapValue;
             }
             CacheValue<V> cv = (CacheValue<V>)mapValue;
             if(cv.isNull()) {
+                counters.recordHit();
                 return null;
             }
             V value = cv.get();
             if(value != null) {
+                counters.recordHit();
                 return value;
             }
             // The instance has been evicted, its Reference cleared.
             // Create and set a new instance.
-            value = createInstance(key, data);
+            value = load(key, data);
             return cv.resetIfCleared(value);
         } else /* valueRef == null */ {
             // We had never cached an instance for this key.
-            V value = createInstance(key, data);
+            V value = load(key, data);
             mapValue = (value != null && CacheValue.futureInstancesWillBeStrong()) ?
                     value : CacheValue.getInstance(value);
             mapValue = map.putIfAbsent(key, mapValue);
@@ -85,4 +135,102 @@ public final V getInstance(K key, D data) {
             return cv.resetIfCleared(value);
         }
     }
+
+    private V load(K key, D data) {
+        long start = System.nanoTime();
+        V value = createInstance(key, data);
+        counters.recordMiss(System.nanoTime() - start);
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V getBoundedInstance(K key, D data) {
+        BoundedEntry<V> entry = (BoundedEntry<V>)map.get(key);
+        if (entry != null) {
+            entry.lastAccess = accessClock.incrementAndGet();
+            counters.recordHit();
+            return entry.value;
+        }
+        V value = load(key, data);
+        entry = (BoundedEntry<V>)map.putIfAbsent(key, new BoundedEntry<V>(value, accessClock.incrementAndGet()));
+        if (entry != null) {
+            // Another thread beat us to it.
+            return entry.value;
+        }
+        if (map.size() > maxEntries) {
+            evict();
+        }
+        return value;
+    }
+
+    /**
+     * Evicts the least recently used entries, down to 7/8 of the maximum size,
+     * so that the cost of scanning the whole map is amortized over many insertions.
+     */
+    @SuppressWarnings("unchecked")
+    private void evict() {
+        synchronized (evictionLock) {
+            int size = map.size();
+            if (size <= maxEntries) {
+                return;  // Another thread evicted while we waited.
+            }
+            // Snapshot the access times: They may change while we sort.
+            List<Map.Entry<K, Object>> entries = new ArrayList<>(map.entrySet());
+            long[] times = new long[entries.size()];
+            Integer[] order = new Integer[times.length];
+            for (int i = 0; i < times.length; ++i) {
+                times[i] = ((BoundedEntry<V>)entries.get(i).getValue()).lastAccess;
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparingLong(i -> times[i]));
+            int target = maxEntries - maxEntries / 8;
+            int evicted = 0;
+            for (int i : order) {
+                if (size - evicted <= target) {
+                    break;
+                }
+                Map.Entry<K, Object> e = entries.get(i);
+                if (map.remove(e.getKey(), e.getValue())) {
+                    ++evicted;
+                }
+            }
+            counters.recordEvictions(evicted);
+        }
+    }
+
+    @Override
+    public String getCacheName() {
+        return name;
+    }
+
+    @Override
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    @Override
+    public int getCacheSize() {
+        return map.size();
+    }
+
+    @Override
+    public CacheRegistry.Counters getCounters() {
+        return counters;
+    }
+
+    @Override
+    public void clearCache() {
+        map.clear();
+    }
+
+    @Override
+    public int clearCache(Predicate<Object> keyFilter) {
+        int count = 0;
+        for (K key : map.keySet()) {
+            if (keyFilter.test(key) && map.remove(key) != null) {
+                ++count;
+            }
+        }
+        return count;
+    }
 }
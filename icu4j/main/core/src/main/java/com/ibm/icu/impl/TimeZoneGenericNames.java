@@ -893,6 +893,9 @@ private synchronized Collection<GenericMatchInfo> findLocal(String text, int sta
      * <code>TimeZoneGenericNames</code> cache implementation.
      */
     private static class Cache extends SoftCache<String, TimeZoneGenericNames, ULocale> {
+        Cache() {
+            super("TimeZoneGenericNames");
+        }
 
         /* (non-Javadoc)
          * @see com.ibm.icu.impl.CacheBase#createInstance(java.lang.Object, java.lang.Object)
@@ -849,6 +849,10 @@ long to() {
     }
 
     private static class TZ2MZsCache extends SoftCache<String, List<MZMapEntry>, String> {
+        TZ2MZsCache() {
+            super("TimeZoneNamesImpl.zoneToMetaZones");
+        }
+
         /* (non-Javadoc)
          * @see com.ibm.icu.impl.CacheBase#createInstance(java.lang.Object, java.lang.Object)
          */
@@ -955,6 +959,9 @@ private static long parseDate (String text) {
     //
 
     private static class MZ2TZsCache extends SoftCache<String, Map<String, String>, String> {
+        MZ2TZsCache() {
+            super("TimeZoneNamesImpl.metaZoneToZones");
+        }
 
         /* (non-Javadoc)
          * @see com.ibm.icu.impl.CacheBase#createInstance(java.lang.Object, java.lang.Object)
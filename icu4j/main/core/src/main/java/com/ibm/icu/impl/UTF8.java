@@ -0,0 +1,161 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: https://www.unicode.org/copyright.html
+
+package com.ibm.icu.impl;
+
+/**
+ * Low-level UTF-8 code point iteration over byte arrays,
+ * similar to the U8_NEXT() and U8_APPEND() macros in ICU4C.
+ *
+ * <p>{@link #next(byte[], int, int)} returns the code point and the sequence length
+ * packed into one int so that callers can iterate without allocating.
+ * An ill-formed sequence yields {@link #ILL_FORMED} and the length of its
+ * maximal subpart (at least 1), as recommended by the Unicode Standard.
+ */
+public final class UTF8 {
+    /**
+     * Code point value returned for ill-formed sequences.
+     * Greater than any Unicode code point.
+     */
+    public static final int ILL_FORMED = 0x1fffff;
+
+    private static final int CP_MASK = 0x1fffff;
+    private static final int LENGTH_SHIFT = 21;
+
+    private UTF8() {}
+
+    /**
+     * Decodes the code point starting at s[i], with i&lt;limit.
+     * @return the code point (or {@link #ILL_FORMED}) and the sequence length,
+     *         to be extracted with {@link #codePoint(int)} and {@link #length(int)}
+     */
+    public static int next(byte[] s, int i, int limit) {
+        int b0 = s[i] & 0xff;
+        if (b0 < 0x80) {
+            return (1 << LENGTH_SHIFT) | b0;
+        }
+        int t1, t2, t3;
+        if (b0 < 0xe0) {
+            if (b0 >= 0xc2 && (i + 1) < limit && (t1 = (s[i + 1] & 0xff) ^ 0x80) <= 0x3f) {
+                return (2 << LENGTH_SHIFT) | ((b0 & 0x1f) << 6) | t1;
+            }
+            return (1 << LENGTH_SHIFT) | ILL_FORMED;
+        } else if (b0 < 0xf0) {
+            // Lead byte E0 requires A0..BF, ED requires 80..9F (no surrogates).
+            if ((i + 1) < limit && (t1 = (s[i + 1] & 0xff) ^ 0x80) <= 0x3f &&
+                    (b0 == 0xe0 ? t1 >= 0x20 : b0 != 0xed || t1 < 0x20)) {
+                if ((i + 2) < limit && (t2 = (s[i + 2] & 0xff) ^ 0x80) <= 0x3f) {
+                    return (3 << LENGTH_SHIFT) | ((b0 & 0xf) << 12) | (t1 << 6) | t2;
+                }
+                return (2 << LENGTH_SHIFT) | ILL_FORMED;
+            }
+            return (1 << LENGTH_SHIFT) | ILL_FORMED;
+        } else if (b0 <= 0xf4) {
+            // Lead byte F0 requires 90..BF, F4 requires 80..8F (at most U+10FFFF).
+            if ((i + 1) < limit && (t1 = (s[i + 1] & 0xff) ^ 0x80) <= 0x3f &&
+                    (b0 == 0xf0 ? t1 >= 0x10 : b0 != 0xf4 || t1 < 0x10)) {
+                if ((i + 2) < limit && (t2 = (s[i + 2] & 0xff) ^ 0x80) <= 0x3f) {
+                    if ((i + 3) < limit && (t3 = (s[i + 3] & 0xff) ^ 0x80) <= 0x3f) {
+                        return (4 << LENGTH_SHIFT) |
+                                ((b0 & 7) << 18) | (t1 << 12) | (t2 << 6) | t3;
+                    }
+                    return (3 << LENGTH_SHIFT) | ILL_FORMED;
+                }
+                return (2 << LENGTH_SHIFT) | ILL_FORMED;
+            }
+            return (1 << LENGTH_SHIFT) | ILL_FORMED;
+        } else {
+            return (1 << LENGTH_SHIFT) | ILL_FORMED;
+        }
+    }
+
+    /**
+     * @param packed return value of {@link #next(byte[], int, int)}
+     * @return the code point, or {@link #ILL_FORMED}
+     */
+    public static int codePoint(int packed) {
+        return packed & CP_MASK;
+    }
+
+    /**
+     * @param packed return value of {@link #next(byte[], int, int)}
+     * @return the number of bytes in the sequence, 1..4
+     */
+    public static int length(int packed) {
+        return packed >>> LENGTH_SHIFT;
+    }
+
+    /**
+     * Counts the UTF-8 bytes for s[start..limit[ where s is well-formed UTF-16
+     * except that unpaired surrogates are counted as 3 bytes each.
+     */
+    public static int countBytes(CharSequence s, int start, int limit) {
+        int count = 0;
+        for (int i = start; i < limit; ++i) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                ++count;
+            } else if (c < 0x800) {
+                count += 2;
+            } else if (Character.isHighSurrogate(c) && (i + 1) < limit &&
+                    Character.isLowSurrogate(s.charAt(i + 1))) {
+                count += 4;
+                ++i;
+            } else {
+                count += 3;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Appends the code points of s[start..limit[ to dest as UTF-8, starting at destIndex.
+     * dest must have room for {@link #countBytes(CharSequence, int, int)} bytes.
+     * Unpaired surrogates are written as U+FFFD.
+     * @return the destination index after the last written byte
+     */
+    public static int encode(CharSequence s, int start, int limit, byte[] dest, int destIndex) {
+        for (int i = start; i < limit; ++i) {
+            int c = s.charAt(i);
+            if (c < 0x80) {
+                dest[destIndex++] = (byte)c;
+                continue;
+            }
+            if (Normalizer2Impl.UTF16Plus.isSurrogate(c)) {
+                if (Character.isHighSurrogate((char)c) && (i + 1) < limit &&
+                        Character.isLowSurrogate(s.charAt(i + 1))) {
+                    c = Character.toCodePoint((char)c, s.charAt(++i));
+                } else {
+                    c = 0xfffd;
+                }
+            }
+            if (c < 0x800) {
+                dest[destIndex++] = (byte)(0xc0 | (c >> 6));
+            } else {
+                if (c < 0x10000) {
+                    dest[destIndex++] = (byte)(0xe0 | (c >> 12));
+                } else {
+                    dest[destIndex++] = (byte)(0xf0 | (c >> 18));
+                    dest[destIndex++] = (byte)(0x80 | ((c >> 12) & 0x3f));
+                }
+                dest[destIndex++] = (byte)(0x80 | ((c >> 6) & 0x3f));
+            }
+            dest[destIndex++] = (byte)(0x80 | (c & 0x3f));
+        }
+        return destIndex;
+    }
+
+    /**
+     * Appends the well-formed UTF-8 in s[start..limit[ to dest as UTF-16.
+     * Ill-formed sequences are appended as U+FFFD; callers normally do not pass any.
+     */
+    public static StringBuilder decode(byte[] s, int start, int limit, StringBuilder dest) {
+        while (start < limit) {
+            int packed = next(s, start, limit);
+            int c = codePoint(packed);
+            dest.appendCodePoint(c == ILL_FORMED ? 0xfffd : c);
+            start += length(packed);
+        }
+        return dest;
+    }
+}
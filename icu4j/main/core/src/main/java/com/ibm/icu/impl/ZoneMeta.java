@@ -337,9 +337,9 @@ private static int getZoneIndex(String zid) {
         return zoneIdx;
     }
 
-    private static ICUCache<String, String> CANONICAL_ID_CACHE = new SimpleCache<>();
-    private static ICUCache<String, String> REGION_CACHE = new SimpleCache<>();
-    private static ICUCache<String, Boolean> SINGLE_COUNTRY_CACHE = new SimpleCache<>();
+    private static ICUCache<String, String> CANONICAL_ID_CACHE = new SimpleCache<>("ZoneMeta.canonicalIDs");
+    private static ICUCache<String, String> REGION_CACHE = new SimpleCache<>("ZoneMeta.regions");
+    private static ICUCache<String, Boolean> SINGLE_COUNTRY_CACHE = new SimpleCache<>("ZoneMeta.singleCountry");
 
     public static String getCanonicalCLDRID(TimeZone tz) {
         if (tz instanceof OlsonTimeZone) {
@@ -570,6 +570,9 @@ public static UResourceBundle openOlsonResource(UResourceBundle top, String id)
      * System time zone object cache
      */
     private static class SystemTimeZoneCache extends SoftCache<String, OlsonTimeZone, String> {
+        SystemTimeZoneCache() {
+            super("ZoneMeta.systemZones");
+        }
 
         /* (non-Javadoc)
          * @see com.ibm.icu.impl.CacheBase#createInstance(java.lang.Object, java.lang.Object)
@@ -611,6 +614,9 @@ public static OlsonTimeZone getSystemTimeZone(String id) {
      * Custom time zone object cache
      */
     private static class CustomTimeZoneCache extends SoftCache<Integer, SimpleTimeZone, int[]> {
+        CustomTimeZoneCache() {
+            super("ZoneMeta.customZones");
+        }
 
         /* (non-Javadoc)
          * @see com.ibm.icu.impl.CacheBase#createInstance(java.lang.Object, java.lang.Object)
@@ -6,13 +6,9 @@
  */
 package com.ibm.icu.impl.breakiter;
 
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.text.CharacterIterator;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import com.ibm.icu.impl.ICUData;
@@ -41,37 +37,43 @@ public enum LSTMClass {
       SINGLE,
     }
 
-    private static float[][] make2DArray(int[] data, int start, int d1, int d2) {
-        byte[] bytes = new byte[4];
-        float [][] result = new float[d1][d2];
-        for (int i = 0; i < d1 ; i++) {
-            for (int j = 0; j < d2 ; j++) {
-                int d = data[start++];
-                bytes[0] = (byte) (d >> 24);
-                bytes[1] = (byte) (d >> 16);
-                bytes[2] = (byte) (d >> 8);
-                bytes[3] = (byte) (d /*>> 0*/);
-                result[i][j] = ByteBuffer.wrap(bytes).order(ByteOrder.BIG_ENDIAN).getFloat();
-            }
+    private static float[] makeArray(int[] data, int start, int length) {
+        float[] result = new float[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = Float.intBitsToFloat(data[start + i]);
         }
         return result;
     }
 
-    private static float[] make1DArray(int[] data, int start, int d1) {
-        byte[] bytes = new byte[4];
-        float [] result = new float[d1];
-        for (int i = 0; i < d1 ; i++) {
-            int d = data[start++];
-            bytes[0] = (byte) (d >> 24);
-            bytes[1] = (byte) (d >> 16);
-            bytes[2] = (byte) (d >> 8);
-            bytes[3] = (byte) (d /*>> 0*/);
-            result[i] = ByteBuffer.wrap(bytes).order(ByteOrder.BIG_ENDIAN).getFloat();
+    /**
+     * Computes the input projection b + x * W of every embedding x,
+     * as a row-major table with one row of 4 * hunits gate inputs per embedding.
+     * The sums are accumulated in the same order as in a step of the LSTM,
+     * so the results are bit-identical to computing them for each input.
+     */
+    private static float[] makeInputTable(float[] embedding, int embeddingCount, int embeddings,
+                                          float[] W, float[] B) {
+        int gates = B.length;
+        float[] result = new float[embeddingCount * gates];
+        for (int e = 0; e < embeddingCount; e++) {
+            int row = e * gates;
+            System.arraycopy(B, 0, result, row, gates);
+            for (int j = 0; j < embeddings; j++) {
+                float x = embedding[e * embeddings + j];
+                int w = j * gates;
+                for (int i = 0; i < gates; i++) {
+                    result[row + i] += x * W[w + i];
+                }
+            }
         }
         return result;
     }
 
-    /** @internal */
+    /**
+     * The weights of an LSTM model. The matrices are stored row-major in flat arrays,
+     * and the embeddings are folded into the input weights of both LSTM directions.
+     * @internal
+     */
     public static class LSTMData {
         private LSTMData() {
         }
@@ -107,36 +109,40 @@ public LSTMData(UResourceBundle rb) {
             int mat9Size = 4;
             assert dataLen == mat1Size + mat2Size + mat3Size + mat4Size + mat5Size + mat6Size + mat7Size + mat8Size + mat9Size;
             int start = 0;
-            this.fEmbedding = make2DArray(data, start, (numIndex+1), embeddings);
+            float[] embedding = makeArray(data, start, mat1Size);
             start += mat1Size;
-            this.fForwardW = make2DArray(data, start, embeddings, 4 * hunits);
+            float[] forwardW = makeArray(data, start, mat2Size);
             start += mat2Size;
-            this.fForwardU = make2DArray(data, start, hunits, 4 * hunits);
+            this.fForwardU = makeArray(data, start, mat3Size);
             start += mat3Size;
-            this.fForwardB = make1DArray(data, start, 4 * hunits);
+            float[] forwardB = makeArray(data, start, mat4Size);
             start += mat4Size;
-            this.fBackwardW = make2DArray(data, start, embeddings, 4 * hunits);
+            float[] backwardW = makeArray(data, start, mat5Size);
             start += mat5Size;
-            this.fBackwardU = make2DArray(data, start, hunits, 4 * hunits);
+            this.fBackwardU = makeArray(data, start, mat6Size);
             start += mat6Size;
-            this.fBackwardB = make1DArray(data, start, 4 * hunits);
+            float[] backwardB = makeArray(data, start, mat7Size);
             start += mat7Size;
-            this.fOutputW = make2DArray(data, start, 2 * hunits, 4);
+            this.fOutputW = makeArray(data, start, mat8Size);
             start += mat8Size;
-            this.fOutputB = make1DArray(data, start, 4);
+            this.fOutputB = makeArray(data, start, mat9Size);
+            this.fHunits = hunits;
+            this.fForwardInput = makeInputTable(embedding, numIndex + 1, embeddings, forwardW, forwardB);
+            this.fBackwardInput = makeInputTable(embedding, numIndex + 1, embeddings, backwardW, backwardB);
         }
 
         public EmbeddingType fType;
         public String fName;
         public Map<String, Integer> fDict;
-        public float fEmbedding[][];
-        public float fForwardW[][];
-        public float fForwardU[][];
-        public float fForwardB[];
-        public float fBackwardW[][];
-        public float fBackwardU[][];
-        public float fBackwardB[];
-        public float fOutputW[][];
+        public int fHunits;
+        /** b + x * W of the forward LSTM for each embedding x, [numIndex + 1][4 * hunits] */
+        public float fForwardInput[];
+        /** [hunits][4 * hunits] */
+        public float fForwardU[];
+        public float fBackwardInput[];
+        public float fBackwardU[];
+        /** [2 * hunits][4] */
+        public float fOutputW[];
         public float fOutputB[];
     }
 
@@ -150,8 +156,13 @@ abstract class Vectorizer {
         public Vectorizer(Map<String, Integer> dict) {
             this.fDict = dict;
         }
-        abstract public void vectorize(CharacterIterator fIter, int rangeStart, int rangeEnd,
-                              List<Integer> offsets, List<Integer> indicies);
+        /**
+         * Stores the start offset and the embedding index of each token of the range
+         * in the arrays, which have room for one token per char.
+         * @return the number of tokens
+         */
+        abstract public int vectorize(CharacterIterator fIter, int rangeStart, int rangeEnd,
+                              int[] offsets, int[] indicies);
         protected int getIndex(String token) {
             Integer res = fDict.get(token);
             return (res == null) ? fDict.size() : res;
@@ -160,19 +171,44 @@ protected int getIndex(String token) {
     }
 
     class CodePointsVectorizer extends Vectorizer {
+        // The indexes of the chars in [fFirstChar, fFirstChar + fCharIndexes.length)
+        private final char fFirstChar;
+        private final int[] fCharIndexes;
+
         public CodePointsVectorizer(Map<String, Integer> dict) {
             super(dict);
+            char first = Character.MAX_VALUE;
+            char last = 0;
+            for (String key : dict.keySet()) {
+                if (key.length() == 1) {
+                    first = (char) Math.min(first, key.charAt(0));
+                    last = (char) Math.max(last, key.charAt(0));
+                }
+            }
+            if (first > last) {
+                first = 0;
+                last = 0;
+            }
+            fFirstChar = first;
+            fCharIndexes = new int[last - first + 1];
+            for (int i = 0; i < fCharIndexes.length; i++) {
+                fCharIndexes[i] = getIndex(String.valueOf((char) (first + i)));
+            }
         }
 
-        public void vectorize(CharacterIterator fIter, int rangeStart, int rangeEnd,
-                              List<Integer> offsets, List<Integer> indicies) {
+        public int vectorize(CharacterIterator fIter, int rangeStart, int rangeEnd,
+                              int[] offsets, int[] indicies) {
+            int count = 0;
             fIter.setIndex(rangeStart);
             for (char c = fIter.current();
                  c != CharacterIterator.DONE && fIter.getIndex() < rangeEnd;
                  c = fIter.next()) {
-                offsets.add(fIter.getIndex());
-                indicies.add(getIndex(String.valueOf(c)));
+                offsets[count] = fIter.getIndex();
+                int i = c - fFirstChar;
+                indicies[count++] = (i >= 0 && i < fCharIndexes.length)
+                        ? fCharIndexes[i] : getIndex(String.valueOf(c));
             }
+            return count;
         }
     }
 
@@ -194,18 +230,19 @@ private String substring(CharacterIterator text, int startPos, int endPos) {
             return sb.toString();
         }
 
-        public void vectorize(CharacterIterator text, int startPos, int endPos,
-                              List<Integer> offsets, List<Integer> indicies) {
+        public int vectorize(CharacterIterator text, int startPos, int endPos,
+                              int[] offsets, int[] indicies) {
+            int count = 0;
             BreakIterator iter = BreakIterator.getCharacterInstance();
             iter.setText(text);
             int last = iter.next(startPos);
             for (int curr = iter.next(); curr != BreakIterator.DONE && curr <= endPos; curr = iter.next()) {
-                offsets.add(last);
+                offsets[count] = last;
                 String segment = substring(text, last, curr);
-                int index = getIndex(segment);
-                indicies.add(index);
+                indicies[count++] = getIndex(segment);
                 last = curr;
             }
+            return count;
         }
     }
 
@@ -241,104 +278,56 @@ public boolean handles(int c) {
         return fScript == UCharacter.getIntPropertyValue(c, UProperty.SCRIPT);
     }
 
-    static private void addDotProductTo(final float [] a, final float[][] b, float[] result) {
-        assert a.length == b.length;
-        assert b[0].length == result.length;
-        for (int i = 0; i < result.length; i++) {
-            for (int j = 0; j < a.length; j++) {
-                result[i] += a[j] * b[j][i];
-            }
-        }
-    }
-
-    static private void addTo(final float [] a, float[] result) {
-        assert a.length == result.length;
-        for (int i = 0; i < result.length; i++) {
-            result[i] += a[i];
-        }
-    }
-
-    static private void hadamardProductTo(final float [] a, float[] result) {
-        assert a.length == result.length;
-        for (int i = 0; i < result.length; i++) {
-            result[i] *= a[i];
-        }
-    }
-
-    static private void addHadamardProductTo(final float [] a, final float [] b, float[] result) {
-        assert a.length == result.length;
-        assert b.length == result.length;
-        for (int i = 0; i < result.length; i++) {
-            result[i] += a[i] * b[i];
-        }
-    }
-
-    static private void sigmoid(float [] result, int start, int length) {
-        assert start < result.length;
-        assert start + length <= result.length;
-        for (int i = start; i < start + length; i++) {
-            result[i] = (float)(1.0/(1.0 + Math.exp(-result[i])));
-        }
-    }
-
-    static private void tanh(float [] result, int start, int length) {
-        assert start < result.length;
-        assert start + length <= result.length;
-        for (int i = start; i < start + length; i++) {
-            result[i] = (float)Math.tanh(result[i]);
-        }
+    static private float sigmoid(float x) {
+        return (float)(1.0/(1.0 + Math.exp(-x)));
     }
 
-    static private int maxIndex(float [] data) {
-        int index = 0;
-        float max = data[0];
-        for (int i = 1; i < data.length; i++) {
-            if (data[i] > max) {
-                max = data[i];
-                index = i;
+    /**
+     * One step of an LSTM, which overwrites c with the new cell state
+     * and stores the new hidden state at h[hStart].
+     * The gate inputs start as the precomputed row b + x * W of the input,
+     * and the gates are laid out as i, f, c_, o, hunits each.
+     * All of the loops run over consecutive floats, so that they can be vectorized,
+     * and sum in the same order as a textbook implementation.
+     *
+     * @param input the precomputed gate inputs of all embeddings
+     * @param inputRow the start of the row of the current input in input
+     * @param U the recurrent weights, [hunits][4 * hunits]
+     * @param h the hidden states
+     * @param prevStart the start of the previous hidden state in h, or -1 for the first step
+     * @param hStart the start of the new hidden state in h
+     * @param c the cell state
+     * @param ifco temporary storage for the 4 * hunits gates
+     */
+    private static void compute(float[] input, int inputRow, float[] U,
+                                float[] h, int prevStart, int hStart, float[] c, float[] ifco) {
+        int hunits = c.length;
+        int gates = ifco.length;
+        // ifco = x * W + b + h * U
+        System.arraycopy(input, inputRow, ifco, 0, gates);
+        if (prevStart >= 0) {
+            for (int j = 0; j < hunits; j++) {
+                float hj = h[prevStart + j];
+                int u = j * gates;
+                for (int i = 0; i < gates; i++) {
+                    ifco[i] += hj * U[u + i];
+                }
             }
         }
-        return index;
-    }
 
-    /*
-    static private void print(float [] data) {
-        for (int i=0; i < data.length; i++) {
-            System.out.format("  %e", data[i]);
-            if (i % 4 == 3) {
-              System.out.println();
-            }
+        for (int i = 0; i < hunits; i++) {
+            float inputGate = sigmoid(ifco[i]);
+            float forgetGate = sigmoid(ifco[hunits + i]);
+            float cell = (float)Math.tanh(ifco[2*hunits + i]);
+            float outputGate = sigmoid(ifco[3*hunits + i]);
+            float ci = c[i];
+            ci *= forgetGate;
+            ci += inputGate * cell;
+            c[i] = ci;
+            float hi = (float)Math.tanh(ci);
+            hi *= outputGate;
+            h[hStart + i] = hi;
         }
-        System.out.println();
-    }
-    */
-
-    private float[] compute(final float[][] W, final float[][] U, final float[] B,
-                            final float[] x, float[] h, float[] c) {
-        // ifco = x * W + h * U + b
-        float[] ifco = Arrays.copyOf(B, B.length);
-        addDotProductTo(x, W, ifco);
-        float[] hU = new float[B.length];
-        addDotProductTo(h, U, ifco);
-
-        int hunits = B.length / 4;
-        sigmoid(ifco, 0*hunits, hunits);  // i
-        sigmoid(ifco, 1*hunits, hunits);  // f
-        tanh(ifco, 2*hunits, hunits);  // c_
-        sigmoid(ifco, 3*hunits, hunits);  // o
-
-        hadamardProductTo(Arrays.copyOfRange(ifco, hunits, 2*hunits), c);
-        addHadamardProductTo(Arrays.copyOf(ifco, hunits),
-            Arrays.copyOfRange(ifco, 2*hunits, 3*hunits), c);
-
-        h = Arrays.copyOf(c, c.length);
-        tanh(h, 0, h.length);
-        hadamardProductTo(Arrays.copyOfRange(ifco, 3*hunits, 4*hunits), h);
-        // System.out.println("c");
-        // print(c);
-        // System.out.println("h");
-        // print(h);
-        return h;
     }
 
     @Override
@@ -349,55 +338,59 @@ public int divideUpDictionaryRange(CharacterIterator fIter, int rangeStart, int
         if ((rangeEnd - rangeStart) < MIN_WORD_SPAN) {
             return 0;  // Not enough characters for word
         }
-        List<Integer> offsets = new ArrayList<Integer>(rangeEnd - rangeStart);
-        List<Integer> indicies = new ArrayList<Integer>(rangeEnd - rangeStart);
+        int[] offsets = new int[rangeEnd - rangeStart];
+        int[] indicies = new int[rangeEnd - rangeStart];
 
-        fVectorizer.vectorize(fIter, rangeStart, rangeEnd, offsets, indicies);
+        int inputSeqLength = fVectorizer.vectorize(fIter, rangeStart, rangeEnd, offsets, indicies);
 
         // To save the needed memory usage, the following is different from the
         // Python or ICU4X implementation. We first perform the Backward LSTM
         // and then merge the iteration of the forward LSTM and the output layer
         // together because we only need to remember the h[t-1] for Forward LSTM.
-        int inputSeqLength = indicies.size();
-        int hunits = this.fData.fForwardU.length;
-        float c[] = new float[hunits];
+        LSTMData data = this.fData;
+        int hunits = data.fHunits;
+        int gates = 4 * hunits;
+        float[] c = new float[hunits];
+        float[] ifco = new float[gates];
 
         // TODO: limit size of hBackward. If input_seq_len is too big, we could
         // run out of memory.
-        // Backward LSTM
-        float hBackward[][] = new float[inputSeqLength][hunits];
+        // Backward LSTM, with the hidden state of step i at hBackward[i * hunits]
+        float[] hBackward = new float[inputSeqLength * hunits];
         for (int i = inputSeqLength - 1; i >= 0;  i--) {
-            if (i != inputSeqLength - 1) {
-                hBackward[i] = Arrays.copyOf(hBackward[i+1], hunits);
-            }
-            // System.out.println("Backward LSTM " + i);
-            hBackward[i] = compute(this.fData.fBackwardW, this.fData.fBackwardU, this.fData.fBackwardB,
-                    this.fData.fEmbedding[indicies.get(i)],
-                    hBackward[i], c);
+            compute(data.fBackwardInput, indicies[i] * gates, data.fBackwardU,
+                    hBackward, i == inputSeqLength - 1 ? -1 : (i + 1) * hunits, i * hunits, c, ifco);
         }
 
-        c = new float[hunits];
-        float forwardH[] = new float[hunits];
-        float both[] = new float[2*hunits];
+        Arrays.fill(c, 0);
+        // The previous and the current hidden state of the forward LSTM
+        float[] forwardH = new float[2 * hunits];
+        float[] outputW = data.fOutputW;
+        float[] logp = new float[data.fOutputB.length];
 
         // The following iteration merge the forward LSTM and the output layer
         // together.
         for (int i = 0 ; i < inputSeqLength; i++) {
             // Forward LSTM
-            forwardH = compute(this.fData.fForwardW, this.fData.fForwardU, this.fData.fForwardB,
-                    this.fData.fEmbedding[indicies.get(i)],
-                    forwardH, c);
-
-            System.arraycopy(forwardH, 0, both, 0, hunits);
-            System.arraycopy(hBackward[i], 0, both, hunits, hunits);
-
-            //System.out.println("Merged " + i);
-            //print(both);
+            int hStart = (i & 1) * hunits;
+            compute(data.fForwardInput, indicies[i] * gates, data.fForwardU,
+                    forwardH, i == 0 ? -1 : hunits - hStart, hStart, c, ifco);
 
             // Output layer
-            // logp = fbRow * fOutputW + fOutputB
-            float logp[] = Arrays.copyOf(this.fData.fOutputB, this.fData.fOutputB.length);
-            addDotProductTo(both, this.fData.fOutputW, logp);
+            // logp = [forwardH, hBackward[i]] * fOutputW + fOutputB
+            System.arraycopy(data.fOutputB, 0, logp, 0, logp.length);
+            for (int j = 0; j < hunits; j++) {
+                float hj = forwardH[hStart + j];
+                for (int k = 0; k < 4; k++) {
+                    logp[k] += hj * outputW[j * 4 + k];
+                }
+            }
+            for (int j = 0; j < hunits; j++) {
+                float hj = hBackward[i * hunits + j];
+                for (int k = 0; k < 4; k++) {
+                    logp[k] += hj * outputW[(hunits + j) * 4 + k];
+                }
+            }
 
             int current = maxIndex(logp);
 
@@ -405,7 +398,7 @@ public int divideUpDictionaryRange(CharacterIterator fIter, int rangeStart, int
             if (current == LSTMClass.BEGIN.ordinal() ||
                 current == LSTMClass.SINGLE.ordinal()) {
                 if (i != 0) {
-                    foundBreaks.push(offsets.get(i));
+                    foundBreaks.push(offsets[i]);
                 }
             }
         }
@@ -413,6 +406,18 @@ public int divideUpDictionaryRange(CharacterIterator fIter, int rangeStart, int
         return foundBreaks.size() - beginSize;
     }
 
+    static private int maxIndex(float [] data) {
+        int index = 0;
+        float max = data[0];
+        for (int i = 1; i < data.length; i++) {
+            if (data[i] > max) {
+                max = data[i];
+                index = i;
+            }
+        }
+        return index;
+    }
+
     public static LSTMData createData(UResourceBundle bundle) {
         return new LSTMData(bundle);
     }
@@ -9,10 +9,7 @@
 import static com.ibm.icu.impl.CharacterIteration.previous32;
 
 import java.text.CharacterIterator;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.List;
 
 import com.ibm.icu.impl.ICUData;
 import com.ibm.icu.text.UnicodeSet;
@@ -37,7 +34,7 @@ public class MlBreakEngine {
     private static final int MAX_FEATURE = 13;
     private UnicodeSet fDigitOrOpenPunctuationOrAlphabetSet;
     private UnicodeSet fClosePunctuationSet;
-    private List<HashMap<String, Integer>> fModel;
+    private FeatureMap[] fModel;
     private int fNegativeSum;
 
     /**
@@ -51,10 +48,7 @@ public MlBreakEngine(UnicodeSet digitOrOpenPunctuationOrAlphabetSet,
             UnicodeSet closePunctuationSet) {
         fDigitOrOpenPunctuationOrAlphabetSet = digitOrOpenPunctuationOrAlphabetSet;
         fClosePunctuationSet = closePunctuationSet;
-        fModel = new ArrayList<HashMap<String, Integer>>(MAX_FEATURE);
-        for (int i = 0; i < MAX_FEATURE; i++) {
-            fModel.add(new HashMap<String, Integer>());
-        }
+        fModel = new FeatureMap[MAX_FEATURE];
         fNegativeSum = 0;
         loadMLModel();
     }
@@ -77,7 +71,8 @@ public int divideUpRange(CharacterIterator inText, int startPos, int endPos,
         if (startPos >= endPos) {
             return 0;
         }
-        ArrayList<Integer> boundary = new ArrayList<Integer>(codePointLength);
+        // boundary[0] is the number of breakpoints, which follow it.
+        int[] boundary = new int[codePointLength + 2];
         String inputStr = transform(inString);
         // The ML algorithm groups six char and evaluates whether the 4th char is a breakpoint.
         // In each iteration, it evaluates the 4th char and then moves forward one char like
@@ -90,7 +85,7 @@ public int divideUpRange(CharacterIterator inText, int startPos, int endPos,
         int numCodeUnits = initIndexList(inString, indexList, codePointLength);
 
         // Add a break for the start.
-        boundary.add(0, 0);
+        boundary[++boundary[0]] = 0;
 
         for (int idx = 0; idx + 1 < codePointLength; idx++) {
             evaluateBreakpoint(inputStr, indexList, idx, numCodeUnits, boundary);
@@ -101,15 +96,15 @@ public int divideUpRange(CharacterIterator inText, int startPos, int endPos,
         }
 
         // Add a break for the end if there is not one there already.
-        if (boundary.get(boundary.size() - 1) != codePointLength) {
-            boundary.add(codePointLength);
+        if (boundary[boundary[0]] != codePointLength) {
+            boundary[++boundary[0]] = codePointLength;
         }
 
         int correctedNumBreaks = 0;
         int previous = -1;
-        int numBreaks = boundary.size();
-        for (int i = 0; i < numBreaks; i++) {
-            int pos = charPositions[boundary.get(i)] + startPos;
+        int numBreaks = boundary[0];
+        for (int i = 1; i <= numBreaks; i++) {
+            int pos = charPositions[boundary[i]] + startPos;
             // In phrase breaking, there has to be a breakpoint between Cj character and close
             // punctuation.
             // E.g.［携帯電話］正しい選択 -> ［携帯▁電話］▁正しい▁選択 -> breakpoint between ］ and 正
@@ -164,10 +159,10 @@ private String transform(CharacterIterator inString) {
      * @param indexList    A code unit index list of the inputStr.
      * @param startIdx     The start index of the indexList.
      * @param numCodeUnits The current code unit boundary of the indexList.
-     * @param boundary     A list including the index of the breakpoint.
+     * @param boundary     The number of breakpoints followed by their indexes.
      */
     private void evaluateBreakpoint(String inputStr, int[] indexList, int startIdx,
-            int numCodeUnits, ArrayList<Integer> boundary) {
+            int numCodeUnits, int[] boundary) {
         int start = 0, end = 0;
         int score = fNegativeSum;
 
@@ -176,8 +171,8 @@ private void evaluateBreakpoint(String inputStr, int[] indexList, int startIdx,
             start = startIdx + i;
             if (indexList[start] != -1) {
                 end = (indexList[start + 1] != -1) ? indexList[start + 1] : numCodeUnits;
-                score += fModel.get(ModelIndex.kUWStart.getValue() + i).getOrDefault(
-                        inputStr.substring(indexList[start], end), 0);
+                score += fModel[ModelIndex.kUWStart.getValue() + i].get(
+                        inputStr, indexList[start], end);
             }
         }
         for (int i = 0; i < 3; i++) {
@@ -185,8 +180,8 @@ private void evaluateBreakpoint(String inputStr, int[] indexList, int startIdx,
             start = startIdx + i + 1;
             if (indexList[start] != -1 && indexList[start + 1] != -1) {
                 end = (indexList[start + 2] != -1) ? indexList[start + 2] : numCodeUnits;
-                score += fModel.get(ModelIndex.kBWStart.getValue() + i).getOrDefault(
-                        inputStr.substring(indexList[start], end), 0);
+                score += fModel[ModelIndex.kBWStart.getValue() + i].get(
+                        inputStr, indexList[start], end);
             }
         }
         for (int i = 0; i < 4; i++) {
@@ -196,12 +191,12 @@ private void evaluateBreakpoint(String inputStr, int[] indexList, int startIdx,
                     && indexList[start + 1] != -1
                     && indexList[start + 2] != -1) {
                 end = (indexList[start + 3] != -1) ? indexList[start + 3] : numCodeUnits;
-                score += fModel.get(ModelIndex.kTWStart.getValue() + i).getOrDefault(
-                        inputStr.substring(indexList[start], end), 0);
+                score += fModel[ModelIndex.kTWStart.getValue() + i].get(
+                        inputStr, indexList[start], end);
             }
         }
         if (score > 0) {
-            boundary.add(startIdx + 1);
+            boundary[++boundary[0]] = startIdx + 1;
         }
     }
 
@@ -243,19 +238,19 @@ private void loadMLModel() {
         int index = 0;
         UResourceBundle rb = UResourceBundle.getBundleInstance(ICUData.ICU_BRKITR_BASE_NAME,
                 "jaml");
-        initKeyValue(rb, "UW1Keys", "UW1Values", fModel.get(index++));
-        initKeyValue(rb, "UW2Keys", "UW2Values", fModel.get(index++));
-        initKeyValue(rb, "UW3Keys", "UW3Values", fModel.get(index++));
-        initKeyValue(rb, "UW4Keys", "UW4Values", fModel.get(index++));
-        initKeyValue(rb, "UW5Keys", "UW5Values", fModel.get(index++));
-        initKeyValue(rb, "UW6Keys", "UW6Values", fModel.get(index++));
-        initKeyValue(rb, "BW1Keys", "BW1Values", fModel.get(index++));
-        initKeyValue(rb, "BW2Keys", "BW2Values", fModel.get(index++));
-        initKeyValue(rb, "BW3Keys", "BW3Values", fModel.get(index++));
-        initKeyValue(rb, "TW1Keys", "TW1Values", fModel.get(index++));
-        initKeyValue(rb, "TW2Keys", "TW2Values", fModel.get(index++));
-        initKeyValue(rb, "TW3Keys", "TW3Values", fModel.get(index++));
-        initKeyValue(rb, "TW4Keys", "TW4Values", fModel.get(index++));
+        fModel[index++] = initKeyValue(rb, "UW1Keys", "UW1Values");
+        fModel[index++] = initKeyValue(rb, "UW2Keys", "UW2Values");
+        fModel[index++] = initKeyValue(rb, "UW3Keys", "UW3Values");
+        fModel[index++] = initKeyValue(rb, "UW4Keys", "UW4Values");
+        fModel[index++] = initKeyValue(rb, "UW5Keys", "UW5Values");
+        fModel[index++] = initKeyValue(rb, "UW6Keys", "UW6Values");
+        fModel[index++] = initKeyValue(rb, "BW1Keys", "BW1Values");
+        fModel[index++] = initKeyValue(rb, "BW2Keys", "BW2Values");
+        fModel[index++] = initKeyValue(rb, "BW3Keys", "BW3Values");
+        fModel[index++] = initKeyValue(rb, "TW1Keys", "TW1Values");
+        fModel[index++] = initKeyValue(rb, "TW2Keys", "TW2Values");
+        fModel[index++] = initKeyValue(rb, "TW3Keys", "TW3Values");
+        fModel[index++] = initKeyValue(rb, "TW4Keys", "TW4Values");
         fNegativeSum /= 2;
     }
 
@@ -266,18 +261,70 @@ private void loadMLModel() {
      * @param rb        A RedouceBundle corresponding to the model file.
      * @param keyName   The kay name in the model file.
      * @param valueName The value name in the model file.
-     * @param map       A HashMap to store the pairs of the feature and its score.
+     * @return The map of the features to their scores.
      */
-    private void initKeyValue(UResourceBundle rb, String keyName, String valueName,
-            HashMap<String, Integer> map) {
+    private FeatureMap initKeyValue(UResourceBundle rb, String keyName, String valueName) {
         int idx = 0;
         UResourceBundle keyBundle = rb.get(keyName);
         UResourceBundle valueBundle = rb.get(valueName);
         int[] value = valueBundle.getIntVector();
+        FeatureMap map = new FeatureMap(keyBundle.getSize());
         UResourceBundleIterator iterator = keyBundle.getIterator();
         while (iterator.hasNext()) {
             fNegativeSum -= value[idx];
             map.put(iterator.nextString(), value[idx++]);
         }
+        return map;
+    }
+
+    /**
+     * An open addressing hash map from features to scores, which looks up substrings of
+     * the input without creating them.
+     */
+    private static final class FeatureMap {
+        private final String[] fKeys;
+        private final int[] fValues;
+        private final int fMask;
+
+        FeatureMap(int size) {
+            // Keep the load factor at or below 1/2.
+            int capacity = Integer.highestOneBit(Math.max(size, 1)) << 2;
+            fKeys = new String[capacity];
+            fValues = new int[capacity];
+            fMask = capacity - 1;
+        }
+
+        private static int hash(CharSequence s, int start, int end) {
+            int h = 0;
+            for (int i = start; i < end; i++) {
+                h = 31 * h + s.charAt(i);
+            }
+            return h ^ (h >>> 16);
+        }
+
+        void put(String key, int value) {
+            int i = hash(key, 0, key.length()) & fMask;
+            while (fKeys[i] != null && !fKeys[i].equals(key)) {
+                i = (i + 1) & fMask;
+            }
+            fKeys[i] = key;
+            fValues[i] = value;
+        }
+
+        /**
+         * Returns the score of the feature text.substring(start, end), or 0 if it has none.
+         */
+        int get(String text, int start, int end) {
+            int length = end - start;
+            for (int i = hash(text, start, end) & fMask;; i = (i + 1) & fMask) {
+                String key = fKeys[i];
+                if (key == null) {
+                    return 0;
+                }
+                if (key.length() == length && text.regionMatches(start, key, 0, length)) {
+                    return fValues[i];
+                }
+            }
+        }
     }
 }
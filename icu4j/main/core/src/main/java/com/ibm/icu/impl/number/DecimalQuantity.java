@@ -186,6 +186,8 @@ public interface DecimalQuantity extends PluralRules.IFixedDecimal {
 
     public void setToBigDecimal(BigDecimal input);
 
+    public void setToDouble(double input);
+
     public int maxRepresentableDigits();
 
     // TODO: Should this method be removed, since DecimalQuantity implements IFixedDecimal now?
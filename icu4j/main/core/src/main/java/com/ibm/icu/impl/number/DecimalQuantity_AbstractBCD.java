@@ -440,6 +440,7 @@ private void _setToBigInteger(BigInteger n) {
      * @param n
      *            The value to consume.
      */
+    @Override
     public void setToDouble(double n) {
         setBcdToZero();
         flags = 0;
@@ -707,6 +708,10 @@ public boolean fitsInLong() {
      */
     @Override
     public double toDouble() {
+        if (isApproximate && origDelta == 0) {
+            // Still the double this quantity was set to; no need to compute the exact BCD.
+            return isNegative() ? -origDouble : origDouble;
+        }
         // If this assertion fails, you need to call roundToInfinity() or some other rounding method.
         // See the comment at the top of this file explaining the "isApproximate" field.
         assert !isApproximate;
@@ -717,6 +722,19 @@ public double toDouble() {
             return isNegative() ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
         }
 
+        // Fast path: up to 15 digits are exact in a double, and so is 10^k for k <= 22, so a single
+        // multiplication or division gives the correctly rounded result, same as parseDouble.
+        int power = scale + exponent;
+        if (precision <= 15 && power > -DOUBLE_MULTIPLIERS.length && power < DOUBLE_MULTIPLIERS.length) {
+            long digits = 0;
+            for (int p = precision - 1; p >= 0; p--) {
+                digits = digits * 10 + getDigitPos(p);
+            }
+            double result = power < 0 ? digits / DOUBLE_MULTIPLIERS[-power]
+                    : digits * DOUBLE_MULTIPLIERS[power];
+            return isNegative() ? -result : result;
+        }
+
         StringBuilder sb = new StringBuilder();
         toScientificString(sb);
         return Double.parseDouble(sb.toString());
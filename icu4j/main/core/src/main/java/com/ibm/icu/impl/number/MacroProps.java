@@ -9,6 +9,7 @@
 import com.ibm.icu.number.Notation;
 import com.ibm.icu.number.NumberFormatter.DecimalSeparatorDisplay;
 import com.ibm.icu.number.NumberFormatter.SignDisplay;
+import com.ibm.icu.number.NumberFormatter.UnitConversionArithmetic;
 import com.ibm.icu.number.NumberFormatter.UnitWidth;
 import com.ibm.icu.number.Precision;
 import com.ibm.icu.number.Scale;
@@ -33,6 +34,7 @@ public class MacroProps implements Cloneable {
     public DecimalSeparatorDisplay decimal;
     public Scale scale;
     public String usage;
+    public UnitConversionArithmetic unitConversion;
     public AffixPatternProvider affixProvider; // not in API; for JDK compatibility mode only
     public PluralRules rules; // not in API; could be made public in the future
     public Long threshold; // not in API; controls internal self-regulation threshold
@@ -79,6 +81,8 @@ public void fallback(MacroProps fallback) {
             scale = fallback.scale;
         if (usage == null)
             usage = fallback.usage;
+        if (unitConversion == null)
+            unitConversion = fallback.unitConversion;
         if (rules == null)
             rules = fallback.rules;
         if (loc == null)
@@ -104,6 +108,7 @@ public int hashCode() {
                 affixProvider,
                 scale,
                 usage,
+                unitConversion,
                 rules,
                 loc);
     }
@@ -134,6 +139,7 @@ public boolean equals(Object _other) {
                 && Objects.equals(affixProvider, other.affixProvider)
                 && Objects.equals(scale, other.scale)
                 && Objects.equals(usage, other.usage)
+                && Objects.equals(unitConversion, other.unitConversion)
                 && Objects.equals(rules, other.rules)
                 && Objects.equals(loc, other.loc);
     }
@@ -245,6 +245,23 @@ public MicroProps processQuantity(DecimalQuantity quantity) {
             return micros;
         }
 
+        /**
+         * Returns true if this is the only generator after the given MicroProps in the chain
+         * and the affixes do not depend on the plural form, so that
+         * {@link #getModifierWithoutPlural} can replace a call to {@link #processQuantity}.
+         */
+        public boolean followsOnly(MicroProps micros) {
+            return parent == micros && rules == null;
+        }
+
+        /**
+         * Returns the modifier for the signum of a rounded quantity.
+         * Requires {@link #followsOnly} to be true.
+         */
+        public Modifier getModifierWithoutPlural(Signum signum) {
+            return pm.getModifierWithoutPlural(signum);
+        }
+
         public void applyToMicros(MicroProps micros, DecimalQuantity quantity) {
             if (rules == null) {
                 micros.modMiddle = pm.getModifierWithoutPlural(quantity.signum());
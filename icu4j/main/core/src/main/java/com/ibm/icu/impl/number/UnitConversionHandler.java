@@ -17,6 +17,7 @@ public class UnitConversionHandler implements MicroPropsGenerator {
     private final MicroPropsGenerator fParent;
     private MeasureUnit fOutputUnit;
     private ComplexUnitsConverter fComplexUnitConverter;
+    private final boolean fDoubleArithmetic;
 
     /**
      * @param targetUnit Specifies the output MeasureUnit. The input MeasureUnit
@@ -26,10 +27,21 @@ public class UnitConversionHandler implements MicroPropsGenerator {
      * @param parent    The parent MicroPropsGenerator.
      */
     public UnitConversionHandler(MeasureUnit targetUnit, MicroPropsGenerator parent) {
+        this(targetUnit, false, parent);
+    }
+
+    /**
+     * @param targetUnit Specifies the output MeasureUnit, see above.
+     * @param doubleArithmetic Whether to convert finite values in double rather
+     *     than BigDecimal arithmetic.
+     * @param parent    The parent MicroPropsGenerator.
+     */
+    public UnitConversionHandler(MeasureUnit targetUnit, boolean doubleArithmetic, MicroPropsGenerator parent) {
         this.fOutputUnit = targetUnit;
         this.fParent = parent;
         MeasureUnitImpl targetUnitImpl = MeasureUnitImpl.forIdentifier(targetUnit.getIdentifier());
         this.fComplexUnitConverter = new ComplexUnitsConverter(targetUnitImpl, new ConversionRates());
+        this.fDoubleArithmetic = doubleArithmetic;
     }
 
     /**
@@ -39,9 +51,13 @@ public UnitConversionHandler(MeasureUnit targetUnit, MicroPropsGenerator parent)
     public MicroProps processQuantity(DecimalQuantity quantity) {
         MicroProps result = this.fParent.processQuantity(quantity);
 
-        quantity.roundToInfinity(); // Enables toDouble
-        ComplexUnitsConverter.ComplexConverterResult complexConverterResult
-                = this.fComplexUnitConverter.convert(quantity.toBigDecimal(), result.rounder);
+        ComplexUnitsConverter.ComplexConverterResult complexConverterResult;
+        if (fDoubleArithmetic && !quantity.isInfinite() && !quantity.isNaN()) {
+            complexConverterResult = this.fComplexUnitConverter.convert(quantity.toDouble(), result.rounder);
+        } else {
+            quantity.roundToInfinity(); // Enables toDouble
+            complexConverterResult = this.fComplexUnitConverter.convert(quantity.toBigDecimal(), result.rounder);
+        }
 
         result.outputUnit = this.fOutputUnit;
         UsagePrefsHandler.mixedMeasuresToMicros(complexConverterResult, quantity, result);
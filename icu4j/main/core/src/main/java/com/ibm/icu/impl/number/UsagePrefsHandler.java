@@ -15,12 +15,23 @@ public class UsagePrefsHandler implements MicroPropsGenerator {
 
     private final MicroPropsGenerator fParent;
     private UnitsRouter fUnitsRouter;
+    private final boolean fDoubleArithmetic;
 
     public UsagePrefsHandler(ULocale locale, MeasureUnit inputUnit, String usage, MicroPropsGenerator parent) {
+        this(locale, inputUnit, usage, false, parent);
+    }
+
+    /**
+     * @param doubleArithmetic Whether to convert finite values in double rather than BigDecimal
+     *     arithmetic.
+     */
+    public UsagePrefsHandler(ULocale locale, MeasureUnit inputUnit, String usage, boolean doubleArithmetic,
+            MicroPropsGenerator parent) {
         assert parent != null;
 
         this.fParent = parent;
         this.fUnitsRouter = new UnitsRouter(MeasureUnitImpl.forIdentifier(inputUnit.getIdentifier()), locale, usage);
+        this.fDoubleArithmetic = doubleArithmetic;
     }
 
     /**
@@ -31,7 +42,13 @@ public UsagePrefsHandler(ULocale locale, MeasureUnit inputUnit, String usage, Mi
     mixedMeasuresToMicros(ComplexUnitsConverter.ComplexConverterResult complexConverterResult, DecimalQuantity quantity, MicroProps outMicros) {
         outMicros.mixedMeasures = complexConverterResult.measures;
         outMicros.indexOfQuantity = complexConverterResult.indexOfQuantity;
-        quantity.setToBigDecimal((BigDecimal) outMicros.mixedMeasures.get(outMicros.indexOfQuantity).getNumber());
+        Number number = outMicros.mixedMeasures.get(outMicros.indexOfQuantity).getNumber();
+        if (number instanceof Double) {
+            // From a conversion in double arithmetic
+            quantity.setToDouble((Double) number);
+        } else {
+            quantity.setToBigDecimal((BigDecimal) number);
+        }
     }
 
     /**
@@ -56,9 +73,14 @@ public List<MeasureUnit> getOutputUnits() {
     public MicroProps processQuantity(DecimalQuantity quantity) {
         MicroProps micros = this.fParent.processQuantity(quantity);
 
-        quantity.roundToInfinity(); // Enables toDouble
-        final UnitsRouter.RouteResult routed = fUnitsRouter.route(quantity.toBigDecimal(), micros);
-        micros.outputUnit = routed.outputUnit.build();
+        final UnitsRouter.RouteResult routed;
+        if (fDoubleArithmetic && !quantity.isInfinite() && !quantity.isNaN()) {
+            routed = fUnitsRouter.route(quantity.toDouble(), micros);
+        } else {
+            quantity.roundToInfinity(); // Enables toDouble
+            routed = fUnitsRouter.route(quantity.toBigDecimal(), micros);
+        }
+        micros.outputUnit = routed.outputMeasureUnit;
         UsagePrefsHandler.mixedMeasuresToMicros(routed.complexConverterResult, quantity, micros);
         return micros;
     }
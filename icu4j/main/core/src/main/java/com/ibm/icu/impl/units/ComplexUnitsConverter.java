@@ -11,8 +11,10 @@
 
 import com.ibm.icu.impl.number.DecimalQuantity;
 import com.ibm.icu.impl.number.DecimalQuantity_DualStorageBCD;
+import com.ibm.icu.impl.number.RoundingUtils;
 import com.ibm.icu.number.Precision;
 import com.ibm.icu.util.Measure;
+import com.ibm.icu.util.MeasureUnit;
 
 /**
  * Converts from single or compound unit to single, compound or mixed units. For example, from {@code meter}
@@ -25,6 +27,8 @@
 public class ComplexUnitsConverter {
     public static final BigDecimal EPSILON = BigDecimal.valueOf(Math.ulp(1.0));
     public static final BigDecimal EPSILON_MULTIPLIER = BigDecimal.valueOf(1).add(EPSILON);
+    private static final double EPSILON_MULTIPLIER_DOUBLE = 1 + Math.ulp(1.0);
+    private static final int DOUBLE_SIGNIFICANT_DIGITS = 15;
 
     // TODO(ICU-21937): Make it private after submitting the public units conversion API.
     public ArrayList<UnitsConverter> unitsConverters_;
@@ -35,6 +39,10 @@ public class ComplexUnitsConverter {
     // TODO(ICU-21937): Make it private after submitting the public units conversion API.
     public List<MeasureUnitImpl.MeasureUnitImplWithIndex> units_;
     private MeasureUnitImpl inputUnit_;
+    /** The MeasureUnit for each of units_, built once rather than for each conversion. */
+    private MeasureUnit[] builtUnits_;
+    /** The absolute offset added by the first converter, for convert(double, Precision). */
+    private double firstOffsetDouble_;
 
     /**
      * Constructs <code>ComplexUnitsConverter</code> for an <code>inputUnit</code> that could be Single, Compound or
@@ -133,6 +141,13 @@ private void init(ConversionRates conversionRates) {
                         .add(new UnitsConverter(units_.get(i - 1).unitImpl, units_.get(i).unitImpl, conversionRates));
             }
         }
+
+        firstOffsetDouble_ = Math.abs(unitsConverters_.get(0).getConversionInfo().offset.doubleValue());
+
+        builtUnits_ = new MeasureUnit[units_.size()];
+        for (int i = 0; i < builtUnits_.length; i++) {
+            builtUnits_[i] = units_.get(i).unitImpl.build();
+        }
     }
 
     /**
@@ -150,6 +165,16 @@ public boolean greaterThanOrEqual(BigDecimal quantity, BigDecimal limit) {
         return unitsConverters_.get(0).convert(quantity).multiply(EPSILON_MULTIPLIER).compareTo(limit) >= 0;
     }
 
+    /**
+     * Same as {@link #greaterThanOrEqual(BigDecimal, BigDecimal)}, but in double arithmetic.
+     */
+    public boolean greaterThanOrEqual(double quantity, double limit) {
+        assert !units_.isEmpty();
+
+        // NOTE: First converter converts to the biggest quantity.
+        return unitsConverters_.get(0).convert(quantity) * EPSILON_MULTIPLIER_DOUBLE >= limit;
+    }
+
     public static class ComplexConverterResult {
         public final int indexOfQuantity;
         public final List<Measure> measures;
@@ -218,13 +243,12 @@ public ComplexConverterResult convert(BigDecimal quantity, Precision rounder) {
         int indexOfQuantity = -1;
         for (int i = 0, n = unitsConverters_.size(); i < n; ++i) {
             if (i < n - 1) {
-                Measure measure = new Measure(intValues.get(i).multiply(sign), units_.get(i).unitImpl.build());
+                Measure measure = new Measure(intValues.get(i).multiply(sign), builtUnits_[i]);
                 measures.set(units_.get(i).index, measure);
             } else {
                 indexOfQuantity = units_.get(i).index;
                 Measure measure =
-                        new Measure(quantity.multiply(BigDecimal.valueOf(sign.longValue())),
-                                units_.get(i).unitImpl.build());
+                        new Measure(quantity.multiply(BigDecimal.valueOf(sign.longValue())), builtUnits_[i]);
                 measures.set(indexOfQuantity, measure);
             }
         }
@@ -232,6 +256,93 @@ public ComplexConverterResult convert(BigDecimal quantity, Precision rounder) {
         return new ComplexConverterResult(indexOfQuantity , measures);
     }
 
+    /**
+     * Same as {@link #convert(BigDecimal, Precision)}, but in double arithmetic, like ICU4C. The
+     * measures hold a {@code Long} for each bigger unit and a {@code Double} for the smallest unit.
+     * <p>
+     * When rounding the smallest unit carries over into a bigger unit (e.g. 5 feet 11.99 inches
+     * rounded to 6 feet 0 inches), or when a bigger unit does not fit in a long, the conversion is
+     * done by {@link #convert(BigDecimal, Precision)} instead.
+     *
+     * @param quantity a finite value in the input unit.
+     */
+    public ComplexConverterResult convert(double quantity, Precision rounder) {
+        double input = quantity;
+        boolean negative = false;
+        if (quantity < 0 && unitsConverters_.size() > 1) {
+            quantity = -quantity;
+            negative = true;
+        }
+
+        // See convert(BigDecimal, Precision).
+        int n = unitsConverters_.size();
+        long[] intValues = new long[n - 1];
+        // The error of quantity is a few ulps of the biggest value that went into it: the whole input
+        // or the offset of a temperature, expressed in the current unit.
+        double errorScale = 0;
+        for (int i = 0; i < n; ++i) {
+            quantity = unitsConverters_.get(i).convert(quantity);
+            errorScale = i == 0 ? Math.abs(quantity) + firstOffsetDouble_
+                    : Math.abs(unitsConverters_.get(i).convert(errorScale));
+
+            if (i < n - 1) {
+                double flooredQuantity = Math.floor(quantity * EPSILON_MULTIPLIER_DOUBLE);
+                if (!(flooredQuantity < Long.MAX_VALUE)) {
+                    return convert(BigDecimal.valueOf(input), rounder);
+                }
+                intValues[i] = (long) flooredQuantity;
+
+                // Keep the residual of the quantity.
+                double remainder = quantity - flooredQuantity;
+                quantity = remainder < 0 ? 0 : remainder;
+            }
+        }
+
+        if (rounder != null) {
+            DecimalQuantity quantityBCD = new DecimalQuantity_DualStorageBCD(quantity);
+            if (errorScale > 0 && errorScale < Double.POSITIVE_INFINITY) {
+                // Only about 15 digits of errorScale are significant. Drop the digits below so that
+                // exact decimal ties round as with BigDecimal: 915 m² are 0.0009149999999999999 km²
+                // and 275 K are 1.8500000000000227 °C in double, which should round to 0.00092 km²
+                // and to 1.8 °C.
+                int magnitude = (int) Math.floor(Math.log10(errorScale));
+                quantityBCD.roundToMagnitude(magnitude - (DOUBLE_SIGNIFICANT_DIGITS - 1),
+                        RoundingUtils.DEFAULT_MATH_CONTEXT_UNLIMITED);
+            }
+            rounder.apply(quantityBCD);
+            quantity = quantityBCD.toDouble();
+
+            if (n > 1 && Math.floor(unitsConverters_.get(n - 1).convertInverse(quantity)
+                    * EPSILON_MULTIPLIER_DOUBLE) > 0) {
+                // There's a carry into the bigger units.
+                return convert(BigDecimal.valueOf(input), rounder);
+            }
+        }
+
+        List<Measure> measures = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            measures.add(null);
+        }
+
+        int indexOfQuantity = -1;
+        for (int i = 0; i < n; ++i) {
+            if (i < n - 1) {
+                long value = negative ? -intValues[i] : intValues[i];
+                measures.set(units_.get(i).index, new Measure(value, builtUnits_[i]));
+            } else {
+                indexOfQuantity = units_.get(i).index;
+                double value = negative ? -quantity : quantity;
+                if (value == 0) {
+                    // No -0.0, as BigDecimal has no negative zero.
+                    value = 0;
+                }
+                measures.set(indexOfQuantity, new Measure(value, builtUnits_[i]));
+            }
+        }
+
+        return new ComplexConverterResult(indexOfQuantity, measures);
+    }
+
     /**
      * Applies the rounder to the quantity (last element) and bubble up any carried value to all the intValues.
      *
@@ -21,6 +21,10 @@ public class UnitsConverter {
     private String specialSource;
     private String specialTarget;
 
+    // conversionRate and offset rounded to double, for convert(double) and convertInverse(double).
+    private double conversionRateDouble;
+    private double offsetDouble;
+
     /**
      * Constructor of <code>UnitsConverter</code>.
      * NOTE:
@@ -90,6 +94,9 @@ public UnitsConverter(MeasureUnitImpl source, MeasureUnitImpl target, Conversion
                 this.conversionRate = BigDecimal.ONE;
             }
         }
+
+        this.conversionRateDouble = this.conversionRate.doubleValue();
+        this.offsetDouble = this.offset.doubleValue();
     }
 
     static public Convertibility extractConvertibility(MeasureUnitImpl source, MeasureUnitImpl target, ConversionRates conversionRates) {
@@ -212,6 +219,74 @@ public BigDecimal convertInverse(BigDecimal inputValue) {
         return result;
     }
 
+    /**
+     * Same as {@link #convert(BigDecimal)}, but in double arithmetic: faster, but only accurate to
+     * about 15 significant digits. The conversion rate is computed exactly and rounded to double
+     * only once, when this converter is created.
+     */
+    public double convert(double inputValue) {
+        if (this.specialSource != null || this.specialTarget != null) {
+            double base;
+            // convert input (=source) to base
+            if (this.specialSource != null) {
+                base = (this.specialSource.equals("beaufort"))?
+                    scaleToBase(inputValue, minMetersPerSecForBeaufortDouble): inputValue;
+            } else {
+                base = inputValue * this.conversionRateDouble;
+            }
+            // convert base to result (=target)
+            if (this.specialTarget != null) {
+                return (this.specialTarget.equals("beaufort"))?
+                    baseToScale(base, minMetersPerSecForBeaufortDouble): base;
+            } else {
+                return base / this.conversionRateDouble;
+            }
+        }
+        double result = inputValue * this.conversionRateDouble + this.offsetDouble;
+        if (this.reciprocal) {
+            if (result == 0) {
+                // TODO(ICU-21988): determine desirable behaviour
+                return 0;
+            }
+            result = 1 / result;
+        }
+        return result;
+    }
+
+    /**
+     * Same as {@link #convertInverse(BigDecimal)}, but in double arithmetic.
+     *
+     * @see #convert(double)
+     */
+    public double convertInverse(double inputValue) {
+        if (this.specialSource != null || this.specialTarget != null) {
+            double base;
+            // convert input (=target) to base
+            if (this.specialTarget != null) {
+                base = (this.specialTarget.equals("beaufort"))?
+                    scaleToBase(inputValue, minMetersPerSecForBeaufortDouble): inputValue;
+            } else {
+                base = inputValue * this.conversionRateDouble;
+            }
+            // convert base to result (=source)
+            if (this.specialSource != null) {
+                return (this.specialSource.equals("beaufort"))?
+                    baseToScale(base, minMetersPerSecForBeaufortDouble): base;
+            } else {
+                return base / this.conversionRateDouble;
+            }
+        }
+        double result = inputValue;
+        if (this.reciprocal) {
+            if (result == 0) {
+                // TODO(ICU-21988): determine desirable behaviour
+                return 0;
+            }
+            result = 1 / result;
+        }
+        return (result - this.offsetDouble) / this.conversionRateDouble;
+    }
+
     // TODO per CLDR-17421 and ICU-22683: consider getting the data below from CLDR
     private static final BigDecimal[] minMetersPerSecForBeaufort = {
         // Minimum m/s (base) values for each Bft value, plus an extra artificial value;
@@ -239,6 +314,14 @@ public BigDecimal convertInverse(BigDecimal inputValue) {
         BigDecimal.valueOf(61.4), // artificial end of range 17 to give reasonable midpoint
     };
 
+    private static final double[] minMetersPerSecForBeaufortDouble =
+            new double[minMetersPerSecForBeaufort.length];
+    static {
+        for (int i = 0; i < minMetersPerSecForBeaufort.length; ++i) {
+            minMetersPerSecForBeaufortDouble[i] = minMetersPerSecForBeaufort[i].doubleValue();
+        }
+    }
+
     // Convert from what should be discrete scale values for a particular unit like beaufort
     // to a corresponding value in the base unit (which can have any decimal value, like meters/sec).
     // First we round the scale value to the nearest integer (in case it is specified with a fractional value),
@@ -270,6 +353,26 @@ private BigDecimal baseToScale(BigDecimal baseValue, BigDecimal[] minBaseForScal
         return BigDecimal.valueOf(scaleIndex);
     }
 
+    // Double versions of the two methods above, for convert(double) and convertInverse(double).
+    private static double scaleToBase(double scaleValue, double[] minBaseForScaleValues) {
+        double scaleAdjust = Math.abs(scaleValue) + 0.5; // adjust up for later truncation
+        int scaleIndex = (int) Math.min(scaleAdjust, minBaseForScaleValues.length - 2);
+        return (minBaseForScaleValues[scaleIndex] + minBaseForScaleValues[scaleIndex + 1]) * 0.5;
+    }
+
+    private static double baseToScale(double baseValue, double[] minBaseForScaleValues) {
+        int scaleIndex = Arrays.binarySearch(minBaseForScaleValues, Math.abs(baseValue));
+        if (scaleIndex < 0) {
+            // since our first array entry is 0, this value will always be -2 or less
+            scaleIndex = -scaleIndex - 2;
+        }
+        int scaleMax = minBaseForScaleValues.length - 2;
+        if (scaleIndex > scaleMax) {
+            scaleIndex = scaleMax;
+        }
+        return scaleIndex;
+    }
+
     public enum Convertibility {
         CONVERTIBLE,
         RECIPROCAL,
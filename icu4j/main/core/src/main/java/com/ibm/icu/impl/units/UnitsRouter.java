@@ -85,7 +85,6 @@ public UnitsRouter(MeasureUnitImpl inputUnit, ULocale locale, String usage) {
 
     /** If micros.rounder is a BogusRounder, this function replaces it with a valid one. */
     public RouteResult route(BigDecimal quantity, MicroProps micros) {
-        Precision rounder = micros == null ? null : micros.rounder;
         ConverterPreference converterPreference = null;
         for (ConverterPreference itr : converterPreferences_) {
             converterPreference = itr;
@@ -94,6 +93,43 @@ public RouteResult route(BigDecimal quantity, MicroProps micros) {
                 break;
             }
         }
+        Precision rounder = getRounder(converterPreference, micros);
+        return new RouteResult(
+                converterPreference.converter.convert(quantity, rounder),
+                converterPreference.targetUnit,
+                converterPreference.builtTargetUnit
+        );
+    }
+
+    /**
+     * Same as {@link #route(BigDecimal, MicroProps)}, but in double arithmetic.
+     *
+     * @param quantity a finite value in the input unit.
+     * @see ComplexUnitsConverter#convert(double, Precision)
+     */
+    public RouteResult route(double quantity, MicroProps micros) {
+        ConverterPreference converterPreference = null;
+        for (ConverterPreference itr : converterPreferences_) {
+            converterPreference = itr;
+            if (converterPreference.converter.greaterThanOrEqual(Math.abs(quantity),
+                                                                 converterPreference.limitDouble)) {
+                break;
+            }
+        }
+        Precision rounder = getRounder(converterPreference, micros);
+        return new RouteResult(
+                converterPreference.converter.convert(quantity, rounder),
+                converterPreference.targetUnit,
+                converterPreference.builtTargetUnit
+        );
+    }
+
+    /**
+     * Returns the rounder for the given preference. If micros.rounder is a BogusRounder, it is
+     * replaced with a valid one.
+     */
+    private static Precision getRounder(ConverterPreference converterPreference, MicroProps micros) {
+        Precision rounder = micros == null ? null : micros.rounder;
         assert converterPreference != null;
         assert converterPreference.precision != null;
 
@@ -113,10 +149,7 @@ public RouteResult route(BigDecimal quantity, MicroProps micros) {
         if (micros != null) {
             micros.rounder = rounder;
         }
-        return new RouteResult(
-                converterPreference.converter.convert(quantity, rounder),
-                converterPreference.targetUnit
-        );
+        return rounder;
     }
 
     private static Precision parseSkeletonToPrecision(String precisionSkeleton) {
@@ -157,8 +190,11 @@ public static class ConverterPreference {
         // The output unit for this ConverterPreference. This may be a MIXED unit -
         // for example: "yard-and-foot-and-inch".
         final MeasureUnitImpl targetUnit;
+        // targetUnit, built once rather than for each RouteResult.
+        final MeasureUnit builtTargetUnit;
         final ComplexUnitsConverter converter;
         final BigDecimal limit;
+        final double limitDouble;
         final String precision;
 
         // In case there is no limit, the limit will be -inf.
@@ -172,9 +208,10 @@ public ConverterPreference(MeasureUnitImpl source, MeasureUnitImpl targetUnit,
                                    BigDecimal limit, String precision, ConversionRates conversionRates) {
             this.converter = new ComplexUnitsConverter(source, targetUnit, conversionRates);
             this.limit = limit;
+            this.limitDouble = limit.doubleValue();
             this.precision = precision;
             this.targetUnit = targetUnit;
-
+            this.builtTargetUnit = targetUnit.build();
         }
     }
 
@@ -186,9 +223,14 @@ public class RouteResult {
         // elements.
         public final MeasureUnitImpl outputUnit;
 
-        RouteResult(ComplexUnitsConverter.ComplexConverterResult complexConverterResult, MeasureUnitImpl outputUnit) {
+        // The built outputUnit.
+        public final MeasureUnit outputMeasureUnit;
+
+        RouteResult(ComplexUnitsConverter.ComplexConverterResult complexConverterResult, MeasureUnitImpl outputUnit,
+                    MeasureUnit outputMeasureUnit) {
             this.complexConverterResult = complexConverterResult;
             this.outputUnit = outputUnit;
+            this.outputMeasureUnit = outputMeasureUnit;
         }
     }
 }
@@ -5,37 +5,51 @@
 
 import java.text.AttributedCharacterIterator;
 
+import com.ibm.icu.impl.FormattedStringBuilder;
+import com.ibm.icu.impl.FormattedValueStringBuilderImpl;
+import com.ibm.icu.impl.Utility;
 import com.ibm.icu.text.ConstrainedFieldPosition;
 import com.ibm.icu.text.FormattedValue;
 
 /**
- * Not yet implemented: The result of a message formatting operation.
+ * The result of a message formatting operation.
  *
  * <p>This contains information about where the various fields and placeholders
  * ended up in the final result.</p>
  * <p>This class allows the result to be exported in several data types,
  * including a {@link String}, {@link AttributedCharacterIterator}, more (TBD).</p>
  *
+ * <p>Each formatted placeholder is marked with a {@link MessageFormatter.SpanField#PLACEHOLDER_SPAN},
+ * and keeps the fields of its formatted value (for example the
+ * {@link com.ibm.icu.text.NumberFormat.Field}s of a number).
+ * The literal text of the message has no field.</p>
+ *
+ * <p>Instances of this class are immutable and thread-safe.</p>
+ *
  * @internal ICU 72 technology preview
  * @deprecated This API is for ICU internal use only.
  */
 @Deprecated
 public class FormattedMessage implements FormattedValue {
+    private final FormattedStringBuilder string;
+
+    FormattedMessage(FormattedStringBuilder string) {
+        this.string = string;
+    }
 
     /**
-     * Not yet implemented.
+     * {@inheritDoc}
      *
      * @internal ICU 72 technology preview
      * @deprecated This API is for ICU internal use only.
      */
     @Deprecated
-    public FormattedMessage() {
-        throw new RuntimeException("Not yet implemented.");
+    @Override
+    public String toString() {
+        return string.toString();
     }
 
     /**
-     * Not yet implemented.
-     *
      * {@inheritDoc}
      *
      * @internal ICU 72 technology preview
@@ -44,12 +58,10 @@ public FormattedMessage() {
     @Deprecated
     @Override
     public int length() {
-        throw new RuntimeException("Not yet implemented.");
+        return string.length();
     }
 
     /**
-     * Not yet implemented.
-     *
      * {@inheritDoc}
      *
      * @internal ICU 72 technology preview
@@ -58,12 +70,10 @@ public int length() {
     @Deprecated
     @Override
     public char charAt(int index) {
-        throw new RuntimeException("Not yet implemented.");
+        return string.charAt(index);
     }
 
     /**
-     * Not yet implemented.
-     *
      * {@inheritDoc}
      *
      * @internal ICU 72 technology preview
@@ -72,12 +82,10 @@ public char charAt(int index) {
     @Deprecated
     @Override
     public CharSequence subSequence(int start, int end) {
-        throw new RuntimeException("Not yet implemented.");
+        return string.subString(start, end);
     }
 
     /**
-     * Not yet implemented.
-     *
      * {@inheritDoc}
      *
      * @internal ICU 72 technology preview
@@ -86,12 +94,10 @@ public CharSequence subSequence(int start, int end) {
     @Deprecated
     @Override
     public <A extends Appendable> A appendTo(A appendable) {
-        throw new RuntimeException("Not yet implemented.");
+        return Utility.appendTo(string, appendable);
     }
 
     /**
-     * Not yet implemented.
-     *
      * {@inheritDoc}
      *
      * @internal ICU 72 technology preview
@@ -100,12 +106,10 @@ public <A extends Appendable> A appendTo(A appendable) {
     @Deprecated
     @Override
     public boolean nextPosition(ConstrainedFieldPosition cfpos) {
-        throw new RuntimeException("Not yet implemented.");
+        return FormattedValueStringBuilderImpl.nextPosition(string, cfpos, null);
     }
 
     /**
-     * Not yet implemented.
-     *
      * {@inheritDoc}
      *
      * @internal ICU 72 technology preview
@@ -114,6 +118,6 @@ public boolean nextPosition(ConstrainedFieldPosition cfpos) {
     @Deprecated
     @Override
     public AttributedCharacterIterator toCharacterIterator() {
-        throw new RuntimeException("Not yet implemented.");
+        return FormattedValueStringBuilderImpl.toCharacterIterator(string, null);
     }
 }
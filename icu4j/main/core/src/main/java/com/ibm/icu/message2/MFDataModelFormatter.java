@@ -5,12 +5,15 @@
 
 import java.time.temporal.Temporal;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
+import com.ibm.icu.impl.FormattedStringBuilder;
+import com.ibm.icu.impl.FormattedValueStringBuilderImpl;
 import com.ibm.icu.message2.MFDataModel.CatchallKey;
 import com.ibm.icu.message2.MFDataModel.Declaration;
 import com.ibm.icu.message2.MFDataModel.Expression;
@@ -30,12 +33,21 @@
 import com.ibm.icu.message2.MFDataModel.Variant;
 import com.ibm.icu.message2.MessageFormatter.BidiIsolation;
 import com.ibm.icu.message2.MessageFormatter.ErrorHandlingBehavior;
+import com.ibm.icu.text.ConstrainedFieldPosition;
+import com.ibm.icu.text.FormattedValue;
+import com.ibm.icu.text.UFormat;
 import com.ibm.icu.util.Calendar;
 import com.ibm.icu.util.CurrencyAmount;
 
 /**
- * Takes an {@link MFDataModel} and formats it to a {@link String}
- * (and later on we will also implement formatting to a {@code FormattedMessage}).
+ * Takes an {@link MFDataModel} and formats it to a {@link String} or a {@link FormattedMessage}.
+ *
+ * <p>The data model is compiled once, in the constructor, into an execution plan:
+ * the patterns with their expressions, the NFC variable and option names, the function factories
+ * and the variant keys of the selection are all resolved ahead of time.
+ * Expressions with a function and only literal options also get their {@link Formatter}
+ * created up front, when the factory is one of the standard ones (which are immutable).
+ * That way formatting only has to deal with the argument values.</p>
  */
 // TODO: move this in the MessageFormatter?
 class MFDataModelFormatter {
@@ -45,14 +57,62 @@ class MFDataModelFormatter {
     private static final char FSI = '\u2068'; // FIRST STRONG ISOLATE (FSI)
     private static final char PDI = '\u2069'; // POP DIRECTIONAL ISOLATE (PDI)
 
+    // TODO 78: hack, see formatExpression
+    private static final String ERROR_POLICY_OPTION = "icu:impl:errorPolicy";
+
     private final Locale locale;
     private final ErrorHandlingBehavior errorHandlingBehavior;
     private final BidiIsolation bidiIsolation;
-    private final MFDataModel.Message dm;
 
-    private final MFFunctionRegistry standardFunctions;
     private final MFFunctionRegistry customFunctions;
     private static final MFFunctionRegistry EMPTY_REGISTY = MFFunctionRegistry.builder().build();
+    private static final MFFunctionRegistry STANDARD_FUNCTIONS =
+            MFFunctionRegistry.builder()
+                    // Date/time formatting
+                    .setFormatter("datetime", new DateTimeFormatterFactory("datetime"))
+                    .setFormatter("date", new DateTimeFormatterFactory("date"))
+                    .setFormatter("time", new DateTimeFormatterFactory("time"))
+                    .setDefaultFormatterNameForType(Date.class, "datetime")
+                    .setDefaultFormatterNameForType(Calendar.class, "datetime")
+                    .setDefaultFormatterNameForType(java.util.Calendar.class, "datetime")
+                    .setDefaultFormatterNameForType(Temporal.class, "datetime")
+
+                    // Number formatting
+                    .setFormatter("number", new NumberFormatterFactory("number"))
+                    .setFormatter("integer", new NumberFormatterFactory("integer"))
+                    .setFormatter("currency", new NumberFormatterFactory("currency"))
+                    .setFormatter("math", new NumberFormatterFactory("math"))
+                    .setDefaultFormatterNameForType(Integer.class, "number")
+                    .setDefaultFormatterNameForType(Double.class, "number")
+                    .setDefaultFormatterNameForType(Number.class, "number")
+                    .setDefaultFormatterNameForType(CurrencyAmount.class, "currency")
+
+                    // Format that returns "to string"
+                    .setFormatter("string", new IdentityFormatterFactory())
+                    .setDefaultFormatterNameForType(String.class, "string")
+                    .setDefaultFormatterNameForType(CharSequence.class, "string")
+
+                    // Register the standard selectors
+                    .setSelector("number", new NumberFormatterFactory("number"))
+                    .setSelector("integer", new NumberFormatterFactory("integer"))
+                    .setSelector("math", new NumberFormatterFactory("math"))
+                    .setSelector("string", new TextSelectorFactory())
+                    .setSelector("icu:gender", new TextSelectorFactory())
+                    .build();
+
+    private static final MapWithNfcKeys NO_VARIABLES = new MapWithNfcKeys();
+
+    // The execution plan
+    private final String messageError;
+    private final String[] declarationNames;
+    private final CompiledExpression[] declarationValues;
+    // For a PatternMessage
+    private final Object[] pattern;
+    // For a SelectMessage
+    private final CompiledSelector[] selectors;
+    private final String[][] variantKeys;
+    private final Object[][] variantPatterns;
+    private final String variantKeyError;
 
     MFDataModelFormatter(
             MFDataModel.Message dm,
@@ -65,138 +125,338 @@ class MFDataModelFormatter {
                 ? ErrorHandlingBehavior.BEST_EFFORT : errorHandlingBehavior;
         this.bidiIsolation = bidiIsolation == null
                 ? BidiIsolation.NONE : bidiIsolation;
-        this.dm = dm;
         this.customFunctions =
                 customFunctionRegistry == null ? EMPTY_REGISTY : customFunctionRegistry;
 
-        standardFunctions =
-                MFFunctionRegistry.builder()
-                        // Date/time formatting
-                        .setFormatter("datetime", new DateTimeFormatterFactory("datetime"))
-                        .setFormatter("date", new DateTimeFormatterFactory("date"))
-                        .setFormatter("time", new DateTimeFormatterFactory("time"))
-                        .setDefaultFormatterNameForType(Date.class, "datetime")
-                        .setDefaultFormatterNameForType(Calendar.class, "datetime")
-                        .setDefaultFormatterNameForType(java.util.Calendar.class, "datetime")
-                        .setDefaultFormatterNameForType(Temporal.class, "datetime")
-
-                        // Number formatting
-                        .setFormatter("number", new NumberFormatterFactory("number"))
-                        .setFormatter("integer", new NumberFormatterFactory("integer"))
-                        .setFormatter("currency", new NumberFormatterFactory("currency"))
-                        .setFormatter("math", new NumberFormatterFactory("math"))
-                        .setDefaultFormatterNameForType(Integer.class, "number")
-                        .setDefaultFormatterNameForType(Double.class, "number")
-                        .setDefaultFormatterNameForType(Number.class, "number")
-                        .setDefaultFormatterNameForType(CurrencyAmount.class, "currency")
-
-                        // Format that returns "to string"
-                        .setFormatter("string", new IdentityFormatterFactory())
-                        .setDefaultFormatterNameForType(String.class, "string")
-                        .setDefaultFormatterNameForType(CharSequence.class, "string")
-
-                        // Register the standard selectors
-                        .setSelector("number", new NumberFormatterFactory("number"))
-                        .setSelector("integer", new NumberFormatterFactory("integer"))
-                        .setSelector("math", new NumberFormatterFactory("math"))
-                        .setSelector("string", new TextSelectorFactory())
-                        .setSelector("icu:gender", new TextSelectorFactory())
-                        .build();
-    }
-
-    String format(Map<String, Object> arguments) {
-        MFDataModel.Pattern patternToRender = null;
-        MapWithNfcKeys nfcArguments = new MapWithNfcKeys(arguments);
-
-        MapWithNfcKeys variables;
+        List<Declaration> declarations = null;
+        Object[] compiledPattern = null;
+        CompiledSelector[] compiledSelectors = null;
+        String[][] compiledKeys = null;
+        Object[][] compiledVariants = null;
+        String keyError = null;
+        String error = null;
         if (dm instanceof MFDataModel.PatternMessage) {
             MFDataModel.PatternMessage pm = (MFDataModel.PatternMessage) dm;
-            variables = resolveDeclarations(pm.declarations, nfcArguments);
+            declarations = pm.declarations;
             if (pm.pattern == null) {
-                fatalFormattingError("The PatternMessage is null.");
+                error = "The PatternMessage is null.";
+            } else {
+                compiledPattern = compilePattern(pm.pattern);
             }
-            patternToRender = pm.pattern;
         } else if (dm instanceof MFDataModel.SelectMessage) {
-            MFDataModel.SelectMessage sm = (MFDataModel.SelectMessage) dm;
-            variables = resolveDeclarations(sm.declarations, nfcArguments);
-            patternToRender = findBestMatchingPattern(sm, variables, nfcArguments);
+            SelectMessage sm = (SelectMessage) dm;
+            declarations = sm.declarations;
+            int selectorCount = sm.selectors.size();
+            compiledSelectors = new CompiledSelector[selectorCount];
+            for (int i = 0; i < selectorCount; i++) {
+                compiledSelectors[i] = new CompiledSelector(compileExpression(sm.selectors.get(i)));
+            }
+            int variantCount = sm.variants.size();
+            compiledKeys = new String[variantCount][];
+            compiledVariants = new Object[variantCount][];
+            List<List<String>> keysBySelector = new ArrayList<>(selectorCount);
+            for (int i = 0; i < selectorCount; i++) {
+                keysBySelector.add(new ArrayList<>(variantCount));
+            }
+            for (int v = 0; v < variantCount; v++) {
+                Variant var = sm.variants.get(v);
+                String[] keys = new String[selectorCount];
+                for (int i = 0; i < selectorCount; i++) {
+                    // spec: Let `key` be the `var` key at position `i`.
+                    LiteralOrCatchallKey key = i < var.keys.size() ? var.keys.get(i) : null;
+                    if (key instanceof CatchallKey) {
+                        // keys[i] stays null for the catch-all key
+                        keysBySelector.get(i).add(CatchallKey.AS_KEY_STRING);
+                    } else if (key instanceof Literal) {
+                        keys[i] = ((Literal) key).value;
+                        keysBySelector.get(i).add(keys[i]);
+                    } else if (keyError == null) {
+                        keyError = "Literal expected, but got " + key;
+                    }
+                }
+                compiledKeys[v] = keys;
+                compiledVariants[v] = var.value == null ? null : compilePattern(var.value);
+            }
+            for (int i = 0; i < selectorCount; i++) {
+                compiledSelectors[i].keys = Collections.unmodifiableList(keysBySelector.get(i));
+            }
+        } else {
+            error = "Unknown message type.";
+        }
+
+        List<String> names = new ArrayList<>();
+        List<CompiledExpression> values = new ArrayList<>();
+        if (declarations != null) {
+            for (Declaration declaration : declarations) {
+                if (declaration instanceof InputDeclaration) {
+                    names.add(StringUtils.toNfc(((InputDeclaration) declaration).name));
+                    values.add(compileExpression(((InputDeclaration) declaration).value));
+                } else if (declaration instanceof LocalDeclaration) {
+                    names.add(StringUtils.toNfc(((LocalDeclaration) declaration).name));
+                    values.add(compileExpression(((LocalDeclaration) declaration).value));
+                }
+            }
+        }
+        this.declarationNames = names.toArray(new String[names.size()]);
+        this.declarationValues = values.toArray(new CompiledExpression[values.size()]);
+        this.messageError = error;
+        this.pattern = compiledPattern;
+        this.selectors = compiledSelectors;
+        this.variantKeys = compiledKeys;
+        this.variantPatterns = compiledVariants;
+        this.variantKeyError = keyError;
+    }
+
+    String format(Map<String, Object> arguments) {
+        StringBuilder result = new StringBuilder();
+        formatImpl(arguments, result, null);
+        return result.toString();
+    }
+
+    FormattedMessage formatToValue(Map<String, Object> arguments) {
+        FormattedStringBuilder result = new FormattedStringBuilder();
+        formatImpl(arguments, null, result);
+        return new FormattedMessage(result);
+    }
+
+    /**
+     * Formats the message to exactly one of {@code result} (just the text)
+     * or {@code fieldResult} (the text and the fields).
+     */
+    private void formatImpl(Map<String, Object> arguments,
+            StringBuilder result, FormattedStringBuilder fieldResult) {
+        Object[] patternToRender = null;
+        MapWithNfcKeys nfcArguments = MapWithNfcKeys.forArguments(arguments);
+
+        MapWithNfcKeys variables = declarationNames.length == 0
+                ? NO_VARIABLES : resolveDeclarations(nfcArguments);
+        if (messageError != null) {
+            fatalFormattingError(messageError);
+        }
+        if (selectors == null) {
+            patternToRender = pattern;
+        } else {
+            patternToRender = findBestMatchingPattern(variables, nfcArguments);
             if (patternToRender == null) {
                 fatalFormattingError("Cannor find a match for the selector.");
             }
-        } else {
-            fatalFormattingError("Unknown message type.");
-            // formattingError throws, so the return does not actually happen
-            return "ERROR!";
         }
 
         Directionality msgdir = Directionality.LTR;
-        StringBuilder result = new StringBuilder();
-        for (MFDataModel.PatternPart part : patternToRender.parts) {
-            if (part instanceof MFDataModel.StringPart) {
-                MFDataModel.StringPart strPart = (StringPart) part;
-                result.append(strPart.value);
-            } else if (part instanceof MFDataModel.Expression) {
-                FormattedPlaceholder formattedExpression =
-                        formatExpression((Expression) part, variables, nfcArguments);
-                if (this.bidiIsolation == BidiIsolation.DEFAULT) {
-                    implementBiDiDefault(result, msgdir, formattedExpression);
+        for (Object part : patternToRender) {
+            if (part instanceof String) {
+                if (result != null) {
+                    result.append((String) part);
                 } else {
-                    result.append(formattedExpression.getFormattedValue().toString());
+                    fieldResult.append((String) part, null);
+                }
+                continue;
+            }
+            CompiledExpression expression = (CompiledExpression) part;
+            FormattedPlaceholder formattedExpression =
+                    formatExpression(expression, variables, nfcArguments);
+            char isolate = this.bidiIsolation == BidiIsolation.DEFAULT
+                    ? getBiDiIsolate(msgdir, formattedExpression) : 0;
+            if (result != null) {
+                if (isolate != 0) {
+                    result.append(isolate);
+                }
+                formattedExpression.getFormattedValue().appendTo(result);
+                if (isolate != 0) {
+                    result.append(PDI);
+                }
+            } else {
+                if (isolate != 0) {
+                    fieldResult.appendChar16(isolate, null);
+                }
+                appendPlaceholder(fieldResult, expression.source, formattedExpression.getFormattedValue());
+                if (isolate != 0) {
+                    fieldResult.appendChar16(PDI, null);
+                }
+            }
+        }
+    }
+
+    /**
+     * Appends a formatted placeholder with the fields of its value,
+     * in a {@link MessageFormatter.SpanField#PLACEHOLDER_SPAN}.
+     */
+    private static void appendPlaceholder(
+            FormattedStringBuilder fieldResult, String source, FormattedValue value) {
+        int start = fieldResult.length();
+        String text = value.toString();
+        if (value instanceof PlainStringFormattedValue) {
+            fieldResult.append(text, null);
+        } else {
+            char[] chars = text.toCharArray();
+            Object[] fields = new Object[chars.length];
+            ConstrainedFieldPosition cfpos = new ConstrainedFieldPosition();
+            while (value.nextPosition(cfpos)) {
+                if (cfpos.getField() instanceof UFormat.SpanField) {
+                    continue;
+                }
+                // Fields can nest, like the grouping separators in the integer part of a number.
+                // Keep the first one reported, which is the innermost.
+                for (int i = cfpos.getStart(); i < cfpos.getLimit() && i < fields.length; i++) {
+                    if (fields[i] == null) {
+                        fields[i] = cfpos.getField();
+                    }
                 }
+            }
+            fieldResult.append(chars, fields);
+        }
+        FormattedValueStringBuilderImpl.applySpanRange(fieldResult,
+                MessageFormatter.SpanField.PLACEHOLDER_SPAN, source, start, fieldResult.length());
+    }
+
+    /**
+     * Compiles a pattern to an array of parts, each one either
+     * a {@code String} (text) or a {@link CompiledExpression}.
+     */
+    private Object[] compilePattern(Pattern pattern) {
+        List<Object> parts = new ArrayList<>(pattern.parts.size());
+        for (MFDataModel.PatternPart part : pattern.parts) {
+            if (part instanceof MFDataModel.StringPart) {
+                parts.add(((StringPart) part).value);
             } else if (part instanceof MFDataModel.Markup) {
                 // Ignore, we don't output markup to string
+            } else if (part instanceof MFDataModel.Expression) {
+                parts.add(compileExpression((Expression) part));
             } else {
-                fatalFormattingError("Unknown part type: " + part);
+                parts.add(CompiledExpression.error(null, "Unknown part type: " + part));
             }
         }
-        return result.toString();
+        return parts.toArray();
     }
 
-    private void implementBiDiDefault(StringBuilder result, Directionality msgdir, FormattedPlaceholder formattedExpression) {
-        String fmt = formattedExpression.getFormattedValue().toString();
+    private CompiledExpression compileExpression(Expression expression) {
+        CompiledExpression result;
+        Function function;
+        if (expression instanceof MFDataModel.VariableExpression) {
+            MFDataModel.VariableExpression varPart = (MFDataModel.VariableExpression) expression;
+            result = new CompiledExpression(CompiledExpression.VARIABLE, expression,
+                    "{$" + varPart.arg.name + "}");
+            result.variableName = StringUtils.toNfc(varPart.arg.name);
+            function = varPart.function;
+        } else if (expression instanceof MFDataModel.FunctionExpression) {
+            // Function without arguments
+            MFDataModel.FunctionExpression fe = (FunctionExpression) expression;
+            result = new CompiledExpression(CompiledExpression.FUNCTION, expression,
+                    "{:" + fe.function.name + "}");
+            function = fe.function;
+        } else if (expression instanceof MFDataModel.LiteralExpression) {
+            MFDataModel.LiteralExpression le = (LiteralExpression) expression;
+            result = new CompiledExpression(CompiledExpression.LITERAL, expression,
+                    "{|" + le.arg.value + "|}");
+            // "The resolution of a text or literal MUST resolve to a string."
+            // https://github.com/unicode-org/message-format-wg/blob/main/spec/formatting.md#literal-resolution
+            result.literal = le.arg.value;
+            function = le.function;
+        } else if (expression instanceof MFDataModel.Markup) {
+            return new CompiledExpression(CompiledExpression.MARKUP, expression, null);
+        } else if (expression == null) {
+            return CompiledExpression.error(null, "unexpected null expression");
+        } else {
+            return CompiledExpression.error(expression,
+                    "unknown expression type " + expression.getClass().getName());
+        }
+        if (function == null) {
+            return result;
+        }
+
+        result.hasFunction = true;
+        result.functionName = function.name;
+        Map<String, Option> options =
+                function.options == null ? Collections.emptyMap() : function.options;
+        int optionCount = options.size();
+        result.optionNames = new String[optionCount];
+        result.optionValues = new Object[optionCount];
+        result.optionVariables = new String[optionCount];
+        boolean literalOptions = true;
+        int i = 0;
+        for (Option option : options.values()) {
+            result.optionNames[i] = StringUtils.toNfc(option.name);
+            if (option.value instanceof Literal) {
+                result.optionValues[i] = ((Literal) option.value).value;
+            } else if (option.value instanceof VariableRef) {
+                result.optionVariables[i] = StringUtils.toNfc(((VariableRef) option.value).name);
+                literalOptions = false;
+            } else {
+                result.optionValues[i] = option.value;
+            }
+            i++;
+        }
+        if (function.name == null || function.name.isEmpty()) {
+            // The factory depends on the type of the argument
+            return result;
+        }
+        result.factory = getFormattingFunctionFactoryByName(null, function.name);
+        if (literalOptions && isReusable(result.factory)) {
+            Map<String, Object> boundOptions = new HashMap<>();
+            for (i = 0; i < optionCount; i++) {
+                boundOptions.put(result.optionNames[i], result.optionValues[i]);
+            }
+            boundOptions.put(ERROR_POLICY_OPTION, this.errorHandlingBehavior.name());
+            try {
+                result.boundFormatter = result.factory.createFormatter(locale, boundOptions);
+                result.boundOptions = Collections.unmodifiableMap(boundOptions);
+            } catch (RuntimeException e) {
+                // Bad options. Leave it to format() to report the error, or to fall back.
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The standard number and "to string" formatters and selectors are immutable,
+     * so the ones created for some options can be used for all the calls with the same options.
+     */
+    private static boolean isReusable(Object factory) {
+        return factory instanceof NumberFormatterFactory
+                || factory instanceof IdentityFormatterFactory
+                || factory instanceof TextSelectorFactory;
+    }
+
+    /**
+     * Returns the bidi control that starts the isolate around the placeholder
+     * (closed by a PDI), or 0 if it does not need one.
+     */
+    private static char getBiDiIsolate(Directionality msgdir, FormattedPlaceholder formattedExpression) {
         Directionality dir = formattedExpression.getDirectionality();
         boolean isolate = formattedExpression.getIsolate();
         switch (dir) {
             case LTR:
                 if (msgdir == Directionality.LTR && !isolate) {
-                    result.append(fmt);
-                } else {
-                    result.append(LRI).append(fmt).append(PDI);
+                    return 0;
                 }
-                break;
+                return LRI;
             case RTL:
-                result.append(RLI).append(fmt).append(PDI);
-                break;
+                return RLI;
             default:
-                result.append(FSI).append(fmt).append(PDI);
-                break;
+                return FSI;
         }
     }
 
-    private Pattern findBestMatchingPattern(
-            SelectMessage sm, MapWithNfcKeys variables, MapWithNfcKeys arguments) {
-        Pattern patternToRender = null;
-
+    private Object[] findBestMatchingPattern(MapWithNfcKeys variables, MapWithNfcKeys arguments) {
         // ====================================
         // spec: ### Resolve Selectors
         // ====================================
 
-        // Collect all the selector functions in an array, to reuse
-        List<Expression> selectors = sm.selectors;
         // spec: Let `res` be a new empty list of resolved values that support selection.
-        List<ResolvedSelector> res = new ArrayList<>(selectors.size());
+        ResolvedSelector[] res = new ResolvedSelector[selectors.length];
         // spec: For each _selector_ `sel`, in source order,
-        for (Expression sel : selectors) {
+        for (int i = 0; i < selectors.length; i++) {
+            CompiledSelector sel = selectors[i];
             // spec: Let `rv` be the resolved value of `sel`.
-            FormattedPlaceholder fph = formatExpression(sel, variables, arguments);
+            FormattedPlaceholder fph = formatExpression(sel.expression, variables, arguments);
             String functionName = null;
             Object argument = null;
-            MapWithNfcKeys options = new MapWithNfcKeys();
+            Map<String, Object> options = null;
             if (fph.getInput() instanceof ResolvedExpression) {
                 ResolvedExpression re = (ResolvedExpression) fph.getInput();
                 argument = re.argument;
                 functionName = re.functionName;
-                options.putAll(re.options);
+                options = re.options;
             } else if (fph.getInput() instanceof MFDataModel.VariableExpression) {
                 MFDataModel.VariableExpression ve = (MFDataModel.VariableExpression) fph.getInput();
                 argument = resolveLiteralOrVariable(ve.arg, variables, arguments);
@@ -210,162 +470,85 @@ private Pattern findBestMatchingPattern(
                     functionName = ((Function) le.function).name;
                 }
             }
-            SelectorFactory funcFactory = standardFunctions.getSelector(functionName);
+            SelectorFactory funcFactory = STANDARD_FUNCTIONS.getSelector(functionName);
             if (funcFactory == null) {
                 funcFactory = customFunctions.getSelector(functionName);
             }
             // spec: If selection is supported for `rv`:
             if (funcFactory != null) {
-                Selector selectorFunction = funcFactory.createSelector(locale, options.getMap());
-                ResolvedSelector rs = new ResolvedSelector(argument, options, selectorFunction);
                 // spec: Append `rv` as the last element of the list `res`.
-                res.add(rs);
+                res[i] = sel.resolve(argument, options, funcFactory, locale);
             } else {
                 fatalFormattingError("Unknown selector type: " + functionName);
             }
         }
 
-        // This should not be possible, we added one function for each selector,
-        // or we have thrown an exception.
-        // But just in case someone removes the throw above?
-        if (res.size() != selectors.size()) {
-            fatalFormattingError(
-                    "Something went wrong, not enough selector functions, "
-                            + res.size() + " vs. " + selectors.size());
-        }
-
         // ====================================
         // spec: ### Resolve Preferences
         // ====================================
 
+        if (variantKeyError != null) {
+            fatalFormattingError(variantKeyError);
+        }
         // spec: Let `pref` be a new empty list of lists of strings.
-        List<List<String>> pref = new ArrayList<>();
+        List<List<String>> pref = new ArrayList<>(res.length);
         // spec: For each index `i` in `res`:
-        for (int i = 0; i < res.size(); i++) {
-            // spec: Let `keys` be a new empty list of strings.
-            List<String> keys = new ArrayList<>();
-            // spec: For each _variant_ `var` of the message:
-            for (Variant var : sm.variants) {
-                // spec: Let `key` be the `var` key at position `i`.
-                LiteralOrCatchallKey key = var.keys.get(i);
-                // spec: If `key` is not the catch-all key `'*'`:
-                if (key instanceof CatchallKey) {
-                    keys.add(CatchallKey.AS_KEY_STRING);
-                } else if (key instanceof Literal) {
-                    // spec: Assert that `key` is a _literal_.
-                    // spec: Let `ks` be the resolved value of `key`.
-                    String ks = ((Literal) key).value;
-                    // spec: Append `ks` as the last element of the list `keys`.
-                    keys.add(ks);
-                } else {
-                    fatalFormattingError("Literal expected, but got " + key);
-                }
-            }
+        for (int i = 0; i < res.length; i++) {
             // spec: Let `rv` be the resolved value at index `i` of `res`.
-            ResolvedSelector rv = res.get(i);
+            // spec: Let `keys` be the resolved keys at position `i` of all the _variants_.
             // spec: Let `matches` be the result of calling the method MatchSelectorKeys(`rv`, `keys`)
-            List<String> matches = matchSelectorKeys(rv, keys);
+            List<String> matches = matchSelectorKeys(res[i], selectors[i].keys);
             // spec: Append `matches` as the last element of the list `pref`.
             pref.add(matches);
         }
 
         // ====================================
         // spec: ### Filter Variants
+        // spec: ### Sort Variants
         // ====================================
 
-        // spec: Let `vars` be a new empty list of _variants_.
-        List<Variant> vars = new ArrayList<>();
+        // The spec sorts the variants that match all the selectors with a stable sort on the
+        // preference of their last key, then of the one before it, and so on, and then selects
+        // the first one. That is the same as selecting the first of the matching variants
+        // with the lowest list of preferences, in lexicographic order, without sorting anything.
+        int len = pref.size();
+        int bestVariant = -1;
+        int[] bestPrefs = new int[len];
+        int[] prefs = new int[len];
         // spec: For each _variant_ `var` of the message:
-        for (Variant var : sm.variants) {
+        variants:
+        for (int v = 0; v < variantKeys.length; v++) {
+            String[] keys = variantKeys[v];
             // spec: For each index `i` in `pref`:
-            int found = 0;
-            for (int i = 0; i < pref.size(); i++) {
+            for (int i = 0; i < len; i++) {
+                // spec: Let `matches` be the list of strings at index `i` of `pref`.
+                List<String> matches = pref.get(i);
                 // spec: Let `key` be the `var` key at position `i`.
-                LiteralOrCatchallKey key = var.keys.get(i);
                 // spec: If `key` is the catch-all key `'*'`:
-                if (key instanceof CatchallKey) {
+                if (keys[i] == null) {
+                    // spec: Let `matchpref` be the integer count of items in `matches`.
+                    prefs[i] = matches.size();
                     // spec: Continue the inner loop on `pref`.
-                    found++;
                     continue;
                 }
-                // spec: Assert that `key` is a _literal_.
-                if (!(key instanceof Literal)) {
-                    fatalFormattingError("Literal expected");
-                }
-                // spec: Let `ks` be the resolved value of `key`.
-                String ks = ((Literal) key).value;
-                // spec: Let `matches` be the list of strings at index `i` of `pref`.
-                List<String> matches = pref.get(i);
-                // spec: If `matches` includes `ks`:
-                if (matches.contains(ks)) {
-                    // spec: Continue the inner loop on `pref`.
-                    found++;
-                    continue;
-                } else {
-                    // spec: Else:
+                // spec: Let `matchpref` be the integer position of `ks` in `matches`.
+                prefs[i] = matches.indexOf(keys[i]);
+                // spec: If `matches` does not include `ks`:
+                if (prefs[i] < 0) {
                     // spec: Continue the outer loop on message _variants_.
-                    break;
+                    continue variants;
                 }
             }
-            if (found == pref.size()) {
-                // spec: Append `var` as the last element of the list `vars`.
-                vars.add(var);
+            if (bestVariant < 0 || comparePrefs(prefs, bestPrefs) < 0) {
+                bestVariant = v;
+                int[] swap = bestPrefs;
+                bestPrefs = prefs;
+                prefs = swap;
             }
         }
 
-        // ====================================
-        // spec: ### Sort Variants
-        // ====================================
-        // spec: Let `sortable` be a new empty list of (integer, _variant_) tuples.
-        List<IntVarTuple> sortable = new ArrayList<>();
-        // spec: For each _variant_ `var` of `vars`:
-        for (Variant var : vars) {
-            // spec: Let `tuple` be a new tuple (-1, `var`).
-            IntVarTuple tuple = new IntVarTuple(-1, var);
-            // spec: Append `tuple` as the last element of the list `sortable`.
-            sortable.add(tuple);
-        }
-        // spec: Let `len` be the integer count of items in `pref`.
-        int len = pref.size();
-        // spec: Let `i` be `len` - 1.
-        int i = len - 1;
-        // spec: While `i` >= 0:
-        while (i >= 0) {
-            // spec: Let `matches` be the list of strings at index `i` of `pref`.
-            List<String> matches = pref.get(i);
-            // spec: Let `minpref` be the integer count of items in `matches`.
-            int minpref = matches.size();
-            // spec: For each tuple `tuple` of `sortable`:
-            for (IntVarTuple tuple : sortable) {
-                // spec: Let `matchpref` be an integer with the value `minpref`.
-                int matchpref = minpref;
-                // spec: Let `key` be the `tuple` _variant_ key at position `i`.
-                LiteralOrCatchallKey key = tuple.variant.keys.get(i);
-                // spec: If `key` is not the catch-all key `'*'`:
-                if (!(key instanceof CatchallKey)) {
-                    // spec: Assert that `key` is a _literal_.
-                    if (!(key instanceof Literal)) {
-                        fatalFormattingError("Literal expected");
-                    }
-                    // spec: Let `ks` be the resolved value of `key`.
-                    String ks = ((Literal) key).value;
-                    // spec: Let `matchpref` be the integer position of `ks` in `matches`.
-                    matchpref = matches.indexOf(ks);
-                }
-                // spec: Set the `tuple` integer value as `matchpref`.
-                tuple.integer = matchpref;
-            }
-            // spec: Set `sortable` to be the result of calling the method `SortVariants(sortable)`.
-            sortable.sort(MFDataModelFormatter::sortVariants);
-            // spec: Set `i` to be `i` - 1.
-            i--;
-        }
-        // spec: Let `var` be the _variant_ element of the first element of `sortable`.
-        IntVarTuple var = sortable.get(0);
         // spec: Select the _pattern_ of `var`.
-        patternToRender = var.variant.value;
-
-        // And should do that only once, when building the data model.
+        Object[] patternToRender = bestVariant < 0 ? null : variantPatterns[bestVariant];
         if (patternToRender == null) {
             // If there was a case with all entries in the keys `*` this should not happen
             fatalFormattingError("The selection went wrong, cannot select any option.");
@@ -374,38 +557,11 @@ private Pattern findBestMatchingPattern(
         return patternToRender;
     }
 
-    /* spec:
-     * `SortVariants` is a method whose single argument is
-     * a list of (integer, _variant_) tuples.
-     * It returns a list of (integer, _variant_) tuples.
-     * Any implementation of `SortVariants` is acceptable
-     * as long as it satisfies the following requirements:
-     *
-     * 1. Let `sortable` be an arbitrary list of (integer, _variant_) tuples.
-     * 1. Let `sorted` be `SortVariants(sortable)`.
-     * 1. `sorted` is the result of sorting `sortable` using the following comparator:
-     *    1. `(i1, v1)` <= `(i2, v2)` if and only if `i1 <= i2`.
-     * 1. The sort is stable (pairs of tuples from `sortable` that are equal
-     *    in their first element have the same relative order in `sorted`).
-     */
-    private static int sortVariants(IntVarTuple o1, IntVarTuple o2) {
-        int result = Integer.compare(o1.integer, o2.integer);
-        if (result != 0) {
-            return result;
-        }
-        List<LiteralOrCatchallKey> v1 = o1.variant.keys;
-        List<LiteralOrCatchallKey> v2 = o1.variant.keys;
-        if (v1.size() != v2.size()) {
-            fatalFormattingError("The number of keys is not equal.");
-        }
-        for (int i = 0; i < v1.size(); i++) {
-            LiteralOrCatchallKey k1 = v1.get(i);
-            LiteralOrCatchallKey k2 = v2.get(i);
-            String s1 = k1 instanceof Literal ? ((Literal) k1).value : CatchallKey.AS_KEY_STRING;
-            String s2 = k2 instanceof Literal ? ((Literal) k2).value : CatchallKey.AS_KEY_STRING;
-            int cmp = s1.compareTo(s2);
-            if (cmp != 0) {
-                return cmp;
+    private static int comparePrefs(int[] prefs1, int[] prefs2) {
+        for (int i = 0; i < prefs1.length; i++) {
+            int result = Integer.compare(prefs1[i], prefs2[i]);
+            if (result != 0) {
+                return result;
             }
         }
         return 0;
@@ -423,18 +579,18 @@ private static int sortVariants(IntVarTuple o1, IntVarTuple o2) {
      */
     @SuppressWarnings("static-method")
     private List<String> matchSelectorKeys(ResolvedSelector rv, List<String> keys) {
-        return rv.selectorFunction.matches(rv.argument, keys, rv.options.getMap());
+        return rv.selectorFunction.matches(rv.argument, keys, rv.options);
     }
 
     private static class ResolvedSelector {
         final Object argument;
-        final MapWithNfcKeys options;
+        final Map<String, Object> options;
         final Selector selectorFunction;
 
         public ResolvedSelector(
-                Object argument, MapWithNfcKeys options, Selector selectorFunction) {
+                Object argument, Map<String, Object> options, Selector selectorFunction) {
             this.argument = argument;
-            this.options = new MapWithNfcKeys(options);
+            this.options = options;
             this.selectorFunction = selectorFunction;
         }
     }
@@ -452,7 +608,7 @@ private FormatterFactory getFormattingFunctionFactoryByName(
                 return null;
             }
             Class<?> clazz = toFormat.getClass();
-            functionName = standardFunctions.getDefaultFormatterNameForType(clazz);
+            functionName = STANDARD_FUNCTIONS.getDefaultFormatterNameForType(clazz);
             if (functionName == null) {
                 functionName = customFunctions.getDefaultFormatterNameForType(clazz);
             }
@@ -463,7 +619,7 @@ private FormatterFactory getFormattingFunctionFactoryByName(
             }
         }
 
-        FormatterFactory func = standardFunctions.getFormatter(functionName);
+        FormatterFactory func = STANDARD_FUNCTIONS.getFormatter(functionName);
         if (func == null) {
             func = customFunctions.getFormatter(functionName);
         }
@@ -480,28 +636,18 @@ private static Object resolveLiteralOrVariable(
             // https://github.com/unicode-org/message-format-wg/blob/main/spec/formatting.md#literal-resolution
             return val;
         } else if (value instanceof VariableRef) {
-            String varName = ((VariableRef) value).name;
-            Object val = localVars.get(varName);
-            if (val == null) {
-                val = localVars.get(varName);
-            }
-            if (val == null) {
-                val = arguments.get(StringUtils.toNfc(varName));
-            }
-            return val;
+            return resolveVariable(StringUtils.toNfc(((VariableRef) value).name), localVars, arguments);
         }
         return value;
     }
 
-    private static MapWithNfcKeys convertOptions(
-            Map<String, Option> options,
-            MapWithNfcKeys localVars,
-            MapWithNfcKeys arguments) {
-        MapWithNfcKeys result = new MapWithNfcKeys();
-        for (Option option : options.values()) {
-            result.put(option.name, resolveLiteralOrVariable(option.value, localVars, arguments));
+    private static Object resolveVariable(
+            String nfcName, MapWithNfcKeys localVars, MapWithNfcKeys arguments) {
+        Object val = localVars.get(nfcName);
+        if (val == null) {
+            val = arguments.get(nfcName);
         }
-        return result;
+        return val;
     }
 
     /**
@@ -512,92 +658,120 @@ private static MapWithNfcKeys convertOptions(
      * @param arguments the arguments passed at runtime to be formatted (`mf.format(arguments)`)
      */
     private FormattedPlaceholder formatExpression(
-            Expression expression, MapWithNfcKeys variables, MapWithNfcKeys arguments) {
+            CompiledExpression expression, MapWithNfcKeys variables, MapWithNfcKeys arguments) {
 
-        Function function = null; // function name
         String functionName = null;
         Object toFormat = null;
-        Map<String, Object> options = new HashMap<>();
-        String fallbackString = "{\uFFFD}";
-
-        if (expression instanceof MFDataModel.VariableExpression) {
-            MFDataModel.VariableExpression varPart = (MFDataModel.VariableExpression) expression;
-            fallbackString = "{$" + varPart.arg.name + "}";
-            function = varPart.function; // function name & options
-            Object resolved = resolveLiteralOrVariable(varPart.arg, variables, arguments);
-            if (resolved instanceof FormattedPlaceholder) {
-                Object input = ((FormattedPlaceholder) resolved).getInput();
-                if (input instanceof ResolvedExpression) {
-                    ResolvedExpression re = (ResolvedExpression) input;
-                    toFormat = re.argument;
-                    functionName = re.functionName;
-                    options.putAll(re.options);
+        ResolvedExpression resolvedInput = null;
+
+        switch (expression.kind) {
+            case CompiledExpression.VARIABLE:
+                Object resolved = resolveVariable(expression.variableName, variables, arguments);
+                if (resolved instanceof FormattedPlaceholder) {
+                    Object input = ((FormattedPlaceholder) resolved).getInput();
+                    if (input instanceof ResolvedExpression) {
+                        resolvedInput = (ResolvedExpression) input;
+                        toFormat = resolvedInput.argument;
+                        functionName = resolvedInput.functionName;
+                    } else {
+                        toFormat = input;
+                    }
                 } else {
-                    toFormat = input;
+                    toFormat = resolved;
                 }
-            } else {
-                toFormat = resolved;
+                break;
+            case CompiledExpression.FUNCTION:
+                break;
+            case CompiledExpression.LITERAL:
+                toFormat = expression.literal;
+                break;
+            case CompiledExpression.MARKUP:
+                // No output on markup, for now (we only format to string)
+                return new FormattedPlaceholder(expression.expression, new PlainStringFormattedValue(""));
+            default:
+                fatalFormattingError(expression.error);
+        }
+
+        FormatterFactory funcFactory;
+        if (expression.hasFunction) {
+            functionName = expression.functionName;
+            if (resolvedInput == null && expression.boundFormatter != null) {
+                return formatWith(expression, expression.boundFormatter, toFormat, functionName,
+                        expression.boundOptions, expression.factory, arguments);
             }
-        } else if (expression
-                instanceof MFDataModel.FunctionExpression) { // Function without arguments
-            MFDataModel.FunctionExpression fe = (FunctionExpression) expression;
-            fallbackString = "{:" + fe.function.name + "}";
-            function = fe.function;
-        } else if (expression instanceof MFDataModel.LiteralExpression) {
-            MFDataModel.LiteralExpression le = (LiteralExpression) expression;
-            function = le.function;
-            fallbackString = "{|" + le.arg.value + "|}";
-            toFormat = resolveLiteralOrVariable(le.arg, variables, arguments);
-        } else if (expression instanceof MFDataModel.Markup) {
-            // No output on markup, for now (we only format to string)
-            return new FormattedPlaceholder(expression, new PlainStringFormattedValue(""));
+            funcFactory = expression.factory != null
+                    ? expression.factory
+                    : getFormattingFunctionFactoryByName(toFormat, functionName);
         } else {
-            if (expression == null) {
-                fatalFormattingError("unexpected null expression");
-            } else {
-                fatalFormattingError("unknown expression type "
-                        + expression.getClass().getName());
+            funcFactory = getFormattingFunctionFactoryByName(toFormat, functionName);
+            if (resolvedInput != null
+                    && resolvedInput.formatter != null
+                    && resolvedInput.factory == funcFactory
+                    && errorHandlingBehavior.name().equals(
+                            resolvedInput.options.get(ERROR_POLICY_OPTION))) {
+                // A variable declared with an expression that was already formatted:
+                // same function, same options, so the same formatter.
+                return formatWith(expression, resolvedInput.formatter, toFormat, functionName,
+                        resolvedInput.options, funcFactory, arguments);
             }
         }
 
-        if (function instanceof Function) {
-            Function fa = (Function) function;
-            functionName = fa.name;
-            MapWithNfcKeys newOptions = convertOptions(fa.options, variables, arguments);
-            options.putAll(newOptions.getMap());
-        }
-
-        FormatterFactory funcFactory = getFormattingFunctionFactoryByName(toFormat, functionName);
         if (funcFactory == null) {
             if (errorHandlingBehavior == ErrorHandlingBehavior.STRICT) {
-                fatalFormattingError("unable to find function at " + fallbackString);
+                fatalFormattingError("unable to find function at " + expression.fallbackString);
+            }
+            return new FormattedPlaceholder(expression.expression,
+                    new PlainStringFormattedValue(expression.fallbackString));
+        }
+
+        Map<String, Object> options = new HashMap<>();
+        if (resolvedInput != null) {
+            options.putAll(resolvedInput.options);
+        }
+        if (expression.hasFunction) {
+            for (int i = 0; i < expression.optionNames.length; i++) {
+                Object value = expression.optionVariables[i] == null
+                        ? expression.optionValues[i]
+                        : resolveVariable(expression.optionVariables[i], variables, arguments);
+                options.put(expression.optionNames[i], value);
             }
-            return new FormattedPlaceholder(expression, new PlainStringFormattedValue(fallbackString));
         }
         // TODO 78: hack.
         // How do we pass the error handling policy to formatters?
         // I am afraid a clean solution for this would require some changes in the public APIs
         // And it is too late for that.
-        options.put("icu:impl:errorPolicy", this.errorHandlingBehavior.name());
+        options.put(ERROR_POLICY_OPTION, this.errorHandlingBehavior.name());
         Formatter ff = funcFactory.createFormatter(locale, options);
+        return formatWith(expression, ff, toFormat, functionName, options, funcFactory, arguments);
+    }
+
+    private FormattedPlaceholder formatWith(CompiledExpression expression, Formatter ff,
+            Object toFormat, String functionName, Map<String, Object> options,
+            FormatterFactory funcFactory, MapWithNfcKeys arguments) {
         FormattedPlaceholder resultToWrap = ff.format(toFormat, arguments.getMap());
         String res = resultToWrap == null ? null : resultToWrap.toString();
+        FormattedValue value;
         if (res == null) {
             if (errorHandlingBehavior == ErrorHandlingBehavior.STRICT) {
-                fatalFormattingError("unable to format string at " + fallbackString);
+                fatalFormattingError("unable to format string at " + expression.fallbackString);
             }
-            res = fallbackString;
+            value = new PlainStringFormattedValue(expression.fallbackString);
+        } else {
+            // Keep the fields of the formatted value, for FormattedMessage
+            value = resultToWrap.getFormattedValue();
         }
 
         if (resultToWrap != null) {
             toFormat = resultToWrap.getInput();
         }
-        ResolvedExpression resExpression = new ResolvedExpression(toFormat, functionName, options);
+        ResolvedExpression resExpression = isReusable(funcFactory)
+                ? new ResolvedExpression(toFormat, functionName, options, funcFactory, ff)
+                : new ResolvedExpression(toFormat, functionName, options);
         if (resultToWrap == null) {
-            return new FormattedPlaceholder(resExpression, new PlainStringFormattedValue(res));
+            return new FormattedPlaceholder(resExpression, value);
         }
         // We wrap the result in a ResolvedExpression, but also propagate the direction info
-        return new FormattedPlaceholder(resExpression, new PlainStringFormattedValue(res),
+        return new FormattedPlaceholder(resExpression, value,
                 resultToWrap.getDirectionality(), resultToWrap.getIsolate());
     }
 
@@ -605,58 +779,136 @@ static class ResolvedExpression implements Expression {
         final Object argument;
         final String functionName;
         final Map<String, Object> options;
+        // The factory and the formatter used for the options, if the formatter can be reused
+        final FormatterFactory factory;
+        final Formatter formatter;
 
         public ResolvedExpression(
                 Object argument, String functionName, Map<String, Object> options) {
+            this(argument, functionName, options, null, null);
+        }
+
+        ResolvedExpression(Object argument, String functionName, Map<String, Object> options,
+                FormatterFactory factory, Formatter formatter) {
             this.argument = argument;
             this.functionName = StringUtils.toNfc(functionName);
             this.options = options;
+            this.factory = factory;
+            this.formatter = formatter;
         }
     }
 
-    private MapWithNfcKeys resolveDeclarations(
-            List<MFDataModel.Declaration> declarations, MapWithNfcKeys arguments) {
+    private MapWithNfcKeys resolveDeclarations(MapWithNfcKeys arguments) {
         MapWithNfcKeys variables = new MapWithNfcKeys();
-        String name;
-        Expression value;
-        if (declarations != null) {
-            for (Declaration declaration : declarations) {
-                if (declaration instanceof InputDeclaration) {
-                    name = ((InputDeclaration) declaration).name;
-                    value = ((InputDeclaration) declaration).value;
-                } else if (declaration instanceof LocalDeclaration) {
-                    name = ((LocalDeclaration) declaration).name;
-                    value = ((LocalDeclaration) declaration).value;
-                } else {
-                    continue;
-                }
-                try {
-                    // There it no need to succeed in solving everything.
-                    // For example there is no problem is `$b` is not defined below:
-                    // .local $a = {$b :number}
-                    // {{ Hello {$user}! }}
-                    FormattedPlaceholder fmt = formatExpression(value, variables, arguments);
-                    // If it works, all good
-                    variables.put(StringUtils.toNfc(name), fmt);
-                } catch (IllegalArgumentException e) {
-                    if (this.errorHandlingBehavior == ErrorHandlingBehavior.STRICT) {
-                        throw(e);
-                    }
-                } catch (Exception e) {
-                    // It's OK to ignore the failure in this context, see comment above.
+        for (int i = 0; i < declarationNames.length; i++) {
+            try {
+                // There it no need to succeed in solving everything.
+                // For example there is no problem is `$b` is not defined below:
+                // .local $a = {$b :number}
+                // {{ Hello {$user}! }}
+                FormattedPlaceholder fmt = formatExpression(declarationValues[i], variables, arguments);
+                // If it works, all good
+                variables.put(declarationNames[i], fmt);
+            } catch (IllegalArgumentException e) {
+                if (this.errorHandlingBehavior == ErrorHandlingBehavior.STRICT) {
+                    throw(e);
                 }
+            } catch (Exception e) {
+                // It's OK to ignore the failure in this context, see comment above.
             }
         }
         return variables;
     }
 
-    private static class IntVarTuple {
-        int integer;
-        final Variant variant;
+    /**
+     * An expression of the data model, with everything that does not depend on the arguments
+     * resolved ahead of time.
+     */
+    private static class CompiledExpression {
+        static final int VARIABLE = 0;
+        static final int FUNCTION = 1;
+        static final int LITERAL = 2;
+        static final int MARKUP = 3;
+        static final int ERROR = 4;
+
+        final int kind;
+        // The source expression, which is also the input of fallback placeholders
+        final Expression expression;
+        final String fallbackString;
+        // The fallback string without the braces, the value of the placeholder span
+        final String source;
+        String error;
+        String variableName; // NFC
+        String literal;
+
+        boolean hasFunction;
+        String functionName;
+        String[] optionNames; // NFC
+        Object[] optionValues;
+        String[] optionVariables; // NFC, null for literal options
+        // The factory, if the function name does not depend on the argument
+        FormatterFactory factory;
+        // The formatter, if it does not depend on the arguments either
+        Formatter boundFormatter;
+        Map<String, Object> boundOptions;
+
+        CompiledExpression(int kind, Expression expression, String fallbackString) {
+            this.kind = kind;
+            this.expression = expression;
+            this.fallbackString = fallbackString;
+            this.source = fallbackString == null
+                    ? null : fallbackString.substring(1, fallbackString.length() - 1);
+        }
+
+        static CompiledExpression error(Expression expression, String error) {
+            CompiledExpression result = new CompiledExpression(ERROR, expression, null);
+            result.error = error;
+            return result;
+        }
+    }
 
-        public IntVarTuple(int integer, Variant variant) {
-            this.integer = integer;
-            this.variant = variant;
+    /**
+     * A selector expression, with the keys of all the variants for it,
+     * and the last {@link Selector} created for it.
+     */
+    private static class CompiledSelector {
+        final CompiledExpression expression;
+        List<String> keys;
+        private volatile BoundSelector bound;
+
+        CompiledSelector(CompiledExpression expression) {
+            this.expression = expression;
+        }
+
+        ResolvedSelector resolve(Object argument, Map<String, Object> options,
+                SelectorFactory funcFactory, Locale locale) {
+            BoundSelector last = bound;
+            if (last != null && last.factory == funcFactory && last.options == options) {
+                // Same options as last time: from a precompiled expression, or from the same declaration.
+                return new ResolvedSelector(argument, options, last.selector);
+            }
+            MapWithNfcKeys selectorOptions = new MapWithNfcKeys();
+            if (options != null) {
+                selectorOptions.putAll(options);
+            }
+            Selector selectorFunction = funcFactory.createSelector(locale, selectorOptions.getMap());
+            if (options != null && isReusable(funcFactory)) {
+                bound = new BoundSelector(funcFactory, options, selectorFunction);
+            }
+            return new ResolvedSelector(
+                    argument, new MapWithNfcKeys(selectorOptions).getMap(), selectorFunction);
+        }
+    }
+
+    private static class BoundSelector {
+        final SelectorFactory factory;
+        final Map<String, Object> options;
+        final Selector selector;
+
+        BoundSelector(SelectorFactory factory, Map<String, Object> options, Selector selector) {
+            this.factory = factory;
+            this.options = options;
+            this.selector = selector;
         }
     }
 
@@ -670,7 +922,7 @@ public IntVarTuple(int integer, Variant variant) {
      * and will create a map with mixed keys (some not normalized).
      */
     private static class MapWithNfcKeys {
-        private final Map<String, Object> theMap = new HashMap<>();
+        private final Map<String, Object> theMap;
 
         Map<String, Object> getMap() {
             return theMap;
@@ -678,20 +930,37 @@ Map<String, Object> getMap() {
 
         MapWithNfcKeys() {
             super();
+            theMap = new HashMap<>();
         }
 
         MapWithNfcKeys(MapWithNfcKeys org) {
             super();
-            theMap.putAll(org.getMap());
+            theMap = new HashMap<>(org.getMap());
         }
 
-        MapWithNfcKeys(Map<String, Object> orgMap) {
+        private MapWithNfcKeys(Map<String, Object> readOnlyMap) {
             super();
-            if (orgMap != null) {
-                for (Map.Entry<String, Object> e : orgMap.entrySet()) {
-                    this.put(StringUtils.toNfc(e.getKey()), e.getValue());
+            theMap = readOnlyMap;
+        }
+
+        /**
+         * Wraps the arguments without copying them if the names are already in NFC,
+         * which is usually the case.
+         */
+        static MapWithNfcKeys forArguments(Map<String, Object> arguments) {
+            if (arguments == null || arguments.isEmpty()) {
+                return new MapWithNfcKeys(Collections.<String, Object>emptyMap());
+            }
+            for (String key : arguments.keySet()) {
+                if (!StringUtils.isNfc(key)) {
+                    MapWithNfcKeys result = new MapWithNfcKeys();
+                    for (Map.Entry<String, Object> e : arguments.entrySet()) {
+                        result.put(e.getKey(), e.getValue());
+                    }
+                    return result;
                 }
             }
+            return new MapWithNfcKeys(Collections.unmodifiableMap(arguments));
         }
 
         public Object put(String key, Object value) {
@@ -3,9 +3,12 @@
 
 package com.ibm.icu.message2;
 
+import java.io.InvalidObjectException;
 import java.util.Locale;
 import java.util.Map;
 
+import com.ibm.icu.text.UFormat;
+
 /**
  * <h3>Overview of {@code MessageFormatter}</h3>
  *
@@ -288,19 +291,69 @@ public String formatToString(Map<String, Object> arguments) {
     }
 
     /**
-     * Not yet implemented: formats a map of objects by iterating over the MessageFormat's
+     * Formats a map of objects by iterating over the MessageFormat's
      * pattern, with the plain text “as is” and the arguments replaced by the formatted objects.
      *
+     * <p>Unlike {@link #formatToString(Map)}, the result keeps the fields of the formatted
+     * placeholders (for example the {@link com.ibm.icu.text.NumberFormat.Field}s of numbers),
+     * and marks each placeholder with a {@link SpanField#PLACEHOLDER_SPAN}.
+     * It can also be appended to an {@link Appendable} without creating a {@code String}.</p>
+     *
      * @param arguments a map of objects to be formatted and substituted.
      * @return the {@link FormattedMessage} class representing the message with parameters replaced.
+     * @throws IllegalArgumentException when something goes wrong
+     *         (for example wrong argument type, or null arguments, etc.)
      *
      * @internal ICU 72 technology preview
      * @deprecated This API is for technology preview only.
      */
     @Deprecated
-    @SuppressWarnings("static-method")
     public FormattedMessage format(Map<String, Object> arguments) {
-        throw new RuntimeException("Not yet implemented.");
+        return modelFormatter.formatToValue(arguments);
+    }
+
+    /**
+     * Span fields in {@link FormattedMessage}.
+     *
+     * @internal ICU 78 technology preview
+     * @deprecated This API is for technology preview only.
+     */
+    @Deprecated
+    public static final class SpanField extends UFormat.SpanField {
+        private static final long serialVersionUID = 2788451423717294474L;
+
+        /**
+         * The span of a formatted placeholder.
+         *
+         * <p>Its value is the source of the placeholder, in the form used by the fallback
+         * representation of the MessageFormat 2 specification: {@code $name} for a variable,
+         * {@code |literal|} for a literal, and {@code :function} for a function without operand.
+         * For example {@code "$count"} for the placeholder {@code {$count :number}}.</p>
+         *
+         * @internal ICU 78 technology preview
+         * @deprecated This API is for technology preview only.
+         */
+        @Deprecated
+        public static final SpanField PLACEHOLDER_SPAN = new SpanField("placeholder-span");
+
+        private SpanField(String name) {
+            super(name);
+        }
+
+        /**
+         * serialization method resolve instances to the constant
+         * MessageFormatter.SpanField values
+         * @internal
+         * @deprecated This API is ICU internal only.
+         */
+        @Deprecated
+        @Override
+        protected Object readResolve() throws InvalidObjectException {
+            if (this.getName().equals(PLACEHOLDER_SPAN.getName()))
+                return PLACEHOLDER_SPAN;
+
+            throw new InvalidObjectException("An invalid object.");
+        }
     }
 
     /**
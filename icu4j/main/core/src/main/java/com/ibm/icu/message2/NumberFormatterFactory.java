@@ -4,11 +4,14 @@
 package com.ibm.icu.message2;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import com.ibm.icu.math.BigDecimal;
@@ -112,14 +115,15 @@ public String formatToString(Object toFormat, Map<String, Object> variableOption
         public FormattedPlaceholder format(Object toFormat, Map<String, Object> variableOptions) {
             boolean reportErrors = OptUtils.reportErrors(fixedOptions) || OptUtils.reportErrors(variableOptions);
             LocalizedNumberFormatter realFormatter;
-            Map<String, Object> mergedOptions = new HashMap<>(fixedOptions);
-            if (variableOptions.isEmpty()) {
+            Map<String, Object> mergedOptions;
+            if (!hasFormatterOptions(variableOptions)) {
+                // The variable options are usually just the message arguments,
+                // which don't change the formatter.
                 realFormatter = this.icuFormatter;
+                mergedOptions = fixedOptions;
             } else {
+                mergedOptions = new HashMap<>(fixedOptions);
                 mergedOptions.putAll(variableOptions);
-                // This is really wasteful, as we don't use the existing
-                // formatter if even one option is variable.
-                // We can optimize, but for now will have to do.
                 realFormatter = formatterForOptions(locale, mergedOptions, kind);
             }
 
@@ -328,6 +332,29 @@ private boolean matches(Object value, String key, Map<String, Object> variableOp
     private final static Pattern CURRENCY_ISO_CODE =
             Pattern.compile("^[A-Z][A-Z][A-Z]$", Pattern.CASE_INSENSITIVE);
 
+    // The options read by formatterForOptions(), including the ones read through OptUtils.
+    private static final Set<String> FORMATTER_OPTIONS = new HashSet<>(Arrays.asList(
+            "icu:impl:errorPolicy", "icu:skeleton", "notation", "compactDisplay", "style",
+            "minimumFractionDigits", "maximumFractionDigits", "minimumSignificantDigits",
+            "numberingSystem", "minimumIntegerDigits", "maximumSignificantDigits",
+            "signDisplay", "useGrouping", "currency", "currencySign", "currencyDisplay"));
+
+    /**
+     * Returns true if the options contain any of the ones that formatterForOptions() reads,
+     * so that they might produce a different formatter.
+     */
+    private static boolean hasFormatterOptions(Map<String, Object> options) {
+        if (options.isEmpty()) {
+            return false;
+        }
+        for (String key : FORMATTER_OPTIONS) {
+            if (options.containsKey(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static LocalizedNumberFormatter formatterForOptions(
             Locale locale, Map<String, Object> fixedOptions, String kind) {
         boolean reportErrors = OptUtils.reportErrors(fixedOptions);
@@ -135,4 +135,8 @@ static boolean isFunctionSigil(int cp) {
     static String toNfc(CharSequence value) {
         return value == null ? null : NFC_NORMALIZER.normalize(value);
     }
+
+    static boolean isNfc(CharSequence value) {
+        return value == null || NFC_NORMALIZER.isNormalized(value);
+    }
 }
@@ -9,6 +9,7 @@
 
 import com.ibm.icu.impl.FormattedStringBuilder;
 import com.ibm.icu.impl.StandardPlural;
+import com.ibm.icu.impl.Utility;
 import com.ibm.icu.impl.number.DecimalQuantity;
 import com.ibm.icu.impl.number.DecimalQuantity_DualStorageBCD;
 import com.ibm.icu.impl.number.LocalizedNumberFormatterAsFormat;
@@ -69,6 +70,104 @@ public FormattedNumber format(double input) {
         return format(new DecimalQuantity_DualStorageBCD(input));
     }
 
+    /**
+     * Formats the given byte, short, int, or long and appends the result to the Appendable.
+     *
+     * <p>Unlike {@link #format(long)}, this method reuses per-thread scratch objects
+     * and does not allocate a {@link FormattedNumber}.
+     * Use it when only the string is needed, for example when writing responses.
+     *
+     * @param input
+     *            The number to format.
+     * @param appendable
+     *            The Appendable to which the result is appended.
+     * @return The same Appendable, for chaining.
+     * @throws com.ibm.icu.util.ICUUncheckedIOException if the Appendable throws an IOException.
+     * @draft ICU 78
+     * @see NumberFormatter
+     */
+    public <A extends Appendable> A formatTo(long input, A appendable) {
+        Scratch scratch = Scratch.acquire();
+        scratch.quantity.setToLong(input);
+        return formatTo(scratch, appendable);
+    }
+
+    /**
+     * Formats the given float or double and appends the result to the Appendable.
+     *
+     * <p>Unlike {@link #format(double)}, this method reuses per-thread scratch objects
+     * and does not allocate a {@link FormattedNumber}.
+     * Use it when only the string is needed, for example when writing responses.
+     *
+     * @param input
+     *            The number to format.
+     * @param appendable
+     *            The Appendable to which the result is appended.
+     * @return The same Appendable, for chaining.
+     * @throws com.ibm.icu.util.ICUUncheckedIOException if the Appendable throws an IOException.
+     * @draft ICU 78
+     * @see NumberFormatter
+     */
+    public <A extends Appendable> A formatTo(double input, A appendable) {
+        Scratch scratch = Scratch.acquire();
+        scratch.quantity.setToDouble(input);
+        return formatTo(scratch, appendable);
+    }
+
+    /**
+     * Formats the given byte, short, int, or long into the char array.
+     * Reuses per-thread scratch objects, like {@link #formatTo(long, Appendable)}.
+     *
+     * <p>Returns the length of the formatted number. If it is greater than destCapacity,
+     * then only the first destCapacity chars are written;
+     * call again with a large enough array to get the whole result.
+     *
+     * @param input
+     *            The number to format.
+     * @param dest
+     *            The destination array.
+     * @param destStart
+     *            The index in dest at which to write the result.
+     * @param destCapacity
+     *            The maximum number of chars to write.
+     * @return The length of the formatted number.
+     * @throws IndexOutOfBoundsException if destStart and destCapacity do not fit into dest
+     * @draft ICU 78
+     * @see NumberFormatter
+     */
+    public int formatTo(long input, char[] dest, int destStart, int destCapacity) {
+        Scratch scratch = Scratch.acquire();
+        scratch.quantity.setToLong(input);
+        return formatTo(scratch, dest, destStart, destCapacity);
+    }
+
+    /**
+     * Formats the given float or double into the char array.
+     * Reuses per-thread scratch objects, like {@link #formatTo(double, Appendable)}.
+     *
+     * <p>Returns the length of the formatted number. If it is greater than destCapacity,
+     * then only the first destCapacity chars are written;
+     * call again with a large enough array to get the whole result.
+     *
+     * @param input
+     *            The number to format.
+     * @param dest
+     *            The destination array.
+     * @param destStart
+     *            The index in dest at which to write the result.
+     * @param destCapacity
+     *            The maximum number of chars to write.
+     * @return The length of the formatted number.
+     * @throws IndexOutOfBoundsException if destStart and destCapacity do not fit into dest
+     * @draft ICU 78
+     * @see NumberFormatter
+     */
+    public int formatTo(double input, char[] dest, int destStart, int destCapacity) {
+        Scratch scratch = Scratch.acquire();
+        scratch.quantity.setToDouble(input);
+        return formatTo(scratch, dest, destStart, destCapacity);
+    }
+
     /**
      * Format the given {@link BigInteger}, {@link BigDecimal}, or other {@link Number} to a string using
      * the settings specified in the NumberFormatter fluent setting chain.
@@ -140,6 +239,64 @@ private FormattedNumber format(DecimalQuantity fq) {
         return new FormattedNumber(string, fq, micros.outputUnit, micros.gender);
     }
 
+    /**
+     * Per-thread objects for the formatTo() methods, which do not return them to the caller.
+     */
+    private static final class Scratch {
+        private static final ThreadLocal<Scratch> perThread = new ThreadLocal<Scratch>() {
+            @Override
+            protected Scratch initialValue() {
+                return new Scratch();
+            }
+        };
+
+        final DecimalQuantity_DualStorageBCD quantity = new DecimalQuantity_DualStorageBCD();
+        final FormattedStringBuilder string = new FormattedStringBuilder();
+        boolean inUse;
+
+        /**
+         * Returns this thread's cleared scratch objects, or new ones if they are in use,
+         * for example when an Appendable formats another number while appending.
+         */
+        static Scratch acquire() {
+            Scratch scratch = perThread.get();
+            if (scratch.inUse) {
+                scratch = new Scratch();
+            }
+            scratch.inUse = true;
+            scratch.quantity.clear();
+            scratch.string.clear();
+            return scratch;
+        }
+    }
+
+    private <A extends Appendable> A formatTo(Scratch scratch, A appendable) {
+        try {
+            formatImpl(scratch.quantity, scratch.string);
+            return Utility.appendTo(scratch.string, appendable);
+        } finally {
+            scratch.inUse = false;
+        }
+    }
+
+    private int formatTo(Scratch scratch, char[] dest, int destStart, int destCapacity) {
+        try {
+            if (destStart < 0 || destCapacity < 0 || destCapacity > dest.length - destStart) {
+                throw new IndexOutOfBoundsException();
+            }
+            FormattedStringBuilder string = scratch.string;
+            formatImpl(scratch.quantity, string);
+            int length = string.length();
+            int limit = Math.min(length, destCapacity);
+            for (int i = 0; i < limit; ++i) {
+                dest[destStart + i] = string.charAt(i);
+            }
+            return length;
+        } finally {
+            scratch.inUse = false;
+        }
+    }
+
     /**
      * This is the core entrypoint to the number formatting pipeline. It performs self-regulation: a
      * static code path for the first few calls, and compiling a more efficient data structure if called
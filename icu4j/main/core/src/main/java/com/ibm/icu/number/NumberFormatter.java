@@ -509,6 +509,43 @@ public static enum TrailingZeroDisplay {
         HIDE_IF_WHOLE,
     }
 
+    /**
+     * An enum declaring the arithmetic used to convert the input to the output unit, when a usage or
+     * a mixed unit is set. For example, with usage "road" in en-US, formatting 1000 meter:
+     *
+     * <ul>
+     * <li>DECIMAL: 1000 m are converted to 0.6213711922373339696174341843633182 mi
+     * <li>DOUBLE: 1000 m are converted to 0.621371192237334 mi
+     * </ul>
+     *
+     * <p>
+     * Both give "0.62 mi" after rounding to the precision of the unit preferences.
+     *
+     * @draft ICU 78
+     * @see NumberFormatterSettings#unitConversion
+     */
+    public static enum UnitConversionArithmetic {
+        /**
+         * Convert with 34 significant digits, using {@link java.math.BigDecimal}. This is the default
+         * behavior.
+         *
+         * @draft ICU 78
+         */
+        DECIMAL,
+
+        /**
+         * Convert with the about 15 significant digits of a double, except where the conversion to a
+         * mixed unit needs to carry a rounded value over into a bigger unit. This is several times
+         * faster than DECIMAL, and usually gives the same result when the output is rounded to fewer
+         * digits, as with the default precision of the unit preferences. The results may differ when
+         * the converted value is a decimal tie, such as 7.45 minutes rounded to one fraction digit,
+         * since the last of the 34 digits of DECIMAL can break the tie.
+         *
+         * @draft ICU 78
+         */
+        DOUBLE,
+    }
+
     /**
      * Use a default threshold of 3. This means that the third time .format() is called, the data
      * structures get built using the "safe" code path. The first two calls to .format() will trigger the
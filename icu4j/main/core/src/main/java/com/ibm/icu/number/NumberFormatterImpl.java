@@ -29,6 +29,7 @@
 import com.ibm.icu.number.NumberFormatter.DecimalSeparatorDisplay;
 import com.ibm.icu.number.NumberFormatter.GroupingStrategy;
 import com.ibm.icu.number.NumberFormatter.SignDisplay;
+import com.ibm.icu.number.NumberFormatter.UnitConversionArithmetic;
 import com.ibm.icu.number.NumberFormatter.UnitWidth;
 import com.ibm.icu.text.DecimalFormatSymbols;
 import com.ibm.icu.text.NumberFormat;
@@ -54,6 +55,7 @@ class NumberFormatterImpl {
     public NumberFormatterImpl(MacroProps macros) {
         micros = new MicroProps(true);
         microPropsGenerator = macrosToMicroGenerator(macros, micros, true);
+        simplePatternModifier = getSimplePatternModifier(micros, microPropsGenerator);
     }
 
     /**
@@ -89,17 +91,58 @@ public static int getPrefixSuffixStatic(
 
     final MicroProps micros;
     final MicroPropsGenerator microPropsGenerator;
+    /**
+     * Non-null if the pattern modifier is the only generator in the chain,
+     * without plural-dependent affixes, padding, or inner and outer modifiers.
+     * This is the case for plain decimal, percent, and short currency formats,
+     * but not for compact or scientific notation, measure units, or currency long names.
+     */
+    final ImmutablePatternModifier simplePatternModifier;
+
+    private static ImmutablePatternModifier getSimplePatternModifier(
+            MicroProps micros, MicroPropsGenerator generator) {
+        if (generator instanceof ImmutablePatternModifier
+                && ((ImmutablePatternModifier) generator).followsOnly(micros)
+                && micros.modInner == ConstantAffixModifier.EMPTY
+                && micros.modMiddle == null
+                && micros.modOuter == ConstantAffixModifier.EMPTY
+                && !micros.padding.isValid()
+                && micros.rounder != null) {
+            return (ImmutablePatternModifier) generator;
+        }
+        return null;
+    }
 
     /**
      * Evaluates the "safe" MicroPropsGenerator created by "fromMacros".
      */
     public MicroProps format(DecimalQuantity inValue, FormattedStringBuilder outString) {
+        if (simplePatternModifier != null) {
+            return formatSimple(inValue, outString);
+        }
         MicroProps result = preProcess(inValue);
         int length = writeNumber(result, inValue, outString, 0);
         writeAffixes(result, outString, 0, length);
         return result;
     }
 
+    /**
+     * Fast path of format() for simple patterns: Rounds, writes the digits, and applies the
+     * pattern modifier for the signum, without copying the MicroProps or walking the chain.
+     * Returns the shared MicroProps, which the caller must not modify.
+     */
+    private MicroProps formatSimple(DecimalQuantity inValue, FormattedStringBuilder outString) {
+        MicroProps micros = this.micros;
+        micros.rounder.apply(inValue);
+        inValue.setMinInteger(micros.integerWidth.minInt);
+        if (micros.integerWidth.maxInt != -1) {
+            inValue.applyMaxInteger(micros.integerWidth.maxInt);
+        }
+        int length = writeNumber(micros, inValue, outString, 0);
+        simplePatternModifier.getModifierWithoutPlural(inValue.signum()).apply(outString, 0, length);
+        return micros;
+    }
+
     /**
      * Like format(), but saves the result into an output MicroProps without additional processing.
      */
@@ -278,9 +321,11 @@ private static MicroPropsGenerator macrosToMicroGenerator(MacroProps macros, Mic
                 throw new IllegalIcuArgumentException(
                         "We only support \"usage\" when the input unit is specified, and is a CLDR Unit.");
             }
-            chain = usagePrefsHandler = new UsagePrefsHandler(macros.loc, macros.unit, macros.usage, chain);
+            chain = usagePrefsHandler = new UsagePrefsHandler(macros.loc, macros.unit, macros.usage,
+                    macros.unitConversion == UnitConversionArithmetic.DOUBLE, chain);
         } else if (isMixedUnit) {
-            chain = new UnitConversionHandler(macros.unit, chain);
+            chain = new UnitConversionHandler(macros.unit,
+                    macros.unitConversion == UnitConversionArithmetic.DOUBLE, chain);
         }
 
         // Multiplier
@@ -9,6 +9,7 @@
 import com.ibm.icu.number.NumberFormatter.DecimalSeparatorDisplay;
 import com.ibm.icu.number.NumberFormatter.GroupingStrategy;
 import com.ibm.icu.number.NumberFormatter.SignDisplay;
+import com.ibm.icu.number.NumberFormatter.UnitConversionArithmetic;
 import com.ibm.icu.number.NumberFormatter.UnitWidth;
 import com.ibm.icu.text.DecimalFormatSymbols;
 import com.ibm.icu.text.DisplayOptions;
@@ -48,7 +49,8 @@
     static final int KEY_PER_UNIT = 15;
     static final int KEY_USAGE = 16;
     static final int KEY_UNIT_DISPLAY_CASE = 17;
-    static final int KEY_MAX = 18;
+    static final int KEY_UNIT_CONVERSION = 18;
+    static final int KEY_MAX = 19;
 
     private final NumberFormatterSettings<?> parent;
     private final int key;
@@ -570,6 +572,25 @@ public T displayOptions(DisplayOptions displayOptions) {
         return create(KEY_UNIT_DISPLAY_CASE, displayOptions.getGrammaticalCase().getIdentifier());
     }
 
+    /**
+     * Specifies the arithmetic used to convert the input to the output unit, when a usage or a mixed
+     * unit is set. The default is DECIMAL.
+     *
+     * <p>
+     * DOUBLE is several times faster, and recommended when formatting many values with a usage. It
+     * may differ from DECIMAL in the last digits when the output is not rounded, for example with
+     * {@link Precision#unlimited()}.
+     *
+     * @param arithmetic The arithmetic to use for unit conversions.
+     * @return The fluent chain.
+     * @see UnitConversionArithmetic
+     * @see #usage
+     * @draft ICU 78
+     */
+    public T unitConversion(UnitConversionArithmetic arithmetic) {
+        return create(KEY_UNIT_CONVERSION, arithmetic);
+    }
+
     /**
      * Specifies the desired case for a unit formatter's output (e.g.
      * accusative, dative, genitive).
@@ -718,6 +739,9 @@ MacroProps resolve() {
             case KEY_UNIT_DISPLAY_CASE:
                 macros.unitDisplayCase = (String) current.value;
                 break;
+            case KEY_UNIT_CONVERSION:
+                macros.unitConversion = (UnitConversionArithmetic) current.value;
+                break;
             default:
                 throw new AssertionError("Unknown key: " + current.key);
             }
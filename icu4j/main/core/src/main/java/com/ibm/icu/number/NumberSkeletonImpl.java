@@ -17,6 +17,7 @@
 import com.ibm.icu.number.NumberFormatter.RoundingPriority;
 import com.ibm.icu.number.NumberFormatter.SignDisplay;
 import com.ibm.icu.number.NumberFormatter.TrailingZeroDisplay;
+import com.ibm.icu.number.NumberFormatter.UnitConversionArithmetic;
 import com.ibm.icu.number.NumberFormatter.UnitWidth;
 import com.ibm.icu.text.DecimalFormatSymbols;
 import com.ibm.icu.text.NumberingSystem;
@@ -521,7 +522,7 @@ private static void decimalSeparatorDisplay(DecimalSeparatorDisplay value, Strin
     ///// ENTRYPOINT FUNCTIONS /////
 
     /** Cache for parsed skeleton strings. */
-    private static final CacheBase<String, UnlocalizedNumberFormatter, Void> cache = new SoftCache<String, UnlocalizedNumberFormatter, Void>() {
+    private static final CacheBase<String, UnlocalizedNumberFormatter, Void> cache = new SoftCache<String, UnlocalizedNumberFormatter, Void>("NumberSkeletonImpl") {
         @Override
         protected UnlocalizedNumberFormatter createInstance(String skeletonString, Void unused) {
             return create(skeletonString);
@@ -1000,6 +1001,10 @@ private static void generateSkeleton(MacroProps macros, StringBuilder sb) {
             throw new UnsupportedOperationException(
                     "Cannot generate number skeleton with custom plural rules");
         }
+        if (macros.unitConversion == UnitConversionArithmetic.DOUBLE) {
+            throw new UnsupportedOperationException(
+                    "Cannot generate number skeleton with double unit conversion");
+        }
 
         // Remove the trailing space
         if (sb.length() > 0) {
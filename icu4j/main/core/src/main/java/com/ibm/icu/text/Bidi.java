@@ -29,6 +29,7 @@
 
 import java.awt.font.NumericShaper;
 import java.awt.font.TextAttribute;
+import java.io.IOException;
 import java.lang.reflect.Array;
 import java.text.AttributedCharacterIterator;
 import java.util.Arrays;
@@ -37,6 +38,7 @@
 import com.ibm.icu.lang.UCharacter;
 import com.ibm.icu.lang.UCharacterDirection;
 import com.ibm.icu.lang.UProperty;
+import com.ibm.icu.util.ICUUncheckedIOException;
 
 /**
  *
@@ -1001,6 +1003,18 @@ static class Isolate {
     private static final char CR = '\r';
     private static final char LF = '\n';
 
+    /* shared empty arrays for setPara() */
+    static final byte[] EMPTY_BYTES = new byte[0];
+    static final BidiRun[] EMPTY_RUNS = new BidiRun[0];
+
+    /* Bidi classes of the ASCII characters, for the fast path of setPara() */
+    private static final byte[] ASCII_DIR_PROPS = new byte[0x80];
+    static {
+        for (int c = 0; c < ASCII_DIR_PROPS.length; ++c) {
+            ASCII_DIR_PROPS[c] = (byte)UBiDiProps.INSTANCE.getClass(c);
+        }
+    }
+
     static final int LRM_BEFORE = 1;
     static final int LRM_AFTER = 2;
     static final int RLM_BEFORE = 4;
@@ -1129,6 +1143,13 @@ Within resolveImplicitLevels(), this is the index of the current isolates
     /* for option OPTION_REMOVE_CONTROLS */
     int                 controlCount;
 
+    /* stacks for getDirProps(), allocated once and then reused */
+    int[]               isolateStartStack;
+    byte[]              previousStateStack;
+
+    /* buffer for writeReordered() into a char array or an Appendable, reused */
+    StringBuilder       reorderedText;
+
     /*
      * Sometimes, bit values are more appropriate
      * to deal with directionality properties.
@@ -1244,7 +1265,11 @@ void verifyRange(int index, int start, int limit)
      * <code>setLine()</code>.<p>
      * This object can be reused.<p>
      * <code>setPara()</code> and <code>setLine()</code> will allocate
-     * additional memory for internal structures as necessary.
+     * additional memory for internal structures as necessary,
+     * and keep it for later calls. Reusing one object for many paragraphs
+     * avoids most of the allocation, especially together with
+     * <code>setPara(char[], byte, byte[])</code> and
+     * <code>writeReordered(int, char[], int)</code>.
      *
      * @stable ICU 3.8
      */
@@ -1340,21 +1365,17 @@ private Object getMemory(String label, Object array, Class<?> arrayClass,
     {
         int len = Array.getLength(array);
 
-        /* we have at least enough memory and must not allocate */
-        if (sizeNeeded == len) {
+        /* we have at least enough memory: keep it, so that a reused
+           object does not allocate again for shorter texts */
+        if (sizeNeeded <= len) {
             return array;
         }
         if (!mayAllocate) {
             /* we must not allocate */
-            if (sizeNeeded <= len) {
-                return array;
-            }
             throw new OutOfMemoryError("Failed to allocate memory for "
                                        + label);
         }
-        /* we may try to grow or shrink */
-        /* FOOD FOR THOUGHT: when shrinking it should be possible to avoid
-           the allocation altogether and rely on this.length */
+        /* we may try to grow */
         try {
             return Array.newInstance(arrayClass, sizeNeeded);
         } catch (Exception e) {
@@ -1834,10 +1855,14 @@ private void getDirProps()
        lastStack is reset to -1 on paragraph boundaries. */
     /* The following stack contains the position of the initiator of
        each open isolate sequence */
-        int[] isolateStartStack= new int[MAX_EXPLICIT_LEVEL+1];
+        if (this.isolateStartStack == null) {
+            this.isolateStartStack = new int[MAX_EXPLICIT_LEVEL+1];
+            this.previousStateStack = new byte[MAX_EXPLICIT_LEVEL+1];
+        }
+        int[] isolateStartStack = this.isolateStartStack;
     /* The following stack contains the last known state before
        encountering the initiator of an isolate sequence */
-        byte[] previousStateStack = new byte[MAX_EXPLICIT_LEVEL+1];
+        byte[] previousStateStack = this.previousStateStack;
         int  stackLast=-1;
 
         if ((reorderingOptions & OPTION_STREAMING) != 0)
@@ -3673,6 +3698,50 @@ public void setContext(String prologue, String epilogue) {
         this.epilogue = epilogue != null && epilogue.length() > 0 ? epilogue : null;
     }
 
+    /*
+     * Fast path of setPara() for a single paragraph of ASCII text at an LTR
+     * paragraph level: there are no strong RTL characters, no explicit
+     * embeddings and no paragraph separators, so the text is all at level 0
+     * and neither explicit nor implicit levels need to be resolved.
+     * Sets the same fields as getDirProps() and resolveExplicitLevels() would,
+     * or returns false without changing anything if the fast path does not apply.
+     */
+    private boolean setParaASCII() {
+        if ((paraLevel != 0 && paraLevel != LEVEL_DEFAULT_LTR) ||
+            customClassifier != null || prologue != null || epilogue != null ||
+            reorderingMode > REORDER_LAST_LOGICAL_TO_VISUAL ||
+            (reorderingOptions & OPTION_STREAMING) != 0) {
+            return false;
+        }
+        for (int i = 0; i < length; ++i) {
+            char c = text[i];
+            if (c >= 0x80 || ASCII_DIR_PROPS[c] == B) {
+                return false;
+            }
+        }
+        getDirPropsMemory(length);
+        dirProps = dirPropsMemory;
+        int dirPropFlags = DirPropFlag(L);
+        for (int i = 0; i < length; ++i) {
+            byte dirProp = ASCII_DIR_PROPS[text[i]];
+            dirProps[i] = dirProp;
+            dirPropFlags |= DirPropFlag(dirProp);
+        }
+        flags = dirPropFlags;
+        lastArabicPos = -1;
+        controlCount = 0;
+        paras_limit[0] = length;
+        paras_level[0] = 0;
+        paraLevel = 0;
+        getLevelsMemory(length);
+        levels = levelsMemory;
+        direction = LTR;
+        /* all levels are implicitly at paraLevel (important for getLevels()) */
+        trailingWSStart = 0;
+        isolateCount = -1;
+        return true;
+    }
+
     private void setParaSuccess() {
         prologue = null;                /* forget the last context */
         epilogue = null;
@@ -3758,8 +3827,12 @@ void setParaRunsOnly(char[] parmText, byte parmParaLevel) {
         if (addedRuns > 0) {
             getRunsMemory(oldRunCount + addedRuns);
             if (runCount == 1) {
-                /* because we switch from UBiDi.simpleRuns to UBiDi.runs */
-                runsMemory[0] = runs[0];
+                /* because we switch from UBiDi.simpleRuns to UBiDi.runs;
+                   copy the run, since the BidiRun objects of runsMemory are reused */
+                if (runsMemory[0] == null) {
+                    runsMemory[0] = new BidiRun();
+                }
+                runsMemory[0].copyFrom(runs[0]);
             } else {
                 System.arraycopy(runs, 0, runsMemory, 0, runCount);
             }
@@ -4029,9 +4102,9 @@ public void setPara(char[] chars, byte paraLevel, byte[] embeddingLevels)
         /* Allocate zero-length arrays instead of setting to null here; then
          * checks for null in various places can be eliminated.
          */
-        dirProps = new byte[0];
-        levels = new byte[0];
-        runs = new BidiRun[0];
+        dirProps = EMPTY_BYTES;
+        levels = EMPTY_BYTES;
+        runs = EMPTY_RUNS;
         isGoodLogicalToVisualRunsMap = false;
         insertPoints.size = 0;          /* clean up from last call */
         insertPoints.confirmed = 0;     /* clean up from last call */
@@ -4060,6 +4133,11 @@ public void setPara(char[] chars, byte paraLevel, byte[] embeddingLevels)
 
         runCount = -1;
 
+        if (embeddingLevels == null && setParaASCII()) {
+            setParaSuccess();
+            return;
+        }
+
         /*
          * Get the directional properties,
          * the flags bit-set, and
@@ -5760,6 +5838,103 @@ public String writeReordered(int options)
         return BidiWriter.writeReordered(this, options);
     }
 
+    /**
+     * Take a <code>Bidi</code> object containing the reordering
+     * information for a piece of text (one or more paragraphs) set by
+     * <code>setPara()</code> or for a line of text set by <code>setLine()</code>
+     * and append a reordered string to an <code>Appendable</code>,
+     * like <code>writeReordered(int)</code>.
+     *
+     * When <code>dest</code> is a <code>StringBuilder</code>, the text is appended
+     * to it directly. Otherwise it is written to a buffer of this object first,
+     * which is reused by later calls.
+     *
+     * @param options A bit set of options for the reordering that control
+     *                how the reordered text is written.
+     *                See <code>writeReordered(int)</code>.
+     * @param dest The destination to which the reordered text is appended.
+     * @return <code>dest</code>
+     *
+     * @throws IllegalStateException if this call is not preceded by a successful
+     *         call to <code>setPara</code> or <code>setLine</code>
+     * @throws ICUUncheckedIOException if <code>dest</code> throws an <code>IOException</code>
+     *
+     * @see #writeReordered(int)
+     * @draft ICU 78
+     */
+    public Appendable writeReordered(int options, Appendable dest)
+    {
+        verifyValidParaOrLine();
+        if (length == 0) {
+            /* nothing to do */
+            return dest;
+        }
+        if (dest instanceof StringBuilder) {
+            BidiWriter.writeReordered(this, BidiWriter.getWriteOptions(this, options),
+                                      (StringBuilder)dest);
+            return dest;
+        }
+        try {
+            return dest.append(writeReorderedToBuffer(options));
+        } catch (IOException e) {
+            throw new ICUUncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Take a <code>Bidi</code> object containing the reordering
+     * information for a piece of text (one or more paragraphs) set by
+     * <code>setPara()</code> or for a line of text set by <code>setLine()</code>
+     * and write a reordered string to a <code>char</code> array,
+     * like <code>writeReordered(int)</code>.
+     *
+     * The text is written to a buffer of this object first, which is reused
+     * by later calls, so that reusing this object for many lines
+     * does not allocate any strings.
+     *
+     * @param options A bit set of options for the reordering that control
+     *                how the reordered text is written.
+     *                See <code>writeReordered(int)</code>.
+     * @param dest The array into which the reordered text is written.
+     * @param destStart The index in <code>dest</code> of the first character written.
+     * @return The number of characters written,
+     *         which is the length of <code>writeReordered(options)</code>.
+     *
+     * @throws IllegalStateException if this call is not preceded by a successful
+     *         call to <code>setPara</code> or <code>setLine</code>
+     * @throws IndexOutOfBoundsException if the reordered text does not fit into
+     *         <code>dest</code> from <code>destStart</code>
+     *
+     * @see #writeReordered(int)
+     * @draft ICU 78
+     */
+    public int writeReordered(int options, char[] dest, int destStart)
+    {
+        verifyValidParaOrLine();
+        if (length == 0) {
+            /* nothing to do */
+            return 0;
+        }
+        StringBuilder buffer = writeReorderedToBuffer(options);
+        int resultLength = buffer.length();
+        if (destStart < 0 || destStart > dest.length || resultLength > dest.length - destStart) {
+            throw new IndexOutOfBoundsException("The reordered text of length " + resultLength +
+                    " does not fit into the array of length " + dest.length + " from " + destStart);
+        }
+        buffer.getChars(0, resultLength, dest, destStart);
+        return resultLength;
+    }
+
+    private StringBuilder writeReorderedToBuffer(int options)
+    {
+        if (reorderedText == null) {
+            reorderedText = new StringBuilder(length);
+        }
+        reorderedText.setLength(0);
+        BidiWriter.writeReordered(this, BidiWriter.getWriteOptions(this, options), reorderedText);
+        return reorderedText;
+    }
+
     /**
      * Reverse a Right-To-Left run of Unicode text.
      *
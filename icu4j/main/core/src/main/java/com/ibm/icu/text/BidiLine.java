@@ -131,7 +131,7 @@ static Bidi setLine(Bidi paraBidi, int start, int limit) {
         System.arraycopy(paraBidi.text, start, lineBidi.text, 0, length);
         lineBidi.paraLevel = paraBidi.GetParaLevelAt(start);
         lineBidi.paraCount = paraBidi.paraCount;
-        lineBidi.runs = new BidiRun[0];
+        lineBidi.runs = Bidi.EMPTY_RUNS;
         lineBidi.reorderingMode = paraBidi.reorderingMode;
         lineBidi.reorderingOptions = paraBidi.reorderingOptions;
         if (paraBidi.controlCount > 0) {
@@ -324,7 +324,16 @@ static void getSingleRun(Bidi bidi, byte level) {
         bidi.runCount = 1;
 
         /* fill and reorder the single run */
-        bidi.runs[0] = new BidiRun(0, bidi.length, level);
+        bidi.runs[0].set(0, bidi.length, level);
+    }
+
+    /* set a run, reusing the BidiRun object from an earlier call if there is one */
+    private static void setRun(BidiRun[] runs, int runIndex, int start, int limit, byte level) {
+        if (runs[runIndex] == null) {
+            runs[runIndex] = new BidiRun(start, limit, level);
+        } else {
+            runs[runIndex].set(start, limit, level);
+        }
     }
 
     /* reorder the runs array (L2) ---------------------------------------------- */
@@ -563,13 +572,13 @@ static void getRuns(Bidi bidi) {
                     while (++i < limit && levels[i] == level) {}
 
                     /* i is another run limit */
-                    runs[runIndex] = new BidiRun(start, i - start, level);
+                    setRun(runs, runIndex, start, i - start, level);
                     ++runIndex;
                 } while (i < limit);
 
                 if (limit < length) {
                     /* there is a separate WS run */
-                    runs[runIndex] = new BidiRun(limit, length - limit, bidi.paraLevel);
+                    setRun(runs, runIndex, limit, length - limit, bidi.paraLevel);
                     /* For the trailing WS run, bidi.paraLevel is ok even
                        if contextual multiple paragraphs.                   */
                     if (bidi.paraLevel < minLevel) {
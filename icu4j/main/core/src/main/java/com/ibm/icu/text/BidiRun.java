@@ -66,6 +66,17 @@ public class BidiRun {
         this.level = embeddingLevel;
     }
 
+    /*
+     * Reset the content of a BidiRun instance, like the constructor
+     */
+    void set(int start, int limit, byte embeddingLevel)
+    {
+        this.start = start;
+        this.limit = limit;
+        this.level = embeddingLevel;
+        this.insertRemove = 0;
+    }
+
     /*
      * Copy the content of a BidiRun instance
      */
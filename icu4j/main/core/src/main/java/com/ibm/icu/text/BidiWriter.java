@@ -39,66 +39,64 @@ private static boolean IsCombining(int type)
      * It looks strange to do mirroring in LTR output, but it is only because
      * we are writing RTL output in reverse.
      */
-    private static String doWriteForward(String src, int options) {
+    private static void doWriteForward(char[] text, int start, int limit,
+                                       int options, StringBuilder dest) {
         /* optimize for several combinations of options */
         switch(options&(Bidi.REMOVE_BIDI_CONTROLS|Bidi.DO_MIRRORING)) {
         case 0: {
-            /* simply return the LTR run */
-            return src;
+            /* simply copy the LTR run */
+            dest.append(text, start, limit - start);
+            break;
         }
         case Bidi.DO_MIRRORING: {
-            StringBuffer dest = new StringBuffer(src.length());
-
             /* do mirroring */
-            int i=0;
+            int i = start;
             int c;
 
             do {
-                c = UTF16.charAt(src, i);
+                c = Character.codePointAt(text, i, limit);
                 i += UTF16.getCharCount(c);
-                UTF16.append(dest, UCharacter.getMirror(c));
-            } while(i < src.length());
-            return dest.toString();
+                dest.appendCodePoint(UCharacter.getMirror(c));
+            } while(i < limit);
+            break;
         }
         case Bidi.REMOVE_BIDI_CONTROLS: {
-            StringBuilder dest = new StringBuilder(src.length());
-
             /* copy the LTR run and remove any Bidi control characters */
-            int i = 0;
+            int i = start;
             char c;
             do {
-                c = src.charAt(i++);
+                c = text[i++];
                 if(!Bidi.IsBidiControlChar(c)) {
                     dest.append(c);
                 }
-            } while(i < src.length());
-            return dest.toString();
+            } while(i < limit);
+            break;
         }
         default: {
-            StringBuffer dest = new StringBuffer(src.length());
-
             /* remove Bidi control characters and do mirroring */
-            int i = 0;
+            int i = start;
             int c;
             do {
-                c = UTF16.charAt(src, i);
+                c = Character.codePointAt(text, i, limit);
                 i += UTF16.getCharCount(c);
                 if(!Bidi.IsBidiControlChar(c)) {
-                    UTF16.append(dest, UCharacter.getMirror(c));
+                    dest.appendCodePoint(UCharacter.getMirror(c));
                 }
-            } while(i < src.length());
-            return dest.toString();
+            } while(i < limit);
+            break;
         }
         } /* end of switch */
     }
 
-    private static String doWriteForward(char[] text, int start, int limit,
-                                         int options)
-    {
-        return doWriteForward(new String(text, start, limit - start), options);
+    static String writeReverse(String src, int options) {
+        StringBuilder dest = new StringBuilder(src.length());
+        char[] text = src.toCharArray();
+        doWriteReverse(text, 0, text.length, options, dest);
+        return dest.toString();
     }
 
-    static String writeReverse(String src, int options) {
+    static void doWriteReverse(char[] text, int start, int limit, int options,
+                               StringBuilder dest) {
         /*
          * RTL run -
          *
@@ -117,7 +115,7 @@ static String writeReverse(String src, int options) {
          * whether characters should be replaced by their mirror-image
          * equivalent Unicode characters.
          */
-        StringBuffer dest = new StringBuffer(src.length());
+        int srcLength = limit;
 
         /* optimize for several combinations of options */
         switch (options &
@@ -131,12 +129,8 @@ static String writeReverse(String src, int options) {
              * run will have the same length as the source run,
              * and there is no mirroring and no keeping combining characters
              * with their base characters.
-             *
-             * XXX: or dest = UTF16.reverse(new StringBuffer(src));
              */
 
-            int srcLength = src.length();
-
             /* preserve character integrity */
             do {
                 /* i is always after the last code unit known to need to be kept
@@ -144,12 +138,12 @@ static String writeReverse(String src, int options) {
                 int i = srcLength;
 
                 /* collect code units for one base character */
-                srcLength -= UTF16.getCharCount(UTF16.charAt(src,
-                                                             srcLength - 1));
+                srcLength -= UTF16.getCharCount(Character.codePointBefore(text,
+                                                srcLength, start));
 
                 /* copy this base character */
-                dest.append(src.substring(srcLength, i));
-            } while(srcLength > 0);
+                dest.append(text, srcLength, i - srcLength);
+            } while(srcLength > start);
             break;
 
         case Bidi.KEEP_BASE_COMBINING:
@@ -160,7 +154,6 @@ static String writeReverse(String src, int options) {
              * We do need to keep combining characters with their base
              * characters.
              */
-            srcLength = src.length();
 
             /* preserve character integrity */
             do {
@@ -172,13 +165,13 @@ static String writeReverse(String src, int options) {
                 /* collect code units and modifier letters for one base
                  * character */
                 do {
-                    c = UTF16.charAt(src, srcLength - 1);
+                    c = Character.codePointBefore(text, srcLength, start);
                     srcLength -= UTF16.getCharCount(c);
-                } while(srcLength > 0 && IsCombining(UCharacter.getType(c)));
+                } while(srcLength > start && IsCombining(UCharacter.getType(c)));
 
                 /* copy this "user character" */
-                dest.append(src.substring(srcLength, i));
-            } while(srcLength > 0);
+                dest.append(text, srcLength, i - srcLength);
+            } while(srcLength > start);
             break;
 
         default:
@@ -189,7 +182,6 @@ static String writeReverse(String src, int options) {
              * keep combining characters with their base characters
              * as requested.
              */
-            srcLength = src.length();
 
             /* preserve character integrity */
             do {
@@ -198,12 +190,12 @@ static String writeReverse(String src, int options) {
                 int i = srcLength;
 
                 /* collect code units for one base character */
-                int c = UTF16.charAt(src, srcLength - 1);
+                int c = Character.codePointBefore(text, srcLength, start);
                 srcLength -= UTF16.getCharCount(c);
                 if ((options & Bidi.KEEP_BASE_COMBINING) != 0) {
                     /* collect modifier letters for this base character */
-                    while(srcLength > 0 && IsCombining(UCharacter.getType(c))) {
-                        c = UTF16.charAt(src, srcLength - 1);
+                    while(srcLength > start && IsCombining(UCharacter.getType(c))) {
+                        c = Character.codePointBefore(text, srcLength, start);
                         srcLength -= UTF16.getCharCount(c);
                     }
                 }
@@ -219,28 +211,21 @@ static String writeReverse(String src, int options) {
                 if((options & Bidi.DO_MIRRORING) != 0) {
                     /* mirror only the base character */
                     c = UCharacter.getMirror(c);
-                    UTF16.append(dest, c);
+                    dest.appendCodePoint(c);
                     j += UTF16.getCharCount(c);
                 }
-                dest.append(src.substring(j, i));
-            } while(srcLength > 0);
+                dest.append(text, j, i - j);
+            } while(srcLength > start);
             break;
         } /* end of switch */
-
-        return dest.toString();
     }
 
-    static String doWriteReverse(char[] text, int start, int limit, int options)
-    {
-        return writeReverse(new String(text, start, limit - start), options);
-    }
-
-    static String writeReordered(Bidi bidi, int options)
+    /*
+     * Adjust the writeReordered() options to the reordering mode and
+     * options of the Bidi object.
+     */
+    static int getWriteOptions(Bidi bidi, int options)
     {
-        int run, runCount;
-        StringBuilder dest;
-        char[] text = bidi.text;
-        runCount = bidi.countRuns();
 
         /*
          * Option "insert marks" implies Bidi.INSERT_LRM_FOR_NUMERIC if the
@@ -268,8 +253,29 @@ static String writeReordered(Bidi bidi, int options)
             (bidi.reorderingMode != Bidi.REORDER_RUNS_ONLY)) {
             options &= ~Bidi.INSERT_LRM_FOR_NUMERIC;
         }
-        dest = new StringBuilder((options & Bidi.INSERT_LRM_FOR_NUMERIC) != 0 ?
-                                 bidi.length * 2 : bidi.length);
+        return options;
+    }
+
+    static String writeReordered(Bidi bidi, int options)
+    {
+        options = getWriteOptions(bidi, options);
+        StringBuilder dest = new StringBuilder((options & Bidi.INSERT_LRM_FOR_NUMERIC) != 0 ?
+                                               bidi.length * 2 : bidi.length);
+        writeReordered(bidi, options, dest);
+        return dest.toString();
+    }
+
+    /*
+     * Append the reordered text to dest.
+     * The options must have been adjusted with getWriteOptions().
+     */
+    static void writeReordered(Bidi bidi, int options, StringBuilder dest)
+    {
+        int run, runCount;
+        char[] text = bidi.text;
+        runCount = bidi.countRuns();
+        BidiRun[] runs = bidi.runs;
+        int start, limit;
         /*
          * Iterate through all visual runs and copy the run text segments to
          * the destination, according to the options.
@@ -284,14 +290,13 @@ static String writeReordered(Bidi bidi, int options)
             if ((options & Bidi.INSERT_LRM_FOR_NUMERIC) == 0) {
                 /* do not insert Bidi controls */
                 for (run = 0; run < runCount; ++run) {
-                    BidiRun bidiRun = bidi.getVisualRun(run);
+                    start = runs[run].start;
+                    limit = start + runs[run].limit - (run > 0 ? runs[run - 1].limit : 0);
+                    BidiRun bidiRun = runs[run];
                     if (bidiRun.isEvenRun()) {
-                        dest.append(doWriteForward(text, bidiRun.start,
-                                                   bidiRun.limit,
-                                                   options & ~Bidi.DO_MIRRORING));
+                        doWriteForward(text, start, limit, options & ~Bidi.DO_MIRRORING, dest);
                      } else {
-                        dest.append(doWriteReverse(text, bidiRun.start,
-                                                   bidiRun.limit, options));
+                        doWriteReverse(text, start, limit, options, dest);
                      }
                 }
             } else {
@@ -301,7 +306,9 @@ static String writeReordered(Bidi bidi, int options)
                 int markFlag;
 
                 for (run = 0; run < runCount; ++run) {
-                    BidiRun bidiRun = bidi.getVisualRun(run);
+                    start = runs[run].start;
+                    limit = start + runs[run].limit - (run > 0 ? runs[run - 1].limit : 0);
+                    BidiRun bidiRun = runs[run];
                     markFlag=0;
                     /* check if something relevant in insertPoints */
                     markFlag = bidi.runs[run].insertRemove;
@@ -310,7 +317,7 @@ static String writeReordered(Bidi bidi, int options)
                     }
                     if (bidiRun.isEvenRun()) {
                         if (bidi.isInverse() &&
-                                dirProps[bidiRun.start] != Bidi.L) {
+                                dirProps[start] != Bidi.L) {
                             markFlag |= Bidi.LRM_BEFORE;
                         }
                         if ((markFlag & Bidi.LRM_BEFORE) != 0) {
@@ -323,12 +330,10 @@ static String writeReordered(Bidi bidi, int options)
                         if (uc != 0) {
                             dest.append(uc);
                         }
-                        dest.append(doWriteForward(text,
-                                                   bidiRun.start, bidiRun.limit,
-                                                   options & ~Bidi.DO_MIRRORING));
+                        doWriteForward(text, start, limit, options & ~Bidi.DO_MIRRORING, dest);
 
                         if (bidi.isInverse() &&
-                             dirProps[bidiRun.limit - 1] != Bidi.L) {
+                             dirProps[limit - 1] != Bidi.L) {
                             markFlag |= Bidi.LRM_AFTER;
                         }
                         if ((markFlag & Bidi.LRM_AFTER) != 0) {
@@ -344,7 +349,7 @@ static String writeReordered(Bidi bidi, int options)
                     } else { /* RTL run */
                         if (bidi.isInverse() &&
                             !bidi.testDirPropFlagAt(MASK_R_AL,
-                                                    bidiRun.limit - 1)) {
+                                                    limit - 1)) {
                             markFlag |= Bidi.RLM_BEFORE;
                         }
                         if ((markFlag & Bidi.LRM_BEFORE) != 0) {
@@ -357,11 +362,10 @@ static String writeReordered(Bidi bidi, int options)
                         if (uc != 0) {
                             dest.append(uc);
                         }
-                        dest.append(doWriteReverse(text, bidiRun.start,
-                                                   bidiRun.limit, options));
+                        doWriteReverse(text, start, limit, options, dest);
 
                         if(bidi.isInverse() &&
-                                (MASK_R_AL & Bidi.DirPropFlag(dirProps[bidiRun.start])) == 0) {
+                                (MASK_R_AL & Bidi.DirPropFlag(dirProps[start])) == 0) {
                             markFlag |= Bidi.RLM_AFTER;
                         }
                         if ((markFlag & Bidi.LRM_AFTER) != 0) {
@@ -382,14 +386,13 @@ static String writeReordered(Bidi bidi, int options)
             if((options & Bidi.INSERT_LRM_FOR_NUMERIC) == 0) {
                 /* do not insert Bidi controls */
                 for(run = runCount; --run >= 0; ) {
-                    BidiRun bidiRun = bidi.getVisualRun(run);
+                    start = runs[run].start;
+                    limit = start + runs[run].limit - (run > 0 ? runs[run - 1].limit : 0);
+                    BidiRun bidiRun = runs[run];
                     if (bidiRun.isEvenRun()) {
-                        dest.append(doWriteReverse(text,
-                                                   bidiRun.start, bidiRun.limit,
-                                                   options & ~Bidi.DO_MIRRORING));
+                        doWriteReverse(text, start, limit, options & ~Bidi.DO_MIRRORING, dest);
                     } else {
-                        dest.append(doWriteForward(text, bidiRun.start,
-                                                   bidiRun.limit, options));
+                        doWriteForward(text, start, limit, options, dest);
                     }
                 }
             } else {
@@ -399,34 +402,32 @@ static String writeReordered(Bidi bidi, int options)
 
                 for (run = runCount; --run >= 0; ) {
                     /* reverse output */
-                    BidiRun bidiRun = bidi.getVisualRun(run);
+                    start = runs[run].start;
+                    limit = start + runs[run].limit - (run > 0 ? runs[run - 1].limit : 0);
+                    BidiRun bidiRun = runs[run];
                     if (bidiRun.isEvenRun()) {
-                        if (dirProps[bidiRun.limit - 1] != Bidi.L) {
+                        if (dirProps[limit - 1] != Bidi.L) {
                             dest.append(LRM_CHAR);
                         }
 
-                        dest.append(doWriteReverse(text, bidiRun.start,
-                                bidiRun.limit, options & ~Bidi.DO_MIRRORING));
+                        doWriteReverse(text, start, limit, options & ~Bidi.DO_MIRRORING, dest);
 
-                        if (dirProps[bidiRun.start] != Bidi.L) {
+                        if (dirProps[start] != Bidi.L) {
                             dest.append(LRM_CHAR);
                         }
                     } else {
-                        if ((MASK_R_AL & Bidi.DirPropFlag(dirProps[bidiRun.start])) == 0) {
+                        if ((MASK_R_AL & Bidi.DirPropFlag(dirProps[start])) == 0) {
                             dest.append(RLM_CHAR);
                         }
 
-                        dest.append(doWriteForward(text, bidiRun.start,
-                                                   bidiRun.limit, options));
+                        doWriteForward(text, start, limit, options, dest);
 
-                        if ((MASK_R_AL & Bidi.DirPropFlag(dirProps[bidiRun.limit - 1])) == 0) {
+                        if ((MASK_R_AL & Bidi.DirPropFlag(dirProps[limit - 1])) == 0) {
                             dest.append(RLM_CHAR);
                         }
                     }
                 }
             }
         }
-
-        return dest.toString();
     }
 }
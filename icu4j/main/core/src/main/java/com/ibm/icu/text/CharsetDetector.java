@@ -115,9 +115,8 @@ public CharsetDetector setText(byte [] in) {
     public CharsetDetector setText(InputStream in) throws IOException {
         fInputStream = in;
         fInputStream.mark(kBufSize);
-        fRawInput = new byte[kBufSize];   // Always make a new buffer because the
-                                          //   previous one may have come from the caller,
-                                          //   in which case we can't touch it.
+        fRawInput = getOwnBuffer();       // Never the previous fRawInput, which may have come
+                                          //   from the caller, in which case we can't touch it.
         fRawLength = 0;
         int remainingLength = kBufSize;
         while (remainingLength > 0 ) {
@@ -134,6 +133,128 @@ public CharsetDetector setText(InputStream in) throws IOException {
         return this;
     }
 
+    /**
+     * Prepare this detector for the next document.
+     * The input text and the declared encoding are cleared;
+     * the other settings are kept, and the internal buffers are reused.
+     * <p>
+     * Use this method together with {@link #appendText(byte[], int, int)}
+     * to detect the charsets of many documents without allocating per document.
+     *
+     * @return This CharsetDetector
+     *
+     * @draft ICU 78
+     */
+    public CharsetDetector reset() {
+        fDeclaredEncoding = null;
+        startAppending();
+        return this;
+    }
+
+    private void startAppending() {
+        fRawInput = getOwnBuffer();
+        fRawLength = 0;
+        fInputStream = null;
+        fNextCheckLength = kMinCheckLength;
+    }
+
+    private byte[] getOwnBuffer() {
+        if (fOwnBuffer == null) {
+            fOwnBuffer = new byte[kBufSize];
+        }
+        return fOwnBuffer;
+    }
+
+    /**
+     * Append a chunk of input text (byte) data whose charset is to be detected.
+     * The chunks of a document are appended one by one, for example as they
+     * arrive from the network, on a new detector or after a call to {@link #reset()}.
+     * If the input text was set with one of the <code>setText()</code> methods instead,
+     * then it is replaced by this chunk.
+     * <p>
+     * Detection looks at most at the first few thousand bytes of a document.
+     * This method returns <code>false</code> when no more input is needed:
+     * either that limit has been reached, or a confidence threshold has been set
+     * and the input so far already yields a match that reaches it.
+     * Further chunks are ignored, and the caller can go on to {@link #detect()}.
+     * <p>
+     * The input data is copied into a buffer that is reused after {@link #reset()}.
+     * The <code>getString()</code> and <code>getReader()</code> methods of the
+     * resulting matches read from that buffer, so they must be called before then.
+     *
+     * @param in the buffer with the next chunk of input text
+     * @param start the index of the chunk in the buffer
+     * @param length the length of the chunk
+     *
+     * @return <code>true</code> if more input could improve the detection
+     *
+     * @see #setConfidenceThreshold(int)
+     *
+     * @draft ICU 78
+     */
+    public boolean appendText(byte[] in, int start, int length) {
+        if (fRawInput == null || fRawInput != fOwnBuffer || fInputStream != null) {
+            startAppending();
+        }
+        int count = Math.min(length, kBufSize - fRawLength);
+        System.arraycopy(in, start, fRawInput, fRawLength, count);
+        fRawLength += count;
+        if (fRawLength == kBufSize) {
+            return false;
+        }
+        if (fConfidenceThreshold > 0 && fRawLength >= fNextCheckLength) {
+            // Doubling the length between checks keeps the total work within
+            //   about twice that of a single detection over the final input.
+            fNextCheckLength = fRawLength * 2;
+            CharsetMatch match = detect();
+            if (match != null && match.getConfidence() >= fConfidenceThreshold) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Set the confidence at which detection stops early.
+     * <p>
+     * By default, {@link #detect()} runs every enabled charset recognizer and
+     * returns the best match. With a threshold, it instead returns the first
+     * match whose confidence is at least the threshold, without running the
+     * remaining recognizers. The Unicode recognizers run first, and they report
+     * a confidence of 100 for a byte order mark or for clean UTF-8,
+     * so a threshold of 100 turns such input into a short scan. {@link #appendText(byte[], int, int)} also uses
+     * the threshold to stop asking for more input.
+     *
+     * @param threshold a confidence between 1 and 100, or 0 (the default) to always
+     *            find the best match
+     *
+     * @return This CharsetDetector
+     *
+     * @throws IllegalArgumentException if the threshold is not between 0 and 100
+     *
+     * @draft ICU 78
+     */
+    public CharsetDetector setConfidenceThreshold(int threshold) {
+        if (threshold < 0 || threshold > 100) {
+            throw new IllegalArgumentException("Invalid confidence threshold: " + threshold);
+        }
+        fConfidenceThreshold = threshold;
+        return this;
+    }
+
+    /**
+     * Get the confidence at which detection stops early.
+     *
+     * @return the confidence threshold, or 0 if detection always finds the best match
+     *
+     * @see #setConfidenceThreshold(int)
+     *
+     * @draft ICU 78
+     */
+    public int getConfidenceThreshold() {
+        return fConfidenceThreshold;
+    }
+
   
     /**
      * Return the charset that best matches the supplied input data.
@@ -155,17 +276,24 @@ public CharsetDetector setText(InputStream in) throws IOException {
      * @stable ICU 3.4
      */
     public CharsetMatch detect() {
-//   TODO:  A better implementation would be to copy the detect loop from
-//          detectAll(), and cut it short as soon as a match with a high confidence
-//          is found.  This is something to be done later, after things are otherwise
-//          working.
-        CharsetMatch matches[] = detectAll();
-        
-        if (matches == null || matches.length == 0) {
-            return null;
+        CharsetMatch best = null;
+
+        MungeInput();  // Strip html markup, collect byte stats.
+
+        for (int index : getActiveRecognizers()) {
+            CharsetMatch m = ALL_CS_RECOGNIZERS.get(index).recognizer.match(this);
+            if (m == null) {
+                continue;
+            }
+            if (fConfidenceThreshold > 0 && m.getConfidence() >= fConfidenceThreshold) {
+                return m;
+            }
+            // On equal confidence, the later match wins, the same as in the order of detectAll().
+            if (best == null || m.getConfidence() >= best.getConfidence()) {
+                best = m;
+            }
         }
-        
-        return matches[0];
+        return best;
      }
     
     /**
@@ -188,16 +316,12 @@ public CharsetMatch[] detectAll() {
         
         MungeInput();  // Strip html markup, collect byte stats.
         
-        //  Iterate over all possible charsets, remember all that
+        //  Iterate over all active charsets, remember all that
         //    give a match quality > 0.
-        for (int i = 0; i < ALL_CS_RECOGNIZERS.size(); i++) {
-            CSRecognizerInfo rcinfo = ALL_CS_RECOGNIZERS.get(i);
-            boolean active = (fEnabledRecognizers != null) ? fEnabledRecognizers[i] : rcinfo.isDefaultEnabled;
-            if (active) {
-                CharsetMatch m = rcinfo.recognizer.match(this);
-                if (m != null) {
-                    matches.add(m);
-                }
+        for (int index : getActiveRecognizers()) {
+            CharsetMatch m = ALL_CS_RECOGNIZERS.get(index).recognizer.match(this);
+            if (m != null) {
+                matches.add(m);
             }
         }
         Collections.sort(matches);      // CharsetMatch compares on confidence
@@ -459,6 +583,20 @@ private void MungeInput() {
                                                 // been changed from the default. The array index is
                                                 // corresponding to ALL_RECOGNIZER. See setDetectableCharset().
 
+    private int[]        fActiveRecognizers;    // Indexes of the active recognizers in ALL_CS_RECOGNIZERS,
+                                                //   or null if not yet computed from fEnabledRecognizers.
+
+    private byte[]       fOwnBuffer;            // Input buffer owned by this detector, reused for
+                                                //   streams and appended text.
+
+    private int          fNextCheckLength;      // Length of appended text at which to check again
+                                                //   whether the confidence threshold is reached.
+
+    private int          fConfidenceThreshold;  // If not 0, detect() returns the first match
+                                                //   with at least this confidence.
+
+    private static final int kMinCheckLength = 256;
+
     private static class CSRecognizerInfo {
         CharsetRecognizer recognizer;
         boolean isDefaultEnabled;
@@ -474,6 +612,8 @@ private static class CSRecognizerInfo {
      */
     private static final List<CSRecognizerInfo> ALL_CS_RECOGNIZERS;
 
+    private static final int[] DEFAULT_ACTIVE_RECOGNIZERS;
+
     static {
         List<CSRecognizerInfo> list = new ArrayList<CSRecognizerInfo>();
 
@@ -511,6 +651,63 @@ private static class CSRecognizerInfo {
         list.add(new CSRecognizerInfo(new CharsetRecog_sbcs.CharsetRecog_IBM420_ar_ltr(), false));
 
         ALL_CS_RECOGNIZERS = Collections.unmodifiableList(list);
+        DEFAULT_ACTIVE_RECOGNIZERS = getActiveRecognizers(null);
+    }
+
+    private static int[] getActiveRecognizers(boolean[] enabled) {
+        int count = 0;
+        int[] indexes = new int[ALL_CS_RECOGNIZERS.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            if (enabled != null ? enabled[i] : ALL_CS_RECOGNIZERS.get(i).isDefaultEnabled) {
+                indexes[count++] = i;
+            }
+        }
+        return Arrays.copyOf(indexes, count);
+    }
+
+    private int[] getActiveRecognizers() {
+        if (fEnabledRecognizers == null) {
+            return DEFAULT_ACTIVE_RECOGNIZERS;
+        }
+        if (fActiveRecognizers == null) {
+            fActiveRecognizers = getActiveRecognizers(fEnabledRecognizers);
+        }
+        return fActiveRecognizers;
+    }
+
+    private static int getRecognizerIndex(String encoding) {
+        for (int i = 0; i < ALL_CS_RECOGNIZERS.size(); i++) {
+            if (ALL_CS_RECOGNIZERS.get(i).recognizer.getName().equals(encoding)) {
+                return i;
+            }
+        }
+        // No matching encoding found
+        throw new IllegalArgumentException("Invalid encoding: " + "\"" + encoding + "\"");
+    }
+
+    /**
+     * Restrict detection to the given charsets.
+     * Each name must be included in the names returned by
+     * {@link #getAllDetectableCharsets()}.
+     * <p>
+     * Use this method when the input is known to be in one of a few charsets,
+     * to skip the recognizers for all the others.
+     *
+     * @param encodings the names of the candidate charsets
+     * @return A reference to this <code>CharsetDetector</code>.
+     * @throws IllegalArgumentException when the name of a charset encoding is
+     * not supported.
+     *
+     * @draft ICU 78
+     */
+    public CharsetDetector setCandidateCharsets(String... encodings) {
+        boolean[] enabled = new boolean[ALL_CS_RECOGNIZERS.size()];
+        for (String encoding : encodings) {
+            enabled[getRecognizerIndex(encoding)] = true;
+        }
+        fEnabledRecognizers = enabled;
+        fActiveRecognizers = null;
+        return this;
     }
 
     /**
@@ -552,20 +749,8 @@ public String[] getDetectableCharsets() {
      */
     @Deprecated
     public CharsetDetector setDetectableCharset(String encoding, boolean enabled) {
-        int modIdx = -1;
-        boolean isDefaultVal = false;
-        for (int i = 0; i < ALL_CS_RECOGNIZERS.size(); i++) {
-            CSRecognizerInfo csrinfo = ALL_CS_RECOGNIZERS.get(i);
-            if (csrinfo.recognizer.getName().equals(encoding)) {
-                modIdx = i;
-                isDefaultVal = (csrinfo.isDefaultEnabled == enabled);
-                break;
-            }
-        }
-        if (modIdx < 0) {
-            // No matching encoding found
-            throw new IllegalArgumentException("Invalid encoding: " + "\"" + encoding + "\"");
-        }
+        int modIdx = getRecognizerIndex(encoding);
+        boolean isDefaultVal = (ALL_CS_RECOGNIZERS.get(modIdx).isDefaultEnabled == enabled);
 
         if (fEnabledRecognizers == null && !isDefaultVal) {
             // Create an array storing the non default setting
@@ -579,6 +764,7 @@ public CharsetDetector setDetectableCharset(String encoding, boolean enabled) {
  
         if (fEnabledRecognizers != null) {
             fEnabledRecognizers[modIdx] = enabled;
+            fActiveRecognizers = null;
         }
 
         return this;
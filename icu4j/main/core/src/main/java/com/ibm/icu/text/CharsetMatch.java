@@ -114,7 +114,7 @@ public String getString(int maxLength) throws java.io.IOException {
             if (startSuffix > 0) {
                 name = name.substring(0, startSuffix);
             }
-            result = new String(fRawInput, name);
+            result = new String(fRawInput, 0, fRawLength, name);
         }
         return result;
 
@@ -1531,7 +1531,7 @@ && arrayOfArrayEquals(zoneStrings, that.zoneStrings)
 
     // DateFormatSymbols cache
     private static CacheBase<String, DateFormatSymbols, ULocale> DFSCACHE =
-        new SoftCache<String, DateFormatSymbols, ULocale>() {
+        new SoftCache<String, DateFormatSymbols, ULocale>("DateFormatSymbols") {
             @Override
             protected DateFormatSymbols createInstance(String key, ULocale locale) {
                 // Extract the type string from the key.
@@ -440,7 +440,7 @@ public void register(int i) {
 
     // Cache for the locale interval pattern
     private static ICUCache<String, Map<String, PatternInfo>> LOCAL_PATTERN_CACHE =
-        new SimpleCache<>();
+        new SimpleCache<>("DateIntervalFormat.patterns");
 
     /*
      * The interval patterns for this locale.
@@ -308,7 +308,8 @@ public String toString() {
     private static String EARLIEST_FIRST_PREFIX = "earliestFirst:";
 
     // DateIntervalInfo cache
-    private final static ICUCache<String, DateIntervalInfo> DIICACHE = new SimpleCache<>();
+    private final static ICUCache<String, DateIntervalInfo> DIICACHE =
+            new SimpleCache<>("DateIntervalInfo");
 
 
     // default interval pattern on the skeleton, {0} - {1}
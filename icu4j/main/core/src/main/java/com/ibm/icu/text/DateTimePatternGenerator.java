@@ -2228,7 +2228,8 @@ public String toString() {
     private static final int SECOND_AND_FRACTIONAL_MASK = (1<<SECOND) | (1<<FRACTIONAL_SECOND);
 
     // Cache for DateTimePatternGenerator
-    private static ICUCache<String, DateTimePatternGenerator> DTPNG_CACHE = new SimpleCache<>();
+    private static ICUCache<String, DateTimePatternGenerator> DTPNG_CACHE =
+            new SimpleCache<>("DateTimePatternGenerator");
 
     private void checkFrozen() {
         if (isFrozen()) {
@@ -1958,7 +1958,7 @@ private void readObject(ObjectInputStream stream)
      * cache to hold the NumberElements of a Locale.
      */
     private static final CacheBase<ULocale, CacheData, Void> cachedLocaleData =
-        new SoftCache<ULocale, CacheData, Void>() {
+        new SoftCache<ULocale, CacheData, Void>("DecimalFormatSymbols") {
             @Override
             protected CacheData createInstance(ULocale locale, Void unused) {
                 return DecimalFormatSymbols.loadData(locale);
@@ -0,0 +1,328 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: https://www.unicode.org/copyright.html
+
+package com.ibm.icu.text;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.IntStream;
+
+/**
+ * Finds all of the boundaries of a large text with a {@link RuleBasedBreakIterator},
+ * in parallel on a {@link ForkJoinPool}.
+ *
+ * <p>The text is cut into chunks that are segmented by separate clones of the break iterator.
+ * Each chunk starts with {@link BreakIterator#following(int)}, which backs up to a safe point
+ * with the safe reverse rules of the iterator and then runs the forward rules from there,
+ * so the boundaries are the same as the ones found by iterating over the whole text.</p>
+ *
+ * <p>A {@link Document} keeps the boundaries of a text, and after an edit re-segments
+ * only the region around the edit, until the boundaries line up with the old ones again.</p>
+ *
+ * <p>A DocumentSegmenter is immutable and can be used by several threads at the same time.</p>
+ *
+ * @see RuleBasedBreakIterator
+ * @draft ICU 78
+ */
+public final class DocumentSegmenter {
+    private static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+
+    private final RuleBasedBreakIterator prototype;
+    private final int chunkSize;
+
+    /**
+     * Constructs a segmenter with the rules of the break iterator,
+     * which cuts texts into chunks of 65536 chars.
+     *
+     * @param breakIterator the break iterator to segment with; it is cloned, not modified
+     * @draft ICU 78
+     */
+    public DocumentSegmenter(RuleBasedBreakIterator breakIterator) {
+        this(breakIterator, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructs a segmenter with the rules of the break iterator,
+     * which cuts texts into chunks of the given size.
+     *
+     * @param breakIterator the break iterator to segment with; it is cloned, not modified
+     * @param chunkSize the number of chars segmented by each task
+     * @throws IllegalArgumentException if chunkSize is not positive
+     * @draft ICU 78
+     */
+    public DocumentSegmenter(RuleBasedBreakIterator breakIterator, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        prototype = (RuleBasedBreakIterator) breakIterator.clone();
+        prototype.setText("");
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Returns all of the boundaries of the text, in ascending order, starting with 0 and
+     * ending with the length of the text. Large texts are segmented on the common pool.
+     *
+     * @param text the text to segment; it must not change during the call
+     * @return the boundaries
+     * @draft ICU 78
+     */
+    public int[] boundaries(CharSequence text) {
+        return boundaries(text, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns all of the boundaries of the text, in ascending order, starting with 0 and
+     * ending with the length of the text. Large texts are segmented on the given pool.
+     *
+     * @param text the text to segment; it must not change during the call
+     * @param pool the pool that runs the segmentation tasks
+     * @return the boundaries
+     * @draft ICU 78
+     */
+    public int[] boundaries(CharSequence text, ForkJoinPool pool) {
+        // All of the tasks share one copy of the chars.
+        char[] chars = text.toString().toCharArray();
+        int length = chars.length;
+        int chunkCount = (int) (((long) length + chunkSize - 1) / chunkSize);
+        if (chunkCount <= 1) {
+            return segmentChunk(chars, 0, length);
+        }
+        int[][] chunks = new int[chunkCount][];
+        pool.invoke(new SegmentTask(chars, chunks, 0, chunkCount));
+        int total = 0;
+        for (int[] chunk : chunks) {
+            total += chunk.length;
+        }
+        int[] result = new int[total];
+        int index = 0;
+        for (int[] chunk : chunks) {
+            System.arraycopy(chunk, 0, result, index, chunk.length);
+            index += chunk.length;
+        }
+        return result;
+    }
+
+    /**
+     * Returns all of the boundaries of the text as a stream, like {@link #boundaries(CharSequence)}.
+     *
+     * @param text the text to segment; it must not change during the call
+     * @return the boundaries
+     * @draft ICU 78
+     */
+    public IntStream boundaryStream(CharSequence text) {
+        return IntStream.of(boundaries(text));
+    }
+
+    /**
+     * Segments the text and returns a document that can update its boundaries
+     * after changes to the text.
+     *
+     * @param text the text to segment; it must not change, except through
+     *        {@link Document#textChanged(CharSequence, int, int, int)}
+     * @return the segmented document
+     * @draft ICU 78
+     */
+    public Document segment(CharSequence text) {
+        return new Document(this, text, boundaries(text));
+    }
+
+    /**
+     * Returns the boundaries b with start &lt; b &lt;= limit, and 0 for the chunk at the start.
+     */
+    private int[] segmentChunk(char[] text, int start, int limit) {
+        RuleBasedBreakIterator bi = (RuleBasedBreakIterator) prototype.clone();
+        bi.setText(text, 0, text.length);
+        IntStream.Builder result = IntStream.builder();
+        int b = start == 0 ? bi.first() : bi.following(start);
+        if (b == BreakIterator.DONE || b > limit) {
+            return new int[0];
+        }
+        result.add(b);
+        int[] buffer = new int[Math.min(chunkSize, 256)];
+        for (int n; (n = bi.nextBoundaries(buffer, null)) > 0;) {
+            for (int i = 0; i < n; ++i) {
+                if (buffer[i] > limit) {
+                    return result.build().toArray();
+                }
+                result.add(buffer[i]);
+            }
+        }
+        return result.build().toArray();
+    }
+
+    /**
+     * Returns true if the boundary touches characters that are segmented by
+     * a dictionary: the dictionary breaks depend on the whole run of those characters,
+     * not only on the text after the boundary.
+     */
+    private boolean nearDictionaryRun(RuleBasedBreakIterator bi, CharSequence text, int boundary) {
+        return (boundary > 0 && bi.isDictionaryChar(Character.codePointBefore(text, boundary)))
+                || (boundary < text.length() && bi.isDictionaryChar(Character.codePointAt(text, boundary)));
+    }
+
+    /**
+     * Segments the chunks in [firstChunk, limitChunk), splitting the range
+     * in halves until a task has a single chunk.
+     */
+    private final class SegmentTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final char[] text;
+        private final int[][] chunks;
+        private final int firstChunk;
+        private final int limitChunk;
+
+        SegmentTask(char[] text, int[][] chunks, int firstChunk, int limitChunk) {
+            this.text = text;
+            this.chunks = chunks;
+            this.firstChunk = firstChunk;
+            this.limitChunk = limitChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (limitChunk - firstChunk == 1) {
+                int length = text.length;
+                int start = (int) Math.min((long) firstChunk * chunkSize, length);
+                int limit = (int) Math.min((long) start + chunkSize, length);
+                chunks[firstChunk] = segmentChunk(text, start, limit);
+                return;
+            }
+            int middle = (firstChunk + limitChunk) >>> 1;
+            invokeAll(new SegmentTask(text, chunks, firstChunk, middle),
+                    new SegmentTask(text, chunks, middle, limitChunk));
+        }
+    }
+
+    /**
+     * A text with its boundaries, which are updated incrementally when the text changes.
+     *
+     * <p>A Document is not thread-safe.</p>
+     *
+     * @draft ICU 78
+     */
+    public static final class Document {
+        private final DocumentSegmenter segmenter;
+        private CharSequence text;
+        private int[] boundaries;
+
+        private Document(DocumentSegmenter segmenter, CharSequence text, int[] boundaries) {
+            this.segmenter = segmenter;
+            this.text = text;
+            this.boundaries = boundaries;
+        }
+
+        /**
+         * Returns the current text.
+         *
+         * @return the text
+         * @draft ICU 78
+         */
+        public CharSequence getText() {
+            return text;
+        }
+
+        /**
+         * Returns the number of boundaries of the text, including 0 and the length of the text.
+         *
+         * @return the number of boundaries
+         * @draft ICU 78
+         */
+        public int boundaryCount() {
+            return boundaries.length;
+        }
+
+        /**
+         * Returns a copy of the boundaries of the text, in ascending order.
+         *
+         * @return the boundaries
+         * @draft ICU 78
+         */
+        public int[] getBoundaries() {
+            return boundaries.clone();
+        }
+
+        /**
+         * Returns the boundaries of the text as a stream, in ascending order.
+         *
+         * @return the boundaries
+         * @draft ICU 78
+         */
+        public IntStream boundaries() {
+            return Arrays.stream(boundaries);
+        }
+
+        /**
+         * Updates the boundaries after the chars [start, oldLimit) of the text were replaced
+         * by the chars [start, newLimit) of the new text.
+         *
+         * <p>Segmentation restarts a boundary before the edit, since the rules can look ahead
+         * past the boundary that precedes it, and stops at the first new boundary after the edit
+         * that is also an old boundary: from there on the old boundaries are only shifted.
+         * Dictionary runs around the edit are segmented again as a whole.</p>
+         *
+         * @param newText the text after the change
+         * @param start the start of the changed chars, the same in the old and the new text
+         * @param oldLimit the limit of the changed chars in the old text
+         * @param newLimit the limit of the changed chars in the new text
+         * @throws IllegalArgumentException if the offsets do not describe a change from the
+         *         old text to the new text
+         * @draft ICU 78
+         */
+        public void textChanged(CharSequence newText, int start, int oldLimit, int newLimit) {
+            int oldLength = text.length();
+            if (start < 0 || oldLimit < start || oldLimit > oldLength || newLimit < start
+                    || newText.length() - newLimit != oldLength - oldLimit) {
+                throw new IllegalArgumentException("Invalid change [" + start + ", " + oldLimit
+                        + ") -> [" + start + ", " + newLimit + ")");
+            }
+            RuleBasedBreakIterator bi = (RuleBasedBreakIterator) segmenter.prototype.clone();
+            bi.setText(newText);
+
+            // Restart one boundary earlier than the last one before the edit,
+            // and outside of any dictionary run. The text before start is unchanged.
+            int restartIndex = Arrays.binarySearch(boundaries, start);
+            restartIndex = (restartIndex >= 0 ? restartIndex : -restartIndex - 1) - 2;
+            while (restartIndex > 0
+                    && segmenter.nearDictionaryRun(bi, newText, boundaries[restartIndex])) {
+                --restartIndex;
+            }
+            if (restartIndex < 0) {
+                restartIndex = 0;
+            }
+
+            int delta = newLimit - oldLimit;
+            int oldIndex = restartIndex + 1;
+            int[] result = Arrays.copyOf(boundaries, boundaries.length + 16);
+            int count = restartIndex + 1;
+            int b = bi.following(boundaries[restartIndex]);
+            while (b != BreakIterator.DONE) {
+                if (count == result.length) {
+                    result = Arrays.copyOf(result, count * 2);
+                }
+                result[count++] = b;
+                if (b >= newLimit) {
+                    while (oldIndex < boundaries.length && boundaries[oldIndex] + delta < b) {
+                        ++oldIndex;
+                    }
+                    if (oldIndex < boundaries.length && boundaries[oldIndex] + delta == b
+                            && !segmenter.nearDictionaryRun(bi, newText, b)) {
+                        // Back in step with the old boundaries, which only move by delta.
+                        int tailLength = boundaries.length - oldIndex - 1;
+                        result = Arrays.copyOf(result, count + tailLength);
+                        for (int i = 0; i < tailLength; ++i) {
+                            result[count + i] = boundaries[oldIndex + 1 + i] + delta;
+                        }
+                        count += tailLength;
+                        break;
+                    }
+                }
+                b = bi.next();
+            }
+            text = newText;
+            boundaries = count == result.length ? result : Arrays.copyOf(result, count);
+        }
+    }
+}
@@ -660,7 +660,7 @@ public FormattedList toValue() {
 
     private static class Cache {
         private final ICUCache<String, ListFormatter> cache =
-            new SimpleCache<>();
+            new SimpleCache<>("ListFormatter");
 
         public ListFormatter get(ULocale locale, String style) {
             String key = String.format("%s:%s", locale.toString(), style);
@@ -0,0 +1,629 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: https://www.unicode.org/copyright.html
+
+package com.ibm.icu.text;
+
+import java.text.AttributedCharacterIterator;
+import java.text.FieldPosition;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import com.ibm.icu.impl.FormattedStringBuilder;
+import com.ibm.icu.impl.FormattedValueStringBuilderImpl;
+import com.ibm.icu.impl.Grego;
+import com.ibm.icu.impl.Utility;
+import com.ibm.icu.text.TimeZoneFormat.Style;
+import com.ibm.icu.util.Calendar;
+import com.ibm.icu.util.GregorianCalendar;
+import com.ibm.icu.util.TimeZone;
+import com.ibm.icu.util.ULocale;
+
+/**
+ * {@icu} An immutable, thread-safe formatter for dates and times with a fixed pattern, locale,
+ * and time zone. It is the date counterpart of
+ * {@link com.ibm.icu.number.LocalizedNumberFormatter}: Create one instance per pattern and locale,
+ * share it among threads, and format without cloning or synchronizing.
+ *
+ * <pre>
+ * LocalizedDateFormatter f = LocalizedDateFormatter.forSkeleton("yMMMdjm", ULocale.GERMANY)
+ *         .withTimeZone(TimeZone.getTimeZone("Europe/Berlin"));
+ * String s = f.format(System.currentTimeMillis()).toString();
+ * </pre>
+ *
+ * <p>The results are the same as from a {@link SimpleDateFormat} with the same pattern, locale,
+ * and time zone. The pattern is compiled once into a sequence of literal and field steps.
+ * With the Gregorian calendar, dates after the Gregorian calendar change in 1582,
+ * decimal digits, and the common pattern fields (all except
+ * {@code Y w W F g r U b B}), a format call computes the calendar fields directly from
+ * the time value, without a {@link Calendar}. Otherwise it formats with a copy of
+ * an internal {@link SimpleDateFormat}, which is slower.
+ *
+ * <p>Capitalization contexts and numbering system overrides are not supported.
+ *
+ * @see SimpleDateFormat
+ * @draft ICU 78
+ */
+public final class LocalizedDateFormatter {
+    // Values for FieldStep.value: which calendar field to format.
+    private static final int ERA = 0;
+    private static final int YEAR = 1;
+    private static final int MONTH = 2;  // 0-based, for names
+    private static final int MONTH_NUMBER = 3;  // 1-based
+    private static final int DAY_OF_MONTH = 4;
+    private static final int DAY_OF_YEAR = 5;
+    private static final int DAY_OF_WEEK = 6;
+    private static final int DOW_LOCAL = 7;
+    private static final int AM_PM = 8;
+    private static final int HOUR_OF_DAY = 9;  // H 0..23
+    private static final int HOUR_OF_DAY_1 = 10;  // k 1..24
+    private static final int HOUR = 11;  // K 0..11
+    private static final int HOUR_1 = 12;  // h 1..12
+    private static final int MINUTE = 13;
+    private static final int SECOND = 14;
+    private static final int FRACTIONAL_SECOND = 15;
+    private static final int MILLISECONDS_IN_DAY = 16;
+    private static final int QUARTER = 17;  // 0-based, for names
+    private static final int QUARTER_NUMBER = 18;  // 1-based
+    private static final int ZONE = 19;
+
+    private static final int DAY_MILLIS = 24 * 60 * 60 * 1000;
+
+    /**
+     * One pattern field, compiled for the fast path.
+     */
+    private static final class FieldStep {
+        FieldStep(int value, DateFormat.Field field) {
+            this.value = value;
+            this.field = field;
+        }
+
+        final int value;
+        final DateFormat.Field field;
+        /** If not null, then the value is an index into these names. */
+        String[] names;
+        int minDigits;
+        int maxDigits = Integer.MAX_VALUE;
+        Style zoneStyle;
+    }
+
+    private final String pattern;
+    private final ULocale locale;
+    private final TimeZone zone;
+    /** Formats on the slow path; only ever cloned, never used directly. */
+    private final SimpleDateFormat template;
+    /** Literal Strings and FieldSteps, or null if the fast path is not supported. */
+    private final Object[] steps;
+    private final char[] digits;
+    private final TimeZoneFormat tzFormat;
+    private final int firstDayOfWeek;
+    private final long gregorianChange;
+
+    private LocalizedDateFormatter(String pattern, ULocale locale, TimeZone zone) {
+        this.pattern = pattern;
+        this.locale = locale;
+        this.zone = zone.isFrozen() ? zone : zone.cloneAsThawed().freeze();
+        template = new SimpleDateFormat(pattern, locale);
+        template.setTimeZone(this.zone);
+        Calendar cal = template.getCalendar();
+        firstDayOfWeek = cal.getFirstDayOfWeek();
+        NumberingSystem ns = NumberingSystem.getInstance(locale);
+        String digitString = ns.getDescription();
+        if (cal instanceof GregorianCalendar && cal.getType().equals("gregorian") &&
+                !ns.isAlgorithmic() && digitString.length() == 10) {
+            gregorianChange = ((GregorianCalendar) cal).getGregorianChange().getTime();
+            digits = digitString.toCharArray();
+            TimeZoneFormat tzf = TimeZoneFormat.getInstance(locale);
+            if (!tzf.getGMTOffsetDigits().equals(digitString)) {
+                tzf = tzf.cloneAsThawed();
+                tzf.setGMTOffsetDigits(digitString);
+                tzf.freeze();
+            }
+            tzFormat = tzf;
+            steps = compile(template.getPatternItems(), DateFormatSymbols.getInstance(locale));
+        } else {
+            gregorianChange = 0;
+            digits = null;
+            tzFormat = null;
+            steps = null;
+        }
+    }
+
+    private LocalizedDateFormatter(LocalizedDateFormatter other, TimeZone zone) {
+        pattern = other.pattern;
+        locale = other.locale;
+        this.zone = zone.isFrozen() ? zone : zone.cloneAsThawed().freeze();
+        template = (SimpleDateFormat) other.template.clone();
+        template.setTimeZone(this.zone);
+        steps = other.steps;
+        digits = other.digits;
+        tzFormat = other.tzFormat;
+        firstDayOfWeek = other.firstDayOfWeek;
+        gregorianChange = other.gregorianChange;
+    }
+
+    /**
+     * Returns a formatter for the pattern and locale, in the default time zone.
+     *
+     * @param pattern a date/time pattern as for {@link SimpleDateFormat}
+     * @param locale the locale
+     * @return the formatter
+     * @throws IllegalArgumentException if the pattern is invalid
+     * @draft ICU 78
+     */
+    public static LocalizedDateFormatter forPattern(String pattern, ULocale locale) {
+        return new LocalizedDateFormatter(pattern, locale, TimeZone.getDefault());
+    }
+
+    /**
+     * Returns a formatter for the locale's best pattern for the skeleton,
+     * in the default time zone.
+     *
+     * @param skeleton a skeleton as for {@link DateFormat#getInstanceForSkeleton(String, ULocale)}
+     * @param locale the locale
+     * @return the formatter
+     * @draft ICU 78
+     */
+    public static LocalizedDateFormatter forSkeleton(String skeleton, ULocale locale) {
+        String bestPattern = DateTimePatternGenerator.getInstance(locale).getBestPattern(skeleton);
+        return new LocalizedDateFormatter(bestPattern, locale, TimeZone.getDefault());
+    }
+
+    /**
+     * Returns a formatter like this one but for the given time zone.
+     * This formatter is not modified.
+     *
+     * @param zone the time zone; the formatter uses a frozen copy
+     * @return the new formatter
+     * @draft ICU 78
+     */
+    public LocalizedDateFormatter withTimeZone(TimeZone zone) {
+        return new LocalizedDateFormatter(this, zone);
+    }
+
+    /**
+     * Returns the pattern.
+     *
+     * @draft ICU 78
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Returns the locale.
+     *
+     * @draft ICU 78
+     */
+    public ULocale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Returns the time zone, which is frozen.
+     *
+     * @draft ICU 78
+     */
+    public TimeZone getTimeZone() {
+        return zone;
+    }
+
+    /**
+     * Formats a time.
+     *
+     * @param epochMillis milliseconds since 1970-01-01T00:00:00Z
+     * @return the formatted date and time
+     * @draft ICU 78
+     */
+    public FormattedDate format(long epochMillis) {
+        FormattedStringBuilder sb = new FormattedStringBuilder();
+        if (steps != null && epochMillis >= gregorianChange + DAY_MILLIS) {
+            formatFast(epochMillis, sb);
+        } else {
+            formatSlow(epochMillis, sb);
+        }
+        return new FormattedDate(sb);
+    }
+
+    /**
+     * Formats a date.
+     *
+     * @param date the date
+     * @return the formatted date and time
+     * @draft ICU 78
+     */
+    public FormattedDate format(Date date) {
+        return format(date.getTime());
+    }
+
+    /**
+     * Formats an instant, truncated to milliseconds.
+     *
+     * @param instant the instant
+     * @return the formatted date and time
+     * @throws ArithmeticException if the instant is too far in the past or future
+     * @draft ICU 78
+     */
+    public FormattedDate format(Instant instant) {
+        return format(instant.toEpochMilli());
+    }
+
+    /**
+     * Compiles the pattern items into literal Strings and FieldSteps.
+     * Returns null if some field is not supported on the fast path.
+     */
+    private static Object[] compile(Object[] items, DateFormatSymbols symbols) {
+        List<Object> steps = new ArrayList<>(items.length);
+        for (Object item : items) {
+            if (item instanceof String) {
+                steps.add(item);
+                continue;
+            }
+            SimpleDateFormat.PatternItem patternItem = (SimpleDateFormat.PatternItem) item;
+            char ch = patternItem.type;
+            if (ch == 'l') {
+                continue;  // Deprecated leap month marker, ignored.
+            }
+            FieldStep step = compileField(ch, patternItem.length, symbols);
+            if (step == null) {
+                return null;
+            }
+            steps.add(step);
+        }
+        return steps.toArray();
+    }
+
+    /**
+     * Compiles one field like SimpleDateFormat.subFormat() formats it with a Gregorian calendar.
+     */
+    private static FieldStep compileField(char ch, int count, DateFormatSymbols symbols) {
+        FieldStep step;
+        switch (ch) {
+        case 'G':
+            step = new FieldStep(ERA, DateFormat.Field.ERA);
+            step.names = count == 5 ? symbols.narrowEras :
+                count == 4 ? symbols.eraNames : symbols.eras;
+            break;
+        case 'y':
+            step = new FieldStep(YEAR, DateFormat.Field.YEAR);
+            if (count == 2) {
+                step.minDigits = step.maxDigits = 2;
+            } else {
+                step.minDigits = count;
+            }
+            break;
+        case 'u':
+            step = numeric(YEAR, DateFormat.Field.EXTENDED_YEAR, count);
+            break;
+        case 'M':
+        case 'L':
+            if (count < 3) {
+                step = numeric(MONTH_NUMBER, DateFormat.Field.MONTH, count);
+                break;
+            }
+            step = new FieldStep(MONTH, DateFormat.Field.MONTH);
+            if (ch == 'M') {
+                step.names = count == 5 ? symbols.narrowMonths :
+                    count == 4 ? symbols.months : symbols.shortMonths;
+            } else {
+                step.names = count == 5 ? symbols.standaloneNarrowMonths :
+                    count == 4 ? symbols.standaloneMonths : symbols.standaloneShortMonths;
+            }
+            break;
+        case 'd':
+            step = numeric(DAY_OF_MONTH, DateFormat.Field.DAY_OF_MONTH, count);
+            break;
+        case 'D':
+            step = numeric(DAY_OF_YEAR, DateFormat.Field.DAY_OF_YEAR, count);
+            break;
+        case 'e':
+            if (count < 3) {
+                step = numeric(DOW_LOCAL, DateFormat.Field.DOW_LOCAL, count);
+                break;
+            }
+            // fall through
+        case 'E':
+            step = new FieldStep(DAY_OF_WEEK,
+                    ch == 'E' ? DateFormat.Field.DAY_OF_WEEK : DateFormat.Field.DOW_LOCAL);
+            step.names = count == 5 ? symbols.narrowWeekdays :
+                count == 4 ? symbols.weekdays :
+                count == 6 && symbols.shorterWeekdays != null ? symbols.shorterWeekdays :
+                    symbols.shortWeekdays;
+            break;
+        case 'c':
+            if (count < 3) {
+                step = numeric(DOW_LOCAL, DateFormat.Field.DAY_OF_WEEK, 1);
+                break;
+            }
+            step = new FieldStep(DAY_OF_WEEK, DateFormat.Field.DAY_OF_WEEK);
+            step.names = count == 5 ? symbols.standaloneNarrowWeekdays :
+                count == 4 ? symbols.standaloneWeekdays :
+                count == 6 && symbols.standaloneShorterWeekdays != null ?
+                    symbols.standaloneShorterWeekdays : symbols.standaloneShortWeekdays;
+            break;
+        case 'a':
+            step = new FieldStep(AM_PM, DateFormat.Field.AM_PM);
+            step.names = count < 5 || symbols.ampmsNarrow == null ?
+                    symbols.ampms : symbols.ampmsNarrow;
+            break;
+        case 'H':
+            step = numeric(HOUR_OF_DAY, DateFormat.Field.HOUR_OF_DAY0, count);
+            break;
+        case 'k':
+            step = numeric(HOUR_OF_DAY_1, DateFormat.Field.HOUR_OF_DAY1, count);
+            break;
+        case 'K':
+            step = numeric(HOUR, DateFormat.Field.HOUR0, count);
+            break;
+        case 'h':
+            step = numeric(HOUR_1, DateFormat.Field.HOUR1, count);
+            break;
+        case 'm':
+            step = numeric(MINUTE, DateFormat.Field.MINUTE, count);
+            break;
+        case 's':
+            step = numeric(SECOND, DateFormat.Field.SECOND, count);
+            break;
+        case 'S':
+            step = numeric(FRACTIONAL_SECOND, DateFormat.Field.MILLISECOND, count);
+            break;
+        case 'A':
+            step = numeric(MILLISECONDS_IN_DAY, DateFormat.Field.MILLISECONDS_IN_DAY, count);
+            break;
+        case 'Q':
+        case 'q':
+            if (count < 3) {
+                step = numeric(QUARTER_NUMBER, DateFormat.Field.QUARTER, count);
+                break;
+            }
+            step = new FieldStep(QUARTER, DateFormat.Field.QUARTER);
+            if (ch == 'Q') {
+                step.names = count >= 5 ? symbols.narrowQuarters :
+                    count == 4 ? symbols.quarters : symbols.shortQuarters;
+            } else {
+                step.names = count >= 5 ? symbols.standaloneNarrowQuarters :
+                    count == 4 ? symbols.standaloneQuarters : symbols.standaloneShortQuarters;
+            }
+            break;
+        default:
+            Style style = getZoneStyle(ch, count);
+            if (style == null) {
+                return null;
+            }
+            step = new FieldStep(ZONE, DateFormat.Field.TIME_ZONE);
+            step.zoneStyle = style;
+            break;
+        }
+        return step;
+    }
+
+    private static FieldStep numeric(int value, DateFormat.Field field, int minDigits) {
+        FieldStep step = new FieldStep(value, field);
+        step.minDigits = minDigits;
+        return step;
+    }
+
+    /**
+     * Returns the style for a time zone field,
+     * or null if the field is not a time zone field or has an unsupported length.
+     */
+    private static Style getZoneStyle(char ch, int count) {
+        switch (ch) {
+        case 'z':
+            return count < 4 ? Style.SPECIFIC_SHORT : Style.SPECIFIC_LONG;
+        case 'Z':
+            return count < 4 ? Style.ISO_BASIC_LOCAL_FULL :
+                count == 5 ? Style.ISO_EXTENDED_FULL : Style.LOCALIZED_GMT;
+        case 'v':
+            return count == 1 ? Style.GENERIC_SHORT : count == 4 ? Style.GENERIC_LONG : null;
+        case 'V':
+            return count == 1 ? Style.ZONE_ID_SHORT : count == 2 ? Style.ZONE_ID :
+                count == 3 ? Style.EXEMPLAR_LOCATION : count == 4 ? Style.GENERIC_LOCATION : null;
+        case 'O':
+            return count == 1 ? Style.LOCALIZED_GMT_SHORT : count == 4 ? Style.LOCALIZED_GMT : null;
+        case 'X':
+            return count == 1 ? Style.ISO_BASIC_SHORT : count == 2 ? Style.ISO_BASIC_FIXED :
+                count == 3 ? Style.ISO_EXTENDED_FIXED : count == 4 ? Style.ISO_BASIC_FULL :
+                count == 5 ? Style.ISO_EXTENDED_FULL : null;
+        case 'x':
+            return count == 1 ? Style.ISO_BASIC_LOCAL_SHORT :
+                count == 2 ? Style.ISO_BASIC_LOCAL_FIXED :
+                count == 3 ? Style.ISO_EXTENDED_LOCAL_FIXED :
+                count == 4 ? Style.ISO_BASIC_LOCAL_FULL :
+                count == 5 ? Style.ISO_EXTENDED_LOCAL_FULL : null;
+        default:
+            return null;
+        }
+    }
+
+    private void formatFast(long epochMillis, FormattedStringBuilder sb) {
+        long localMillis = epochMillis + zone.getOffset(epochMillis);
+        int[] fields = Grego.timeToFields(localMillis, null);
+        for (Object step : steps) {
+            if (step instanceof String) {
+                sb.append((String) step, null);
+                continue;
+            }
+            FieldStep fieldStep = (FieldStep) step;
+            int millisInDay = fields[5];
+            int value;
+            switch (fieldStep.value) {
+            case ERA: value = GregorianCalendar.AD; break;
+            case YEAR: value = fields[0]; break;
+            case MONTH: value = fields[1]; break;
+            case MONTH_NUMBER: value = fields[1] + 1; break;
+            case DAY_OF_MONTH: value = fields[2]; break;
+            case DAY_OF_YEAR: value = fields[4]; break;
+            case DAY_OF_WEEK: value = fields[3]; break;
+            case DOW_LOCAL:
+                value = fields[3] - firstDayOfWeek + 1;
+                if (value < 1) {
+                    value += 7;
+                }
+                break;
+            case AM_PM: value = millisInDay / (12 * 60 * 60 * 1000); break;
+            case HOUR_OF_DAY: value = millisInDay / (60 * 60 * 1000); break;
+            case HOUR_OF_DAY_1:
+                value = millisInDay / (60 * 60 * 1000);
+                if (value == 0) {
+                    value = 24;
+                }
+                break;
+            case HOUR: value = millisInDay / (60 * 60 * 1000) % 12; break;
+            case HOUR_1:
+                value = millisInDay / (60 * 60 * 1000) % 12;
+                if (value == 0) {
+                    value = 12;
+                }
+                break;
+            case MINUTE: value = millisInDay / (60 * 1000) % 60; break;
+            case SECOND: value = millisInDay / 1000 % 60; break;
+            case FRACTIONAL_SECOND:
+                appendFraction(millisInDay % 1000, fieldStep, sb);
+                continue;
+            case MILLISECONDS_IN_DAY: value = millisInDay; break;
+            case QUARTER: value = fields[1] / 3; break;
+            case QUARTER_NUMBER: value = fields[1] / 3 + 1; break;
+            case ZONE:
+                sb.append(tzFormat.format(fieldStep.zoneStyle, zone, epochMillis), fieldStep.field);
+                continue;
+            default:
+                throw new AssertionError();
+            }
+            if (fieldStep.names != null) {
+                String[] names = fieldStep.names;
+                if (value >= 0 && value < names.length) {
+                    sb.append(names[value], fieldStep.field);
+                }
+            } else {
+                appendNumber(value, fieldStep.minDigits, fieldStep.maxDigits, fieldStep.field, sb);
+            }
+        }
+    }
+
+    /**
+     * Appends the last maxDigits digits of a non-negative value, padded to minDigits,
+     * like SimpleDateFormat.fastZeroPaddingNumber().
+     */
+    private void appendNumber(int value, int minDigits, int maxDigits,
+            DateFormat.Field field, FormattedStringBuilder sb) {
+        int numDigits = 1;
+        for (int v = value / 10; v != 0 && numDigits < maxDigits; v /= 10) {
+            ++numDigits;
+        }
+        for (int i = numDigits; i < minDigits; ++i) {
+            sb.appendChar16(digits[0], field);
+        }
+        int start = sb.length();
+        for (int i = 0; i < numDigits; ++i) {
+            sb.insertChar16(start, digits[value % 10], field);
+            value /= 10;
+        }
+    }
+
+    private void appendFraction(int millis, FieldStep step, FormattedStringBuilder sb) {
+        int count = step.minDigits;
+        if (count == 1) {
+            millis /= 100;
+        } else if (count == 2) {
+            millis /= 10;
+        }
+        appendNumber(millis, Math.min(3, count), Integer.MAX_VALUE, step.field, sb);
+        for (int i = 3; i < count; ++i) {
+            sb.appendChar16(digits[0], step.field);
+        }
+    }
+
+    private void formatSlow(long epochMillis, FormattedStringBuilder sb) {
+        SimpleDateFormat sdf = (SimpleDateFormat) template.clone();
+        Calendar cal = sdf.getCalendar();
+        cal.setTimeInMillis(epochMillis);
+        List<FieldPosition> attributes = new ArrayList<>();
+        String s = sdf.format(cal, new StringBuffer(), new FieldPosition(0), attributes).toString();
+        int index = 0;
+        for (FieldPosition fp : attributes) {
+            sb.append(s.substring(index, fp.getBeginIndex()), null);
+            sb.append(s.substring(fp.getBeginIndex(), fp.getEndIndex()), fp.getFieldAttribute());
+            index = fp.getEndIndex();
+        }
+        sb.append(s.substring(index), null);
+    }
+
+    /**
+     * The result of a {@link LocalizedDateFormatter} formatting operation.
+     * Instances of this class are immutable and thread-safe.
+     *
+     * @draft ICU 78
+     */
+    public static final class FormattedDate implements FormattedValue {
+        private final FormattedStringBuilder string;
+
+        FormattedDate(FormattedStringBuilder string) {
+            this.string = string;
+        }
+
+        /**
+         * {@inheritDoc}
+         * @draft ICU 78
+         */
+        @Override
+        public String toString() {
+            return string.toString();
+        }
+
+        /**
+         * {@inheritDoc}
+         * @draft ICU 78
+         */
+        @Override
+        public int length() {
+            return string.length();
+        }
+
+        /**
+         * {@inheritDoc}
+         * @draft ICU 78
+         */
+        @Override
+        public char charAt(int index) {
+            return string.charAt(index);
+        }
+
+        /**
+         * {@inheritDoc}
+         * @draft ICU 78
+         */
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return string.subString(start, end);
+        }
+
+        /**
+         * {@inheritDoc}
+         * @draft ICU 78
+         */
+        @Override
+        public <A extends Appendable> A appendTo(A appendable) {
+            return Utility.appendTo(string, appendable);
+        }
+
+        /**
+         * {@inheritDoc}
+         * @draft ICU 78
+         */
+        @Override
+        public boolean nextPosition(ConstrainedFieldPosition cfpos) {
+            return FormattedValueStringBuilderImpl.nextPosition(string, cfpos, null);
+        }
+
+        /**
+         * {@inheritDoc}
+         * @draft ICU 78
+         */
+        @Override
+        public AttributedCharacterIterator toCharacterIterator() {
+            return FormattedValueStringBuilderImpl.toCharacterIterator(string, null);
+        }
+    }
+}
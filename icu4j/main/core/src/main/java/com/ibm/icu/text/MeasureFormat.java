@@ -131,7 +131,8 @@ public class MeasureFormat extends UFormat {
 
     private final transient LocalizedNumberFormatter numberFormatter;
 
-    private static final SimpleCache<ULocale, NumericFormatters> localeToNumericDurationFormatters = new SimpleCache<>();
+    private static final SimpleCache<ULocale, NumericFormatters> localeToNumericDurationFormatters =
+            new SimpleCache<>("MeasureFormat.numericDurationFormatters");
 
     private static final Map<MeasureUnit, Integer> hmsTo012 = new HashMap<>();
 
@@ -9,12 +9,15 @@
 
 package com.ibm.icu.text;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 
 import com.ibm.icu.impl.ICUBinary;
 import com.ibm.icu.impl.Norm2AllModes;
+import com.ibm.icu.impl.UTF8;
 import com.ibm.icu.util.ICUUncheckedIOException;
 
 /**
@@ -406,6 +409,225 @@ public abstract StringBuilder normalizeSecondAndAppend(
      */
     public abstract int spanQuickCheckYes(CharSequence s);
 
+    /**
+     * Returns the end of the normalized prefix of the UTF-8 string src[start..limit[,
+     * as a byte index. This is the UTF-8 version of {@link #spanQuickCheckYes(CharSequence)}:
+     * the bytes src[start..end[ will pass the quick check with a "yes" result,
+     * and the end index is at a normalization boundary.
+     *
+     * <p>Ill-formed UTF-8 sequences are treated like normalization-inert characters.
+     * The standard normalizers scan the bytes directly and do not allocate memory.
+     *
+     * @param src UTF-8 input bytes
+     * @param start index of the first byte
+     * @param limit index after the last byte
+     * @return "yes" span end index, start&lt;=end&lt;=limit
+     * @throws IndexOutOfBoundsException if start or limit are out of bounds
+     * @draft ICU 78
+     */
+    public int spanQuickCheckYesUTF8(byte[] src, int start, int limit) {
+        checkBounds(src, start, limit);
+        StringBuilder segment = null;
+        while (start < limit) {
+            int packed = UTF8.next(src, start, limit);
+            int c = UTF8.codePoint(packed);
+            int next = start + UTF8.length(packed);
+            if (c == UTF8.ILL_FORMED || isInert(c)) {
+                start = next;
+                continue;
+            }
+            // start is at a normalization boundary.
+            // Check the text up to the next one with the UTF-16 implementation.
+            int segmentLimit = nextBoundaryUTF8(src, next, limit);
+            if (segment == null) {
+                segment = new StringBuilder();
+            } else {
+                segment.setLength(0);
+            }
+            UTF8.decode(src, start, segmentLimit, segment);
+            int spanLength = spanQuickCheckYes(segment);
+            if (spanLength < segment.length()) {
+                return start + UTF8.countBytes(segment, 0, spanLength);
+            }
+            start = segmentLimit;
+        }
+        return limit;
+    }
+
+    /**
+     * Tests if the UTF-8 string src[start..limit[ is normalized.
+     * This is the UTF-8 version of {@link #isNormalized(CharSequence)}.
+     * Ill-formed UTF-8 sequences are treated like normalization-inert characters.
+     *
+     * @param src UTF-8 input bytes
+     * @param start index of the first byte
+     * @param limit index after the last byte
+     * @return true if the bytes are normalized
+     * @throws IndexOutOfBoundsException if start or limit are out of bounds
+     * @draft ICU 78
+     */
+    public boolean isNormalizedUTF8(byte[] src, int start, int limit) {
+        int spanLimit = spanQuickCheckYesUTF8(src, start, limit);
+        if (spanLimit == limit) {
+            return true;
+        }
+        // spanLimit is at a normalization boundary, and the quick check result is
+        // "no" or "maybe": Resolve the remainder with the UTF-16 implementation.
+        StringBuilder rest = new StringBuilder(limit - spanLimit);
+        return isNormalized(UTF8.decode(src, spanLimit, limit, rest));
+    }
+
+    /**
+     * Writes the normalized form of the UTF-8 string src[start..limit[ to the sink.
+     * This is the UTF-8 version of {@link #normalize(CharSequence, Appendable)}.
+     *
+     * <p>Already-normalized spans of the input are written to the sink unchanged,
+     * in as few {@link OutputStream#write(byte[], int, int)} calls as possible;
+     * only the segments that need normalization are decoded and re-encoded.
+     * Ill-formed UTF-8 sequences are treated like normalization-inert characters
+     * and are copied unchanged.
+     *
+     * <p>Any {@link java.io.IOException} is wrapped into a
+     * {@link com.ibm.icu.util.ICUUncheckedIOException}.
+     *
+     * @param src UTF-8 input bytes
+     * @param start index of the first byte
+     * @param limit index after the last byte
+     * @param sink receives the normalized UTF-8 bytes
+     * @param edits records edits for index mapping, working with styled text,
+     *              and getting only changes (if any), in units of bytes;
+     *              the Edits object is not reset first; can be null
+     * @throws IndexOutOfBoundsException if start or limit are out of bounds
+     * @draft ICU 78
+     */
+    public void normalizeUTF8(byte[] src, int start, int limit, OutputStream sink, Edits edits) {
+        checkBounds(src, start, limit);
+        StringBuilder segment = null;
+        StringBuilder normalized = null;
+        byte[] bytes = null;
+        try {
+            while (start < limit) {
+                int spanLimit = spanQuickCheckYesUTF8(src, start, limit);
+                if (spanLimit != start) {
+                    sink.write(src, start, spanLimit - start);
+                    if (edits != null) {
+                        edits.addUnchanged(spanLimit - start);
+                    }
+                    start = spanLimit;
+                    if (start == limit) {
+                        break;
+                    }
+                }
+                int packed = UTF8.next(src, start, limit);
+                if (UTF8.codePoint(packed) == UTF8.ILL_FORMED) {
+                    // Not reached for well-behaved spanQuickCheckYesUTF8() implementations.
+                    sink.write(src, start, UTF8.length(packed));
+                    if (edits != null) {
+                        edits.addUnchanged(UTF8.length(packed));
+                    }
+                    start += UTF8.length(packed);
+                    continue;
+                }
+                // Normalize the text up to the next normalization boundary.
+                int segmentLimit = nextBoundaryUTF8(src, start + UTF8.length(packed), limit);
+                if (segment == null) {
+                    segment = new StringBuilder();
+                    normalized = new StringBuilder();
+                } else {
+                    segment.setLength(0);
+                }
+                UTF8.decode(src, start, segmentLimit, segment);
+                normalize(segment, normalized);
+                int length = UTF8.countBytes(normalized, 0, normalized.length());
+                if (bytes == null || bytes.length < length) {
+                    bytes = new byte[Math.max(length, 64)];
+                }
+                UTF8.encode(normalized, 0, normalized.length(), bytes, 0);
+                sink.write(bytes, 0, length);
+                if (edits != null) {
+                    addSegmentEdits(src, start, segmentLimit, bytes, length, edits);
+                }
+                start = segmentLimit;
+            }
+        } catch (IOException e) {
+            throw new ICUUncheckedIOException(e);  // Avoid declaring "throws IOException".
+        }
+    }
+
+    /**
+     * Returns the normalized form of the UTF-8 string src.
+     * If src is already normalized, then src itself is returned, without any allocation.
+     * Ill-formed UTF-8 sequences are treated like normalization-inert characters
+     * and are copied unchanged.
+     *
+     * @param src UTF-8 input bytes
+     * @return src if it is normalized, otherwise a new array with the normalized bytes
+     * @draft ICU 78
+     */
+    public byte[] normalizeUTF8(byte[] src) {
+        int spanLimit = spanQuickCheckYesUTF8(src, 0, src.length);
+        if (spanLimit == src.length) {
+            return src;
+        }
+        ByteArrayOutputStream sink = new ByteArrayOutputStream(src.length + 16);
+        sink.write(src, 0, spanLimit);
+        normalizeUTF8(src, spanLimit, src.length, sink, null);
+        return sink.toByteArray();
+    }
+
+    private int nextBoundaryUTF8(byte[] src, int start, int limit) {
+        while (start < limit) {
+            int packed = UTF8.next(src, start, limit);
+            int c = UTF8.codePoint(packed);
+            if (c == UTF8.ILL_FORMED || hasBoundaryBefore(c)) {
+                break;
+            }
+            start += UTF8.length(packed);
+        }
+        return start;
+    }
+
+    /**
+     * Records the edits for one normalized segment at byte granularity:
+     * common leading and trailing bytes count as unchanged.
+     */
+    private static void addSegmentEdits(byte[] src, int start, int limit,
+            byte[] dest, int destLength, Edits edits) {
+        int srcLength = limit - start;
+        int prefix = 0;
+        int maxPrefix = Math.min(srcLength, destLength);
+        while (prefix < maxPrefix && src[start + prefix] == dest[prefix]) {
+            ++prefix;
+        }
+        if (prefix == srcLength && prefix == destLength) {
+            edits.addUnchanged(srcLength);
+            return;
+        }
+        // Keep the edit boundaries on UTF-8 sequence boundaries.
+        while (prefix > 0 &&
+                ((prefix < destLength ? dest[prefix] : src[start + prefix]) & 0xc0) == 0x80) {
+            --prefix;
+        }
+        int suffix = 0;
+        int maxSuffix = maxPrefix - prefix;
+        while (suffix < maxSuffix && src[limit - 1 - suffix] == dest[destLength - 1 - suffix]) {
+            ++suffix;
+        }
+        while (suffix > 0 && (dest[destLength - suffix] & 0xc0) == 0x80) {
+            --suffix;
+        }
+        edits.addUnchanged(prefix);
+        edits.addReplace(srcLength - prefix - suffix, destLength - prefix - suffix);
+        edits.addUnchanged(suffix);
+    }
+
+    private static void checkBounds(byte[] src, int start, int limit) {
+        if (start < 0 || limit > src.length || start > limit) {
+            throw new IndexOutOfBoundsException(
+                    "start=" + start + " limit=" + limit + " length=" + src.length);
+        }
+    }
+
     /**
      * Tests if the character always has a normalization boundary before it,
      * regardless of context.
@@ -339,7 +339,7 @@ public boolean isAlgorithmic() {
      * Cache to hold the NumberingSystems by Locale.
      */
     private static CacheBase<String, NumberingSystem, LocaleLookupData> cachedLocaleData =
-            new SoftCache<String, NumberingSystem, LocaleLookupData>() {
+            new SoftCache<String, NumberingSystem, LocaleLookupData>("NumberingSystem") {
         @Override
         protected NumberingSystem createInstance(String key, LocaleLookupData localeLookupData) {
             return lookupInstanceByLocale(localeLookupData);
@@ -350,7 +350,7 @@ protected NumberingSystem createInstance(String key, LocaleLookupData localeLook
      * Cache to hold the NumberingSystems by name.
      */
     private static CacheBase<String, NumberingSystem, Void>  cachedStringData =
-            new SoftCache<String, NumberingSystem, Void>() {
+            new SoftCache<String, NumberingSystem, Void>("NumberingSystem.byName") {
         @Override
         protected NumberingSystem createInstance(String key, Void unused) {
             return lookupInstanceByName(key);
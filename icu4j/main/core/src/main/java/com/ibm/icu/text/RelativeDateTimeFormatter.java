@@ -1196,7 +1196,7 @@ public RelativeDateTimeFormatterData(
 
     private static class Cache {
         private final CacheBase<String, RelativeDateTimeFormatterData, ULocale> cache =
-            new SoftCache<String, RelativeDateTimeFormatterData, ULocale>() {
+            new SoftCache<String, RelativeDateTimeFormatterData, ULocale>("RelativeDateTimeFormatter") {
                 @Override
                 protected RelativeDateTimeFormatterData createInstance(String key, ULocale locale) {
                     return new Loader(locale).load();
@@ -18,10 +18,13 @@
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.text.CharacterIterator;
+import java.util.Arrays;
 import java.util.MissingResourceException;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
+import com.ibm.icu.impl.CSCharacterIterator;
 import com.ibm.icu.impl.CharacterIteration;
 import com.ibm.icu.impl.ICUBinary;
 import com.ibm.icu.impl.ICUDebug;
@@ -170,6 +173,11 @@ public Object clone()  {
         if (fText != null) {
             result.fText = (CharacterIterator)(fText.clone());
         }
+        result.fTextBuffer = null;
+        if (fTextChars != null && fTextChars == fTextBuffer) {
+            // The next setText() on this iterator overwrites its buffer.
+            result.fTextChars = result.fTextBuffer = Arrays.copyOf(fTextBuffer, fTextCharsLength);
+        }
         result.fLookAheadMatches = new int[fRData.fFTable.fLookAheadResultsSize];
         result.fBreakCache = result.new BreakCache(fBreakCache);
         result.fDictionaryCache = result.new DictionaryCache(fDictionaryCache);
@@ -253,6 +261,21 @@ public int hashCode()
      */
     private CharacterIterator   fText = new java.text.StringCharacterIterator("");
 
+    /**
+     * The text as a char array, when it was set from a String, a CharSequence or a char array;
+     * otherwise null. The state machine loops read it directly instead of going through fText.
+     * Index i of fText is at fTextChars[fTextCharsStart + i], and fText starts at index 0.
+     */
+    private char[]              fTextChars;
+    private int                 fTextCharsStart;
+    private int                 fTextCharsLength;
+
+    /**
+     * Copy of the text set via setText(String) or setText(CharSequence),
+     * reused and grown as needed by later calls. Not shared with other iterators.
+     */
+    private char[]              fTextBuffer;
+
     /**
      * The rule data for this BreakIterator instance.
      * Not intended for public use. Declared public for testing purposes only.
@@ -465,6 +488,77 @@ public int next() {
         return fDone ? DONE : fPosition;
     }
 
+    /**
+     * Advances the iterator over as many boundaries as fit into the array, and stores them there.
+     * This is equivalent to calling {@link #next()} until it returns {@link #DONE} or the array is full,
+     * and {@link #getRuleStatus()} after each call, but it is faster: segments without dictionary
+     * characters go straight from the state machine into the arrays.
+     * <p>
+     * All of the boundaries of a text can be obtained with:
+     * <pre>
+     * bi.setText(text);
+     * for (int n; (n = bi.nextBoundaries(boundaries, ruleStatus)) &gt; 0;) {
+     *     // use boundaries[0..n-1] and ruleStatus[0..n-1]
+     * }
+     * </pre>
+     * The iterator is left on the last boundary stored, as if that boundary had been returned by next().
+     *
+     * @param boundaries the array to fill in with the boundaries following the current position
+     * @param ruleStatus null, or an array at least as long as boundaries, to fill in with the
+     *        {@link #getRuleStatus()} value of each boundary
+     * @return the number of boundaries stored, 0 if the iterator was already at the end of the text
+     * @throws IllegalArgumentException if ruleStatus is shorter than boundaries
+     * @draft ICU 78
+     */
+    public int nextBoundaries(int[] boundaries, int[] ruleStatus) {
+        if (ruleStatus != null && ruleStatus.length < boundaries.length) {
+            throw new IllegalArgumentException("ruleStatus is shorter than boundaries");
+        }
+        if (fText == null) {
+            return 0;
+        }
+        int[] statusTable = fRData.fStatusTable;
+        int count = 0;
+        while (count < boundaries.length) {
+            BreakCache cache = fBreakCache;
+            int from = cache.fTextIdx;
+            if (cache.fBufIdx == cache.fEndBufIdx
+                    && (from < fDictionaryCache.fStart || from >= fDictionaryCache.fLimit)) {
+                // Nothing cached after the current position: run the rules directly,
+                // without going through the break cache.
+                int fromRuleStatusIdx = cache.fStatuses[cache.fBufIdx];
+                fPosition = from;
+                int pos = handleNext();
+                if (pos == BreakIterator.DONE) {
+                    fPosition = from;
+                    fRuleStatusIndex = fromRuleStatusIdx;
+                    fDone = true;
+                    break;
+                }
+                if (fDictionaryCharCount == 0) {
+                    cache.reset(pos, fRuleStatusIndex);
+                    fDone = false;
+                } else {
+                    // Let the cache subdivide the segment with the dictionary.
+                    fPosition = from;
+                    fRuleStatusIndex = fromRuleStatusIdx;
+                    cache.next();
+                }
+            } else {
+                cache.next();
+            }
+            if (fDone) {
+                break;
+            }
+            boundaries[count] = fPosition;
+            if (ruleStatus != null) {
+                ruleStatus[count] = statusTable[fRuleStatusIndex + statusTable[fRuleStatusIndex]];
+            }
+            ++count;
+        }
+        return count;
+    }
+
     /**
      * Moves the iterator backwards, to the boundary preceding the current one.
      * @return The position of the boundary position immediately preceding the starting position.
@@ -692,6 +786,85 @@ public CharacterIterator getText() {
      */
     @Override
     public void setText(CharacterIterator newText) {
+        setText(newText, null, 0, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @stable ICU 2.0
+     */
+    @Override
+    public void setText(String newText) {
+        int length = newText.length();
+        char[] chars = getTextBuffer(length);
+        newText.getChars(0, length, chars, 0);
+        setText(new java.text.StringCharacterIterator(newText), chars, 0, length);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The RuleBasedBreakIterator copies the chars of the CharSequence
+     * into a buffer that it reuses for later text.
+     * The CharSequence must not be modified while the iterator is in use.
+     * @stable ICU 60
+     */
+    @Override
+    public void setText(CharSequence newText) {
+        if (newText instanceof String) {
+            setText((String) newText);
+            return;
+        }
+        int length = newText.length();
+        char[] chars = getTextBuffer(length);
+        if (newText instanceof StringBuilder) {
+            ((StringBuilder) newText).getChars(0, length, chars, 0);
+        } else {
+            for (int i = 0; i < length; ++i) {
+                chars[i] = newText.charAt(i);
+            }
+        }
+        setText(new CSCharacterIterator(newText), chars, 0, length);
+    }
+
+    /**
+     * Returns fTextBuffer with room for at least length chars.
+     */
+    private char[] getTextBuffer(int length) {
+        char[] buffer = fTextBuffer;
+        if (buffer == null || buffer.length < length) {
+            int capacity = buffer == null ? length : Math.max(length, 2 * buffer.length);
+            buffer = fTextBuffer = new char[Math.max(capacity, 64)];
+        }
+        return buffer;
+    }
+
+    /**
+     * Sets the iterator to analyze the chars [start, limit) of a char array,
+     * without copying them. The boundaries are relative to start:
+     * the text starts at offset 0 and ends at offset limit - start.
+     * <p>
+     * The chars must not be modified while the iterator is in use.
+     *
+     * @param text the array that holds the text to analyze
+     * @param start the index of the first char of the text
+     * @param limit the index after the last char of the text
+     * @throws IndexOutOfBoundsException if start and limit are not a range of the array
+     * @draft ICU 78
+     */
+    public void setText(char[] text, int start, int limit) {
+        if (start < 0 || limit < start || limit > text.length) {
+            throw new IndexOutOfBoundsException(
+                    "[" + start + ", " + limit + ") is not a range of an array of length " + text.length);
+        }
+        setText(new CSCharacterIterator(CharBuffer.wrap(text, start, limit - start)),
+                text, start, limit - start);
+    }
+
+    private void setText(CharacterIterator newText, char[] chars, int charsStart, int charsLength) {
+        fTextChars = chars;
+        fTextCharsStart = charsStart;
+        fTextCharsLength = charsLength;
         if (newText != null) {
             fBreakCache.reset(newText.getBeginIndex(), 0);
         } else {
@@ -712,6 +885,14 @@ public void setText(CharacterIterator newText) {
                                            ICUDebug.value(RBBI_DEBUG_ARG) : null;
 
 
+    /**
+     * Returns true if the code point is in one of the character categories that
+     * the rules hand over to a dictionary or LSTM break engine.
+     */
+    boolean isDictionaryChar(int c) {
+        return (short) fRData.fTrie.get(c) >= fRData.fFTable.fDictCategoriesStart;
+    }
+
     private LanguageBreakEngine getLanguageBreakEngine(int c) {
 
         // We have a dictionary character.
@@ -808,6 +989,9 @@ private LanguageBreakEngine getLanguageBreakEngine(int c) {
      * points at the lead surrogate of a supplementary.
      */
     private int handleNext() {
+        if (fTextChars != null && !TRACE) {
+            return handleNextChars();
+        }
         if (TRACE) {
             System.out.println("Handle Next   pos      char  state category");
         }
@@ -974,6 +1158,119 @@ else if (mode == RBBI_RUN) {
         return result;
     }
 
+    /**
+     * handleNext() for text in fTextChars.
+     * It reads the chars directly from the array, and otherwise works exactly like
+     * the CharacterIterator version, including where it leaves its index
+     * in the middle of a supplementary character.
+     */
+    private int handleNextChars() {
+        fRuleStatusIndex  = 0;
+        fDictionaryCharCount = 0;
+
+        char[] chars = fTextChars;
+        int start = fTextCharsStart;
+        int length = fTextCharsLength;
+        CodePointTrie trie = fRData.fTrie;
+        char[] stateTable  = fRData.fFTable.fTable;
+        int initialPosition = fPosition;
+        int result          = initialPosition;
+
+        // Set up the starting char
+        int index = initialPosition;
+        if (index >= length) {
+            fDone = true;
+            return BreakIterator.DONE;
+        }
+        int c = chars[start + index];
+        if (UTF16.isLeadSurrogate((char) c) && index + 1 < length
+                && UTF16.isTrailSurrogate(chars[start + index + 1])) {
+            c = Character.toCodePoint((char) c, chars[start + ++index]);
+        }
+
+        // Set the initial state for the state machine
+        int state           = START_STATE;
+        int row             = fRData.getRowIndex(state);
+        short category      = 3;
+        int dictStart       = fRData.fFTable.fDictCategoriesStart;
+        int mode            = RBBI_RUN;
+        if ((fRData.fFTable.fFlags & RBBIDataWrapper.RBBI_BOF_REQUIRED) != 0) {
+            category = 2;
+            mode     = RBBI_START;
+        }
+
+        // loop until we reach the end of the text or transition to state 0
+        while (state != STOP_STATE) {
+            if (c == DONE32) {
+                if (mode == RBBI_END) {
+                    break;
+                }
+                mode = RBBI_END;
+                category = 1;
+            } else if (mode == RBBI_RUN) {
+                category = (short) trie.get(c);
+                if (category >= dictStart) {
+                    fDictionaryCharCount++;
+                }
+
+                // Advance to the next character.
+                if (++index >= length) {
+                    index = length;
+                    c = DONE32;
+                } else {
+                    c = chars[start + index];
+                    if (UTF16.isLeadSurrogate((char) c) && index + 1 < length
+                            && UTF16.isTrailSurrogate(chars[start + index + 1])) {
+                        c = Character.toCodePoint((char) c, chars[start + ++index]);
+                    }
+                }
+            } else {
+                mode = RBBI_RUN;
+            }
+
+            // look up a state transition in the state table
+            state = stateTable[row + RBBIDataWrapper.NEXTSTATES + category];
+            row   = fRData.getRowIndex(state);
+            int accepting = stateTable[row + RBBIDataWrapper.ACCEPTING];
+            if (accepting == RBBIDataWrapper.ACCEPTING_UNCONDITIONAL) {
+                // Match found, common case
+                result = index;
+                if (c >= UTF16.SUPPLEMENTARY_MIN_VALUE && c <= UTF16.CODEPOINT_MAX_VALUE) {
+                    // The index is in the middle of a surrogate pair. We want the start of it.
+                    result--;
+                }
+                fRuleStatusIndex = stateTable[row + RBBIDataWrapper.TAGSIDX];
+            } else if (accepting > RBBIDataWrapper.ACCEPTING_UNCONDITIONAL) {
+                // Lookahead match is completed
+                int lookaheadResult = fLookAheadMatches[accepting];
+                if (lookaheadResult >= 0) {
+                    fRuleStatusIndex = stateTable[row + RBBIDataWrapper.TAGSIDX];
+                    fPosition = lookaheadResult;
+                    return lookaheadResult;
+                }
+            }
+
+            int rule = stateTable[row + RBBIDataWrapper.LOOKAHEAD];
+            if (rule != 0) {
+                int  pos = index;
+                if (c >= UTF16.SUPPLEMENTARY_MIN_VALUE && c <= UTF16.CODEPOINT_MAX_VALUE) {
+                    pos--;
+                }
+                fLookAheadMatches[rule] = pos;
+            }
+        }
+
+        // If the state machine failed to advance, force it ahead by one code point.
+        if (result == initialPosition) {
+            result = initialPosition + Character.charCount(
+                    Character.codePointAt(chars, start + initialPosition, start + length));
+            fRuleStatusIndex = 0;
+        }
+
+        fPosition = result;
+        return result;
+    }
+
     /**
      * Iterate backwards from an arbitrary position in the input text using the Safe Reverse rules.
      * This locates a "Safe Position" from which the forward break rules
@@ -986,6 +1283,9 @@ else if (mode == RBBI_RUN) {
      * @internal
      */
     private int handleSafePrevious(int fromPosition) {
+        if (fTextChars != null && !TRACE) {
+            return handleSafePreviousChars(fromPosition);
+        }
         char            state;
         short           category = 0;
         int             result = 0;
@@ -1046,6 +1346,47 @@ private int handleSafePrevious(int fromPosition) {
         return result;
     }
 
+    /**
+     * handleSafePrevious() for text in fTextChars.
+     */
+    private int handleSafePreviousChars(int fromPosition) {
+        char[] chars = fTextChars;
+        int start = fTextCharsStart;
+        CodePointTrie trie = fRData.fTrie;
+        char[] stateTable  = fRData.fRTable.fTable;
+
+        // Pin the position to the text, and move it to the start of a code point, like CISetIndex32().
+        int index = fromPosition;
+        if (index <= 0) {
+            return BreakIterator.DONE;
+        } else if (index >= fTextCharsLength) {
+            index = fTextCharsLength;
+        } else if (UTF16.isTrailSurrogate(chars[start + index])
+                && UTF16.isLeadSurrogate(chars[start + index - 1])) {
+            --index;
+        }
+        if (index == 0) {
+            return BreakIterator.DONE;
+        }
+
+        char state = START_STATE;
+        int row = fRData.getRowIndex(state);
+        while (index > 0) {
+            int c = chars[start + --index];
+            if (UTF16.isTrailSurrogate((char) c) && index > 0
+                    && UTF16.isLeadSurrogate(chars[start + index - 1])) {
+                c = Character.toCodePoint(chars[start + --index], (char) c);
+            }
+            short category = (short) trie.get(c);
+            state = stateTable[row + RBBIDataWrapper.NEXTSTATES + category];
+            row   = fRData.getRowIndex(state);
+            if (state == STOP_STATE) {
+                break;
+            }
+        }
+        return index;
+    }
+
     /**
      * Set the index of a CharacterIterator.
      * Pin the index to the valid range range of BeginIndex <= index <= EndIndex.
@@ -1799,7 +1799,7 @@ private static void safeAppendWithMonthPattern(String[] array, int value, String
     /*
      * PatternItem store parsed date/time field pattern information.
      */
-    private static class PatternItem {
+    static class PatternItem {
         final char type;
         final int length;
         final boolean isNumeric;
@@ -1812,14 +1812,14 @@ private static class PatternItem {
     }
 
     private static ICUCache<String, Object[]> PARSED_PATTERN_CACHE =
-        new SimpleCache<>();
+        new SimpleCache<>("SimpleDateFormat.patterns");
     private transient Object[] patternItems;
 
     /*
      * Returns parsed pattern items.  Each item is either String or
      * PatternItem.
      */
-    private Object[] getPatternItems() {
+    Object[] getPatternItems() {
         if (patternItems != null) {
             return patternItems;
         }
@@ -24,6 +24,7 @@
 import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.MissingResourceException;
 import java.util.Set;
@@ -1026,6 +1027,7 @@ void build(Reader confusables, SpoofData dest) throws ParseException, java.io.IO
 
                 // The Strings Table.
                 dest.fCFUStrings = fStringTable.toString();
+                dest.initLatin1Indexes();
             }
 
             public static void buildConfusableData(Reader confusables, SpoofData dest)
@@ -1597,6 +1599,94 @@ public String getSkeleton(CharSequence str) {
         return skelStr;
     }
 
+    /**
+     * Get a 64-bit hash of the "skeleton" for an identifier string. Two strings whose skeletons are identical have the
+     * same skeleton hash, so the hashes can stand in for the skeletons in an index of a large set of existing
+     * identifiers. Strings with different skeletons have different hashes except for rare collisions.
+     *
+     * The hash is computed while the confusable mappings are applied, without building the skeleton string. Memory is
+     * only allocated if the input or the skeleton is not in NFD.
+     *
+     * @param str
+     *            The input string whose skeleton hash will be generated.
+     * @return The hash of the skeleton, the same as for {@link #getSkeleton(CharSequence)}.
+     * @see SkeletonIndex
+     * @draft ICU 78
+     */
+    public long getSkeletonHash(CharSequence str) {
+        if (nfdNormalizer.spanQuickCheckYes(str) != str.length()) {
+            str = nfdNormalizer.normalize(str);
+        }
+        // The skeleton is in NFD as long as all of the characters appended to it have no decomposition
+        // and the combining marks stay in canonical order. Otherwise hash the normalized skeleton string.
+        long hash = SKELETON_HASH_BASIS;
+        int prevCC = 0;
+        int length = str.length();
+        for (int inputIndex = 0; inputIndex < length;) {
+            int c = Character.codePointAt(str, inputIndex);
+            inputIndex += Character.charCount(c);
+            if (UCharacter.hasBinaryProperty(c, UProperty.DEFAULT_IGNORABLE_CODE_POINT)) {
+                continue;
+            }
+            int index = fSpoofData.indexOf(c);
+            if (index < 0) {
+                // c is part of the NFD input, so it only needs to be in order.
+                int cc = UCharacter.getCombiningClass(c);
+                if (cc != 0 && cc < prevCC) {
+                    return hashSkeleton(getSkeleton(str));
+                }
+                prevCC = cc;
+                hash = hashCodePoint(hash, c);
+                continue;
+            }
+            int valueLength = fSpoofData.valueLength(index);
+            for (int i = 0; i < valueLength;) {
+                int v = fSpoofData.valueCharAt(index, i++);
+                if (Character.isHighSurrogate((char) v) && i < valueLength) {
+                    char trail = fSpoofData.valueCharAt(index, i);
+                    if (Character.isLowSurrogate(trail)) {
+                        v = Character.toCodePoint((char) v, trail);
+                        ++i;
+                    }
+                }
+                if (nfdNormalizer.isInert(v)) {
+                    prevCC = 0;
+                } else {
+                    int cc = UCharacter.getCombiningClass(v);
+                    if ((cc != 0 && cc < prevCC) || nfdNormalizer.getDecomposition(v) != null) {
+                        return hashSkeleton(getSkeleton(str));
+                    }
+                    prevCC = cc;
+                }
+                hash = hashCodePoint(hash, v);
+            }
+        }
+        return hash;
+    }
+
+    // The skeleton hash is the 64-bit FNV-1a hash of the UTF-16 code units of the skeleton.
+    private static final long SKELETON_HASH_BASIS = 0xcbf29ce484222325L;
+    private static final long SKELETON_HASH_PRIME = 0x100000001b3L;
+
+    private static long hashChar(long hash, char c) {
+        return (hash ^ c) * SKELETON_HASH_PRIME;
+    }
+
+    private static long hashCodePoint(long hash, int c) {
+        if (c <= 0xffff) {
+            return hashChar(hash, (char) c);
+        }
+        return hashChar(hashChar(hash, Character.highSurrogate(c)), Character.lowSurrogate(c));
+    }
+
+    private static long hashSkeleton(String skeleton) {
+        long hash = SKELETON_HASH_BASIS;
+        for (int i = 0; i < skeleton.length(); i++) {
+            hash = hashChar(hash, skeleton.charAt(i));
+        }
+        return hash;
+    }
+
     /**
      * Calls {@link SpoofChecker#getSkeleton(CharSequence id)}. Starting with ICU 55, the "type" parameter has been
      * ignored, and starting with ICU 58, this function has been deprecated.
@@ -1614,6 +1704,103 @@ public String getSkeleton(int type, String id) {
         return getSkeleton(id);
     }
 
+    /**
+     * An index of the skeletons of a list of identifiers, which finds an identifier that is confusable with a new one
+     * in constant time, without comparing it with all of them. The index keeps the skeleton hashes of the identifiers
+     * (see {@link SpoofChecker#getSkeletonHash(CharSequence)}), not the identifiers or their skeletons.
+     *
+     * Since the index compares hashes, a match is confusable except for rare hash collisions. Callers that cannot
+     * accept those can confirm a match with {@link SpoofChecker#areConfusable(String, String)}.
+     *
+     * A SkeletonIndex is immutable and can be used by several threads at the same time.
+     *
+     * @draft ICU 78
+     */
+    public static final class SkeletonIndex {
+        private final SpoofChecker fChecker;
+        private final int fSize;
+        // An open addressing hash table of the skeleton hashes, with the index of the first
+        // identifier that has each skeleton hash, or -1 for an empty slot.
+        private final long[] fHashes;
+        private final int[] fIndexes;
+        private final int fMask;
+
+        /**
+         * Builds the index of the skeletons of the identifiers. The skeletons are computed in parallel on the
+         * common pool.
+         *
+         * @param checker
+         *            The SpoofChecker with the confusable data to use.
+         * @param identifiers
+         *            The identifiers to index; they are not kept.
+         * @draft ICU 78
+         */
+        public SkeletonIndex(SpoofChecker checker, List<? extends CharSequence> identifiers) {
+            fChecker = checker;
+            long[] hashes = identifiers.parallelStream().mapToLong(checker::getSkeletonHash).toArray();
+            fSize = hashes.length;
+            // Keep the load factor at or below 1/2.
+            int capacity = Integer.highestOneBit(Math.max(fSize, 1)) << 2;
+            fHashes = new long[capacity];
+            fIndexes = new int[capacity];
+            Arrays.fill(fIndexes, -1);
+            fMask = capacity - 1;
+            for (int i = 0; i < fSize; i++) {
+                int slot = find(hashes[i]);
+                if (fIndexes[slot] < 0) {
+                    fHashes[slot] = hashes[i];
+                    fIndexes[slot] = i;
+                }
+            }
+        }
+
+        /**
+         * Returns the slot of the hash, or the empty slot where it would go.
+         */
+        private int find(long hash) {
+            int slot = (int) (hash ^ (hash >>> 32)) & fMask;
+            while (fIndexes[slot] >= 0 && fHashes[slot] != hash) {
+                slot = (slot + 1) & fMask;
+            }
+            return slot;
+        }
+
+        /**
+         * Returns the number of identifiers in the index.
+         *
+         * @return The number of identifiers.
+         * @draft ICU 78
+         */
+        public int size() {
+            return fSize;
+        }
+
+        /**
+         * Returns the position in the list of indexed identifiers of the first identifier with the same skeleton as
+         * the given one.
+         *
+         * @param identifier
+         *            The identifier to look up.
+         * @return The position of a confusable identifier, or -1 if there is none.
+         * @draft ICU 78
+         */
+        public int indexOfConfusable(CharSequence identifier) {
+            return fIndexes[find(fChecker.getSkeletonHash(identifier))];
+        }
+
+        /**
+         * Returns true if an indexed identifier has the same skeleton as the given one.
+         *
+         * @param identifier
+         *            The identifier to look up.
+         * @return true if the identifier is confusable with an indexed identifier.
+         * @draft ICU 78
+         */
+        public boolean containsConfusable(CharSequence identifier) {
+            return indexOfConfusable(identifier) >= 0;
+        }
+    }
+
     /**
      * Equality function. Return true if the two SpoofChecker objects incorporate the same confusable data and have
      * enabled the same set of checks.
@@ -1910,6 +2097,7 @@ private static class SpoofData {
         int[] fCFUKeys;
         short[] fCFUValues;
         String fCFUStrings;
+        int[] fLatin1Indexes; // indexOf() of U+0000..U+00FF, derived from the other fields
 
         private static final int DATA_FORMAT = 0x43667520; // "Cfu "
 
@@ -2023,6 +2211,19 @@ private void readData(ByteBuffer bytes) throws java.io.IOException {
             bytes.reset();
             ICUBinary.skipBytes(bytes, CFUStringTableOffset);
             fCFUStrings = ICUBinary.getString(bytes, CFUStringTableSize, 0);
+            initLatin1Indexes();
+        }
+
+        /**
+         * Cache the confusable entries of the Latin-1 characters, which are most of the characters of many
+         * identifiers, so that looking them up skips the binary search.
+         */
+        private void initLatin1Indexes() {
+            int[] indexes = new int[0x100];
+            for (int c = 0; c < indexes.length; c++) {
+                indexes[c] = indexOf(c);
+            }
+            fLatin1Indexes = indexes;
         }
 
         /**
@@ -2032,11 +2233,33 @@ private void readData(ByteBuffer bytes) throws java.io.IOException {
          * This is the heart of the confusable skeleton generation implementation.
          */
         public void confusableLookup(int inChar, StringBuilder dest) {
+            int index = indexOf(inChar);
+            if (index < 0) {
+                // The char maps to itself.
+                dest.appendCodePoint(inChar);
+                return;
+            }
+
+            // Add the element to the string builder and return.
+            appendValueTo(index, dest);
+            return;
+        }
+
+        /**
+         * Return the index of the confusable entry for the code point, or -1 if the code point maps to itself.
+         */
+        public int indexOf(int inChar) {
+            if (inChar < 0x100 && fLatin1Indexes != null) {
+                return fLatin1Indexes[inChar];
+            }
             // Perform a binary search.
             // [lo, hi), i.e lo is inclusive, hi is exclusive.
             // The result after the loop will be in lo.
             int lo = 0;
             int hi = length();
+            if (hi == 0) {
+                return -1;
+            }
             do {
                 int mid = (lo + hi) / 2;
                 if (codePointAt(mid) > inChar) {
@@ -2050,15 +2273,8 @@ public void confusableLookup(int inChar, StringBuilder dest) {
                 }
             } while (hi - lo > 1);
 
-            // Did we find an entry? If not, the char maps to itself.
-            if (codePointAt(lo) != inChar) {
-                dest.appendCodePoint(inChar);
-                return;
-            }
-
-            // Add the element to the string builder and return.
-            appendValueTo(lo, dest);
-            return;
+            // Did we find an entry?
+            return codePointAt(lo) == inChar ? lo : -1;
         }
 
         /**
@@ -2090,7 +2306,7 @@ public int codePointAt(int index) {
          *            The StringBuilder to which to append the skeleton.
          */
         public void appendValueTo(int index, StringBuilder dest) {
-            int stringLength = ConfusableDataUtils.keyToLength(fCFUKeys[index]);
+            int stringLength = valueLength(index);
 
             // Value is either a char (for strings of length 1) or
             // an index into the string table (for longer strings)
@@ -2101,6 +2317,21 @@ public void appendValueTo(int index, StringBuilder dest) {
                 dest.append(fCFUStrings, value, value + stringLength);
             }
         }
+
+        /**
+         * Return the length in UTF-16 code units of the confusable skeleton at the specified index.
+         */
+        public int valueLength(int index) {
+            return ConfusableDataUtils.keyToLength(fCFUKeys[index]);
+        }
+
+        /**
+         * Return a code unit of the confusable skeleton at the specified index.
+         */
+        public char valueCharAt(int index, int i) {
+            short value = fCFUValues[index];
+            return valueLength(index) == 1 ? (char) value : fCFUStrings.charAt(value + i);
+        }
     }
 
     // -------------------------------------------------------------------------------
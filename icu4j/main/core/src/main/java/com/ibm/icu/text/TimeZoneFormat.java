@@ -3123,6 +3123,9 @@ private String parseExemplarLocation(String text, ParsePosition pos) {
      * Implements <code>TimeZoneFormat</code> object cache
      */
     private static class TimeZoneFormatCache extends SoftCache<ULocale, TimeZoneFormat, ULocale> {
+        TimeZoneFormatCache() {
+            super("TimeZoneFormat");
+        }
 
         /* (non-Javadoc)
          * @see com.ibm.icu.impl.CacheBase#createInstance(java.lang.Object, java.lang.Object)
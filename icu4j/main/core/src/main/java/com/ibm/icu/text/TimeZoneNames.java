@@ -507,6 +507,9 @@ protected Factory() {
      * TimeZoneNames cache used by {@link TimeZoneNames#getInstance(ULocale)}
      */
     private static class Cache extends SoftCache<String, TimeZoneNames, ULocale> {
+        Cache() {
+            super("TimeZoneNames");
+        }
 
         /*
          * (non-Javadoc)
@@ -3555,7 +3555,7 @@ protected DateFormat handleGetDateFormat(String pattern, String override, ULocal
 
     // date format pattern cache
     private static final ICUCache<String, PatternData> PATTERN_CACHE =
-            new SimpleCache<>();
+            new SimpleCache<>("Calendar.patterns");
     // final fallback patterns (match current root)
     private static final String[] DEFAULT_PATTERNS = {
         "HH:mm:ss z",
@@ -5022,6 +5022,9 @@ private static WeekData getWeekDataForRegionInternal(String region) {
      * Cache to hold week data by region
      */
     private static class WeekDataCache extends SoftCache<String, WeekData, String> {
+        WeekDataCache() {
+            super("Calendar.weekData");
+        }
 
         /* (non-Javadoc)
          * @see com.ibm.icu.impl.CacheBase#createInstance(java.lang.Object, java.lang.Object)
@@ -64,7 +64,7 @@ public class Currency extends MeasureUnit {
 
     // Cache to save currency name trie
     private static ICUCache<ULocale, List<TextTrieMap<CurrencyStringInfo>>> CURRENCY_NAME_CACHE =
-        new SimpleCache<>();
+        new SimpleCache<>("Currency.names");
 
     /**
      * Selector for getName() indicating a symbolic name for a
@@ -258,7 +258,7 @@ public static Set<Currency> getAvailableCurrencies() {
     }
 
     private static final CacheBase<String, Currency, Void> regionCurrencyCache =
-            new SoftCache<String, Currency, Void>() {
+            new SoftCache<String, Currency, Void>("Currency") {
         @Override
         protected Currency createInstance(String key, Void unused) {
             return loadCurrency(key);
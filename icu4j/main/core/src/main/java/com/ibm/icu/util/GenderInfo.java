@@ -222,7 +222,7 @@ public GenderInfo(ListGenderStyle genderStyle) {
 
     private static class Cache {
         private final ICUCache<ULocale, GenderInfo> cache =
-            new SimpleCache<ULocale, GenderInfo>();
+            new SimpleCache<ULocale, GenderInfo>("GenderInfo");
 
         public GenderInfo get(ULocale locale) {
             GenderInfo result = cache.get(locale);
@@ -0,0 +1,401 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: https://www.unicode.org/copyright.html
+
+package com.ibm.icu.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinTask;
+
+import com.ibm.icu.impl.CacheMXBeans;
+import com.ibm.icu.impl.CacheRegistry;
+import com.ibm.icu.impl.CacheRegistry.ManagedCache;
+import com.ibm.icu.text.BreakIterator;
+import com.ibm.icu.text.DateFormat;
+import com.ibm.icu.text.DateFormatSymbols;
+import com.ibm.icu.text.DateIntervalInfo;
+import com.ibm.icu.text.DateTimePatternGenerator;
+import com.ibm.icu.text.DecimalFormatSymbols;
+import com.ibm.icu.text.NumberFormat;
+import com.ibm.icu.text.NumberingSystem;
+import com.ibm.icu.text.PluralRules;
+import com.ibm.icu.text.PluralRules.PluralType;
+import com.ibm.icu.text.TimeZoneFormat;
+import com.ibm.icu.text.TimeZoneNames;
+
+/**
+ * {@icu} Statistics and control for ICU's internal caches of locale data and service objects,
+ * such as the caches behind {@link DecimalFormatSymbols#getInstance(ULocale)}
+ * or {@link TimeZoneNames#getInstance(ULocale)}.
+ *
+ * <p>By default, these caches are unbounded and hold their values via soft references,
+ * so that the garbage collector can release them under memory pressure.
+ * The maximum number of entries of a cache can be configured with the system property
+ * {@code com.ibm.icu.impl.CacheRegistry.maxEntries.<cache name>}, for example
+ * {@code com.ibm.icu.impl.CacheRegistry.maxEntries.DecimalFormatSymbols}.
+ * A bounded cache holds its values strongly and evicts the least recently used ones.
+ * Caches that are not configured by name remain unbounded.
+ *
+ * <p>A cache name is the simple name of the class that owns the cache,
+ * like "DecimalFormatSymbols", followed by what the cache holds
+ * if the class has several caches, like "Calendar.patterns" and "Calendar.weekData".
+ * {@link #getStats()} lists the caches that have been created so far, with their names.
+ *
+ * <p>This class is thread-safe.
+ *
+ * @draft ICU 78
+ */
+public final class ICUCaches {
+    private ICUCaches() {}
+
+    /**
+     * Immutable snapshot of one cache's statistics.
+     *
+     * @draft ICU 78
+     */
+    public static final class Stats {
+        private final String name;
+        private final int size;
+        private final int maxEntries;
+        private final long hitCount;
+        private final long missCount;
+        private final long totalLoadNanos;
+        private final long evictionCount;
+
+        private Stats(ManagedCache cache) {
+            CacheRegistry.Counters counters = cache.getCounters();
+            name = cache.getCacheName();
+            size = cache.getCacheSize();
+            maxEntries = cache.getMaxEntries();
+            hitCount = counters.getHitCount();
+            missCount = counters.getMissCount();
+            totalLoadNanos = counters.getTotalLoadNanos();
+            evictionCount = counters.getEvictionCount();
+        }
+
+        /**
+         * Returns the cache name, like "DecimalFormatSymbols" or "Calendar.weekData".
+         * A cache created with the name of another live cache has a suffix like "#2".
+         *
+         * @draft ICU 78
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the number of entries, including ones whose values were released
+         * by the garbage collector.
+         *
+         * @draft ICU 78
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * Returns the configured maximum number of entries, or 0 if the cache is unbounded.
+         *
+         * @draft ICU 78
+         */
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        /**
+         * Returns the number of lookups that found a cached value.
+         *
+         * @draft ICU 78
+         */
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        /**
+         * Returns the number of lookups that did not find a cached value.
+         *
+         * @draft ICU 78
+         */
+        public long getMissCount() {
+            return missCount;
+        }
+
+        /**
+         * Returns the total time spent creating values on cache misses, in nanoseconds,
+         * where the cache creates its own values.
+         *
+         * @draft ICU 78
+         */
+        public long getTotalLoadNanos() {
+            return totalLoadNanos;
+        }
+
+        /**
+         * Returns the number of entries evicted because the cache was full.
+         *
+         * @draft ICU 78
+         */
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @draft ICU 78
+         */
+        @Override
+        public String toString() {
+            return name + "{size=" + size + ", maxEntries=" + maxEntries +
+                    ", hits=" + hitCount + ", misses=" + missCount +
+                    ", loadMillis=" + (totalLoadNanos / 1000000) +
+                    ", evictions=" + evictionCount + '}';
+        }
+    }
+
+    /**
+     * Returns statistics for all of ICU's caches that have been created so far.
+     *
+     * @draft ICU 78
+     */
+    public static List<Stats> getStats() {
+        List<Stats> result = new ArrayList<>();
+        for (ManagedCache cache : CacheRegistry.getCaches()) {
+            result.add(new Stats(cache));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Removes all entries from all of ICU's caches and resets their statistics.
+     * Objects obtained from the caches remain valid.
+     *
+     * @draft ICU 78
+     */
+    public static void clear() {
+        CacheRegistry.clearAll();
+    }
+
+    /**
+     * Removes the cache entries for exactly this locale from ICU's caches,
+     * for example after changing locale data providers.
+     * Entries for other locales, even more specific ones, remain.
+     *
+     * @param locale the locale whose entries are to be removed
+     * @return the number of removed entries
+     * @draft ICU 78
+     */
+    public static int clear(ULocale locale) {
+        return CacheRegistry.clear(locale);
+    }
+
+    /**
+     * Kinds of locale data that {@link ICUCaches#preload(Set, Set)} loads.
+     *
+     * @draft ICU 78
+     */
+    public enum Service {
+        /**
+         * Decimal format symbols, numbering system, and number patterns.
+         *
+         * @draft ICU 78
+         */
+        NUMBER_FORMAT {
+            @Override
+            void load(ULocale locale) {
+                DecimalFormatSymbols.getInstance(locale);
+                NumberingSystem.getInstance(locale);
+                NumberFormat.getInstance(locale);
+            }
+        },
+        /**
+         * Plural rules, for cardinals and ordinals.
+         *
+         * @draft ICU 78
+         */
+        PLURAL_RULES {
+            @Override
+            void load(ULocale locale) {
+                PluralRules.forLocale(locale, PluralType.CARDINAL);
+                PluralRules.forLocale(locale, PluralType.ORDINAL);
+            }
+        },
+        /**
+         * The locale's currency and its display names.
+         *
+         * @draft ICU 78
+         */
+        CURRENCY {
+            @Override
+            void load(ULocale locale) {
+                Currency currency = Currency.getInstance(locale);
+                if (currency != null) {
+                    currency.getSymbol(locale);
+                }
+            }
+        },
+        /**
+         * Date format symbols, date-time and interval patterns, and calendar data.
+         *
+         * @draft ICU 78
+         */
+        DATE_FORMAT {
+            @Override
+            void load(ULocale locale) {
+                DateFormatSymbols.getInstance(locale);
+                DateTimePatternGenerator.getInstance(locale);
+                new DateIntervalInfo(locale);
+                DateFormat.getDateTimeInstance(DateFormat.MEDIUM, DateFormat.MEDIUM, locale);
+            }
+        },
+        /**
+         * Time zone display names and time zone formats.
+         *
+         * @draft ICU 78
+         */
+        TIME_ZONE_NAMES {
+            @Override
+            void load(ULocale locale) {
+                TimeZoneNames.getInstance(locale);
+                TimeZoneFormat.getInstance(locale);
+            }
+        },
+        /**
+         * Break iterator rules and dictionaries for characters, words, lines, and sentences.
+         *
+         * @draft ICU 78
+         */
+        BREAK_ITERATOR {
+            @Override
+            void load(ULocale locale) {
+                BreakIterator.getCharacterInstance(locale);
+                BreakIterator.getWordInstance(locale);
+                BreakIterator.getLineInstance(locale);
+                BreakIterator.getSentenceInstance(locale);
+            }
+        },
+        /**
+         * Collation tailorings. Ignored if the ICU collation classes are not available.
+         *
+         * @draft ICU 78
+         */
+        COLLATION {
+            @Override
+            void load(ULocale locale) {
+                Method getInstance = getCollatorFactory();
+                if (getInstance != null) {
+                    try {
+                        getInstance.invoke(null, locale);
+                    } catch (IllegalAccessException e) {
+                        throw new ICUException(e);
+                    } catch (InvocationTargetException e) {
+                        Throwable cause = e.getCause();
+                        if (cause instanceof RuntimeException) {
+                            throw (RuntimeException) cause;
+                        }
+                        throw new ICUException(cause);
+                    }
+                }
+            }
+        };
+
+        abstract void load(ULocale locale);
+    }
+
+    /** The formatting services loaded by {@link #prewarm(ULocale)}. */
+    private static final Set<Service> FORMATTING_SERVICES = Collections.unmodifiableSet(
+            EnumSet.of(Service.NUMBER_FORMAT, Service.CURRENCY,
+                    Service.DATE_FORMAT, Service.TIME_ZONE_NAMES));
+
+    private static volatile Method collatorFactory;
+    private static volatile boolean collatorFactoryLoaded;
+
+    /** Returns Collator.getInstance(ULocale), or null if the collation module is absent. */
+    private static Method getCollatorFactory() {
+        if (!collatorFactoryLoaded) {
+            Method m = null;
+            try {
+                m = Class.forName("com.ibm.icu.text.Collator").getMethod("getInstance", ULocale.class);
+            } catch (ClassNotFoundException | NoSuchMethodException e) {
+                // Collation is an optional ICU module.
+            }
+            collatorFactory = m;
+            collatorFactoryLoaded = true;
+        }
+        return collatorFactory;
+    }
+
+    /**
+     * Loads the commonly used formatting data for the locale into ICU's caches:
+     * number and date format symbols, date-time and interval patterns,
+     * numbering system, time zone names and formats, and the locale's currency.
+     * This moves data loading out of the first formatting requests, for example during startup.
+     *
+     * @param locale the locale whose data is to be loaded
+     * @see #preload(Set, Set)
+     * @draft ICU 78
+     */
+    public static void prewarm(ULocale locale) {
+        for (Service service : FORMATTING_SERVICES) {
+            service.load(locale);
+        }
+    }
+
+    /**
+     * Loads the data for each combination of locale and service into ICU's caches,
+     * in parallel in the common fork-join pool.
+     * Returns when all data has been loaded.
+     * Later requests for these locales and services find their data already parsed,
+     * and share it with each other.
+     *
+     * <p>For the shortest startup, also call this method during a class data sharing
+     * (AppCDS) training run, for example with {@code -XX:ArchiveClassesAtExit}.
+     * The archive then contains all ICU classes that these services use,
+     * so that a restarted JVM skips loading and verifying them.
+     * The loaded data itself is not archived; call this method again at startup
+     * to load it before the first requests.
+     *
+     * @param locales the locales whose data is to be loaded
+     * @param services the kinds of data to be loaded
+     * @throws RuntimeException an exception thrown while loading some of the data;
+     *     other tasks may then have been cancelled
+     * @draft ICU 78
+     */
+    public static void preload(Set<ULocale> locales, Set<Service> services) {
+        List<Runnable> tasks = new ArrayList<>(locales.size() * services.size());
+        for (ULocale locale : locales) {
+            for (Service service : services) {
+                tasks.add(() -> service.load(locale));
+            }
+        }
+        if (tasks.size() <= 1) {
+            for (Runnable task : tasks) {
+                task.run();
+            }
+            return;
+        }
+        ForkJoinTask<?>[] futures = new ForkJoinTask<?>[tasks.size()];
+        for (int i = 0; i < futures.length; ++i) {
+            futures[i] = ForkJoinTask.adapt(tasks.get(i));
+        }
+        ForkJoinTask.invokeAll(futures);
+    }
+
+    /**
+     * Registers one JMX MXBean per ICU cache with the platform MBean server,
+     * with object names like {@code com.ibm.icu:type=Cache,name=DecimalFormatSymbols}.
+     * Caches that are created later are not registered; call this again to add them.
+     * Requires the java.management module.
+     *
+     * @return the number of newly registered MXBeans
+     * @draft ICU 78
+     */
+    public static int registerMXBeans() {
+        return CacheMXBeans.registerAll();
+    }
+}
@@ -119,7 +119,7 @@ public final class ULocale implements Serializable, Comparable<ULocale> {
     // using serialver from jdk1.4.2_05
     private static final long serialVersionUID = 3715177670352309217L;
 
-    private static CacheBase<String, String, Void> nameCache = new SoftCache<String, String, Void>() {
+    private static CacheBase<String, String, Void> nameCache = new SoftCache<String, String, Void>("ULocale.names") {
         @Override
         protected String createInstance(String tmpLocaleID, Void unused) {
             return new LocaleIDParser(tmpLocaleID).getName();
@@ -356,7 +356,7 @@ public enum Category {
         FORMAT
     }
 
-    private static final SoftCache<Locale, ULocale, Void> CACHE = new SoftCache<Locale, ULocale, Void>() {
+    private static final SoftCache<Locale, ULocale, Void> CACHE = new SoftCache<Locale, ULocale, Void>("ULocale") {
         @Override
         protected ULocale createInstance(Locale key, Void unused) {
             return JDKLocaleHelper.toULocale(key);
@@ -260,6 +260,11 @@ public void setToBigDecimal(BigDecimal decimal) {
     }
   }
 
+  @Override
+  public void setToDouble(double input) {
+    setToBigDecimal(BigDecimal.valueOf(input));
+  }
+
   @Override
   public DecimalQuantity_SimpleStorage createCopy() {
     return new DecimalQuantity_SimpleStorage(this);
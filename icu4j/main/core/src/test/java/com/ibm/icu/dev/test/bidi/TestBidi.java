@@ -14,6 +14,7 @@
 import org.junit.Test;
 
 import com.ibm.icu.text.Bidi;
+import com.ibm.icu.text.BidiClassifier;
 import com.ibm.icu.text.BidiRun;
 
 /**
@@ -590,4 +591,61 @@ public void testExplicitLevel0() {
         assertEquals("java.text resolved level at 0", 1, jb.getLevelAt(0));
         assertEquals("java.text resolved level at 1", 1, jb.getLevelAt(1));
     }
+
+    @Test
+    public void testReuse() {
+        String[] texts = {
+            "Hello, world! 123 (a+b) = c; x/y.",
+            "abc",
+            "",
+            "\u05d0\u05d1 abc 123 \u05d2",
+            "long ASCII text with spaces, digits 0123456789 and punctuation: [{<>}] $5.00 - 10%   ",
+            "a\tb c",
+            "abc def\nghi",
+            "\u0627\u0628 (12) abc",
+            "x",
+        };
+        int[] options = {0, Bidi.DO_MIRRORING, Bidi.OUTPUT_REVERSE, Bidi.INSERT_LRM_FOR_NUMERIC,
+                         Bidi.REMOVE_BIDI_CONTROLS | Bidi.DO_MIRRORING};
+        byte[] paraLevels = {0, 1, Bidi.LEVEL_DEFAULT_LTR, Bidi.LEVEL_DEFAULT_RTL};
+        Bidi reused = new Bidi();
+        Bidi slow = new Bidi();
+        // The default classifier makes setPara() go through the full algorithm.
+        slow.setCustomClassifier(new BidiClassifier(null));
+        char[] dest = new char[MAXLEN];
+        StringBuilder sb = new StringBuilder();
+        for (int round = 0; round < 2; ++round) {
+            for (String text : texts) {
+                for (byte paraLevel : paraLevels) {
+                    String msg = "\"" + text + "\" paraLevel " + paraLevel + ": ";
+                    reused.setPara(text, paraLevel, null);
+                    slow.setPara(text, paraLevel, null);
+                    assertEquals(msg + "direction", slow.getDirection(), reused.getDirection());
+                    assertEquals(msg + "paraLevel", slow.getParaLevel(), reused.getParaLevel());
+                    assertEquals(msg + "runCount", slow.countRuns(), reused.countRuns());
+                    assertTrue(msg + "levels", Arrays.equals(slow.getLevels(), reused.getLevels()));
+                    assertTrue(msg + "visualMap", Arrays.equals(slow.getVisualMap(), reused.getVisualMap()));
+                    for (int option : options) {
+                        String expected = slow.writeReordered(option);
+                        assertEquals(msg + "writeReordered(" + option + ")",
+                                     expected, reused.writeReordered(option));
+                        int length = reused.writeReordered(option, dest, 1);
+                        assertEquals(msg + "writeReordered(" + option + ", char[])",
+                                     expected, new String(dest, 1, length));
+                        sb.setLength(0);
+                        sb.append('>');
+                        assertEquals(msg + "writeReordered(" + option + ", Appendable)",
+                                     ">" + expected, reused.writeReordered(option, sb).toString());
+                    }
+                }
+            }
+        }
+
+        reused.setPara("abc \u05d0\u05d1", (byte)0, null);
+        try {
+            reused.writeReordered(0, new char[5], 0);
+            errln("writeReordered() into a too short array should throw");
+        } catch (IndexOutOfBoundsException expected) {
+        }
+    }
 }
@@ -13,6 +13,7 @@
 import java.io.InputStream;
 import java.io.Reader;
 import java.io.UnsupportedEncodingException;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.TreeMap;
@@ -420,6 +421,10 @@ public void TestDetection()
     private void checkMatch(CharsetDetector det, String testString,
             String encoding, String language, boolean checkRoundtrip, String id) throws Exception {
         CharsetMatch m = det.detect();
+        CharsetMatch[] all = det.detectAll();
+        if (! m.getName().equals(all[0].getName()) || m.getConfidence() != all[0].getConfidence()) {
+            errln(id + ": detect() returned " + m.getName() + ", but detectAll() starts with " + all[0].getName());
+        }
         if (! m.getName().equals(encoding)) {
             errln(id + ": encoding detection failure - expected " + encoding + ", got " + m.getName());
             return;
@@ -483,12 +488,120 @@ private void checkEncoding(String testString,
 
             det.setText(new ByteArrayInputStream(bytes));
             checkMatch(det, testString, encoding, language, checkRoundtrip, id);
+
+            // Appended in chunks, into a detector that is reused for all test cases.
+            streamingDetector.reset();
+            for (int start = 0; start < bytes.length; start += 100) {
+                if (!streamingDetector.appendText(bytes, start, Math.min(100, bytes.length - start))) {
+                    break;
+                }
+            }
+            checkMatch(streamingDetector, testString, encoding, language,
+                    checkRoundtrip && bytes.length < 8000, id + " (appended)");
          } catch (Exception e) {
             errln(id + ": " + e.toString() + "enc=" + encoding);
             e.printStackTrace();
         }
     }
 
+    private final CharsetDetector streamingDetector = new CharsetDetector();
+
+    @Test
+    public void TestAppendText() throws Exception {
+        CharsetDetector det = new CharsetDetector();
+        byte[] utf16 = "\uFEFFEin kurzer Text auf Deutsch.".getBytes("UTF-16BE");
+        byte[] latin1 = "Un tr\u00E8s petit peu de Fran\u00E7ais, pas tr\u00E8s long.".getBytes("ISO-8859-1");
+
+        // A new detector accepts chunks without a call to reset().
+        assertTrue("more input", det.appendText(utf16, 0, utf16.length));
+        assertEquals("new detector", "UTF-16BE", det.detect().getName());
+
+        // Without a threshold, all input up to the buffer size is used.
+        det.reset();
+        assertTrue("more input", det.appendText(utf16, 0, 2));
+        assertTrue("more input", det.appendText(utf16, 2, utf16.length - 2));
+        assertEquals("UTF-16BE", "UTF-16BE", det.detect().getName());
+        assertEquals("getString", "\uFEFFEin kurzer Text auf Deutsch.", det.detect().getString());
+        byte[] big = new byte[20000];
+        Arrays.fill(big, (byte)'a');
+        det.reset();
+        assertFalse("buffer full", det.appendText(big, 0, big.length));
+        assertFalse("buffer full", det.appendText(big, 0, 1));
+
+        // With a threshold, input stops being needed once a match reaches it.
+        det.setConfidenceThreshold(100);
+        assertEquals("threshold", 100, det.getConfidenceThreshold());
+        det.reset();
+        byte[] padded = Arrays.copyOf(utf16, 1000);
+        assertFalse("BOM is enough", det.appendText(padded, 0, padded.length));
+        assertEquals("UTF-16BE with threshold", "UTF-16BE", det.detect().getName());
+        det.reset();
+        assertTrue("Latin-1 needs more", det.appendText(latin1, 0, latin1.length));
+        det.setConfidenceThreshold(0);
+        assertEquals("ISO-8859-1", "ISO-8859-1", det.detect().getName());
+
+        // setText() replaces appended text, and appendText() replaces text that was set.
+        det.setText(latin1);
+        assertEquals("setText", "ISO-8859-1", det.detect().getName());
+        det.appendText(utf16, 0, utf16.length);
+        assertEquals("appendText after setText", "UTF-16BE", det.detect().getName());
+        det.setText(new ByteArrayInputStream(latin1));
+        assertEquals("setText stream", "ISO-8859-1", det.detect().getName());
+        det.appendText(utf16, 0, utf16.length);
+        assertEquals("appendText after setText stream", "UTF-16BE", det.detect().getName());
+
+        try {
+            det.setConfidenceThreshold(101);
+            errln("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    @Test
+    public void TestConfidenceThreshold() throws Exception {
+        byte[] utf8 = "\u00DCber den Flu\u00DF, \u00FCber die Br\u00FCcke.".getBytes("UTF-8");
+        CharsetDetector det = new CharsetDetector();
+        det.setText(utf8);
+        CharsetMatch best = det.detect();
+        det.setConfidenceThreshold(100);
+        CharsetMatch early = det.detect();
+        assertEquals("same charset", best.getName(), early.getName());
+        assertEquals("confidence", 100, early.getConfidence());
+
+        // The first match that reaches the threshold wins, not necessarily the best one.
+        byte[] latin1 = "Un tr\u00E8s petit peu de Fran\u00E7ais.".getBytes("ISO-8859-1");
+        det.setText(latin1);
+        det.setConfidenceThreshold(1);
+        CharsetMatch first = det.detect();
+        assertTrue("some match", first != null && first.getConfidence() >= 1);
+    }
+
+    @Test
+    public void TestCandidateCharsets() throws Exception {
+        byte[] bytes = ("\u041F\u0440\u0438\u0432\u0435\u0442, \u043A\u0430\u043A \u0434\u0435\u043B\u0430? "
+                + "\u042D\u0442\u043E \u043D\u0435\u0431\u043E\u043B\u044C\u0448\u043E\u0439 \u0442\u0435\u043A\u0441\u0442.")
+                .getBytes("KOI8-R");
+        CharsetDetector det = new CharsetDetector();
+        det.setCandidateCharsets("KOI8-R", "windows-1251");
+        assertEquals("candidates", 2, det.getDetectableCharsets().length);
+        det.setText(bytes);
+        CharsetMatch[] matches = det.detectAll();
+        for (CharsetMatch m : matches) {
+            assertTrue("only candidates", m.getName().equals("KOI8-R") || m.getName().equals("windows-1251"));
+        }
+        assertEquals("detect", matches[0].getName(), det.detect().getName());
+        det.setDetectableCharset("windows-1251", false);
+        assertEquals("disabled", "KOI8-R", det.detect().getName());
+        assertEquals("one candidate", 1, det.detectAll().length);
+        det.setCandidateCharsets();
+        assertNull("no candidates", det.detect());
+        try {
+            det.setCandidateCharsets("KOI8-R", "EBCDIC");
+            errln("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
     @Test
     public void TestJapanese() throws Exception {
         String s = "\u3000\u3001\u3002\u3003\u3005\u3006\u3007\u3008\u3009\u300A\u300B\u300C\u300D\u300E\u300F\u3010\u3011\u3012\u3013\u3014" +
@@ -0,0 +1,163 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: https://www.unicode.org/copyright.html
+
+package com.ibm.icu.dev.test.format;
+
+import java.text.AttributedCharacterIterator;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import com.ibm.icu.dev.test.CoreTestFmwk;
+import com.ibm.icu.text.ConstrainedFieldPosition;
+import com.ibm.icu.text.DateFormat;
+import com.ibm.icu.text.LocalizedDateFormatter;
+import com.ibm.icu.text.SimpleDateFormat;
+import com.ibm.icu.util.TimeZone;
+import com.ibm.icu.util.ULocale;
+
+@RunWith(JUnit4.class)
+public class LocalizedDateFormatterTest extends CoreTestFmwk {
+    private static final String[] LOCALES = {
+        "en_US", "de_DE", "fr_CA", "ja_JP", "ar_EG", "hi_IN", "zh_Hant", "ru",
+        "th_TH", "ja_JP@calendar=japanese", "fa_IR", "he_IL@calendar=hebrew"
+    };
+
+    private static final String[] PATTERNS = {
+        "yyyy-MM-dd'T'HH:mm:ss.SSSXXX",
+        "EEEE, d MMMM y G 'at' h:mm:ss a zzzz",
+        "EEEEE EEEEEE cccc ccccc cc e ee eee LLLL LLLLL MMMMM M L",
+        "QQQQ QQQQQ Q qqq qq u uuuuu yy y D DDD A k kk K h",
+        "S SS SSSS SSSSSS GGGG GGGGG aaaaa",
+        "z Z ZZZZ ZZZZZ v vvvv V VV VVV VVVV O OOOO X XX XXX XXXX XXXXX x xx xxx xxxx xxxxx",
+        "'quoted ''text''' HH:mm",
+        // Not on the fast path:
+        "Y-ww-e W F g r B b vv",
+    };
+
+    private static final long[] TIMES = {
+        0L, 1_000_000_000_000L, 1_700_000_000_123L, 951_782_400_007L, 4_102_444_799_999L,
+        -1_000_000_000_000L, -12_300_000_000_000L, -62_000_000_000_000L,
+    };
+
+    private static final String[] ZONES = {
+        "America/Los_Angeles", "Europe/Berlin", "Asia/Kolkata", "Etc/GMT+5", "Australia/Lord_Howe"
+    };
+
+    private static SimpleDateFormat newSimpleDateFormat(String pattern, ULocale locale, TimeZone zone) {
+        SimpleDateFormat sdf = new SimpleDateFormat(pattern, locale);
+        sdf.setTimeZone(zone);
+        return sdf;
+    }
+
+    @Test
+    public void testSameAsSimpleDateFormat() {
+        for (String localeID : LOCALES) {
+            ULocale locale = new ULocale(localeID);
+            for (String pattern : PATTERNS) {
+                LocalizedDateFormatter base = LocalizedDateFormatter.forPattern(pattern, locale);
+                for (String zoneID : ZONES) {
+                    TimeZone zone = TimeZone.getTimeZone(zoneID);
+                    LocalizedDateFormatter f = base.withTimeZone(zone);
+                    SimpleDateFormat sdf = newSimpleDateFormat(pattern, locale, zone);
+                    for (long time : TIMES) {
+                        String expected = sdf.format(new Date(time));
+                        String actual = f.format(time).toString();
+                        assertEquals(localeID + " " + pattern + " " + zoneID + " " + time,
+                                expected, actual);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSkeleton() {
+        ULocale locale = ULocale.GERMANY;
+        TimeZone zone = TimeZone.getTimeZone("Europe/Berlin");
+        LocalizedDateFormatter f = LocalizedDateFormatter.forSkeleton("yMMMMEEEEdjms", locale)
+                .withTimeZone(zone);
+        DateFormat df = DateFormat.getInstanceForSkeleton("yMMMMEEEEdjms", locale);
+        df.setTimeZone(zone);
+        long time = 1_700_000_000_000L;
+        assertEquals("pattern", ((SimpleDateFormat) df).toPattern(), f.getPattern());
+        assertEquals("long", df.format(new Date(time)), f.format(time).toString());
+        assertEquals("Date", df.format(new Date(time)), f.format(new Date(time)).toString());
+        assertEquals("Instant", df.format(new Date(time)),
+                f.format(Instant.ofEpochMilli(time)).toString());
+        assertEquals("locale", locale, f.getLocale());
+        assertTrue("frozen zone", f.getTimeZone().isFrozen());
+    }
+
+    @Test
+    public void testFieldPositions() {
+        TimeZone zone = TimeZone.getTimeZone("America/New_York");
+        long time = 1_700_000_000_000L;
+        String[] patterns = { "EEEE, MMM d, y h:mm a", "Y-ww-e" };
+        for (String pattern : patterns) {
+            LocalizedDateFormatter f =
+                    LocalizedDateFormatter.forPattern(pattern, ULocale.US).withTimeZone(zone);
+            SimpleDateFormat sdf = newSimpleDateFormat(pattern, ULocale.US, zone);
+            AttributedCharacterIterator expected = sdf.formatToCharacterIterator(new Date(time));
+            AttributedCharacterIterator actual = f.format(time).toCharacterIterator();
+            assertEquals(pattern, expected.getEndIndex(), actual.getEndIndex());
+            for (char c = expected.first(), d = actual.first(); c != AttributedCharacterIterator.DONE;
+                    c = expected.next(), d = actual.next()) {
+                Map<AttributedCharacterIterator.Attribute, Object> ea = expected.getAttributes();
+                Map<AttributedCharacterIterator.Attribute, Object> aa = actual.getAttributes();
+                assertEquals(pattern + " attributes at " + expected.getIndex(),
+                        ea.keySet(), aa.keySet());
+            }
+        }
+        ConstrainedFieldPosition pos = new ConstrainedFieldPosition();
+        pos.constrainField(DateFormat.Field.YEAR);
+        LocalizedDateFormatter.FormattedDate result =
+                LocalizedDateFormatter.forPattern("d.M.y", ULocale.GERMANY).withTimeZone(zone)
+                .format(time);
+        assertTrue("year position", result.nextPosition(pos));
+        assertEquals("year start", 6, pos.getStart());
+        assertEquals("year limit", 10, pos.getLimit());
+        StringBuilder sb = new StringBuilder("at ");
+        assertEquals("appendTo", "at 14.11.2023", result.appendTo(sb).toString());
+    }
+
+    @Test
+    public void testThreads() throws InterruptedException {
+        LocalizedDateFormatter f = LocalizedDateFormatter.forPattern(
+                "EEEE d MMMM y HH:mm:ss.SSS zzzz", ULocale.FRANCE)
+                .withTimeZone(TimeZone.getTimeZone("Europe/Paris"));
+        SimpleDateFormat sdf = newSimpleDateFormat(f.getPattern(), ULocale.FRANCE, f.getTimeZone());
+        int count = 200;
+        String[] expected = new String[count];
+        for (int i = 0; i < count; ++i) {
+            expected[i] = sdf.format(new Date(i * 86_400_017L * 37));
+        }
+        AtomicReference<String> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; ++t) {
+            Thread thread = new Thread(() -> {
+                for (int rep = 0; rep < 20; ++rep) {
+                    for (int i = 0; i < count; ++i) {
+                        String actual = f.format(i * 86_400_017L * 37).toString();
+                        if (!actual.equals(expected[i])) {
+                            failure.compareAndSet(null, expected[i] + " != " + actual);
+                        }
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertNull("concurrent results", failure.get());
+    }
+}
@@ -8,6 +8,13 @@
  */
 package com.ibm.icu.dev.test.impl;
 
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -15,6 +22,11 @@
 import com.ibm.icu.dev.test.CoreTestFmwk;
 import com.ibm.icu.impl.CacheValue;
 import com.ibm.icu.impl.CacheValue.Strength;
+import com.ibm.icu.impl.SimpleCache;
+import com.ibm.icu.impl.SoftCache;
+import com.ibm.icu.text.DecimalFormatSymbols;
+import com.ibm.icu.util.ICUCaches;
+import com.ibm.icu.util.ULocale;
 
 @RunWith(JUnit4.class)
 public class CacheTest extends CoreTestFmwk {
@@ -70,4 +82,181 @@ public void testSoftCacheValue() {
             CacheValue.setStrength(Strength.STRONG);
         }
     }
+
+    private static final class CountingCache extends SoftCache<String, String, Void> {
+        int created;
+
+        CountingCache(String name) {
+            super(name);
+        }
+
+        @Override
+        protected String createInstance(String key, Void unused) {
+            ++created;
+            return key.toUpperCase(Locale.ROOT);
+        }
+    }
+
+    private static final AtomicInteger nameCounter = new AtomicInteger();
+
+    /**
+     * Returns a cache name that is not used yet in this JVM,
+     * even when a test runs again while the caches of its previous run are still registered.
+     */
+    private static String newCacheName(String prefix) {
+        return prefix + '.' + nameCounter.incrementAndGet();
+    }
+
+    private static ICUCaches.Stats getStats(String name) {
+        for (ICUCaches.Stats stats : ICUCaches.getStats()) {
+            if (stats.getName().equals(name)) {
+                return stats;
+            }
+        }
+        return null;
+    }
+
+    @Test
+    public void testCacheStats() {
+        String name = newCacheName("CacheTest.stats");
+        CountingCache cache = new CountingCache(name);
+        assertEquals("a", "A", cache.getInstance("a", null));
+        assertEquals("a again", "A", cache.getInstance("a", null));
+        assertEquals("b", "B", cache.getInstance("b", null));
+        ICUCaches.Stats stats = getStats(name);
+        assertTrue("registered", stats != null);
+        assertEquals("unbounded", 0, stats.getMaxEntries());
+        assertEquals("size", 2, stats.getSize());
+        assertEquals("hits", 1, stats.getHitCount());
+        assertEquals("misses", 2, stats.getMissCount());
+        assertEquals("evictions", 0, stats.getEvictionCount());
+    }
+
+    @Test
+    public void testDuplicateCacheName() {
+        String name = newCacheName("CacheTest.duplicate");
+        CountingCache cache = new CountingCache(name);
+        CountingCache cache2 = new CountingCache(name);
+        SimpleCache<String, String> cache3 = new SimpleCache<>(name);
+        assertEquals("first cache keeps its name", name, cache.getCacheName());
+        assertEquals("second cache", name + "#2", cache2.getCacheName());
+        assertEquals("third cache", name + "#3", cache3.getCacheName());
+        cache2.getInstance("a", null);
+        assertEquals("first cache stats", 0, getStats(name).getMissCount());
+        assertEquals("second cache stats", 1, getStats(name + "#2").getMissCount());
+        assertTrue("third cache registered", getStats(name + "#3") != null);
+    }
+
+    @Test
+    public void testBoundedSoftCache() {
+        String name = newCacheName("CacheTest.bounded");
+        String property = "com.ibm.icu.impl.CacheRegistry.maxEntries." + name;
+        System.setProperty(property, "8");
+        CountingCache cache;
+        try {
+            cache = new CountingCache(name);
+        } finally {
+            System.clearProperty(property);
+        }
+        assertEquals("maxEntries", 8, cache.getMaxEntries());
+        for (int i = 0; i < 8; ++i) {
+            cache.getInstance("k" + i, null);
+        }
+        // Touch k0 so that it is the most recently used entry.
+        cache.getInstance("k0", null);
+        cache.getInstance("k8", null);
+        assertTrue("size within bound", cache.getCacheSize() <= 8);
+        assertTrue("evicted", cache.getCounters().getEvictionCount() > 0);
+        int created = cache.created;
+        cache.getInstance("k0", null);
+        assertEquals("recently used k0 not evicted", created, cache.created);
+        cache.getInstance("k1", null);
+        assertEquals("least recently used k1 evicted", created + 1, cache.created);
+    }
+
+    @Test
+    public void testBoundedSimpleCache() {
+        String name = newCacheName("CacheTest.boundedSimple");
+        String property = "com.ibm.icu.impl.CacheRegistry.maxEntries." + name;
+        System.setProperty(property, "2");
+        SimpleCache<String, String> cache;
+        try {
+            cache = new SimpleCache<>(name);
+        } finally {
+            System.clearProperty(property);
+        }
+        cache.put("a", "A");
+        cache.put("b", "B");
+        assertEquals("a", "A", cache.get("a"));
+        cache.put("c", "C");
+        assertEquals("size", 2, cache.getCacheSize());
+        assertEquals("a kept", "A", cache.get("a"));
+        assertNull("b evicted", cache.get("b"));
+        assertEquals("evictions", 1, cache.getCounters().getEvictionCount());
+        assertEquals("hits", 2, cache.getCounters().getHitCount());
+        assertEquals("misses", 1, cache.getCounters().getMissCount());
+        cache.clear();
+        assertEquals("cleared", 0, cache.getCacheSize());
+        cache.put("d", "D");
+        assertEquals("put after clear", "D", cache.get("d"));
+    }
+
+    @Test
+    public void testClearLocale() {
+        SimpleCache<Object, String> cache = new SimpleCache<>(newCacheName("CacheTest.locales"));
+        cache.put(ULocale.GERMAN, "de");
+        cache.put(ULocale.GERMANY, "de_DE");
+        cache.put(Locale.GERMAN, "de");
+        cache.put("de", "de");
+        cache.put("de+gregorian", "de+gregorian");
+        cache.put("de_CH", "de_CH");
+        cache.put("dev", "dev");
+        cache.put("fr", "fr");
+        // Other ICU caches may also have had entries for de.
+        assertTrue("removed", ICUCaches.clear(ULocale.GERMAN) >= 4);
+        assertNull("ULocale de", cache.get(ULocale.GERMAN));
+        assertNull("Locale de", cache.get(Locale.GERMAN));
+        assertNull("de", cache.get("de"));
+        assertNull("de+gregorian", cache.get("de+gregorian"));
+        assertEquals("ULocale de_DE", "de_DE", cache.get(ULocale.GERMANY));
+        assertEquals("de_CH", "de_CH", cache.get("de_CH"));
+        assertEquals("dev", "dev", cache.get("dev"));
+        assertEquals("fr", "fr", cache.get("fr"));
+    }
+
+    @Test
+    public void testPrewarm() {
+        ULocale locale = new ULocale("de_AT");
+        ICUCaches.prewarm(locale);
+        ICUCaches.Stats before = getStats("DecimalFormatSymbols");
+        assertTrue("DecimalFormatSymbols cache registered", before != null);
+        DecimalFormatSymbols.getInstance(locale);
+        ICUCaches.Stats after = getStats("DecimalFormatSymbols");
+        assertEquals("prewarmed", before.getMissCount(), after.getMissCount());
+        assertTrue("hit", after.getHitCount() > before.getHitCount());
+        List<ICUCaches.Stats> all = ICUCaches.getStats();
+        for (String name : new String[] {
+                "DateFormatSymbols", "DateTimePatternGenerator", "DateIntervalInfo",
+                "TimeZoneNames", "TimeZoneFormat", "NumberingSystem", "Currency" }) {
+            assertTrue(name + " cache registered", getStats(name) != null);
+        }
+        logln(all.toString());
+    }
+
+    @Test
+    public void testPreload() {
+        ULocale[] locales = { new ULocale("fr_CA"), new ULocale("ja_JP"), new ULocale("ar_EG") };
+        ICUCaches.preload(new HashSet<>(Arrays.asList(locales)),
+                EnumSet.allOf(ICUCaches.Service.class));
+        ICUCaches.Stats before = getStats("DecimalFormatSymbols");
+        for (ULocale locale : locales) {
+            DecimalFormatSymbols.getInstance(locale);
+        }
+        ICUCaches.Stats after = getStats("DecimalFormatSymbols");
+        assertEquals("preloaded", before.getMissCount(), after.getMissCount());
+        // Nothing to do, and the collation module may be missing.
+        ICUCaches.preload(new HashSet<ULocale>(), EnumSet.allOf(ICUCaches.Service.class));
+        ICUCaches.preload(new HashSet<>(Arrays.asList(locales)),
+                EnumSet.of(ICUCaches.Service.COLLATION));
+    }
 }
@@ -607,6 +607,20 @@ class TestCase {
                 tests) {
             UnitsConverter converter = new UnitsConverter(testCase.source, testCase.target, conversionRates);
             BigDecimal got = converter.convert(testCase.input);
+
+            double gotDouble = converter.convert(testCase.input.doubleValue());
+            assertTrue(testCase.category + ": Converting 1000 " + testCase.sourceString + " to "
+                    + testCase.targetString + " in double, got " + gotDouble + ", expected "
+                    + testCase.expected,
+                    compareTwoBigDecimal(testCase.expected, BigDecimal.valueOf(gotDouble),
+                            BigDecimal.valueOf(0.000001)));
+            BigDecimal invertedExpected = converter.convertInverse(got);
+            double invertedDouble = converter.convertInverse(gotDouble);
+            assertTrue("Converting back to " + testCase.sourceString + " from " + testCase.targetString
+                    + " in double: got " + invertedDouble + ", expected " + invertedExpected,
+                    compareTwoBigDecimal(invertedExpected, BigDecimal.valueOf(invertedDouble),
+                            BigDecimal.valueOf(0.000001)));
+
             if (compareTwoBigDecimal(testCase.expected, got, BigDecimal.valueOf(0.000001))) {
                 continue;
             } else {
@@ -767,6 +781,26 @@ public String toString() {
             }
         }
 
+        // Test the double arithmetic of UnitsRouter.
+        for (TestCase testCase : tests) {
+            UnitsRouter router = new UnitsRouter(testCase.inputUnit.second, testCase.locale,
+                    testCase.usage);
+            List<Measure> measures =
+                    router.route(testCase.input.doubleValue(), null).complexConverterResult.measures;
+
+            assertEquals("For " + testCase.toString() + ", double measures size must be the same as expected units",
+                    measures.size(), testCase.expectedInOrder.size());
+
+            for (int i = 0; i < measures.size(); i++) {
+                if (!UnitsTest
+                        .compareTwoBigDecimal(testCase.expectedInOrder.get(i),
+                                BigDecimal.valueOf(measures.get(i).getNumber().doubleValue()),
+                                BigDecimal.valueOf(0.0000000001))) {
+                    fail("Test failed in double: " + testCase + "; Got unexpected result: " + measures);
+                }
+            }
+        }
+
     }
 
     /**
@@ -3,6 +3,7 @@
 
 package com.ibm.icu.dev.test.message2;
 
+import java.text.AttributedCharacterIterator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Locale;
@@ -14,6 +15,7 @@
 import org.junit.runners.JUnit4;
 
 import com.ibm.icu.dev.test.CoreTestFmwk;
+import com.ibm.icu.message2.FormattedMessage;
 import com.ibm.icu.message2.FormattedPlaceholder;
 import com.ibm.icu.message2.Formatter;
 import com.ibm.icu.message2.FormatterFactory;
@@ -22,6 +24,8 @@
 import com.ibm.icu.number.FormattedNumber;
 import com.ibm.icu.number.LocalizedNumberFormatter;
 import com.ibm.icu.number.NumberFormatter;
+import com.ibm.icu.text.ConstrainedFieldPosition;
+import com.ibm.icu.text.NumberFormat;
 import com.ibm.icu.util.BuddhistCalendar;
 import com.ibm.icu.util.Calendar;
 import com.ibm.icu.util.GregorianCalendar;
@@ -145,6 +149,83 @@ public void testPlural() {
                 mf2.formatToString(Args.of("count", 42)));
     }
 
+    @Test
+    public void testRepeatedFormatting() {
+        // The formatters and selectors created for the first call are reused by the next ones,
+        // they should not leak any state between calls.
+        MessageFormatter mf2 = MessageFormatter.builder()
+                .setPattern(""
+                        + ".input {$count :integer}\n"
+                        + ".local $total = {$price :number maximumFractionDigits=$digits}\n"
+                        + ".match $count\n"
+                        + " 0 {{No items.}}\n"
+                        + " one {{{$count} item for {$total}, {|literal| :string}.}}\n"
+                        + " * {{{$count} items for {$total}, {|literal| :string}.}}")
+                .setLocale(Locale.US)
+                .build();
+        for (int i = 0; i < 3; i++) {
+            assertEquals("zero", "No items.",
+                    mf2.formatToString(Args.of("count", 0, "price", 1.2345, "digits", 1)));
+            assertEquals("one", "1 item for 1.23, literal.",
+                    mf2.formatToString(Args.of("count", 1, "price", 1.2345, "digits", 2)));
+            assertEquals("other", "1,234 items for 1.2345, literal.",
+                    mf2.formatToString(Args.of("count", 1234, "price", 1.2345, "digits", 4)));
+        }
+
+        // The argument names are normalized to NFC, like the names in the message.
+        mf2 = MessageFormatter.builder()
+                .setPattern("{$\u00E9t\u00E9 :number} {$\u00E9t\u00E9}")
+                .setLocale(Locale.US)
+                .build();
+        assertEquals("NFC argument", "1,000 1,000",
+                mf2.formatToString(Args.of("été", 1000)));
+        assertEquals("NFC argument", "2,000 2,000",
+                mf2.formatToString(Args.of("e\u0301te\u0301", 2000)));
+    }
+
+    @Test
+    public void testFormattedMessage() {
+        MessageFormatter mf2 = MessageFormatter.builder()
+                .setPattern("You have {$count :integer} new messages.")
+                .setLocale(Locale.US)
+                .build();
+        Map<String, Object> arguments = Args.of("count", 12345);
+        FormattedMessage message = mf2.format(arguments);
+        assertEquals("toString", mf2.formatToString(arguments), message.toString());
+        assertEquals("toString", "You have 12,345 new messages.", message.toString());
+        assertEquals("appendTo", "> You have 12,345 new messages.",
+                message.appendTo(new StringBuilder("> ")).toString());
+
+        ConstrainedFieldPosition cfpos = new ConstrainedFieldPosition();
+        cfpos.constrainField(MessageFormatter.SpanField.PLACEHOLDER_SPAN);
+        assertTrue("placeholder", message.nextPosition(cfpos));
+        assertEquals("placeholder value", "$count", cfpos.getFieldValue());
+        assertEquals("placeholder start", 9, cfpos.getStart());
+        assertEquals("placeholder limit", 15, cfpos.getLimit());
+        assertFalse("one placeholder", message.nextPosition(cfpos));
+
+        // The fields of the formatted number are kept
+        cfpos.reset();
+        cfpos.constrainField(NumberFormat.Field.INTEGER);
+        assertTrue("integer", message.nextPosition(cfpos));
+        assertEquals("integer start", 9, cfpos.getStart());
+        assertEquals("integer limit", 15, cfpos.getLimit());
+        cfpos.reset();
+        cfpos.constrainField(NumberFormat.Field.GROUPING_SEPARATOR);
+        assertTrue("grouping", message.nextPosition(cfpos));
+        assertEquals("grouping start", 11, cfpos.getStart());
+        assertEquals("grouping limit", 12, cfpos.getLimit());
+
+        AttributedCharacterIterator iterator = message.toCharacterIterator();
+        iterator.setIndex(10);
+        assertEquals("attribute", "$count",
+                iterator.getAttribute(MessageFormatter.SpanField.PLACEHOLDER_SPAN));
+        assertEquals("attribute", NumberFormat.Field.INTEGER,
+                iterator.getAttribute(NumberFormat.Field.INTEGER));
+        iterator.setIndex(2);
+        assertTrue("no attribute", iterator.getAttributes().isEmpty());
+    }
+
     @Test
     public void testPluralOrdinal() {
         String message = ""
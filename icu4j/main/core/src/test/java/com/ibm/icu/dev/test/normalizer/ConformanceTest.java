@@ -11,6 +11,7 @@
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.text.StringCharacterIterator;
 
 import org.junit.Ignore;
@@ -22,6 +23,7 @@
 import com.ibm.icu.dev.test.TestUtil;
 import com.ibm.icu.impl.Utility;
 import com.ibm.icu.text.Normalizer;
+import com.ibm.icu.text.Normalizer2;
 import com.ibm.icu.text.UTF16;
 import com.ibm.icu.text.UnicodeSet;
 
@@ -168,6 +170,9 @@ private boolean checkConformance(String[] field, String line, int options) throw
             cross(field[3] /*NFKC String*/, field[4]/*NFKD String*/, Normalizer.NFKD);
 
         }
+        if (options == 0) {
+            pass &= checkNormUTF8(field);
+        }
         compare(field[1],field[2]);
         compare(field[0],field[1]);
         compare(field[0],field[2]);
@@ -323,6 +328,37 @@ boolean checkNorm(Normalizer.Mode mode, int options,  // Normalizer2 norm2,
         return true;
     }
 
+    // Checks the UTF-8 Normalizer2 API against the expected UTF-16 results.
+    private boolean checkNormUTF8(String[] field) {
+        boolean pass = true;
+        Normalizer2[] norms = {
+            Normalizer2.getNFCInstance(), Normalizer2.getNFDInstance(),
+            Normalizer2.getNFKCInstance(), Normalizer2.getNFKDInstance()
+        };
+        int[] expected = { 1, 2, 3, 4 };
+        for (int i = 0; i < 5; ++i) {
+            byte[] src = field[i].getBytes(StandardCharsets.UTF_8);
+            for (int m = 0; m < norms.length; ++m) {
+                if (i >= 3 && m < 2) {
+                    continue;  // NFC & NFD are only defined for columns 1..3
+                }
+                String exp = field[expected[m]];
+                String out = new String(norms[m].normalizeUTF8(src), StandardCharsets.UTF_8);
+                if (!out.equals(exp)) {
+                    errln("normalizeUTF8(c" + (i + 1) + ") mode " + m + " got " +
+                            Utility.hex(out) + " expected " + Utility.hex(exp));
+                    pass = false;
+                }
+                boolean isNorm = norms[m].isNormalizedUTF8(src, 0, src.length);
+                if (isNorm != field[i].equals(exp)) {
+                    errln("isNormalizedUTF8(c" + (i + 1) + ") mode " + m + " = " + isNorm);
+                    pass = false;
+                }
+            }
+        }
+        return pass;
+    }
+
     // two strings that are canonically equivalent must test
     // equal under a canonical caseless match
     // see UAX #21 Case Mappings and Jitterbug 2021 and
@@ -0,0 +1,127 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: https://www.unicode.org/copyright.html
+
+package com.ibm.icu.dev.test.rbbi;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import com.ibm.icu.dev.test.CoreTestFmwk;
+import com.ibm.icu.text.BreakIterator;
+import com.ibm.icu.text.DocumentSegmenter;
+import com.ibm.icu.text.RuleBasedBreakIterator;
+import com.ibm.icu.util.ULocale;
+
+/**
+ * Tests that DocumentSegmenter finds the same boundaries as a sequential RuleBasedBreakIterator.
+ */
+@RunWith(JUnit4.class)
+public class DocumentSegmenterTest extends CoreTestFmwk {
+    private static final String[] WORDS = {
+        "The", "quick", "brown", "fox", "can't", "jump", "3.14", "1,000", " ", " ", "  ", ". ", "? ",
+        "\r\n", "ภาษาไทย", "บ้าน",
+        "日本語", "😀", "é", "שלום", "U.S.A."
+    };
+
+    private static String randomText(Random random, int length) {
+        StringBuilder sb = new StringBuilder(length + 16);
+        while (sb.length() < length) {
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+
+    private static int[] sequentialBoundaries(BreakIterator bi, CharSequence text) {
+        bi.setText(text);
+        int[] result = new int[text.length() + 1];
+        int count = 0;
+        for (int b = bi.first(); b != BreakIterator.DONE; b = bi.next()) {
+            result[count++] = b;
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static RuleBasedBreakIterator[] getIterators() {
+        ULocale locale = ULocale.ENGLISH;
+        return new RuleBasedBreakIterator[] {
+            (RuleBasedBreakIterator) BreakIterator.getCharacterInstance(locale),
+            (RuleBasedBreakIterator) BreakIterator.getWordInstance(locale),
+            (RuleBasedBreakIterator) BreakIterator.getLineInstance(locale),
+            (RuleBasedBreakIterator) BreakIterator.getSentenceInstance(locale)
+        };
+    }
+
+    @Test
+    public void TestBoundaries() {
+        Random random = new Random(42);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (RuleBasedBreakIterator bi : getIterators()) {
+                String text = randomText(random, 5000);
+                int[] expected = sequentialBoundaries(bi, text);
+                for (int chunkSize : new int[] {1, 7, 100, 1000, 100000}) {
+                    DocumentSegmenter segmenter = new DocumentSegmenter(bi, chunkSize);
+                    assertTrue("chunk size " + chunkSize,
+                            Arrays.equals(expected, segmenter.boundaries(text, pool)));
+                }
+                DocumentSegmenter segmenter = new DocumentSegmenter(bi);
+                assertTrue("default chunk size", Arrays.equals(expected, segmenter.boundaries(text)));
+                assertTrue("stream", Arrays.equals(expected, segmenter.boundaryStream(text).toArray()));
+                assertTrue("empty", Arrays.equals(new int[] {0}, segmenter.boundaries("")));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void TestIncremental() {
+        Random random = new Random(4711);
+        for (RuleBasedBreakIterator bi : getIterators()) {
+            DocumentSegmenter segmenter = new DocumentSegmenter(bi, 256);
+            StringBuilder text = new StringBuilder(randomText(random, 2000));
+            DocumentSegmenter.Document document = segmenter.segment(text.toString());
+            for (int i = 0; i < 200; i++) {
+                int start = random.nextInt(text.length() + 1);
+                int oldLimit = Math.min(text.length(), start + random.nextInt(20));
+                String replacement = random.nextInt(4) == 0 ? "" : randomText(random, random.nextInt(10));
+                text.replace(start, oldLimit, replacement);
+                String newText = text.toString();
+                document.textChanged(newText, start, oldLimit, start + replacement.length());
+                int[] expected = sequentialBoundaries(bi, newText);
+                if (!Arrays.equals(expected, document.getBoundaries())) {
+                    errln("edit " + i + " [" + start + ", " + oldLimit + ") -> \"" + replacement
+                            + "\": expected " + Arrays.toString(expected)
+                            + " but got " + Arrays.toString(document.getBoundaries()));
+                    return;
+                }
+                assertEquals("count", expected.length, document.boundaryCount());
+                assertEquals("text", newText, document.getText());
+            }
+            assertTrue("stream", Arrays.equals(document.getBoundaries(), document.boundaries().toArray()));
+        }
+    }
+
+    @Test
+    public void TestInvalidChange() {
+        DocumentSegmenter segmenter = new DocumentSegmenter(
+                (RuleBasedBreakIterator) BreakIterator.getWordInstance(ULocale.ENGLISH));
+        DocumentSegmenter.Document document = segmenter.segment("Hello world");
+        try {
+            document.textChanged("Hello, world", 5, 5, 7);
+            errln("textChanged() should fail when the lengths do not match");
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            new DocumentSegmenter(
+                    (RuleBasedBreakIterator) BreakIterator.getWordInstance(ULocale.ENGLISH), 0);
+            errln("DocumentSegmenter() should fail with a chunk size of 0");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+}
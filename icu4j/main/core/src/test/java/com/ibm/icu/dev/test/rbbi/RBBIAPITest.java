@@ -426,9 +426,157 @@ public void TestRuleStatus() {
         assertTrue(null, bi.getRuleStatus() < RuleBasedBreakIterator.WORD_IDEO_LIMIT);
     }
 
+    /**
+     * Tests that nextBoundaries() finds the same boundaries and rule status values as next().
+     */
+    @Test
+    public void TestNextBoundaries() {
+        String text = "The quick (\"brown\") fox can't jump 32.3 feet, right? "
+                + "ภาษาไทยภาษาไทย 日本語のテキスト \uD83D\uDE00 Ünïcödé. ";
+        BreakIterator[] iterators = {
+            BreakIterator.getCharacterInstance(ULocale.ENGLISH),
+            BreakIterator.getWordInstance(ULocale.ENGLISH),
+            BreakIterator.getLineInstance(ULocale.ENGLISH),
+            BreakIterator.getSentenceInstance(ULocale.ENGLISH)
+        };
+        for (BreakIterator bi : iterators) {
+            RuleBasedBreakIterator rbbi = (RuleBasedBreakIterator) bi;
+            List<Integer> expected = new ArrayList<>();
+            List<Integer> expectedStatus = new ArrayList<>();
+            bi.setText(text);
+            for (int b = bi.next(); b != BreakIterator.DONE; b = bi.next()) {
+                expected.add(b);
+                expectedStatus.add(bi.getRuleStatus());
+            }
+            for (int size : new int[] {1, 3, 1000}) {
+                int[] boundaries = new int[size];
+                int[] ruleStatus = new int[size];
+                List<Integer> actual = new ArrayList<>();
+                List<Integer> actualStatus = new ArrayList<>();
+                rbbi.setText(text);
+                for (int n; (n = rbbi.nextBoundaries(boundaries, ruleStatus)) > 0;) {
+                    for (int i = 0; i < n; i++) {
+                        actual.add(boundaries[i]);
+                        actualStatus.add(ruleStatus[i]);
+                    }
+                    assertEquals("current()", boundaries[n - 1], rbbi.current());
+                    assertEquals("getRuleStatus()", ruleStatus[n - 1], rbbi.getRuleStatus());
+                }
+                assertEquals("boundaries with array size " + size, expected, actual);
+                assertEquals("rule status with array size " + size, expectedStatus, actualStatus);
+                assertEquals("next() at the end", BreakIterator.DONE, rbbi.next());
+                assertEquals("nextBoundaries() at the end", 0, rbbi.nextBoundaries(boundaries, null));
+            }
+
+            // The iterator stays usable in both directions.
+            if (expected.size() > 6) {
+                rbbi.setText(text);
+                int[] boundaries = new int[5];
+                assertEquals("partial", 5, rbbi.nextBoundaries(boundaries, null));
+                assertEquals("previous()", (int) expected.get(3), rbbi.previous());
+                assertEquals("next()", (int) expected.get(4), rbbi.next());
+                assertEquals("next()", (int) expected.get(5), rbbi.next());
+            }
+        }
+        try {
+            ((RuleBasedBreakIterator) iterators[0]).nextBoundaries(new int[2], new int[1]);
+            errln("nextBoundaries() should fail with a short ruleStatus array");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    /**
+     * Tests that the array-based text of setText(String), setText(CharSequence) and setText(char[], int, int)
+     * gives the same boundaries as a CharacterIterator, in all directions.
+     */
+    @Test
+    public void TestArrayText() {
+        String text = "The quick (\"brown\") fox can't jump 32.3 feet, right? "
+                + "ภาษาไทยภาษาไทย 日本語のテキスト \uD83D\uDE00\uD83D\uDE00 a\uD800b\uDC00c. "
+                + "Ünïcödé.\r\n\u05E9\u05DC\u05D5\u05DD \uD800";
+        BreakIterator[] iterators = {
+            BreakIterator.getCharacterInstance(ULocale.ENGLISH),
+            BreakIterator.getWordInstance(ULocale.ENGLISH),
+            BreakIterator.getLineInstance(ULocale.ENGLISH),
+            BreakIterator.getSentenceInstance(ULocale.ENGLISH)
+        };
+        char[] padded = ("<<" + text + ">>").toCharArray();
+        for (BreakIterator bi : iterators) {
+            RuleBasedBreakIterator expected = (RuleBasedBreakIterator) bi.clone();
+            expected.setText(new StringCharacterIterator(text));
+            RuleBasedBreakIterator[] actual = {
+                (RuleBasedBreakIterator) bi.clone(),
+                (RuleBasedBreakIterator) bi.clone(),
+                (RuleBasedBreakIterator) bi.clone()
+            };
+            actual[0].setText(text);
+            actual[1].setText(new StringBuilder(text));
+            actual[2].setText(padded, 2, padded.length - 2);
+            for (RuleBasedBreakIterator rbbi : actual) {
+                assertEquals("first()", expected.first(), rbbi.first());
+                for (int b = expected.next(); b != BreakIterator.DONE; b = expected.next()) {
+                    assertEquals("next()", b, rbbi.next());
+                    assertEquals("getRuleStatus()", expected.getRuleStatus(), rbbi.getRuleStatus());
+                }
+                assertEquals("next() at the end", BreakIterator.DONE, rbbi.next());
+                for (int b = expected.previous(); b != BreakIterator.DONE; b = expected.previous()) {
+                    assertEquals("previous()", b, rbbi.previous());
+                }
+                for (int i = 0; i <= text.length(); i++) {
+                    assertEquals("following(" + i + ")", expected.following(i), rbbi.following(i));
+                    assertEquals("preceding(" + i + ")", expected.preceding(i), rbbi.preceding(i));
+                    assertEquals("isBoundary(" + i + ")", expected.isBoundary(i), rbbi.isBoundary(i));
+                }
+            }
+        }
+        try {
+            ((RuleBasedBreakIterator) iterators[0]).setText(padded, 3, 2);
+            errln("setText() should fail with start > limit");
+        } catch (IndexOutOfBoundsException expected) {
+        }
+    }
+
     /**
      *  Tests the rule dump debug function.
      */
+    /**
+     * Tests that one iterator can be reused over texts of different lengths,
+     * and that a clone keeps its text when the original gets new text.
+     */
+    @Test
+    public void TestArrayTextReuse() {
+        String[] texts = {
+            "Short one.", "A much longer sentence, with several words in it: one two three four five six.",
+            "", "x y", "Another rather long text that is again longer than the previous short ones."
+        };
+        RuleBasedBreakIterator bi = (RuleBasedBreakIterator) BreakIterator.getWordInstance(ULocale.ENGLISH);
+        RuleBasedBreakIterator expected = (RuleBasedBreakIterator) bi.clone();
+        for (int i = 0; i < texts.length; i++) {
+            String text = texts[i];
+            if ((i & 1) == 0) {
+                bi.setText(text);
+            } else {
+                bi.setText(new StringBuilder(text));
+            }
+            expected.setText(new StringCharacterIterator(text));
+            assertEquals("first()", expected.first(), bi.first());
+            for (int b = expected.next(); b != BreakIterator.DONE; b = expected.next()) {
+                assertEquals("next() in \"" + text + "\"", b, bi.next());
+            }
+            assertEquals("last()", text.length(), bi.last());
+        }
+
+        String first = texts[1];
+        bi.setText(first);
+        RuleBasedBreakIterator clone = (RuleBasedBreakIterator) bi.clone();
+        bi.setText(texts[4]);
+        expected.setText(new StringCharacterIterator(first));
+        assertEquals("clone first()", expected.first(), clone.first());
+        for (int b = expected.next(); b != BreakIterator.DONE; b = expected.next()) {
+            assertEquals("clone next()", b, clone.next());
+        }
+    }
+
     @Test
     public void TestRuledump() {
         RuleBasedBreakIterator bi = (RuleBasedBreakIterator)BreakIterator.getCharacterInstance();
@@ -7,15 +7,18 @@
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.text.StringCharacterIterator;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
 import com.ibm.icu.dev.test.CoreTestFmwk;
+import com.ibm.icu.impl.breakiter.DictionaryBreakEngine;
 import com.ibm.icu.impl.breakiter.LSTMBreakEngine;
 import com.ibm.icu.lang.UScript;
 import com.ibm.icu.text.BreakIterator;
+import com.ibm.icu.util.UResourceBundle;
 
 /**
  * RBBILSTMTest data driven test.
@@ -39,6 +42,48 @@ public void TestLSTMBurmese() {
         runTestFromFile("Burmese_graphclust_model5_heavy_Test.txt", UScript.MYANMAR);
     }
 
+    /**
+     * Runs the LSTM engine directly with the small model in the test data,
+     * which is available in every configuration.
+     */
+    @Test
+    public void TestLSTMTestModel() {
+        UResourceBundle rb = UResourceBundle.getBundleInstance("com/ibm/icu/dev/data/testdata",
+                "Thai_codepoints_exclusive_model5_heavy", RBBILSTMTest.class.getClassLoader());
+        LSTMBreakEngine engine = LSTMBreakEngine.create(UScript.THAI, LSTMBreakEngine.createData(rb));
+        InputStream is = RBBILSTMTest.class.getResourceAsStream(
+                "/com/ibm/icu/dev/test/rbbi/Thai_codepoints_exclusive_model5_heavy_Test.txt");
+        BufferedReader br = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
+        String input = null;
+        int caseNum = 0;
+        try {
+            String line;
+            while ((line = br.readLine()) != null) {
+                String fields[] = line.split("\t");
+                if (fields[0].equals("Input:")) {
+                    input = fields[1];
+                } else if (fields[0].equals("Output:") && input != null) {
+                    caseNum++;
+                    DictionaryBreakEngine.DequeI breaks = new DictionaryBreakEngine.DequeI();
+                    engine.divideUpDictionaryRange(
+                            new StringCharacterIterator(input), 0, input.length(), breaks, false);
+                    StringBuilder actual = new StringBuilder("|");
+                    int start = 0;
+                    for (int i = 0; i < breaks.size(); i++) {
+                        actual.append(input, start, breaks.elementAt(i)).append('|');
+                        start = breaks.elementAt(i);
+                    }
+                    actual.append(input, start, input.length()).append('|');
+                    assertEquals("Test Case#" + caseNum, fields[1], actual.toString());
+                    input = null;
+                }
+            }
+        } catch (IOException e) {
+            errln("Exception while reading the test data file " + e.toString());
+        }
+        assertTrue("test cases", caseNum > 0);
+    }
+
     private void runTestFromFile(String filename, int script) {
         // The expectation in this test depends on LSTM, skip the test if the
         // configuration is not build with LSTM data.
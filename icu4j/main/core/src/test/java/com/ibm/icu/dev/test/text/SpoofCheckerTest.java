@@ -16,10 +16,16 @@
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -801,6 +807,79 @@ public void testConfData() {
         }
     }
 
+    @Test
+    public void TestSkeletonHash() throws IOException {
+        // Collect the sources of confusables.txt, which are not all in NFD,
+        // and combine them with combining marks in and out of canonical order.
+        BufferedReader confusablesRdr = TestUtil.getDataReader("unicode/confusables.txt", "UTF-8");
+        Pattern parseLine = Pattern.compile("\\ufeff?([0-9A-F\\s]+);.*");
+        List<String> sources = new ArrayList<>();
+        String inputLine;
+        while ((inputLine = confusablesRdr.readLine()) != null) {
+            Matcher m = parseLine.matcher(inputLine);
+            if (m.matches()) {
+                sources.add(parseHex(m.group(1)));
+            }
+        }
+        confusablesRdr.close();
+        String[] marks = { "", "\u0301", "\u0320", "\u0307\u0323", "\u0323\u0307", "\u200B", "\u05B4" };
+        List<String> inputs = new ArrayList<>(sources);
+        Random random = new Random(39);
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder sb = new StringBuilder();
+            for (int j = random.nextInt(4); j >= 0; j--) {
+                sb.append(sources.get(random.nextInt(sources.size())));
+                sb.append(marks[random.nextInt(marks.length)]);
+            }
+            inputs.add(sb.toString());
+        }
+        inputs.add("");
+        inputs.add("paypal");
+        inputs.add("p\u0430yp\u0430l");
+        inputs.add("\u00E1");
+        inputs.add("a\u0301");
+
+        SpoofChecker sc = new SpoofChecker.Builder().build();
+        Map<String, Long> skeletonHashes = new HashMap<>();
+        Map<Long, String> hashSkeletons = new HashMap<>();
+        for (String input : inputs) {
+            String skeleton = sc.getSkeleton(input);
+            long hash = sc.getSkeletonHash(input);
+            Long expected = skeletonHashes.putIfAbsent(skeleton, hash);
+            if (expected != null && expected != hash) {
+                errln("Different skeleton hashes for the skeleton of " + escapeString(input));
+            }
+            String other = hashSkeletons.putIfAbsent(hash, skeleton);
+            if (other != null && !other.equals(skeleton)) {
+                errln("Same skeleton hash for different skeletons of " + escapeString(input));
+            }
+        }
+        assertEquals("paypal", sc.getSkeletonHash("paypal"), sc.getSkeletonHash("p\u0430yp\u0430l"));
+        assertEquals("composed", sc.getSkeletonHash("\u00E1"), sc.getSkeletonHash("a\u0301"));
+    }
+
+    @Test
+    public void TestSkeletonIndex() {
+        SpoofChecker sc = new SpoofChecker.Builder().build();
+        List<String> identifiers = Arrays.asList("paypal", "example", "rn", "scope", "paypa1");
+        SpoofChecker.SkeletonIndex index = new SpoofChecker.SkeletonIndex(sc, identifiers);
+        assertEquals("size", identifiers.size(), index.size());
+        assertEquals("Cyrillic a", 0, index.indexOfConfusable("p\u0430yp\u0430l"));
+        assertEquals("m", 2, index.indexOfConfusable("m"));
+        assertEquals("identical", 1, index.indexOfConfusable("example"));
+        assertEquals("not confusable", -1, index.indexOfConfusable("examples"));
+        assertTrue("contains", index.containsConfusable("\u0455cope"));
+        assertFalse("does not contain", index.containsConfusable("unicode"));
+        for (String identifier : identifiers) {
+            int i = index.indexOfConfusable(identifier);
+            assertTrue(identifier, i >= 0 && sc.areConfusable(identifier, identifiers.get(i)) != 0);
+        }
+
+        SpoofChecker.SkeletonIndex empty = new SpoofChecker.SkeletonIndex(sc, new ArrayList<String>());
+        assertEquals("empty size", 0, empty.size());
+        assertFalse("empty", empty.containsConfusable("paypal"));
+    }
+
     @Test
     public void TestCheckResultToString11447() {
         CheckResult checkResult = new CheckResult();
@@ -23,6 +23,7 @@
 
 import com.ibm.icu.dev.test.CoreTestFmwk;
 import com.ibm.icu.dev.test.TestFmwk;
+import com.ibm.icu.impl.OlsonTimeZone;
 import com.ibm.icu.util.AnnualTimeZoneRule;
 import com.ibm.icu.util.BasicTimeZone;
 import com.ibm.icu.util.BasicTimeZone.LocalOption;
@@ -344,6 +345,60 @@ public void TestOlsonTransition() {
         }
     }
 
+    /*
+     * Check if an OlsonTimeZone with an offset table returns the same offsets
+     * as the original zone, inside and outside of the years of the table.
+     */
+    @Test
+    public void TestOlsonOffsetTable() {
+        String[] zids = getTestZIDs();
+        long start = getUTCMillis(1895, Calendar.JANUARY, 1);
+        long limit = getUTCMillis(2106, Calendar.JANUARY, 1);
+        int[] expected = new int[2];
+        int[] actual = new int[2];
+        for (int i = 0; i < zids.length; i++) {
+            OlsonTimeZone tz = (OlsonTimeZone)TimeZone.getTimeZone(zids[i], TimeZone.TIMEZONE_ICU);
+            OlsonTimeZone tableTz = ((OlsonTimeZone)tz.clone()).freezeWithOffsetTable(1900, 2100);
+            if (!tableTz.isFrozen()) {
+                errln("FAIL: " + zids[i] + " with an offset table is not frozen");
+            }
+            if (!tableTz.equals(tz)) {
+                errln("FAIL: " + zids[i] + " with an offset table is not equal to the original zone");
+            }
+            long time = start;
+            TimeZoneTransition tzt = tz.getNextTransition(start, false);
+            while (time < limit) {
+                // every week, and around each transition
+                long next = time + 7 * 24 * HOUR;
+                if (tzt != null && tzt.getTime() < next) {
+                    next = tzt.getTime() - 1;
+                    tzt = tz.getNextTransition(tzt.getTime(), false);
+                }
+                for (long t = time; t < time + 3; t++) {
+                    tz.getOffset(t, false, expected);
+                    tableTz.getOffset(t, false, actual);
+                    if (expected[0] != actual[0] || expected[1] != actual[1]) {
+                        errln("FAIL: " + zids[i] + " offsets at " + t + ": " + actual[0] + "/" + actual[1]
+                                + " Expected: " + expected[0] + "/" + expected[1]);
+                    }
+                }
+                time = next;
+            }
+        }
+
+        OlsonTimeZone frozenTz = (OlsonTimeZone)TimeZone.getFrozenTimeZone("America/New_York");
+        OlsonTimeZone tableTz = frozenTz.freezeWithOffsetTable(1970, 2100);
+        if (tableTz == frozenTz || !tableTz.isFrozen()) {
+            errln("FAIL: An offset table for a frozen zone should be added to a frozen copy");
+        }
+        try {
+            tableTz.freezeWithOffsetTable(2000, 2000);
+            errln("FAIL: An empty range of years should be rejected");
+        } catch (IllegalArgumentException expectedException) {
+            logln("OK: " + expectedException.getMessage());
+        }
+    }
+
     /*
      * Check if an OlsonTimeZone and its equivalent RBTZ have the exact same
      * transitions.
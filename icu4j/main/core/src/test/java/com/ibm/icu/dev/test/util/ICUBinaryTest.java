@@ -9,8 +9,13 @@
 
 package com.ibm.icu.dev.test.util;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Arrays;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -18,6 +23,7 @@
 
 import com.ibm.icu.dev.test.CoreTestFmwk;
 import com.ibm.icu.impl.ICUBinary;
+import com.ibm.icu.util.VersionInfo;
 
 /**
 * Testing class for Trie. Tests here will be simple, since both CharTrie and
@@ -111,4 +117,96 @@ public boolean isDataVersionAcceptable(byte version[])
             logln("PASS: ICUBinary.readHeader with invalid version number failed as expected");
         }
     }
+
+    /**
+     * Tests data files and .dat packages added via the data path:
+     * Their items are served as views of shared memory mappings.
+     */
+    @Test
+    public void TestMappedDataFiles() throws IOException {
+        File dir = Files.createTempDirectory("icu4j-data").toFile();
+        dir.deleteOnExit();
+        byte[] a = testBytes(32, 1);
+        byte[] b = testBytes(48, 2);
+        byte[] c = testBytes(20, 3);
+        File dat = new File(dir, "test.dat");
+        dat.deleteOnExit();
+        writeDatPackage(dat, new String[] { "dev_test_mapped/a.bin", "dev_test_mapped/b.bin" },
+                new byte[][] { a, b });
+        File single = new File(dir, "dev_test_single.bin");
+        single.deleteOnExit();
+        Files.write(single.toPath(), c);
+
+        assertFalse("item not yet on the data path", ICUBinary.isMappedData("dev_test_mapped/a.bin"));
+        ICUBinary.addDataPath(dat.getPath() + File.pathSeparator + single.getPath());
+
+        checkMappedItem("dev_test_mapped/a.bin", a);
+        checkMappedItem("dev_test_mapped/b.bin", b);
+        checkMappedItem("dev_test_single.bin", c);
+        assertNull("no such item in the package", ICUBinary.getData("dev_test_mapped/c.bin"));
+        assertFalse("classpath data is not mapped", ICUBinary.isMappedData("uprops.icu"));
+    }
+
+    private void checkMappedItem(String itemPath, byte[] expected) {
+        assertTrue(itemPath + " is mapped", ICUBinary.isMappedData(itemPath));
+        ByteBuffer bytes = ICUBinary.getData(itemPath);
+        assertTrue(itemPath + " is a direct buffer", bytes.isDirect());
+        assertEquals(itemPath + " length", expected.length, bytes.remaining());
+        byte[] actual = new byte[bytes.remaining()];
+        bytes.get(actual);
+        assertTrue(itemPath + " contents", Arrays.equals(expected, actual));
+        // Each caller gets its own view with its own position.
+        assertEquals(itemPath + " fresh position", 0, ICUBinary.getData(itemPath).position());
+    }
+
+    private static byte[] testBytes(int length, int seed) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; ++i) {
+            bytes[i] = (byte) (seed * 31 + i);
+        }
+        return bytes;
+    }
+
+    /**
+     * Writes an ICU4C-style .dat package ("CmnD" format).
+     * The item names must be sorted.
+     */
+    private static void writeDatPackage(File file, String[] names, byte[][] items)
+            throws IOException {
+        String prefix = "icudt" + VersionInfo.ICU_DATA_VERSION_PATH + '/';
+        int count = names.length;
+        // After the header: count, table of contents, names, then 16-aligned data items.
+        int[] nameOffsets = new int[count];
+        int offset = 4 + count * 8;
+        for (int i = 0; i < count; ++i) {
+            nameOffsets[i] = offset;
+            offset += prefix.length() + names[i].length() + 1;
+        }
+        int[] dataOffsets = new int[count];
+        for (int i = 0; i < count; ++i) {
+            offset = (offset + 15) & ~15;
+            dataOffsets[i] = offset;
+            offset += items[i].length;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DataOutputStream dos = new DataOutputStream(out);
+        int headerLength = ICUBinary.writeHeader(0x436d6e44, 0x01000000, 0, dos);  // "CmnD"
+        dos.writeInt(count);
+        for (int i = 0; i < count; ++i) {
+            dos.writeInt(nameOffsets[i]);
+            dos.writeInt(dataOffsets[i]);
+        }
+        for (String name : names) {
+            dos.writeBytes(prefix + name);
+            dos.writeByte(0);
+        }
+        for (int i = 0; i < count; ++i) {
+            while (dos.size() < headerLength + dataOffsets[i]) {
+                dos.writeByte(0);
+            }
+            dos.write(items[i]);
+        }
+        dos.flush();
+        Files.write(file.toPath(), out.toByteArray());
+    }
 }
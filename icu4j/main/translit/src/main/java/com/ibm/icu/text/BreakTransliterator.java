@@ -9,6 +9,7 @@
 package com.ibm.icu.text;
 
 import java.text.CharacterIterator;
+import java.util.concurrent.atomic.AtomicReference;
 
 import com.ibm.icu.lang.UCharacter;
 import com.ibm.icu.util.ICUCloneNotSupportedException;
@@ -20,10 +21,18 @@
  * TODO: this is an internal class, and only temporary. Remove it once we have \b notation in Transliterator.
  */
 final class BreakTransliterator extends Transliterator {
-    private BreakIterator bi;
+    /**
+     * Prototype iterator.  It is never given text; each call to
+     * handleTransliterate works on a clone, so that one instance can be
+     * used by several threads at once.
+     */
+    private volatile BreakIterator bi;
     private String insertion;
-    private int[] boundaries = new int[50];
-    private int boundaryCount = 0;
+    /**
+     * A clone of bi that is not currently in use, kept so that
+     * single-threaded callers do not pay for a clone on every call.
+     */
+    private final AtomicReference<BreakIterator> cachedBreakIterator = new AtomicReference<>();
 
     public BreakTransliterator(String ID, UnicodeFilter filter, BreakIterator bi, String insertion) {
         super(ID, filter);
@@ -52,14 +61,18 @@ public void setInsertion(String insertion) {
     public BreakIterator getBreakIterator() {
         // Defer initialization of BreakIterator because it is slow,
         // typically over 2000 ms.
-        if (bi == null) bi = BreakIterator.getWordInstance(new ULocale("th_TH"));
-        return bi;
+        BreakIterator result = bi;
+        if (result == null) {
+            bi = result = BreakIterator.getWordInstance(new ULocale("th_TH"));
+        }
+        return result;
     }
 
     ///CLOVER:OFF
     // The following method is not called by anything and can't be reached
     public void setBreakIterator(BreakIterator bi) {
         this.bi = bi;
+        cachedBreakIterator.set(null);
     }
     ///CLOVER:ON
 
@@ -74,10 +87,15 @@ public void setBreakIterator(BreakIterator bi) {
         | (1<<Character.ENCLOSING_MARK)
         ;
     @Override
-    protected synchronized void handleTransliterate(Replaceable text, Position pos, boolean incremental) {
-        boundaryCount = 0;
+    protected void handleTransliterate(Replaceable text, Position pos, boolean incremental) {
+        int[] boundaries = new int[50];
+        int boundaryCount = 0;
         int boundary = 0;
-        getBreakIterator(); // Lazy-create it if necessary
+        BreakIterator prototype = getBreakIterator(); // Lazy-create it if necessary
+        BreakIterator bi = cachedBreakIterator.getAndSet(null);
+        if (bi == null) {
+            bi = (BreakIterator) prototype.clone();
+        }
         bi.setText(new ReplaceableCharacterIterator(text, pos.start, pos.limit, pos.start));
         // TODO: fix clumsy workaround used below.
         /*
@@ -113,6 +131,9 @@ protected synchronized void handleTransliterate(Replaceable text, Position pos,
             boundaries[boundaryCount++] = boundary;
             //System.out.println(boundary);
         }
+        if (prototype == this.bi) {
+            cachedBreakIterator.compareAndSet(null, bi);
+        }
 
         int delta = 0;
         int lastBoundary = 0;
@@ -39,8 +39,6 @@ public Transliterator getInstance(String ID) {
     }
 
     private final UCaseProps csp;
-    private ReplaceableContextIterator iter;
-    private StringBuilder result;
 
     /**
      * Constructs a transliterator.
@@ -49,15 +47,13 @@ public Transliterator getInstance(String ID) {
     public CaseFoldTransliterator() {
         super(_ID, null);
         csp=UCaseProps.INSTANCE;
-        iter=new ReplaceableContextIterator();
-        result = new StringBuilder();
     }
 
     /**
      * Implements {@link Transliterator#handleTransliterate}.
      */
     @Override
-    protected synchronized void handleTransliterate(Replaceable text,
+    protected void handleTransliterate(Replaceable text,
                                        Position offsets, boolean isIncremental) {
         if(csp==null) {
             return;
@@ -67,8 +63,9 @@ protected synchronized void handleTransliterate(Replaceable text,
             return;
         }
 
+        ReplaceableContextIterator iter = new ReplaceableContextIterator();
         iter.setText(text);
-        result.setLength(0);
+        StringBuilder result = new StringBuilder();
         int c, delta;
 
         // Walk through original string
@@ -0,0 +1,175 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: https://www.unicode.org/copyright.html
+package com.ibm.icu.text;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+
+/**
+ * A <code>Replaceable</code> stored in a gap buffer: a char array with
+ * an unused gap at the position of the last edit.  Replacements near
+ * the previous one, as done by transliterators moving forward through
+ * the text, only move the characters between the two edit positions,
+ * instead of everything after the edit as with a
+ * <code>StringBuffer</code>.
+ *
+ * <p>Used by {@link Transliterator#transliterate(Readable, Appendable)}.
+ * This class does not support metadata.
+ */
+final class GapBufferReplaceable implements Replaceable {
+    private char[] buf;
+    private int gapStart;
+    private int gapLimit;
+
+    GapBufferReplaceable(int capacity) {
+        buf = new char[Math.max(capacity, 16)];
+        gapStart = 0;
+        gapLimit = buf.length;
+    }
+
+    @Override
+    public int length() {
+        return buf.length - (gapLimit - gapStart);
+    }
+
+    @Override
+    public char charAt(int offset) {
+        if (offset < 0 || offset >= length()) {
+            throw new StringIndexOutOfBoundsException(offset);
+        }
+        return offset < gapStart ? buf[offset] : buf[offset + gapLimit - gapStart];
+    }
+
+    @Override
+    public int char32At(int offset) {
+        // Same semantics as UTF16.charAt(StringBuffer, int)
+        char c = charAt(offset);
+        if (UTF16.isLeadSurrogate(c)) {
+            if (offset + 1 < length()) {
+                char c2 = charAt(offset + 1);
+                if (UTF16.isTrailSurrogate(c2)) {
+                    return Character.toCodePoint(c, c2);
+                }
+            }
+        } else if (UTF16.isTrailSurrogate(c)) {
+            if (offset > 0) {
+                char c1 = charAt(offset - 1);
+                if (UTF16.isLeadSurrogate(c1)) {
+                    return Character.toCodePoint(c1, c);
+                }
+            }
+        }
+        return c;
+    }
+
+    @Override
+    public void getChars(int srcStart, int srcLimit, char[] dst, int dstStart) {
+        if (srcStart < 0 || srcStart > srcLimit || srcLimit > length()) {
+            throw new StringIndexOutOfBoundsException("start " + srcStart + ", limit " + srcLimit);
+        }
+        if (srcStart < gapStart) {
+            int n = Math.min(srcLimit, gapStart) - srcStart;
+            System.arraycopy(buf, srcStart, dst, dstStart, n);
+            dstStart += n;
+            srcStart += n;
+        }
+        if (srcStart < srcLimit) {
+            int gapLength = gapLimit - gapStart;
+            System.arraycopy(buf, srcStart + gapLength, dst, dstStart, srcLimit - srcStart);
+        }
+    }
+
+    @Override
+    public void replace(int start, int limit, String text) {
+        int length = text.length();
+        prepareReplace(start, limit, length);
+        text.getChars(0, length, buf, gapStart);
+        gapStart += length;
+    }
+
+    @Override
+    public void replace(int start, int limit, char[] chars, int charsStart, int charsLen) {
+        prepareReplace(start, limit, charsLen);
+        System.arraycopy(chars, charsStart, buf, gapStart, charsLen);
+        gapStart += charsLen;
+    }
+
+    @Override
+    public void copy(int start, int limit, int dest) {
+        if (start == limit && start >= 0 && start <= length()) {
+            return;
+        }
+        char[] text = new char[limit - start];
+        getChars(start, limit, text, 0);
+        replace(dest, dest, text, 0, limit - start);
+    }
+
+    @Override
+    public boolean hasMetaData() {
+        return false;
+    }
+
+    /**
+     * Appends [start, limit) to the given Appendable.
+     */
+    void appendTo(int start, int limit, Appendable dest) throws IOException {
+        if (start < gapStart) {
+            int n = Math.min(limit, gapStart);
+            append(dest, start, n - start);
+            start = n;
+        }
+        if (start < limit) {
+            append(dest, start + gapLimit - gapStart, limit - start);
+        }
+    }
+
+    private void append(Appendable dest, int offset, int length) throws IOException {
+        if (dest instanceof StringBuilder) {
+            ((StringBuilder) dest).append(buf, offset, length);
+        } else {
+            dest.append(CharBuffer.wrap(buf, offset, length));
+        }
+    }
+
+    @Override
+    public String toString() {
+        char[] chars = new char[length()];
+        getChars(0, chars.length, chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * Deletes [start, limit) and leaves the gap at start with room for
+     * at least insertLength characters.
+     */
+    private void prepareReplace(int start, int limit, int insertLength) {
+        if (start < 0 || start > limit || limit > length()) {
+            throw new StringIndexOutOfBoundsException("start " + start + ", limit " + limit);
+        }
+        moveGap(start);
+        gapLimit += limit - start;
+        if (gapLimit - gapStart < insertLength) {
+            int tailLength = buf.length - gapLimit;
+            int newCapacity = Math.max(2 * buf.length, gapStart + insertLength + tailLength);
+            char[] newBuf = new char[newCapacity];
+            System.arraycopy(buf, 0, newBuf, 0, gapStart);
+            System.arraycopy(buf, gapLimit, newBuf, newCapacity - tailLength, tailLength);
+            buf = newBuf;
+            gapLimit = newCapacity - tailLength;
+        }
+    }
+
+    private void moveGap(int offset) {
+        if (offset < gapStart) {
+            int n = gapStart - offset;
+            System.arraycopy(buf, offset, buf, gapLimit - n, n);
+            gapStart -= n;
+            gapLimit -= n;
+        } else if (offset > gapStart) {
+            int n = offset - gapStart;
+            System.arraycopy(buf, gapLimit, buf, gapStart, n);
+            gapStart += n;
+            gapLimit += n;
+        }
+    }
+}
@@ -42,8 +42,6 @@ public Transliterator getInstance(String ID) {
     private final ULocale locale;
 
     private final UCaseProps csp;
-    private ReplaceableContextIterator iter;
-    private StringBuilder result;
     private int caseLocale;
 
     /**
@@ -54,8 +52,6 @@ public LowercaseTransliterator(ULocale loc) {
         super(_ID, null);
         locale = loc;
         csp=UCaseProps.INSTANCE;
-        iter=new ReplaceableContextIterator();
-        result = new StringBuilder();
         caseLocale = UCaseProps.getCaseLocale(locale);
     }
 
@@ -63,7 +59,7 @@ public LowercaseTransliterator(ULocale loc) {
      * Implements {@link Transliterator#handleTransliterate}.
      */
     @Override
-    protected synchronized void handleTransliterate(Replaceable text,
+    protected void handleTransliterate(Replaceable text,
                                        Position offsets, boolean isIncremental) {
         if(csp==null) {
             return;
@@ -73,8 +69,9 @@ protected synchronized void handleTransliterate(Replaceable text,
             return;
         }
 
+        ReplaceableContextIterator iter = new ReplaceableContextIterator();
         iter.setText(text);
-        result.setLength(0);
+        StringBuilder result = new StringBuilder();
         int c, delta;
 
         // Walk through original string
@@ -8,6 +8,7 @@
  */
 package com.ibm.icu.text;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -101,18 +102,16 @@ protected void handleTransliterate(Replaceable text,
          * number of characters n, unless n is so large that 16n exceeds a
          * uint32_t.
          */
-        synchronized(data)  {
-            int loopCount = 0;
-            int loopLimit = (index.limit - index.start) << 4;
-            if (loopLimit < 0) {
-                loopLimit = 0x7FFFFFFF;
-            }
+        int loopCount = 0;
+        int loopLimit = (index.limit - index.start) << 4;
+        if (loopLimit < 0) {
+            loopLimit = 0x7FFFFFFF;
+        }
 
-            while (index.start < index.limit &&
-                    loopCount <= loopLimit &&
-                    data.ruleSet.transliterate(text, index, incremental)) {
-                ++loopCount;
-            }
+        while (index.start < index.limit &&
+                loopCount <= loopLimit &&
+                data.ruleSet.transliterate(text, index, incremental)) {
+            ++loopCount;
         }
     }
 
@@ -176,6 +175,33 @@ public UnicodeReplacer lookupReplacer(int standIn) {
             return (i >= 0 && i < variables.length)
                 ? (UnicodeReplacer) variables[i] : null;
         }
+
+        /**
+         * Per-thread match positions of the segment matchers in this
+         * rule set.  Segment n (1-based) records its start at index
+         * 2n-2 and its limit at index 2n-1, or -1 if it has no match.
+         * Keeping these out of the StringMatcher objects lets a single
+         * Data be used by several threads at once.
+         */
+        private final ThreadLocal<int[]> segmentMatches = new ThreadLocal<>();
+
+        /**
+         * Return the calling thread's segment match positions, large
+         * enough to hold at least the given segment.
+         */
+        int[] getSegmentMatches(int segmentNumber) {
+            int[] matches = segmentMatches.get();
+            if (matches == null || matches.length < 2 * segmentNumber) {
+                int[] grown = new int[Math.max(2 * segmentNumber, 8)];
+                Arrays.fill(grown, -1);
+                if (matches != null) {
+                    System.arraycopy(matches, 0, grown, 0, matches.length);
+                }
+                segmentMatches.set(grown);
+                matches = grown;
+            }
+            return matches;
+        }
     }
 
 
@@ -33,18 +33,6 @@ class StringMatcher implements UnicodeMatcher, UnicodeReplacer {
      */
     private String pattern;
 
-    /**
-     * Start offset, in the match text, of the <em>rightmost</em>
-     * match.
-     */
-    private int matchStart;
-
-    /**
-     * Limit offset, in the match text, of the <em>rightmost</em>
-     * match.
-     */
-    private int matchLimit;
-
     /**
      * The segment number, 1-based, or 0 if not a segment.
      */
@@ -52,7 +40,9 @@ class StringMatcher implements UnicodeMatcher, UnicodeReplacer {
 
     /**
      * Context object that maps stand-ins to matcher and replacer
-     * objects.
+     * objects.  It also holds the start and limit offsets of the
+     * <em>rightmost</em> match of each segment, per thread, so that
+     * matching never writes to this object.
      */
     private final RuleBasedTransliterator.Data data;
 
@@ -70,7 +60,6 @@ public StringMatcher(String theString,
                          RuleBasedTransliterator.Data theData) {
         data = theData;
         pattern = theString;
-        matchStart = matchLimit = -1;
         segmentNumber = segmentNum;
     }
 
@@ -132,9 +121,13 @@ public int matches(Replaceable text,
             // Record the match position, but adjust for a normal
             // forward start, limit, and only if a prior match does not
             // exist -- we want the rightmost match.
-            if (matchStart < 0) {
-                matchStart = cursor[0]+1;
-                matchLimit = offset[0]+1;
+            if (segmentNumber > 0) {
+                int[] matches = data.getSegmentMatches(segmentNumber);
+                int s = 2 * (segmentNumber - 1);
+                if (matches[s] < 0) {
+                    matches[s] = cursor[0]+1;
+                    matches[s+1] = offset[0]+1;
+                }
             }
         } else {
             for (i=0; i<pattern.length(); ++i) {
@@ -164,8 +157,12 @@ public int matches(Replaceable text,
                 }
             }
             // Record the match position
-            matchStart = offset[0];
-            matchLimit = cursor[0];
+            if (segmentNumber > 0) {
+                int[] matches = data.getSegmentMatches(segmentNumber);
+                int s = 2 * (segmentNumber - 1);
+                matches[s] = offset[0];
+                matches[s+1] = cursor[0];
+            }
         }
 
         offset[0] = cursor[0];
@@ -247,6 +244,9 @@ public int replace(Replaceable text,
 
         // Copy segment with out-of-band data
         int dest = limit;
+        int[] matches = data.getSegmentMatches(segmentNumber);
+        int matchStart = matches[2 * (segmentNumber - 1)];
+        int matchLimit = matches[2 * (segmentNumber - 1) + 1];
         // If there was no match, that means that a quantifier
         // matched zero-length.  E.g., x (a)* y matched "xy".
         if (matchStart >= 0) {
@@ -272,14 +272,6 @@ public String toReplacerPattern(boolean escapeUnprintable) {
         return rule.toString();
     }
 
-    /**
-     * Remove any match data.  This must be called before performing a
-     * set of matches with this segment.
-     */
-    public void resetMatch() {
-        matchStart = matchLimit = -1;
-    }
-
     /**
      * Union the set of all characters that may output by this object
      * into the given set.
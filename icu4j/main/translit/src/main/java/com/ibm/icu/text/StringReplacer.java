@@ -45,7 +45,10 @@ class StringReplacer implements UnicodeReplacer {
      * complex processing.  StringReplacers are initially assumed to
      * be complex.  If no nested replacers are seen during processing,
      * then isComplex is set to false, and future replacements are
-     * short circuited for better performance.
+     * short circuited for better performance.  The flag only ever goes
+     * from true to false, and only after a complete pass over the
+     * immutable output, so a thread that reads a stale value merely
+     * takes the complex path once more.
      */
     private boolean isComplex;
 
@@ -141,7 +144,7 @@ public int replace(Replaceable text,
              */
             StringBuffer buf = new StringBuffer();
             int oOutput; // offset into 'output'
-            isComplex = false;
+            boolean complex = false;
 
             // The temporary buffer starts at tempStart, and extends
             // to destLimit + tempExtra.  The start of the buffer has a single
@@ -192,7 +195,7 @@ public int replace(Replaceable text,
                     // Accumulate straight (non-segment) text.
                     UTF16.append(buf, c);
                 } else {
-                    isComplex = true;
+                    complex = true;
 
                     // Insert any accumulated straight text.
                     if (buf.length() > 0) {
@@ -216,6 +219,9 @@ public int replace(Replaceable text,
                 // Record the position of the cursor
                 newStart = destLimit - destStart; // relative to start
             }
+            if (!complex) {
+                isComplex = false;
+            }
 
             outLen = destLimit - destStart;
 
@@ -40,8 +40,6 @@ public Transliterator getInstance(String ID) {
     private final ULocale locale;
 
     private final UCaseProps csp;
-    private ReplaceableContextIterator iter;
-    private StringBuilder result;
     private int caseLocale;
 
    /**
@@ -53,8 +51,6 @@ public TitlecaseTransliterator(ULocale loc) {
         // Need to look back 2 characters in the case of "can't"
         setMaximumContextLength(2);
         csp=UCaseProps.INSTANCE;
-        iter=new ReplaceableContextIterator();
-        result = new StringBuilder();
         caseLocale = UCaseProps.getCaseLocale(locale);
     }
 
@@ -62,7 +58,7 @@ public TitlecaseTransliterator(ULocale loc) {
      * Implements {@link Transliterator#handleTransliterate}.
      */
     @Override
-    protected synchronized void handleTransliterate(Replaceable text,
+    protected void handleTransliterate(Replaceable text,
                                        Position offsets, boolean isIncremental) {
         // TODO reimplement, see ustrcase.c
         // using a real word break iterator
@@ -103,12 +99,13 @@ protected synchronized void handleTransliterate(Replaceable text,
         // after a uncased, non-case-ignorable character toTitle.  Case-ignorable
         // characters are copied directly and do not change the mode.
 
+        ReplaceableContextIterator iter = new ReplaceableContextIterator();
         iter.setText(text);
         iter.setIndex(offsets.start);
         iter.setLimit(offsets.limit);
         iter.setContextLimits(offsets.contextStart, offsets.contextLimit);
 
-        result.setLength(0);
+        StringBuilder result = new StringBuilder();
 
         // Walk through original string
         // If there is a case change, modify corresponding position in replaceable
@@ -8,6 +8,8 @@
  */
 package com.ibm.icu.text;
 
+import java.util.Arrays;
+
 import com.ibm.icu.impl.Utility;
 
 /**
@@ -246,6 +248,48 @@ final int getIndexValue() {
         return data.lookupMatcher(c) == null ? (c & 0xFF) : -1;
     }
 
+    /**
+     * Internal method.  Returns the leading code units of the key that
+     * are literal text, up to the first stand-in for a matcher or the
+     * end of the key.  If the text at pos.start does not begin with
+     * these code units, this rule cannot match there.
+     */
+    final String getKeyLiteralPrefix() {
+        int limit = anteContextLength + keyLength;
+        int i = anteContextLength;
+        while (i < limit && data.lookupMatcher(pattern.charAt(i)) == null) {
+            char c = pattern.charAt(i);
+            if (UTF16.isLeadSurrogate(c) && i+1 < limit && UTF16.isTrailSurrogate(pattern.charAt(i+1))) {
+                i += 2;
+            } else if (UTF16.isSurrogate(c)) {
+                // Stop at an unpaired surrogate: it matches part of a
+                // code point in the text, which the index value does
+                // not account for.
+                break;
+            } else {
+                ++i;
+            }
+        }
+        return pattern.substring(anteContextLength, i);
+    }
+
+    /**
+     * Internal method.  If the key starts with a stand-in for a
+     * UnicodeSet without strings, returns that set, otherwise null.
+     * This rule can then only match at pos.start if the set contains
+     * the code point there.
+     */
+    final UnicodeSet getKeyFirstSet() {
+        if (keyLength == 0) {
+            return null;
+        }
+        UnicodeMatcher m = data.lookupMatcher(pattern.charAt(anteContextLength));
+        if (m instanceof UnicodeSet && !((UnicodeSet) m).hasStrings()) {
+            return (UnicodeSet) m;
+        }
+        return null;
+    }
+
     /**
      * Internal method.  Returns true if this rule matches the given
      * index value.  The index value is an 8-bit integer, 0..255,
@@ -377,11 +421,12 @@ public int matchAndReplace(Replaceable text,
 
         // ============================ MATCH ===========================
 
-        // Reset segment match data
+        // Reset segment match data.  Segment i+1 is segments[i], and
+        // its match positions live in the calling thread's slots of
+        // data (see StringMatcher), so clear them all at once.
         if (segments != null) {
-            for (int i=0; i<segments.length; ++i) {
-                ((StringMatcher) segments[i]).resetMatch();
-            }
+            int[] segmentMatches = data.getSegmentMatches(segments.length);
+            Arrays.fill(segmentMatches, 0, 2 * segments.length, -1);
         }
 
         int keyLimit;
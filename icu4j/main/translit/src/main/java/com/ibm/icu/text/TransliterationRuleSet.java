@@ -9,7 +9,12 @@
 package com.ibm.icu.text;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 import com.ibm.icu.impl.UtilityExtensions;
 
@@ -53,6 +58,60 @@ class TransliterationRuleSet {
      */
     private int[] index;
 
+    /*
+     * Compiled form of the rules, created by freeze().  The bins above
+     * are coarse: a bin holds every rule whose key may start with a
+     * character of that low byte, and transliterate() used to try them
+     * all.  Instead, it now only tries the rules of the bin that can
+     * still match the text at pos.start, in the same order:
+     *
+     * - rules whose key starts with literal text, found by walking
+     *   keyTrie along the text;
+     * - rules whose key starts with a UnicodeSet, found by looking up
+     *   the code point at pos.start in firstSetStarts/firstSetRules;
+     * - all other rules of the bin, in binOtherRules.
+     *
+     * Rules are identified by their position in ruleVector, which is
+     * also their order within each bin.
+     */
+
+    /**
+     * The rules of ruleVector, in order.
+     */
+    private TransliterationRule[] orderedRules;
+
+    /**
+     * Bin membership.  Bit x of ruleBins[4*j + (x>>6)] is set if
+     * orderedRules[j] is in bin x.
+     */
+    private long[] ruleBins;
+
+    /**
+     * Trie over the literal key prefixes.
+     */
+    private KeyNode keyTrie;
+
+    /**
+     * Start code points of ranges within which the same rules have a
+     * key starting with a set that contains the code point.  The first
+     * range starts at 0.
+     */
+    private int[] firstSetStarts;
+
+    /**
+     * For each range in firstSetStarts, the indices of those rules,
+     * ascending.
+     */
+    private int[][] firstSetRules;
+
+    /**
+     * For each bin, the indices of its rules that have neither a
+     * literal key prefix nor a key starting with a set, ascending.
+     */
+    private int[][] binOtherRules;
+
+    private static final int[] NO_RULES = new int[0];
+
     /**
      * Construct a new empty rule set.
      */
@@ -82,6 +141,7 @@ public void addRule(TransliterationRule rule) {
         }
 
         rules = null;
+        orderedRules = null;
     }
 
     /**
@@ -109,6 +169,7 @@ public void freeze() {
         int n = ruleVector.size();
         index = new int[257]; // [sic]
         List<TransliterationRule> v = new ArrayList<TransliterationRule>(2*n); // heuristic; adjust as needed
+        ruleBins = new long[4*n];
 
         /* Precompute the index values.  This saves a LOT of time.
          */
@@ -123,6 +184,7 @@ public void freeze() {
                 if (indexValue[j] >= 0) {
                     if (indexValue[j] == x) {
                         v.add(ruleVector.get(j));
+                        ruleBins[4*j + (x>>6)] |= 1L << x;
                     }
                 } else {
                     // If the indexValue is < 0, then the first key character is
@@ -132,6 +194,7 @@ public void freeze() {
                     TransliterationRule r = ruleVector.get(j);
                     if (r.matchesIndexValue(x)) {
                         v.add(r);
+                        ruleBins[4*j + (x>>6)] |= 1L << x;
                     }
                 }
             }
@@ -172,6 +235,109 @@ public void freeze() {
         if (errors != null) {
             throw new IllegalArgumentException(errors.toString());
         }
+
+        compile();
+    }
+
+    /**
+     * Build the compiled form of the rules.  A rule whose key starts
+     * with the literal code units p can only match text that starts
+     * with p at pos.start.  A rule whose key starts with a set can only
+     * match if the set contains the code point at pos.start.  Either
+     * way the rule would otherwise return U_MISMATCH, so skipping it
+     * does not change the result.
+     */
+    private void compile() {
+        int n = ruleVector.size();
+        orderedRules = ruleVector.toArray(new TransliterationRule[n]);
+        KeyNode.Builder trie = new KeyNode.Builder();
+        // Code point -> rules to add (positive) or remove (~index) there
+        TreeMap<Integer, List<Integer>> setEvents = new TreeMap<Integer, List<Integer>>();
+        setEvents.put(0, new ArrayList<Integer>());
+        List<List<Integer>> others = new ArrayList<List<Integer>>(256);
+        for (int x=0; x<256; ++x) {
+            others.add(new ArrayList<Integer>());
+        }
+        for (int j=0; j<n; ++j) {
+            TransliterationRule r = orderedRules[j];
+            String prefix = r.getKeyLiteralPrefix();
+            UnicodeSet set;
+            if (prefix.length() > 0) {
+                KeyNode.Builder b = trie;
+                for (int i=0; i<prefix.length(); ++i) {
+                    b = b.child(prefix.charAt(i));
+                }
+                b.rules.add(j);
+            } else if ((set = r.getKeyFirstSet()) != null) {
+                for (int i=0; i<set.getRangeCount(); ++i) {
+                    addSetEvent(setEvents, set.getRangeStart(i), j);
+                    addSetEvent(setEvents, set.getRangeEnd(i) + 1, ~j);
+                }
+            } else {
+                for (int x=0; x<256; ++x) {
+                    if (isInBin(j, x)) {
+                        others.get(x).add(j);
+                    }
+                }
+            }
+        }
+        keyTrie = trie.build(NO_RULES);
+
+        // Sweep the set boundaries, sharing equal rule lists
+        firstSetStarts = new int[setEvents.size()];
+        firstSetRules = new int[setEvents.size()][];
+        Map<List<Integer>, int[]> shared = new HashMap<List<Integer>, int[]>();
+        TreeSet<Integer> active = new TreeSet<Integer>();
+        int k = 0;
+        for (Map.Entry<Integer, List<Integer>> e : setEvents.entrySet()) {
+            for (int j : e.getValue()) {
+                if (j >= 0) {
+                    active.add(j);
+                } else {
+                    active.remove(~j);
+                }
+            }
+            firstSetStarts[k] = e.getKey();
+            firstSetRules[k++] = share(shared, new ArrayList<Integer>(active));
+        }
+
+        binOtherRules = new int[256][];
+        for (int x=0; x<256; ++x) {
+            binOtherRules[x] = share(shared, others.get(x));
+        }
+    }
+
+    private static void addSetEvent(TreeMap<Integer, List<Integer>> events, int c, int event) {
+        List<Integer> list = events.get(c);
+        if (list == null) {
+            list = new ArrayList<Integer>();
+            events.put(c, list);
+        }
+        list.add(event);
+    }
+
+    private static int[] share(Map<List<Integer>, int[]> shared, List<Integer> list) {
+        int[] result = shared.get(list);
+        if (result == null) {
+            result = toArray(list);
+            shared.put(list, result);
+        }
+        return result;
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        if (list.isEmpty()) {
+            return NO_RULES;
+        }
+        int[] result = new int[list.size()];
+        for (int i=0; i<result.length; ++i) {
+            result[i] = list.get(i);
+        }
+        return result;
+    }
+
+    private boolean isInBin(int j, int x) {
+        return (ruleBins[4*j + (x>>6)] & (1L << x)) != 0;
     }
 
     /**
@@ -190,28 +356,72 @@ public void freeze() {
     public boolean transliterate(Replaceable text,
                                  Transliterator.Position pos,
                                  boolean incremental) {
-        int indexByte = text.char32At(pos.start) & 0xFF;
-        for (int i=index[indexByte]; i<index[indexByte+1]; ++i) {
-            int m = rules[i].matchAndReplace(text, pos, incremental);
-            switch (m) {
-            case UnicodeMatcher.U_MATCH:
-                if (Transliterator.DEBUG) {
-                    System.out.println((incremental ? "Rule.i: match ":"Rule: match ") +
-                                       rules[i].toRule(true) + " => " +
-                                       UtilityExtensions.formatInput(text, pos));
+        int c = text.char32At(pos.start);
+        int indexByte = c & 0xFF;
+
+        // Walk the key trie as far as the text agrees with it.  Rules
+        // below the node where the walk stops cannot match, except when
+        // the walk ran into pos.limit in incremental mode: then a longer
+        // key may still be completed by more text.
+        KeyNode node = keyTrie;
+        int offset = pos.start;
+        while (node.childUnits != null) {
+            if (offset == pos.limit) {
+                if (incremental) {
+                    node = null;
                 }
-                return true;
-            case UnicodeMatcher.U_PARTIAL_MATCH:
-                if (Transliterator.DEBUG) {
-                    System.out.println((incremental ? "Rule.i: partial match ":"Rule: partial match ") +
-                                       rules[i].toRule(true) + " => " +
-                                       UtilityExtensions.formatInput(text, pos));
+                break;
+            }
+            int k = Arrays.binarySearch(node.childUnits, text.charAt(offset));
+            if (k < 0) {
+                break;
+            }
+            node = node.children[k];
+            ++offset;
+        }
+
+        if (node == null) {
+            // Try every rule in the bin
+            for (int i=index[indexByte]; i<index[indexByte+1]; ++i) {
+                int m = matchAndReplace(rules[i], text, pos, incremental);
+                if (m != UnicodeMatcher.U_MISMATCH) {
+                    return m == UnicodeMatcher.U_MATCH;
+                }
+            }
+        } else {
+            int r = Arrays.binarySearch(firstSetStarts, c);
+            int[] a = binOtherRules[indexByte];
+            int[] b = firstSetRules[r >= 0 ? r : -r-2];
+            int[] d = node.rules;
+            int ia = 0, ib = 0, id = 0;
+            for (;;) {
+                // Next rule in order from a, b, and d, which are disjoint
+                int j = Integer.MAX_VALUE;
+                if (ia < a.length) {
+                    j = a[ia];
                 }
-                return false;
-                default:
-                    if (Transliterator.DEBUG) {
-                        System.out.println("Rule: no match " + rules[i]);
+                if (ib < b.length && b[ib] < j) {
+                    j = b[ib];
+                }
+                if (id < d.length && d[id] < j) {
+                    j = d[id];
+                }
+                if (j == Integer.MAX_VALUE) {
+                    break;
+                }
+                if (ia < a.length && a[ia] == j) {
+                    ++ia;
+                } else if (ib < b.length && b[ib] == j) {
+                    ++ib;
+                } else {
+                    ++id;
+                }
+                if (isInBin(j, indexByte)) {
+                    int m = matchAndReplace(orderedRules[j], text, pos, incremental);
+                    if (m != UnicodeMatcher.U_MISMATCH) {
+                        return m == UnicodeMatcher.U_MATCH;
                     }
+                }
             }
         }
         // No match or partial match from any rule
@@ -223,6 +433,104 @@ public boolean transliterate(Replaceable text,
         return true;
     }
 
+    /**
+     * Attempt a match and replacement with the given rule.
+     * @return one of <code>U_MISMATCH</code>,
+     * <code>U_PARTIAL_MATCH</code>, or <code>U_MATCH</code>.
+     */
+    private static int matchAndReplace(TransliterationRule rule, Replaceable text,
+                                       Transliterator.Position pos,
+                                       boolean incremental) {
+        int m = rule.matchAndReplace(text, pos, incremental);
+        if (Transliterator.DEBUG) {
+            switch (m) {
+            case UnicodeMatcher.U_MATCH:
+                System.out.println((incremental ? "Rule.i: match ":"Rule: match ") +
+                                   rule.toRule(true) + " => " +
+                                   UtilityExtensions.formatInput(text, pos));
+                break;
+            case UnicodeMatcher.U_PARTIAL_MATCH:
+                System.out.println((incremental ? "Rule.i: partial match ":"Rule: partial match ") +
+                                   rule.toRule(true) + " => " +
+                                   UtilityExtensions.formatInput(text, pos));
+                break;
+            default:
+                System.out.println("Rule: no match " + rule);
+            }
+        }
+        return m;
+    }
+
+    /**
+     * A node of the key trie.  Its children are reached by the next
+     * code unit of a literal key prefix.
+     */
+    private static final class KeyNode {
+        /**
+         * Sorted code units leading to the children, or null for a leaf.
+         */
+        final char[] childUnits;
+        final KeyNode[] children;
+
+        /**
+         * Indices of the rules whose literal key prefix ends at this
+         * node or at one of its ancestors, ascending.
+         */
+        final int[] rules;
+
+        KeyNode(char[] childUnits, KeyNode[] children, int[] rules) {
+            this.childUnits = childUnits;
+            this.children = children;
+            this.rules = rules;
+        }
+
+        static final class Builder {
+            final Map<Character, Builder> children = new TreeMap<Character, Builder>();
+            final List<Integer> rules = new ArrayList<Integer>();
+
+            Builder child(char c) {
+                Builder b = children.get(c);
+                if (b == null) {
+                    b = new Builder();
+                    children.put(c, b);
+                }
+                return b;
+            }
+
+            KeyNode build(int[] parentRules) {
+                int[] merged = merge(parentRules, toArray(rules));
+                char[] childUnits = null;
+                KeyNode[] childNodes = null;
+                if (!children.isEmpty()) {
+                    childUnits = new char[children.size()];
+                    childNodes = new KeyNode[children.size()];
+                    int i = 0;
+                    for (Map.Entry<Character, Builder> e : children.entrySet()) {
+                        childUnits[i] = e.getKey();
+                        childNodes[i] = e.getValue().build(merged);
+                        ++i;
+                    }
+                }
+                return new KeyNode(childUnits, childNodes, merged);
+            }
+
+            private static int[] merge(int[] a, int[] b) {
+                if (a.length == 0) {
+                    return b;
+                }
+                if (b.length == 0) {
+                    return a;
+                }
+                int[] result = new int[a.length + b.length];
+                int ia = 0, ib = 0;
+                for (int i=0; i<result.length; ++i) {
+                    result[i] = (ib == b.length || (ia < a.length && a[ia] < b[ib])) ? a[ia++] : b[ib++];
+                }
+                return result;
+            }
+        }
+    }
+
     /**
      * Create rule strings that represents this rule set.
      */
@@ -8,6 +8,8 @@
  */
 package com.ibm.icu.text;
 
+import java.io.IOException;
+import java.nio.CharBuffer;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -27,6 +29,7 @@
 import com.ibm.icu.text.RuleBasedTransliterator.Data;
 import com.ibm.icu.text.TransliteratorIDParser.SingleID;
 import com.ibm.icu.util.CaseInsensitiveString;
+import com.ibm.icu.util.ICUUncheckedIOException;
 import com.ibm.icu.util.ULocale;
 import com.ibm.icu.util.ULocale.Category;
 import com.ibm.icu.util.UResourceBundle;
@@ -805,6 +808,79 @@ public final String transliterate(String text) {
         return result.toString();
     }
 
+    /**
+     * Transliterates all the text that can be read from the source and
+     * appends the result to the destination.  The source is read in
+     * chunks and transliterated incrementally, as with {@link
+     * #transliterate(Replaceable, Transliterator.Position)}, followed by
+     * {@link #finishTransliteration}.  Only the text that may still
+     * change, plus the preceding context given by {@link
+     * #getMaximumContextLength()}, is kept in memory, so that arbitrarily
+     * long input can be transliterated with bounded memory.
+     *
+     * <p>The result is the same as that of incremental transliteration
+     * of the whole text, which for most transliterators is the same as
+     * that of {@link #transliterate(String)}.
+     *
+     * <p>Any {@link java.io.IOException} is wrapped into a
+     * {@link com.ibm.icu.util.ICUUncheckedIOException}.
+     *
+     * @param source the text to be transliterated, for example a
+     * {@link java.io.Reader} or a {@link java.nio.CharBuffer}
+     * @param dest destination Appendable; gets the transliterated text appended
+     * @return dest
+     * @draft ICU 78
+     */
+    public final Appendable transliterate(Readable source, Appendable dest) {
+        GapBufferReplaceable text = new GapBufferReplaceable(2 * STREAM_CHUNK_LENGTH);
+        Position index = new Position();
+        CharBuffer chunk = CharBuffer.allocate(STREAM_CHUNK_LENGTH);
+        int maxContextLength = Math.max(getMaximumContextLength(), STREAM_MIN_CONTEXT_LENGTH);
+        try {
+            while (source.read(chunk) >= 0) {
+                chunk.flip();
+                int length = chunk.remaining();
+                text.replace(index.limit, index.limit, chunk.array(), chunk.position(), length);
+                chunk.clear();
+                index.limit += length;
+                index.contextLimit += length;
+                transliterate(text, index);
+
+                // Write out the text that is final and no longer needed as
+                // context, and remove it from the buffer.
+                int keep = index.start;
+                for (int i = 0; i < maxContextLength && keep > 0; ++i) {
+                    keep -= UTF16.getCharCount(text.char32At(keep - 1));
+                }
+                if (keep > 0) {
+                    text.appendTo(0, keep, dest);
+                    text.replace(0, keep, "");
+                    index.start -= keep;
+                    index.limit -= keep;
+                    index.contextLimit -= keep;
+                }
+            }
+            finishTransliteration(text, index);
+            text.appendTo(0, text.length(), dest);
+        } catch (IOException e) {
+            throw new ICUUncheckedIOException(e);
+        }
+        return dest;
+    }
+
+    /**
+     * Number of chars read at a time by {@link #transliterate(Readable, Appendable)}.
+     */
+    private static final int STREAM_CHUNK_LENGTH = 4096;
+
+    /**
+     * Minimum number of code points of preceding context kept by {@link
+     * #transliterate(Readable, Appendable)}.  Some transliterators, such as
+     * the Any-* transliterators, report a maximum context length of 0 but
+     * delegate to transliterators that do look at preceding text.
+     */
+    private static final int STREAM_MIN_CONTEXT_LENGTH = 32;
+
     /**
      * Transliterates the portion of the text buffer that can be
      * transliterated unambiguosly after new text has been inserted,
@@ -98,4 +98,59 @@ public void run() {
         }
     }
 
+    // Rule-based, case and break transliterators run without locks, so a
+    // single shared instance must give every thread the same results as a
+    // single-threaded run.  The rules use segments, whose match positions
+    // are per-thread state.
+    @Test
+    public void TestSharedInstance() {
+        final Transliterator[] transliterators = {
+            Transliterator.getInstance("Any-Latin; Latin-ASCII"),
+            Transliterator.createFromRules("Swap",
+                    "([a-z]+) ([0-9]+) > $2 $1 ; ([A-Z]) ([a-z]*) > $2 $1 ;", Transliterator.FORWARD),
+            Transliterator.getInstance("Any-Upper; Any-Lower; Any-Title; Any-CaseFold"),
+            Transliterator.getInstance("Thai-Latin"),
+        };
+        final String[] inputs = {
+            "διαφορετικούς Ελλάδα", "Москва улица 12", "abc 123 Def ghi 45",
+            "ΣΊΣΥΦΟΣ and Straße", "ภาษาไทยง่ายนิดเดียว", "Ærøskøbing über Ĳssel",
+        };
+        final String[][] expected = new String[transliterators.length][inputs.length];
+        for (int t = 0; t < transliterators.length; t++) {
+            for (int i = 0; i < inputs.length; i++) {
+                expected[t][i] = transliterators[t].transliterate(inputs[i]);
+            }
+        }
+        final int loops = TestFmwk.getExhaustiveness() >= 9 ? 20000 : 1000;
+        final int[] mismatches = new int[8];
+        ArrayList<Thread> threads = new ArrayList<Thread>();
+        for (int i=0; i<mismatches.length; i++) {
+            final int threadIndex = i;
+            threads.add(new Thread() {
+                @Override
+                public void run() {
+                    for (int loop = 0; loop < loops; loop++) {
+                        int t = (loop + threadIndex) % transliterators.length;
+                        for (int i = 0; i < inputs.length; i++) {
+                            if (!expected[t][i].equals(transliterators[t].transliterate(inputs[i]))) {
+                                ++mismatches[threadIndex];
+                            }
+                        }
+                    }
+                }
+            });
+        }
+        for (Thread th:threads) {
+            th.start();
+        }
+        for (int i=0; i<threads.size(); i++) {
+            try {
+                threads.get(i).join();
+            } catch (InterruptedException e) {
+                errln("Unexpected exception: " + e);
+            }
+            assertEquals("mismatches in thread " + i, 0, mismatches[i]);
+        }
+    }
+
 }
@@ -8,6 +8,9 @@
  */
 package com.ibm.icu.dev.test.translit;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.CharBuffer;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashMap;
@@ -37,6 +40,7 @@
 import com.ibm.icu.text.UnicodeSet;
 import com.ibm.icu.text.UnicodeSetIterator;
 import com.ibm.icu.util.CaseInsensitiveString;
+import com.ibm.icu.util.ICUUncheckedIOException;
 import com.ibm.icu.util.ULocale;
 
 /***********************************************************************
@@ -3720,6 +3724,84 @@ public void TestT5160() {
         }
     }
 
+    /*
+     * Rules are tried through a trie over their literal key prefixes.
+     * Rules with literal keys, keys starting with a set, context, and
+     * supplementary keys must still be tried in rule order.
+     */
+    @Test
+    public void TestKeyTrieRuleOrder() {
+        String rules =
+            "abc > 1 ;" +
+            "ab } d > 2 ;" +
+            "[a-c] b > 3 ;" +
+            "ab > 4 ;" +
+            "a > 5 ;" +
+            "x { y > 6 ;" +
+            "\\U0001D400\\U0001D401 > 7 ;" +
+            "\\U0001D400 > 8 ;" +
+            "[^a-z] z > 9 ;";
+        expect(rules, "abc abd ab a cb xy \uD835\uDC00\uD835\uDC01\uD835\uDC00 Az ac",
+                "1 2d 3 5 3 x6 78 9 5c");
+        expect(rules, "ababcab", "313");
+    }
+
+    /*
+     * Streaming transliteration from a Readable to an Appendable gives the
+     * same result as transliterating the whole string, also when the text
+     * is longer than one chunk and rules need preceding context.
+     */
+    @Test
+    public void TestStreaming() {
+        StringBuilder buf = new StringBuilder();
+        String[] parts = {
+            "Ελληνικά κείμενα, ", "русский текст ", "can't stop ", "\uD835\uDC00\uD835\uDC01 ",
+            "ابجد ", "ภาษาไทย ", "한국어 ", "Ǆemal ", "ﬃx ß ",
+        };
+        for (int i = 0; buf.length() < 20000; ++i) {
+            buf.append(parts[i % parts.length]);
+        }
+        String source = buf.toString();
+        String[] ids = {
+            "Any-Latin; Latin-ASCII", "Any-Title", "Greek-Latin/UNGEGN", "NFD; [:Nonspacing Mark:] Remove; NFC",
+            "Hex-Any", "Any-Hex", "Null",
+        };
+        for (String id : ids) {
+            Transliterator t = Transliterator.getInstance(id);
+            String expected = t.transliterate(source);
+            assertEquals(id + " Reader", expected,
+                    t.transliterate(new StringReader(source), new StringBuilder()).toString());
+            assertEquals(id + " CharBuffer", expected,
+                    t.transliterate(CharBuffer.wrap(source), new StringBuilder()).toString());
+        }
+
+        Transliterator t = Transliterator.createFromRules("Context",
+                "ab { c > x ; ^ a > S ; d } e $ > y ;", Transliterator.FORWARD);
+        String text = "abcdeabc" + source + "abcde";
+        assertEquals("rules with context", t.transliterate(text),
+                t.transliterate(new StringReader(text), new StringBuilder()).toString());
+        assertEquals("empty", "", t.transliterate(new StringReader(""), new StringBuilder()).toString());
+
+        try {
+            t.transliterate(new StringReader("abc"), new Appendable() {
+                @Override
+                public Appendable append(CharSequence csq) throws IOException {
+                    throw new IOException("expected");
+                }
+                @Override
+                public Appendable append(CharSequence csq, int start, int end) throws IOException {
+                    throw new IOException("expected");
+                }
+                @Override
+                public Appendable append(char c) throws IOException {
+                    throw new IOException("expected");
+                }
+            });
+            errln("IOException from the Appendable was not passed on");
+        } catch (ICUUncheckedIOException expected) {
+        }
+    }
+
     static class NormTranslitTask implements Runnable {
         Transliterator translit;
         String testData;
@@ -0,0 +1,47 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: https://www.unicode.org/copyright.html
+
+package com.ibm.icu.dev.test.perf.jmh;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of {@code benchmarks.jar}.
+ *
+ * <p>Accepts the regular JMH command line, but writes the results as JSON to
+ * {@code jmh-result.json} unless {@code -rf} / {@code -rff} are given explicitly,
+ * so that runs across ICU versions can be compared mechanically. For example:
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar -prof gc Collation
+ * java -jar target/benchmarks.jar -prof gc -rff icu78.json Normalizer
+ * </pre>
+ *
+ * With {@code -prof gc} each result carries a {@code gc.alloc.rate.norm} secondary
+ * metric, which is the number of bytes allocated per operation.
+ */
+public class BenchmarkRunner {
+    static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cmdOptions = new CommandLineOptions(args);
+        ChainedOptionsBuilder builder = new OptionsBuilder().parent(cmdOptions);
+        if (!cmdOptions.getResultFormat().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+        if (!cmdOptions.getResult().hasValue()) {
+            builder.result(DEFAULT_RESULT_FILE);
+        }
+        if (cmdOptions.shouldHelp() || cmdOptions.shouldList() || cmdOptions.shouldListWithParams()
+                || cmdOptions.shouldListProfilers() || cmdOptions.shouldListResultFormats()) {
+            // Let the stock JMH driver handle the informational commands.
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        new Runner(builder.build()).run();
+    }
+}
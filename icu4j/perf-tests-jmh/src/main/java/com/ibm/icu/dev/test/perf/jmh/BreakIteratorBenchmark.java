@@ -0,0 +1,120 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: https://www.unicode.org/copyright.html
+
+package com.ibm.icu.dev.test.perf.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ibm.icu.text.BreakIterator;
+import com.ibm.icu.text.RuleBasedBreakIterator;
+import com.ibm.icu.util.ULocale;
+
+/**
+ * Break iteration benchmarks, the JMH counterpart of {@code RBBIPerf}.
+ * One operation segments a whole UDHR text.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BreakIteratorBenchmark {
+    @Param({"en:eng", "de:deu_1996", "th:tha", "ja:jpn", "zh:cmn_hans"})
+    public String localeAndText;
+
+    @Param({"character", "word", "line", "sentence"})
+    public String type;
+
+    BreakIterator bi;
+    String text;
+    int[] boundaries;
+    int[] ruleStatus;
+
+    @Setup
+    public void setup() {
+        String[] parts = localeAndText.split(":");
+        ULocale locale = new ULocale(parts[0]);
+        switch (type) {
+        case "character": bi = BreakIterator.getCharacterInstance(locale); break;
+        case "word": bi = BreakIterator.getWordInstance(locale); break;
+        case "line": bi = BreakIterator.getLineInstance(locale); break;
+        case "sentence": bi = BreakIterator.getSentenceInstance(locale); break;
+        default: throw new IllegalArgumentException("unknown break iterator type " + type);
+        }
+        text = TestData.udhr(parts[1]);
+        boundaries = new int[256];
+        ruleStatus = new int[256];
+    }
+
+    @Benchmark
+    public int next() {
+        bi.setText(text);
+        int count = 0;
+        while (bi.next() != BreakIterator.DONE) {
+            ++count;
+        }
+        return count;
+    }
+
+    /** Iterates forward and collects the rule status of every boundary, as tokenizers do. */
+    @Benchmark
+    public int nextWithRuleStatus() {
+        bi.setText(text);
+        int sum = 0;
+        while (bi.next() != BreakIterator.DONE) {
+            sum += bi.getRuleStatus();
+        }
+        return sum;
+    }
+
+    /** The bulk equivalent of {@link #nextWithRuleStatus()}. */
+    @Benchmark
+    public int nextBoundaries() {
+        RuleBasedBreakIterator rbbi = (RuleBasedBreakIterator) bi;
+        rbbi.setText(text);
+        int sum = 0;
+        for (int n; (n = rbbi.nextBoundaries(boundaries, ruleStatus)) > 0;) {
+            for (int i = 0; i < n; ++i) {
+                sum += ruleStatus[i];
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int previous() {
+        bi.setText(text);
+        bi.last();
+        int count = 0;
+        while (bi.previous() != BreakIterator.DONE) {
+            ++count;
+        }
+        return count;
+    }
+
+    /** Random access, which exercises the boundary cache and the safe-point rules. */
+    @Benchmark
+    public int isBoundary() {
+        bi.setText(text);
+        int count = 0;
+        for (int i = 0; i < text.length(); i += 7) {
+            if (bi.isBoundary(i)) {
+                ++count;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,171 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: https://www.unicode.org/copyright.html
+
+package com.ibm.icu.dev.test.perf.jmh;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.ibm.icu.text.Collator;
+import com.ibm.icu.text.RawCollationKey;
+import com.ibm.icu.text.RuleBasedCollator;
+import com.ibm.icu.util.ULocale;
+
+/**
+ * Collation benchmarks, the JMH counterpart of {@code CollationPerformanceTest}:
+ * string comparison, sort key generation, sorting and binary search over a name list.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CollationBenchmark {
+    /** Number of strings taken from the name list. */
+    static final int COUNT = 1000;
+
+    @Param({"en_US:TestNames_Latin.txt", "ja:TestNames_Japanese.txt",
+        "zh:TestNames_Simplified_Chinese.txt", "ru:TestNames_Russian.txt", "th:TestNames_Thai.txt"})
+    public String localeAndData;
+
+    @Param({"false", "true"})
+    public boolean frozen;
+
+    RuleBasedCollator collator;
+    String[] names;
+    String[] sorted;
+    String[] shuffled;
+    RawCollationKey rawKey;
+    byte[] keyBytes;
+
+    @Setup
+    public void setup() {
+        String[] parts = localeAndData.split(":");
+        collator = (RuleBasedCollator) Collator.getInstance(new ULocale(parts[0]));
+        if (frozen) {
+            collator.freeze();
+        }
+        String[] all = TestData.collationNames(parts[1]);
+        names = new String[COUNT];
+        for (int i = 0; i < COUNT; ++i) {
+            names[i] = all[i % all.length];
+        }
+        sorted = names.clone();
+        Arrays.sort(sorted, collator);
+        List<String> list = new ArrayList<>(Arrays.asList(names));
+        Collections.shuffle(list, new Random(1));
+        shuffled = list.toArray(new String[COUNT]);
+        rawKey = new RawCollationKey();
+        keyBytes = new byte[1024];
+    }
+
+    /** Compares adjacent pairs of names. */
+    @Benchmark
+    @OperationsPerInvocation(COUNT - 1)
+    public int compare() {
+        int result = 0;
+        for (int i = 1; i < COUNT; ++i) {
+            result += collator.compare(names[i - 1], names[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void getCollationKey(Blackhole bh) {
+        for (String name : names) {
+            bh.consume(collator.getCollationKey(name));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void getRawCollationKey(Blackhole bh) {
+        for (String name : names) {
+            bh.consume(collator.getRawCollationKey(name, rawKey));
+        }
+    }
+
+    /** Writes full sort keys into one reused array. */
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public int getSortKeyIntoArray() {
+        int result = 0;
+        for (String name : names) {
+            result += collator.getSortKey(name, keyBytes, 0, keyBytes.length);
+        }
+        return result;
+    }
+
+    /** Writes 8-byte sort key prefixes, as for a first radix sort pass. */
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public int getSortKeyPrefix() {
+        int result = 0;
+        for (String name : names) {
+            result += collator.getSortKeyPrefix(name, keyBytes, 0, 8);
+        }
+        return result;
+    }
+
+    /** Sorts the whole list with the collator as the comparator; one op is one sort. */
+    @Benchmark
+    public String[] sort() {
+        String[] copy = names.clone();
+        Arrays.sort(copy, collator);
+        return copy;
+    }
+
+    /** Sorts the whole list with {@link Collator#sort(String[])}; one op is one sort. */
+    @Benchmark
+    public String[] bulkSort() {
+        String[] copy = names.clone();
+        collator.sort(copy);
+        return copy;
+    }
+
+    /** Sorts the list in random order with the collator as the comparator. */
+    @Benchmark
+    public String[] sortShuffled() {
+        String[] copy = shuffled.clone();
+        Arrays.sort(copy, collator);
+        return copy;
+    }
+
+    /** Sorts the list in random order with {@link Collator#sort(String[])}. */
+    @Benchmark
+    public String[] bulkSortShuffled() {
+        String[] copy = shuffled.clone();
+        collator.sort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public int binarySearch() {
+        int result = 0;
+        for (String name : names) {
+            result += Arrays.binarySearch(sorted, name, collator);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,108 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: https://www.unicode.org/copyright.html
+
+package com.ibm.icu.dev.test.perf.jmh;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ibm.icu.charset.CharsetProviderICU;
+
+/**
+ * Charset conversion benchmarks, the JMH counterpart of {@code ConverterPerformanceTest}.
+ * One operation decodes or encodes a whole UDHR text with reused buffers, so that the
+ * results reflect the converter loops rather than buffer allocation.
+ * {@code impl=jdk} runs the same workload through the JDK's own codecs for reference.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConverterBenchmark {
+    @Param({"UTF-8:eng", "UTF-8:rus", "US-ASCII:eng", "ISO-8859-1:fra",
+        "Shift_JIS:jpn", "EUC-KR:kor", "windows-1251:rus", "UTF-16LE:cmn_hans"})
+    public String charsetAndText;
+
+    @Param({"icu", "jdk"})
+    public String impl;
+
+    @Param({"false", "true"})
+    public boolean direct;
+
+    CharsetDecoder decoder;
+    CharsetEncoder encoder;
+    ByteBuffer bytes;
+    CharBuffer chars;
+    ByteBuffer byteTarget;
+    CharBuffer charTarget;
+
+    @Setup
+    public void setup() {
+        String[] parts = charsetAndText.split(":");
+        Charset charset = "icu".equals(impl)
+                ? new CharsetProviderICU().charsetForName(parts[0])
+                : Charset.forName(parts[0]);
+        if (charset == null) {
+            throw new IllegalArgumentException("unsupported charset " + parts[0]);
+        }
+        decoder = charset.newDecoder();
+        encoder = charset.newEncoder();
+        String text = TestData.udhr(parts[1]);
+        // Use the JDK codec to produce the input bytes so that ICU and JDK see the same data.
+        byte[] encoded = text.getBytes(Charset.forName(parts[0]));
+        bytes = allocate(encoded.length);
+        bytes.put(encoded).flip();
+        chars = CharBuffer.wrap(text);
+        byteTarget = allocate(encoded.length * 2 + 16);
+        charTarget = CharBuffer.allocate(text.length() * 2 + 16);
+    }
+
+    private ByteBuffer allocate(int capacity) {
+        return direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+    }
+
+    @Benchmark
+    public int decode() {
+        bytes.rewind();
+        charTarget.clear();
+        decoder.reset();
+        CoderResult cr = decoder.decode(bytes, charTarget, true);
+        if (cr.isError()) {
+            throw new IllegalStateException(cr.toString());
+        }
+        decoder.flush(charTarget);
+        return charTarget.position();
+    }
+
+    @Benchmark
+    public int encode() {
+        chars.rewind();
+        byteTarget.clear();
+        encoder.reset();
+        CoderResult cr = encoder.encode(chars, byteTarget, true);
+        if (cr.isError()) {
+            throw new IllegalStateException(cr.toString());
+        }
+        encoder.flush(byteTarget);
+        return byteTarget.position();
+    }
+}
@@ -0,0 +1,95 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: https://www.unicode.org/copyright.html
+
+package com.ibm.icu.dev.test.perf.jmh;
+
+import java.text.ParsePosition;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ibm.icu.text.DateFormat;
+import com.ibm.icu.text.LocalizedDateFormatter;
+import com.ibm.icu.text.SimpleDateFormat;
+import com.ibm.icu.util.TimeZone;
+import com.ibm.icu.util.ULocale;
+
+/**
+ * Date formatting benchmarks, the JMH counterpart of {@code DateFormatPerformanceTest}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DateFormatBenchmark {
+    @Param({"en_US", "de_DE", "ja_JP", "ar_EG"})
+    public String locale;
+
+    @Param({"yyyy-MM-dd'T'HH:mm:ss.SSSZ", "EEEE, MMMM d, y h:mm:ss a zzzz"})
+    public String pattern;
+
+    @Param({"America/Los_Angeles", "Europe/Berlin"})
+    public String zone;
+
+    SimpleDateFormat dateFormat;
+    LocalizedDateFormatter localizedFormatter;
+    Date date;
+    String formatted;
+    ParsePosition pos;
+
+    @Setup
+    public void setup() {
+        dateFormat = new SimpleDateFormat(pattern, new ULocale(locale));
+        dateFormat.setTimeZone(TimeZone.getTimeZone(zone));
+        date = new Date(1700000000000L);
+        formatted = dateFormat.format(date);
+        localizedFormatter = LocalizedDateFormatter.forPattern(pattern, new ULocale(locale))
+                .withTimeZone(TimeZone.getTimeZone(zone));
+        pos = new ParsePosition(0);
+    }
+
+    @Benchmark
+    public DateFormat create() {
+        return new SimpleDateFormat(pattern, new ULocale(locale));
+    }
+
+    @Benchmark
+    public DateFormat createDateTimeInstance() {
+        return DateFormat.getDateTimeInstance(DateFormat.FULL, DateFormat.FULL, new ULocale(locale));
+    }
+
+    @Benchmark
+    public String format() {
+        return dateFormat.format(date);
+    }
+
+    /** What callers do today to share a SimpleDateFormat among threads. */
+    @Benchmark
+    public String cloneAndFormat() {
+        return ((DateFormat) dateFormat.clone()).format(date);
+    }
+
+    @Benchmark
+    public String formatLocalized() {
+        return localizedFormatter.format(date.getTime()).toString();
+    }
+
+    @Benchmark
+    public Date parse() {
+        pos.setIndex(0);
+        return dateFormat.parse(formatted, pos);
+    }
+}
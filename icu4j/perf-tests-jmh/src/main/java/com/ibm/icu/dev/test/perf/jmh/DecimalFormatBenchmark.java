@@ -0,0 +1,104 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: https://www.unicode.org/copyright.html
+
+package com.ibm.icu.dev.test.perf.jmh;
+
+import java.text.ParsePosition;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ibm.icu.number.LocalizedNumberFormatter;
+import com.ibm.icu.number.NumberFormatter;
+import com.ibm.icu.text.DecimalFormat;
+import com.ibm.icu.text.DecimalFormatSymbols;
+import com.ibm.icu.util.ULocale;
+
+/**
+ * Number formatting benchmarks, the JMH counterpart of {@code DecimalFormatPerformanceTest},
+ * extended with the {@link NumberFormatter} API that {@link DecimalFormat} is built on.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DecimalFormatBenchmark {
+    @Param({"en_US", "de_DE", "ar_EG", "hi_IN"})
+    public String locale;
+
+    @Param({"#,##0.00", "0.###E0"})
+    public String pattern;
+
+    DecimalFormat decimalFormat;
+    LocalizedNumberFormatter numberFormatter;
+    String formatted;
+    ParsePosition pos;
+    StringBuilder sb;
+    char[] chars;
+
+    @Setup
+    public void setup() {
+        ULocale uloc = new ULocale(locale);
+        decimalFormat = new DecimalFormat(pattern, DecimalFormatSymbols.getInstance(uloc));
+        numberFormatter = NumberFormatter.forSkeleton(
+                pattern.indexOf('E') >= 0 ? "scientific" : "group-auto .00").locale(uloc);
+        formatted = decimalFormat.format(1234567.891);
+        pos = new ParsePosition(0);
+        sb = new StringBuilder();
+        chars = new char[64];
+    }
+
+    @Benchmark
+    public DecimalFormat create() {
+        return new DecimalFormat(pattern, DecimalFormatSymbols.getInstance(new ULocale(locale)));
+    }
+
+    @Benchmark
+    public String formatDouble() {
+        return decimalFormat.format(1234567.891);
+    }
+
+    @Benchmark
+    public String formatLong() {
+        return decimalFormat.format(1234567L);
+    }
+
+    @Benchmark
+    public Number parse() {
+        pos.setIndex(0);
+        return decimalFormat.parse(formatted, pos);
+    }
+
+    @Benchmark
+    public String numberFormatterDouble() {
+        return numberFormatter.format(1234567.891).toString();
+    }
+
+    @Benchmark
+    public String numberFormatterLong() {
+        return numberFormatter.format(1234567L).toString();
+    }
+
+    @Benchmark
+    public StringBuilder numberFormatterDoubleTo() {
+        sb.setLength(0);
+        return numberFormatter.formatTo(1234567.891, sb);
+    }
+
+    @Benchmark
+    public int numberFormatterLongToChars() {
+        return numberFormatter.formatTo(1234567L, chars, 0, chars.length);
+    }
+}
@@ -0,0 +1,114 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: https://www.unicode.org/copyright.html
+
+package com.ibm.icu.dev.test.perf.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ibm.icu.text.Collator;
+import com.ibm.icu.text.RawCollationKey;
+import com.ibm.icu.util.ULocale;
+
+/**
+ * Multi-threaded scaling of one shared frozen collator,
+ * compared with the workaround of one cloned collator per thread.
+ * Run with different thread counts, for example
+ * {@code -t 1}, {@code -t 8}, {@code -t 64}; the shared results should scale like the cloned ones.
+ * The default data avoids the Latin fast path so that every comparison
+ * uses the collator's working buffers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class FrozenCollatorBenchmark {
+    static final int COUNT = 256;
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+        @Param({"ja:TestNames_Japanese.txt", "ru:TestNames_Russian.txt"})
+        public String localeAndData;
+
+        Collator frozen;
+        String[] names;
+
+        @Setup
+        public void setup() {
+            String[] parts = localeAndData.split(":");
+            frozen = Collator.getInstance(new ULocale(parts[0])).freeze();
+            String[] all = TestData.collationNames(parts[1]);
+            names = new String[COUNT];
+            for (int i = 0; i < COUNT; ++i) {
+                names[i] = all[i % all.length];
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class PerThread {
+        Collator clone;
+        RawCollationKey key;
+
+        @Setup
+        public void setup(Shared shared) throws CloneNotSupportedException {
+            clone = shared.frozen.cloneAsThawed();
+            key = new RawCollationKey();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT - 1)
+    public int compareSharedFrozen(Shared shared) {
+        return compareAll(shared.frozen, shared.names);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT - 1)
+    public int compareClonePerThread(Shared shared, PerThread perThread) {
+        return compareAll(perThread.clone, shared.names);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public int rawKeySharedFrozen(Shared shared, PerThread perThread) {
+        return keyAll(shared.frozen, shared.names, perThread.key);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public int rawKeyClonePerThread(Shared shared, PerThread perThread) {
+        return keyAll(perThread.clone, shared.names, perThread.key);
+    }
+
+    private static int compareAll(Collator collator, String[] names) {
+        int result = 0;
+        for (int i = 1; i < names.length; ++i) {
+            result += collator.compare(names[i - 1], names[i]);
+        }
+        return result;
+    }
+
+    private static int keyAll(Collator collator, String[] names, RawCollationKey key) {
+        int length = 0;
+        for (String name : names) {
+            length += collator.getRawCollationKey(name, key).size;
+        }
+        return length;
+    }
+}
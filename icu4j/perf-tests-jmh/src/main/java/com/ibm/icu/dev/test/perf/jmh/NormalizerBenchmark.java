@@ -0,0 +1,118 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: https://www.unicode.org/copyright.html
+
+package com.ibm.icu.dev.test.perf.jmh;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ibm.icu.text.Normalizer2;
+
+/**
+ * Normalization benchmarks, the JMH counterpart of {@code NormalizerPerformanceTest}.
+ * One operation processes a whole UDHR text, either as given or pre-normalized
+ * to NFD, so that both the quick-check and the rewriting paths are covered.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NormalizerBenchmark {
+    @Param({"eng", "fra", "rus", "kor", "jpn", "hin"})
+    public String lang;
+
+    @Param({"NFC", "NFD", "NFKC", "NFKD", "NFKC_CF"})
+    public String form;
+
+    Normalizer2 normalizer;
+    String nfcText;
+    String nfdText;
+    StringBuilder dest;
+    byte[] nfcUTF8;
+    byte[] nfdUTF8;
+    ByteArrayOutputStream sink;
+
+    @Setup
+    public void setup() {
+        switch (form) {
+        case "NFC": normalizer = Normalizer2.getNFCInstance(); break;
+        case "NFD": normalizer = Normalizer2.getNFDInstance(); break;
+        case "NFKC": normalizer = Normalizer2.getNFKCInstance(); break;
+        case "NFKD": normalizer = Normalizer2.getNFKDInstance(); break;
+        case "NFKC_CF": normalizer = Normalizer2.getNFKCCasefoldInstance(); break;
+        default: throw new IllegalArgumentException("unknown normalization form " + form);
+        }
+        String text = TestData.udhr(lang);
+        nfcText = Normalizer2.getNFCInstance().normalize(text);
+        nfdText = Normalizer2.getNFDInstance().normalize(text);
+        dest = new StringBuilder(nfdText.length() * 2);
+        nfcUTF8 = nfcText.getBytes(StandardCharsets.UTF_8);
+        nfdUTF8 = nfdText.getBytes(StandardCharsets.UTF_8);
+        sink = new ByteArrayOutputStream(nfdUTF8.length * 2);
+    }
+
+    @Benchmark
+    public String normalizeNFCText() {
+        return normalizer.normalize(nfcText);
+    }
+
+    @Benchmark
+    public String normalizeNFDText() {
+        return normalizer.normalize(nfdText);
+    }
+
+    /** Normalizes into a reused StringBuilder. */
+    @Benchmark
+    public int normalizeNFDTextIntoBuilder() {
+        dest.setLength(0);
+        return normalizer.normalize(nfdText, dest).length();
+    }
+
+    @Benchmark
+    public boolean isNormalizedNFCText() {
+        return normalizer.isNormalized(nfcText);
+    }
+
+    @Benchmark
+    public boolean isNormalizedNFDText() {
+        return normalizer.isNormalized(nfdText);
+    }
+
+    @Benchmark
+    public int spanQuickCheckYesNFDText() {
+        return normalizer.spanQuickCheckYes(nfdText);
+    }
+
+    @Benchmark
+    public byte[] normalizeUTF8NFCText() {
+        return normalizer.normalizeUTF8(nfcUTF8);
+    }
+
+    /** Normalizes UTF-8 into a reused sink. */
+    @Benchmark
+    public int normalizeUTF8NFDTextIntoSink() {
+        sink.reset();
+        normalizer.normalizeUTF8(nfdUTF8, 0, nfdUTF8.length, sink, null);
+        return sink.size();
+    }
+
+    @Benchmark
+    public boolean isNormalizedUTF8NFCText() {
+        return normalizer.isNormalizedUTF8(nfcUTF8, 0, nfcUTF8.length);
+    }
+}
@@ -0,0 +1,119 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: https://www.unicode.org/copyright.html
+
+package com.ibm.icu.dev.test.perf.jmh;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shared input text for the benchmarks.
+ *
+ * <p>The texts are read from the data directory of the classic {@code perf-tests} module
+ * (UDHR translations and the collation name lists). The directory is taken from the
+ * {@code icu4j.perf.data} system property and defaults to {@code ../perf-tests/data},
+ * which is correct when running from this module's directory. When a file cannot be read,
+ * the benchmark setup fails, so that a wrong working directory does not go unnoticed.
+ * For a quick smoke test without the data, set the {@code icu4j.perf.sampleData} system
+ * property to {@code true}: a small built-in sample is then used instead, with a warning;
+ * numbers obtained that way are not comparable with runs on the real data.
+ */
+final class TestData {
+    private static final String DATA_DIR_PROPERTY = "icu4j.perf.data";
+    private static final String DEFAULT_DATA_DIR = "../perf-tests/data";
+    private static final String SAMPLE_DATA_PROPERTY = "icu4j.perf.sampleData";
+
+    private static final String[] SAMPLE = {
+        "All human beings are born free and equal in dignity and rights.",
+        "Tous les êtres humains naissent libres et égaux en dignité et en droits.",
+        "Alle Menschen sind frei und gleich an Würde und Rechten geboren.",
+        "Все люди рождаются свободными и равными в своем достоинстве и правах.",
+        "人人生而自由，在尊严和权利上一律平等。",
+        "すべての人間は、生まれながらにして自由であり、かつ、尊厳と権利とについて平等である。",
+        "모든 인간은 태어날 때부터 자유로우며 그 존엄과 권리에 있어 동등하다.",
+        "มนุษย์ทั้งหลายเกิดมามีอิสระและเสมอภาคกันในเกียรติศักดิ์และสิทธิ",
+        "सभी मनुष्यों को गौरव और अधिकारों के मामले में जन्मजात स्वतन्त्रता और समानता प्राप्त है।",
+    };
+
+    private TestData() {
+    }
+
+    /**
+     * Returns the UDHR text for the given language code ({@code eng}, {@code fra},
+     * {@code tha}, ...).
+     *
+     * @throws IllegalStateException if the file cannot be read and the sample is not enabled
+     */
+    static String udhr(String lang) {
+        Path file = dataDir().resolve("udhr").resolve("udhr_" + lang + ".txt");
+        try {
+            String text = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            return stripBOM(text);
+        } catch (IOException e) {
+            useSample(file, e);
+            return String.join("\n", SAMPLE);
+        }
+    }
+
+    /**
+     * Returns the non-empty, non-comment lines of a collation name list
+     * ({@code TestNames_Latin.txt} etc.).
+     *
+     * @throws IllegalStateException if the file cannot be read or is empty,
+     *     and the sample is not enabled
+     */
+    static String[] collationNames(String fileName) {
+        Path file = dataDir().resolve("collation").resolve(fileName);
+        List<String> result = new ArrayList<>();
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                line = stripBOM(line).trim();
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    result.add(line);
+                }
+            }
+        } catch (IOException e) {
+            useSample(file, e);
+            result.clear();
+        }
+        if (result.isEmpty()) {
+            if (!Boolean.getBoolean(SAMPLE_DATA_PROPERTY)) {
+                throw new IllegalStateException("No names in " + file.toAbsolutePath());
+            }
+            for (String sentence : SAMPLE) {
+                for (String word : sentence.split("[\\s\\p{Punct}]+")) {
+                    if (!word.isEmpty()) {
+                        result.add(word);
+                    }
+                }
+            }
+        }
+        return result.toArray(new String[result.size()]);
+    }
+
+    /**
+     * Fails unless the built-in sample is enabled, and otherwise warns that it is used.
+     */
+    private static void useSample(Path file, IOException e) {
+        if (!Boolean.getBoolean(SAMPLE_DATA_PROPERTY)) {
+            throw new IllegalStateException("Cannot read " + file.toAbsolutePath() +
+                    "; run from the perf-tests-jmh directory, or set -D" + DATA_DIR_PROPERTY +
+                    "=<dir>, or -D" + SAMPLE_DATA_PROPERTY + "=true to use a built-in sample", e);
+        }
+        System.err.println("WARNING: cannot read " + file.toAbsolutePath() +
+                ", using the built-in sample text instead");
+    }
+
+    private static Path dataDir() {
+        return Paths.get(System.getProperty(DATA_DIR_PROPERTY, DEFAULT_DATA_DIR));
+    }
+
+    private static String stripBOM(String s) {
+        return !s.isEmpty() && s.charAt(0) == '\uFEFF' ? s.substring(1) : s;
+    }
+}
@@ -0,0 +1,92 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: https://www.unicode.org/copyright.html
+
+package com.ibm.icu.dev.test.perf.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ibm.icu.text.Transliterator;
+
+/**
+ * Multi-threaded throughput of one shared transliterator,
+ * compared with one transliterator instance per thread.
+ * Run with different thread counts, for example
+ * {@code -t 1}, {@code -t 8}, {@code -t 64}; the shared results should scale like the per-thread ones.
+ * Instances from {@link Transliterator#getInstance(String)} share their compiled rules,
+ * so the per-thread case only avoids contention if rule execution itself is lock-free.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class TransliteratorBenchmark {
+    static final int COUNT = 64;
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+        @Param({"Any-Latin; Latin-ASCII"})
+        public String id;
+
+        @Param({"rus", "hin", "deu_1996"})
+        public String lang;
+
+        Transliterator shared;
+        String[] lines;
+
+        @Setup
+        public void setup() {
+            shared = Transliterator.getInstance(id);
+            String[] all = TestData.udhr(lang).split("\\R+");
+            lines = new String[COUNT];
+            for (int i = 0; i < COUNT; ++i) {
+                lines[i] = all[i % all.length];
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class PerThread {
+        Transliterator instance;
+
+        @Setup
+        public void setup(Shared shared) {
+            instance = Transliterator.getInstance(shared.id);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public int transliterateShared(Shared shared) {
+        return transliterateAll(shared.shared, shared.lines);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public int transliterateInstancePerThread(Shared shared, PerThread perThread) {
+        return transliterateAll(perThread.instance, shared.lines);
+    }
+
+    private static int transliterateAll(Transliterator transliterator, String[] lines) {
+        int length = 0;
+        for (String line : lines) {
+            length += transliterator.transliterate(line).length();
+        }
+        return length;
+    }
+}
@@ -0,0 +1,120 @@
+// © 2025 and later: Unicode, Inc. and others.
+// License & terms of use: https://www.unicode.org/copyright.html
+
+package com.ibm.icu.dev.test.perf.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ibm.icu.lang.UCharacter;
+
+/**
+ * Character property benchmarks, the JMH counterpart of {@code UCharacterPerf}.
+ * Each operation is one property lookup; every invocation walks the BMP.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UCharacterBenchmark {
+    static final int LIMIT = 0x10000;
+
+    @Benchmark
+    @OperationsPerInvocation(LIMIT)
+    public int digit() {
+        int sum = 0;
+        for (int c = 0; c < LIMIT; ++c) {
+            sum += UCharacter.digit(c, 10);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LIMIT)
+    public int getNumericValue() {
+        int sum = 0;
+        for (int c = 0; c < LIMIT; ++c) {
+            sum += UCharacter.getNumericValue(c);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LIMIT)
+    public int getType() {
+        int sum = 0;
+        for (int c = 0; c < LIMIT; ++c) {
+            sum += UCharacter.getType(c);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LIMIT)
+    public int isDefined() {
+        int count = 0;
+        for (int c = 0; c < LIMIT; ++c) {
+            if (UCharacter.isDefined(c)) {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LIMIT)
+    public int isLetter() {
+        int count = 0;
+        for (int c = 0; c < LIMIT; ++c) {
+            if (UCharacter.isLetter(c)) {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LIMIT)
+    public int isWhitespace() {
+        int count = 0;
+        for (int c = 0; c < LIMIT; ++c) {
+            if (UCharacter.isWhitespace(c)) {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LIMIT)
+    public int toLowerCase() {
+        int sum = 0;
+        for (int c = 0; c < LIMIT; ++c) {
+            sum += UCharacter.toLowerCase(c);
+        }
+        return sum;
+    }
+
+    /** The JDK equivalent of {@link #getType()}, for reference. */
+    @Benchmark
+    @OperationsPerInvocation(LIMIT)
+    public int jdkGetType() {
+        int sum = 0;
+        for (int c = 0; c < LIMIT; ++c) {
+            sum += Character.getType(c);
+        }
+        return sum;
+    }
+}
@@ -31,7 +31,9 @@
 ##               ['TestByteToCharConverter', 'TestByteToCharConverterICU'],
 ##               ['TestCharToByteConverter', 'TestCharToByteConverterICU'],
                  ['TestCharsetDecoder',      'TestCharsetDecoderICU'],
-                 ['TestCharsetEncoder',      'TestCharsetEncoderICU']
+                 ['TestCharsetEncoder',      'TestCharsetEncoderICU'],
+                 ['TestCharsetDecoderDirect', 'TestCharsetDecoderICUDirect'],
+                 ['TestCharsetEncoderDirect', 'TestCharsetEncoderICUDirect']
                );
 
 # Patterns which define the set of characters used for testing.
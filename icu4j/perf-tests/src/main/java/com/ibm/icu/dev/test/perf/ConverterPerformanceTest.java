@@ -317,4 +317,72 @@ public long getOperationsPerIteration() {
             throw new RuntimeException(e.getMessage());
         }
     }
+
+    // The Direct variants convert between direct buffers, which have no accessible arrays.
+
+    PerfTest.Function TestCharsetDecoderDirect() {
+        return createDecoderFunction(Charset.forName(testName), true);
+    }
+
+    PerfTest.Function TestCharsetEncoderDirect() {
+        return createEncoderFunction(Charset.forName(testName), true);
+    }
+
+    PerfTest.Function TestCharsetDecoderICUDirect() {
+        return createDecoderFunction(new CharsetProviderICU().charsetForName(testName), true);
+    }
+
+    PerfTest.Function TestCharsetEncoderICUDirect() {
+        return createEncoderFunction(new CharsetProviderICU().charsetForName(testName), true);
+    }
+
+    private PerfTest.Function createDecoderFunction(Charset myCharset, boolean direct) {
+        final ByteBuffer srcBuf;
+        final CharBuffer outBuf;
+        if (direct) {
+            srcBuf = ByteBuffer.allocateDirect(encBuffer.length);
+            srcBuf.put(encBuffer).flip();
+            outBuf = ByteBuffer.allocateDirect(unicodeBuffer.length * 2).asCharBuffer();
+        } else {
+            srcBuf = ByteBuffer.wrap(encBuffer, 0, encBuffer.length);
+            outBuf = CharBuffer.allocate(unicodeBuffer.length);
+        }
+        final CharsetDecoder decoder = myCharset.newDecoder();
+        return new PerfTest.Function() {
+            public void call() {
+                decoder.decode(srcBuf, outBuf, false);
+                decoder.reset();
+                srcBuf.rewind();
+                outBuf.rewind();
+            }
+            public long getOperationsPerIteration() {
+                return encBuffer.length;
+            }
+        };
+    }
+
+    private PerfTest.Function createEncoderFunction(Charset myCharset, boolean direct) {
+        final CharBuffer srcBuf;
+        final ByteBuffer outBuf;
+        if (direct) {
+            srcBuf = ByteBuffer.allocateDirect(unicodeBuffer.length * 2).asCharBuffer();
+            srcBuf.put(unicodeBuffer).flip();
+            outBuf = ByteBuffer.allocateDirect(encBuffer.length);
+        } else {
+            srcBuf = CharBuffer.wrap(unicodeBuffer, 0, unicodeBuffer.length);
+            outBuf = ByteBuffer.allocate(encBuffer.length);
+        }
+        final CharsetEncoder encoder = myCharset.newEncoder();
+        return new PerfTest.Function() {
+            public void call() {
+                encoder.encode(srcBuf, outBuf, false);
+                encoder.reset();
+                srcBuf.rewind();
+                outBuf.rewind();
+            }
+            public long getOperationsPerIteration() {
+                return unicodeBuffer.length;
+            }
+        };
+    }
 }